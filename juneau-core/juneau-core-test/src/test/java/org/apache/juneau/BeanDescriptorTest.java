@@ -0,0 +1,194 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.apache.juneau.BeanContext.*;
+import static org.apache.juneau.TestUtils.*;
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.annotation.*;
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class BeanDescriptorTest {
+
+	//====================================================================================================
+	// Descriptor is used in place of reflection.
+	//====================================================================================================
+	@Test
+	public void testDescriptorUsed() throws Exception {
+		BeanMeta<A> bm = BeanContext.DEFAULT.createSession().getBeanMeta(A.class);
+		assertObjectEquals("['f1','p1']", getPropertyNames(bm));
+		assertNotNull(bm.getPropertyMeta("p1").getGetter());
+		assertNotNull(bm.getPropertyMeta("p1").getSetter());
+		assertNotNull(bm.getPropertyMeta("f1").getField());
+	}
+
+	@Bean
+	public static class A {
+		public String f1, f2;
+		private int p1;
+
+		public int getP1() {
+			return p1;
+		}
+
+		public void setP1(int p1) {
+			this.p1 = p1;
+		}
+
+		public int getP2() {
+			return p1;
+		}
+	}
+
+	// Intentionally leaves out f2 and p2.
+	public static class A_BeanDescriptor extends BeanDescriptor {
+		public A_BeanDescriptor() {
+			super(
+				type(0, "org.apache.juneau.BeanDescriptorTest$A", 3, 3),
+				field(0, "f1", "f1", false),
+				getter(0, "getP1", "P1", false),
+				setter(0, "setP1", new String[]{"int"}, "P1", false)
+			);
+		}
+	}
+
+	//====================================================================================================
+	// Descriptor is ignored when the members no longer exist on the class.
+	//====================================================================================================
+	@Test
+	public void testStaleDescriptorIgnored() throws Exception {
+		BeanMeta<B> bm = BeanContext.DEFAULT.createSession().getBeanMeta(B.class);
+		assertObjectEquals("['f1','f2']", getPropertyNames(bm));
+	}
+
+	@Bean(properties="f1,f2")
+	public static class B {
+		public String f1, f2;
+	}
+
+	public static class B_BeanDescriptor extends BeanDescriptor {
+		public B_BeanDescriptor() {
+			super(
+				type(0, "org.apache.juneau.BeanDescriptorTest$B", 2, 0),
+				field(0, "f1", "f1", false),
+				field(0, "f3", "f3", false)
+			);
+		}
+	}
+
+	//====================================================================================================
+	// Descriptor is ignored when members were added to the class hierarchy.
+	//====================================================================================================
+	@Test
+	public void testChangedHierarchyIgnored() throws Exception {
+		BeanMeta<D> bm = BeanContext.DEFAULT.createSession().getBeanMeta(D.class);
+		assertObjectEquals("['f1','f2','f3']", getPropertyNames(bm));
+	}
+
+	public static class D0 {
+		public String f1, f2;
+	}
+
+	@Bean
+	public static class D extends D0 {
+		public String f3;
+	}
+
+	// Generated when D0 only had field f1.
+	public static class D_BeanDescriptor extends BeanDescriptor {
+		public D_BeanDescriptor() {
+			super(
+				type(0, "org.apache.juneau.BeanDescriptorTest$D0", 1, 0),
+				type(1, "org.apache.juneau.BeanDescriptorTest$D", 1, 0),
+				field(0, "f1", "f1", false),
+				field(1, "f3", "f3", false)
+			);
+		}
+	}
+
+	//====================================================================================================
+	// Descriptor is ignored when non-default visibility is used.
+	//====================================================================================================
+	@Test
+	public void testNonDefaultVisibility() throws Exception {
+		BeanSession session = PropertyStore.create().setProperty(BEAN_methodVisibility, Visibility.PROTECTED).getBeanContext().createSession();
+		assertObjectEquals("['f1','f2','p1','p2']", getPropertyNames(session.getBeanMeta(A.class)));
+	}
+
+	//====================================================================================================
+	// Properties are ordered the same with and without a descriptor.
+	//====================================================================================================
+	@Test
+	public void testPropertyOrder() throws Exception {
+		BeanSession session = PropertyStore.create().setProperty(BEAN_methodVisibility, Visibility.PROTECTED).getBeanContext().createSession();
+		List<String> reflected = getOrderedPropertyNames(session.getBeanMeta(C.class));
+		List<String> described = getOrderedPropertyNames(BeanContext.DEFAULT.createSession().getBeanMeta(C.class));
+		assertEquals(4, described.size());
+		assertEquals(reflected, described);
+	}
+
+	@Bean
+	public static class C {
+		public String f1, f2;
+		private int p1, p2;
+
+		public int getP1() {
+			return p1;
+		}
+
+		public void setP1(int p1) {
+			this.p1 = p1;
+		}
+
+		public int getP2() {
+			return p2;
+		}
+
+		public void setP2(int p2) {
+			this.p2 = p2;
+		}
+	}
+
+	// Lists the members in reverse order.
+	public static class C_BeanDescriptor extends BeanDescriptor {
+		public C_BeanDescriptor() {
+			super(
+				type(0, "org.apache.juneau.BeanDescriptorTest$C", 4, 4),
+				field(0, "f2", "f2", false),
+				field(0, "f1", "f1", false),
+				setter(0, "setP2", new String[]{"int"}, "P2", false),
+				getter(0, "getP2", "P2", false),
+				setter(0, "setP1", new String[]{"int"}, "P1", false),
+				getter(0, "getP1", "P1", false)
+			);
+		}
+	}
+
+	private static List<String> getOrderedPropertyNames(BeanMeta<?> bm) {
+		List<String> l = new ArrayList<String>();
+		for (BeanPropertyMeta p : bm.getPropertyMetas())
+			l.add(p.getName());
+		return l;
+	}
+
+	private static Set<String> getPropertyNames(BeanMeta<?> bm) {
+		Set<String> s = new TreeSet<String>();
+		for (BeanPropertyMeta p : bm.getPropertyMetas())
+			s.add(p.getName());
+		return s;
+	}
+}
@@ -1924,4 +1924,118 @@ public class BeanMapTest {
 	public static class Z {
 		public String a, b, c;
 	}
+
+	//====================================================================================================
+	// Read-only beans hold pending property values by property index until the bean is constructed.
+	//====================================================================================================
+	@Test
+	public void testReadOnlyBeanPendingProperties() throws Exception {
+		BeanSession session = BeanContext.DEFAULT.createSession();
+		BeanMeta<Z2> bm = session.getBeanMeta(Z2.class);
+		for (BeanPropertyMeta pMeta : bm.getPropertyMetas())
+			assertSame(pMeta, bm.getPropertyMeta(pMeta.getIndex()));
+
+		BeanMap<Z2> m = session.newBeanMap(Z2.class);
+		m.put("c", "foo");
+		m.put("d", null);
+		m.put("b", 2);
+		m.put("a", "bar");
+		assertEquals("foo", m.get("c"));
+		assertNull(m.get("d"));
+
+		Z2 z = m.getBean();
+		assertEquals("bar", z.getA());
+		assertEquals(2, z.getB());
+		assertEquals("foo", z.c);
+		assertNull(z.d);
+	}
+
+	public static class Z2 {
+		private final String a;
+		private final int b;
+		public String c, d = "x";
+
+		@BeanConstructor(properties="a,b")
+		public Z2(String a, int b) {
+			this.a = a;
+			this.b = b;
+		}
+
+		public String getA() {
+			return a;
+		}
+
+		public int getB() {
+			return b;
+		}
+	}
+
+	//====================================================================================================
+	// Read-only beans hold pending dyna property values by name.
+	//====================================================================================================
+	@Test
+	public void testReadOnlyBeanPendingDynaProperties() throws Exception {
+		BeanSession session = BeanContext.DEFAULT.createSession();
+		BeanMap<Z3> m = session.newBeanMap(Z3.class);
+		BeanMeta<Z3> bm = m.getMeta();
+		bm.getPropertyMeta("x").set(m, "x", "foo");
+		bm.getPropertyMeta("a").set(m, "a", "bar");
+		bm.getPropertyMeta("y").set(m, "y", null);
+		bm.getPropertyMeta("z").set(m, "z", 1);
+		assertEquals("foo", bm.getPropertyMeta("x").get(m, "x"));
+		assertNull(bm.getPropertyMeta("y").get(m, "y"));
+		assertEquals(1, bm.getPropertyMeta("z").get(m, "z"));
+
+		Z3 z = m.getBean();
+		assertEquals("bar", z.a);
+		assertEquals("{x:'foo',y:null,z:1}", JsonSerializer.DEFAULT_LAX.serialize(z.extras));
+
+		z = JsonParser.DEFAULT.parse("{x:'foo',a:'bar',y:2}", Z3.class);
+		assertEquals("bar", z.a);
+		assertEquals("{x:'foo',y:2}", JsonSerializer.DEFAULT_LAX.serialize(z.extras));
+
+		// Same when the dyna property isn't one of the listed bean properties.
+		BeanMap<Z4> m2 = session.newBeanMap(Z4.class);
+		BeanMeta<Z4> bm2 = m2.getMeta();
+		assertEquals(-1, bm2.getPropertyMeta("x").getIndex());
+		bm2.getPropertyMeta("x").set(m2, "x", "foo");
+		bm2.getPropertyMeta("a").set(m2, "a", "bar");
+		assertEquals("foo", bm2.getPropertyMeta("x").get(m2, "x"));
+		Z4 z4 = m2.getBean();
+		assertEquals("bar", z4.a);
+		assertEquals("{x:'foo'}", JsonSerializer.DEFAULT_LAX.serialize(z4.extras));
+	}
+
+	public static class Z3 {
+		private final String a;
+
+		@BeanProperty(name="*")
+		public Map<String,Object> extras = new LinkedHashMap<String,Object>();
+
+		@BeanConstructor(properties="a")
+		public Z3(String a) {
+			this.a = a;
+		}
+
+		public String getA() {
+			return a;
+		}
+	}
+
+	@Bean(excludeProperties="*")
+	public static class Z4 {
+		private final String a;
+
+		@BeanProperty(name="*")
+		public Map<String,Object> extras = new LinkedHashMap<String,Object>();
+
+		@BeanConstructor(properties="a")
+		public Z4(String a) {
+			this.a = a;
+		}
+
+		public String getA() {
+			return a;
+		}
+	}
 }
\ No newline at end of file
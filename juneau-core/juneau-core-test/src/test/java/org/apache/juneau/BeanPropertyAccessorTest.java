@@ -0,0 +1,195 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.apache.juneau.TestUtils.*;
+import static org.junit.Assert.*;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.junit.*;
+
+@SuppressWarnings({"javadoc"})
+public class BeanPropertyAccessorTest {
+
+	BeanContext bc = PropertyStore.create().setProperty(BeanContext.BEAN_useGeneratedAccessors, true).getBeanContext();
+	BeanSession session = bc.createSession();
+
+	//====================================================================================================
+	// Generated accessors are used for public fields and methods.
+	//====================================================================================================
+	@Test
+	public void testPublicProperties() throws Exception {
+		BeanMap<A> m = session.toBeanMap(new A());
+		for (String p : new String[]{"f1","f2","f3","f4","f5","f6","p1","p2"})
+			assertNotNull(p, m.getPropertyMeta(p).getAccessor());
+
+		m.put("f1", 1);
+		m.put("f2", 2l);
+		m.put("f3", 3.5d);
+		m.put("f4", true);
+		m.put("f5", 'x');
+		m.put("f6", "foo");
+		m.put("p1", 4);
+		m.put("p2", Arrays.asList("a","b"));
+
+		A a = m.getBean();
+		assertEquals(1, a.f1);
+		assertEquals(2l, a.f2);
+		assertEquals(3.5d, a.f3, 0);
+		assertTrue(a.f4);
+		assertEquals('x', a.f5);
+		assertEquals("foo", a.f6);
+		assertEquals(4, a.getP1());
+		assertObjectEquals("['a','b']", a.getP2());
+		assertObjectEquals("{f1:1,f2:2,f3:3.5,f4:true,f5:'x',f6:'foo',p1:4,p2:['a','b']}", m);
+	}
+
+	@Bean(properties="f1,f2,f3,f4,f5,f6,p1,p2")
+	public static class A {
+		public int f1;
+		public long f2;
+		public double f3;
+		public boolean f4;
+		public char f5;
+		public String f6;
+		private int p1;
+		private List<String> p2;
+
+		public int getP1() {
+			return p1;
+		}
+		public void setP1(int p1) {
+			this.p1 = p1;
+		}
+		public List<String> getP2() {
+			return p2;
+		}
+		public void setP2(List<String> p2) {
+			this.p2 = p2;
+		}
+	}
+
+	//====================================================================================================
+	// Null values on primitive properties get default values.
+	//====================================================================================================
+	@Test
+	public void testNullPrimitives() throws Exception {
+		A a = new A();
+		a.f1 = 1;
+		a.f4 = true;
+		BeanMap<A> m = session.toBeanMap(a);
+		m.put("f1", null);
+		m.put("f4", null);
+		assertEquals(0, a.f1);
+		assertFalse(a.f4);
+	}
+
+	//====================================================================================================
+	// Arguments are only passed to the generated code if they are valid for the property.
+	//====================================================================================================
+	@Test
+	public void testArguments() throws Exception {
+		BeanMap<A> m = session.toBeanMap(new A());
+		BeanPropertyAccessor f1 = m.getPropertyMeta("f1").getAccessor(), f6 = m.getPropertyMeta("f6").getAccessor();
+		A a = new A();
+
+		assertTrue(f1.canGet(a));
+		assertFalse(f1.canGet(null));
+		assertFalse(f1.canGet("foo"));
+
+		assertTrue(f1.canSet(a, 1));
+		assertFalse(f1.canSet(a, 1l));
+		assertFalse(f1.canSet(a, (short)1));
+		assertFalse(f1.canSet(a, null));
+		assertFalse(f1.canSet("foo", 1));
+		assertTrue(f6.canSet(a, "foo"));
+		assertTrue(f6.canSet(a, null));
+		assertFalse(f6.canSet(a, 1));
+
+		// Primitives are never narrowed.
+		try {
+			f1.set(a, Long.MAX_VALUE);
+			fail();
+		} catch (ClassCastException e) {}
+		assertEquals(0, a.f1);
+	}
+
+	//====================================================================================================
+	// Exceptions thrown by the setter itself are reported the same way as reflection.
+	//====================================================================================================
+	@Test
+	public void testSetterErrors() throws Exception {
+		assertNotNull(session.toBeanMap(new C()).getPropertyMeta("p1").getAccessor());
+		for (BeanSession s : new BeanSession[]{session, BeanContext.DEFAULT.createSession()}) {
+			try {
+				s.toBeanMap(new C()).put("p1", "foo");
+				fail();
+			} catch (BeanRuntimeException e) {
+				assertEquals(InvocationTargetException.class, e.getCause().getClass());
+				assertEquals(ClassCastException.class, e.getCause().getCause().getClass());
+			}
+		}
+	}
+
+	public static class C {
+		public String getP1() {
+			return null;
+		}
+		public void setP1(String p1) {
+			throw new ClassCastException();
+		}
+	}
+
+	//====================================================================================================
+	// Properties that cannot be accessed through generated code fall back to reflection.
+	//====================================================================================================
+	@Test
+	public void testFallback() throws Exception {
+		BeanMap<B> m = session.toBeanMap(new B());
+		assertNull(m.getPropertyMeta("f1").getAccessor());
+		assertNotNull(m.getPropertyMeta("f2").getAccessor());
+		m.put("f2", 2);
+		assertObjectEquals("{f1:1,f2:2}", m);
+	}
+
+	public static class B {
+		public final int f1 = 1;
+		public int f2;
+	}
+
+	//====================================================================================================
+	// Disabled by default.
+	//====================================================================================================
+	@Test
+	public void testDisabledByDefault() throws Exception {
+		BeanMap<A> m = BeanContext.DEFAULT.createSession().toBeanMap(new A());
+		assertNull(m.getPropertyMeta("f1").getAccessor());
+	}
+
+	//====================================================================================================
+	// Round-trip through serializer and parser.
+	//====================================================================================================
+	@Test
+	public void testRoundTrip() throws Exception {
+		WriterSerializer s = new JsonSerializerBuilder().simple().useGeneratedAccessors(true).build();
+		ReaderParser p = new JsonParserBuilder().useGeneratedAccessors(true).build();
+		A a = p.parse("{f1:1,f2:2,f3:3.5,f4:true,f5:'x',f6:'foo',p1:4,p2:['a','b']}", A.class);
+		assertEquals("{f1:1,f2:2,f3:3.5,f4:true,f5:'x',f6:'foo',p1:4,p2:['a','b']}", s.serialize(a));
+	}
+}
@@ -0,0 +1,127 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.junit.*;
+
+/**
+ * Verifies that {@link ClassMeta} objects can be created concurrently from many threads without deadlocking, and
+ * that all threads end up with the same fully-constructed instances.
+ */
+@SuppressWarnings({"javadoc"})
+public class ClassMetaConcurrencyTest {
+
+	static final Class<?>[] CLASSES = {
+		C0.class, C1.class, C2.class, C3.class, C4.class, C5.class, C6.class, C7.class,
+		C8.class, C9.class, C10.class, C11.class, C12.class, C13.class, C14.class, C15.class
+	};
+
+	static final int THREADS = 16, ROUNDS = 50;
+
+	//====================================================================================================
+	// Many threads warming up a fresh bean context with mutually-referencing bean classes.
+	//====================================================================================================
+	@Test
+	public void testConcurrentWarmUp() throws Exception {
+		ExecutorService es = Executors.newFixedThreadPool(THREADS);
+		final AtomicInteger count = new AtomicInteger();
+		final List<Throwable> errors = new CopyOnWriteArrayList<Throwable>();
+		long id = System.nanoTime();
+		try {
+			for (int r = 0; r < ROUNDS; r++) {
+
+				// Unique settings so that each round gets an empty ClassMeta cache.
+				final BeanContext bc = PropertyStore.create().setProperty("BeanContext.testRound", r + "/" + id).getBeanContext();
+				final CountDownLatch ready = new CountDownLatch(THREADS);
+				List<Future<?>> futures = new ArrayList<Future<?>>();
+
+				for (int t = 0; t < THREADS; t++) {
+					final int offset = t;
+					futures.add(es.submit(new Runnable() {
+						@Override /* Runnable */
+						public void run() {
+							ready.countDown();
+							try {
+								ready.await();
+								// Each thread walks the classes in a different order to provoke cross-thread reference loops.
+								for (int i = 0; i < CLASSES.length; i++) {
+									Class<?> c = CLASSES[(i * (offset % 2 == 0 ? 1 : -1) + offset + CLASSES.length * 2) % CLASSES.length];
+									verify(bc.getClassMeta(c), false);
+									count.incrementAndGet();
+								}
+							} catch (Throwable e) {
+								errors.add(e);
+							}
+						}
+					}));
+				}
+
+				for (Future<?> f : futures)
+					f.get(30, TimeUnit.SECONDS);  // Fails with TimeoutException on a deadlock.
+
+				if (! errors.isEmpty())
+					throw new RuntimeException(errors.get(0));
+
+				// Every thread must have seen the same instances, and all references must now be resolved.
+				for (Class<?> c : CLASSES) {
+					assertSame(bc.getClassMeta(c), bc.getClassMeta(c));
+					verify(bc.getClassMeta(c), true);
+				}
+			}
+		} finally {
+			es.shutdownNow();
+		}
+
+		assertEquals(THREADS * ROUNDS * CLASSES.length, count.get());
+	}
+
+	static void verify(ClassMeta<?> cm, boolean deep) {
+		assertTrue(cm.isBean());
+		BeanMeta<?> bm = cm.getBeanMeta();
+		assertNotNull(bm);
+		assertEquals(3, bm.getPropertyMetas().size());
+		for (BeanPropertyMeta p : bm.getPropertyMetas()) {
+			ClassMeta<?> pcm = p.getClassMeta();
+			if (pcm.isCollection())
+				pcm = pcm.getElementType();
+			assertTrue(pcm.getInnerClass().getSimpleName().startsWith("C"));
+
+			// Referenced classes may still be under construction by the thread that started building them.
+			if (deep)
+				assertTrue(pcm.getInnerClass().getName(), pcm.isBean());
+		}
+	}
+
+	public static class C0 { public C1 next; public C7 skip; public List<C15> prev; }
+	public static class C1 { public C2 next; public C8 skip; public List<C0> prev; }
+	public static class C2 { public C3 next; public C9 skip; public List<C1> prev; }
+	public static class C3 { public C4 next; public C10 skip; public List<C2> prev; }
+	public static class C4 { public C5 next; public C11 skip; public List<C3> prev; }
+	public static class C5 { public C6 next; public C12 skip; public List<C4> prev; }
+	public static class C6 { public C7 next; public C13 skip; public List<C5> prev; }
+	public static class C7 { public C8 next; public C14 skip; public List<C6> prev; }
+	public static class C8 { public C9 next; public C15 skip; public List<C7> prev; }
+	public static class C9 { public C10 next; public C0 skip; public List<C8> prev; }
+	public static class C10 { public C11 next; public C1 skip; public List<C9> prev; }
+	public static class C11 { public C12 next; public C2 skip; public List<C10> prev; }
+	public static class C12 { public C13 next; public C3 skip; public List<C11> prev; }
+	public static class C13 { public C14 next; public C4 skip; public List<C12> prev; }
+	public static class C14 { public C15 next; public C5 skip; public List<C13> prev; }
+	public static class C15 { public C0 next; public C6 skip; public List<C14> prev; }
+}
@@ -278,6 +278,64 @@ public class ClassMetaTest {
 		assertEquals(hc2.getSerializedClassMeta(bs).getInnerClass(), Map.class);
 	}
 
+	//====================================================================================================
+	// Array types are cached.
+	//====================================================================================================
+	@Test
+	public void testArraysCached() throws Exception {
+		ClassMeta t = bc.getClassMeta(String[].class);
+		assertSame(t, bc.getClassMeta(String[].class));
+		assertTrue(t.isArray());
+		assertEquals(String.class, t.getElementType().getInnerClass());
+
+		t = bc.getClassMeta(HC1[][].class);
+		assertSame(t, bc.getClassMeta(HC1[][].class));
+		assertSame(bc.getClassMeta(HC1[].class), t.getElementType());
+	}
+
+	//====================================================================================================
+	// warmUp() builds metadata on transitive property types.
+	//====================================================================================================
+	@Test
+	public void testWarmUp() throws Exception {
+		BeanContext bc = PropertyStore.create().setProperty("BeanContext.testWarmUp", true).getBeanContext();
+		bc.warmUp(Arrays.asList(W1.class, W4.class), WMeta.class, WBeanMeta.class);
+		assertTrue(WMeta.CLASSES.containsAll(Arrays.asList(W1.class, W2.class, W3.class, W4.class, String.class, List.class)));
+		assertTrue(WBeanMeta.CLASSES.containsAll(Arrays.asList(W1.class, W2.class, W3.class, W4.class)));
+		assertSame(WMeta.META.get(W3.class), bc.getClassMeta(W3.class).getExtendedMeta(WMeta.class));
+
+		// No-op on empty list.
+		bc.warmUp(Collections.<Class<?>>emptyList());
+	}
+
+	public static class W1 {
+		public W2 w2;
+	}
+	public static class W2 {
+		public List<W3> w3;
+	}
+	public static class W3 {
+		public String s;
+	}
+	public static class W4 {
+		public Map<String,W1> w1;
+	}
+	public static class WMeta extends ClassMetaExtended {
+		static final Map<Class<?>,WMeta> META = new java.util.concurrent.ConcurrentHashMap<Class<?>,WMeta>();
+		static final Set<Class<?>> CLASSES = META.keySet();
+		public WMeta(ClassMeta<?> cm) {
+			super(cm);
+			META.put(cm.getInnerClass(), this);
+		}
+	}
+	public static class WBeanMeta extends BeanMetaExtended {
+		static final Set<Class<?>> CLASSES = Collections.synchronizedSet(new HashSet<Class<?>>());
+		public WBeanMeta(BeanMeta<?> bm) {
+			super(bm);
+			CLASSES.add(bm.getClassMeta().getInnerClass());
+		}
+	}
+
 	public interface HI1 {}
 	public class HC1 implements HI1 {}
 	public interface HI2 extends HI1 {}
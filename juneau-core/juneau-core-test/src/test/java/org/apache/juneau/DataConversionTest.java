@@ -152,4 +152,41 @@ public class DataConversionTest {
 		s = session.convertToType(c, String.class);
 		assertEquals("Jan 12, 2001", s);
 	}
+
+	//====================================================================================================
+	// Cached conversion strategies give the same results on repeated conversions.
+	//====================================================================================================
+	@Test
+	public void testCachedConversions() throws Exception {
+		BeanSession session = BeanContext.DEFAULT.createSession();
+		for (int i = 0; i < 2; i++) {
+			assertEquals(Integer.valueOf(123), session.convertToType(123L, int.class));
+			assertEquals(Short.valueOf((short)123), session.convertToType(123, Short.class));
+			assertEquals(Double.valueOf(1.5), session.convertToType(1.5f, double.class));
+			assertEquals(Byte.valueOf((byte)1), session.convertToType("1", Byte.class));
+			assertEquals(Long.valueOf(123), session.convertToType("123", long.class));
+			assertEquals(Float.valueOf(2.5f), session.convertToType("2.5", Float.class));
+
+			// Empty strings and multipliers still go through the general path.
+			assertEquals(Integer.valueOf(0), session.convertToType("", int.class));
+			assertNull(session.convertToType("", Integer.class));
+			assertEquals(Integer.valueOf(2048), session.convertToType("2K", int.class));
+			assertEquals(Long.valueOf(3L*1024*1024), session.convertToType("3M", long.class));
+
+			assertEquals(Character.valueOf('a'), session.convertToType("abc", char.class));
+			assertEquals(Character.valueOf((char)0), session.convertToType("", Character.class));
+			assertEquals(Boolean.TRUE, session.convertToType(1, boolean.class));
+			assertEquals(Boolean.FALSE, session.convertToType("", boolean.class));
+			assertEquals(Boolean.TRUE, session.convertToType("true", Boolean.class));
+
+			assertEquals("123", session.convertToType(123, String.class));
+			assertEquals("[1,2]", session.convertToType(new int[]{1,2}, String.class));
+			assertEquals("{a:1}", session.convertToType(new ObjectMap("{a:1}"), String.class));
+
+			try {
+				session.convertToType("foo", Integer.class);
+				fail();
+			} catch (InvalidDataConversionException e) {}
+		}
+	}
 }
@@ -15,6 +15,7 @@ package org.apache.juneau;
 import static org.junit.Assert.*;
 
 import java.io.*;
+import java.util.*;
 
 import org.apache.juneau.parser.*;
 import org.junit.*;
@@ -161,6 +162,50 @@ public class ParserReaderTest {
 		pr.close();
 	}
 
+	//====================================================================================================
+	// getMarked(NameIndex,int,int)
+	//====================================================================================================
+	@Test
+	public void testGetMarkedNameIndex() throws Exception {
+		String foo = new String("foo"), aa = new String("Aa"), bb = new String("BB");  // "Aa" and "BB" have the same hash code.
+		List<String> l = new ArrayList<String>(Arrays.asList(foo, aa, bb));
+		for (int i = 0; i < 100; i++)
+			l.add("p" + i);
+		NameIndex names = new NameIndex(l);
+
+		ParserReader pr = createParserReader("'foo''Aa''BB''baz''p99'");
+		pr.mark();
+		pr.read(5);
+		assertSame(foo, pr.getMarked(names, 1, -1));
+		pr.mark();
+		pr.read(4);
+		assertSame(aa, pr.getMarked(names, 1, -1));
+		pr.mark();
+		pr.read(4);
+		assertSame(bb, pr.getMarked(names, 1, -1));
+		pr.mark();
+		pr.read(5);
+		assertEquals("baz", pr.getMarked(names, 1, -1));
+		pr.mark();
+		pr.read(5);
+		assertEquals("p99", pr.getMarked(names, 1, -1));
+		pr.close();
+
+		// Names containing deleted characters are not matched against the index.
+		pr = createParserReader("f~oo");
+		pr.mark();
+		pr.read(2);
+		pr.delete();
+		pr.read(2);
+		assertEquals("foo", pr.getMarked(names, 0, 0));
+		pr.close();
+
+		for (String s : l)
+			assertSame(s, names.get(("x" + s).toCharArray(), 1, s.length()));
+		assertNull(names.get("p100".toCharArray(), 0, 4));
+		assertNull(names.get(new char[0], 0, 0));
+	}
+
 	//====================================================================================================
 	// Utility methods
 	//====================================================================================================
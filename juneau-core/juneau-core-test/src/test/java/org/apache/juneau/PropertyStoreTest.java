@@ -816,4 +816,55 @@ public class PropertyStoreTest {
 		assertObjectEquals("'TREE'", f.getProperty("Foo.f3", TestEnum.class, TestEnum.ONE));
 	}
 
-}
\ No newline at end of file
+	//====================================================================================================
+	// testGlobalContextCache()
+	//====================================================================================================
+	@Test
+	public void testGlobalContextCache() {
+		String id = "testGlobalContextCache" + System.nanoTime();
+
+		// Stores with equivalent properties share contexts.
+		PropertyStore f1 = PropertyStore.create().setProperty("BeanContext.testId", id).setProperty(BeanContext.BEAN_sortProperties, true);
+		PropertyStore f2 = PropertyStore.create().setProperty("BeanContext.testId", id).setProperty(BeanContext.BEAN_sortProperties, "true");
+		assertSame(f1.getBeanContext(), f2.getBeanContext());
+		assertTrue(f1.getBeanContext().hasSameCache(f2.getBeanContext()));
+
+		// Classes are compared by identity, not by name.
+		f2.addNotBeanClasses(A.class);
+		f1.addToProperty(BeanContext.BEAN_notBeanClasses, "org.apache.juneau.PropertyStoreTest$A");
+		assertNotSame(f1.getBeanContext(), f2.getBeanContext());
+		assertFalse(f1.getBeanContext().hasSameCache(f2.getBeanContext()));
+
+		// Changes to a store don't affect contexts already cached.
+		BeanContext bc = f2.getBeanContext();
+		f2.setProperty("BeanContext.testId", id + "x");
+		assertNotSame(bc, f2.getBeanContext());
+		f2.setProperty("BeanContext.testId", id);
+		assertSame(bc, f2.getBeanContext());
+
+		// Map and set values are compared by their entries, not by the order they were added in.
+		Map<String,Object> m1 = new LinkedHashMap<String,Object>(), m2 = new LinkedHashMap<String,Object>();
+		m1.put("a", 1);
+		m1.put("b", new LinkedHashSet<String>(Arrays.asList("x", "y")));
+		m2.put("b", new LinkedHashSet<String>(Arrays.asList("y", "x")));
+		m2.put("a", "1");
+		f1 = PropertyStore.create().setProperty("BeanContext.testId", id).setProperty("BeanContext.testMap", m1);
+		f2 = PropertyStore.create().setProperty("BeanContext.testId", id).setProperty("BeanContext.testMap", m2);
+		assertSame(f1.getBeanContext(), f2.getBeanContext());
+		m2.put("a", 2);
+		f2 = PropertyStore.create().setProperty("BeanContext.testId", id).setProperty("BeanContext.testMap", m2);
+		assertNotSame(f1.getBeanContext(), f2.getBeanContext());
+
+		ObjectMap m = PropertyStore.getContextCacheStats();
+		assertTrue(m.getInt("size") > 0);
+		assertTrue(m.getInt("size") <= m.getInt("maxSize"));
+		assertTrue(m.getLong("hits") > 0);
+
+		m = BeanContext.getClassMetaCacheStats();
+		assertTrue(m.getInt("size") > 0);
+		assertTrue(m.getInt("classMetas") > 0);
+		assertTrue(m.getInt("size") <= m.getInt("maxSize"));
+	}
+
+	public static class A {}
+}
@@ -18,6 +18,7 @@ import static org.junit.Assert.*;
 import java.util.*;
 
 import org.apache.juneau.annotation.*;
+import org.apache.juneau.cbor.*;
 import org.apache.juneau.html.*;
 import org.apache.juneau.jena.*;
 import org.apache.juneau.json.*;
@@ -99,6 +100,12 @@ public class RoundTripAddClassAttrsTest extends RoundTripTest {
 				new MsgPackSerializerBuilder().addBeanTypeProperties(true),
 				new MsgPackParserBuilder().useInterfaceProxies(false),
 				0
+			},
+			{ /* 10 */
+				"CborSerializer.DEFAULT/CborParser.DEFAULT",
+				new CborSerializerBuilder().addBeanTypeProperties(true),
+				new CborParserBuilder().useInterfaceProxies(false),
+				0
 			}
 		});
 	}
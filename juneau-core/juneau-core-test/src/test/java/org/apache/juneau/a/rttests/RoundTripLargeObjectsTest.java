@@ -17,6 +17,7 @@ import static org.apache.juneau.internal.StringUtils.*;
 
 import java.util.*;
 
+import org.apache.juneau.cbor.*;
 import org.apache.juneau.html.*;
 import org.apache.juneau.json.*;
 import org.apache.juneau.msgpack.*;
@@ -101,31 +102,37 @@ public class RoundTripLargeObjectsTest extends RoundTripTest {
 				new MsgPackParserBuilder(),
 				0
 			},
-//			{ /* 9 */
+			{ /* 9 */
+				"Cbor",
+				new CborSerializerBuilder().trimNullProperties(false),
+				new CborParserBuilder(),
+				0
+			},
+//			{ /* 10 */
 //				"Rdf.Xml",
 //				new RdfSerializer.Xml().setTrimNullProperties(false).setAddLiteralTypes(true),
 //				RdfParser.DEFAULT_XML,
 //				0
 //			},
-//			{ /* 10 */
+//			{ /* 11 */
 //				"Rdf.XmlAbbrev",
 //				new RdfSerializer.XmlAbbrev().setTrimNullProperties(false).setAddLiteralTypes(true),
 //				RdfParser.DEFAULT_XML,
 //				0
 //			},
-//			{ /* 11 */
+//			{ /* 12 */
 //				"Rdf.Turtle",
 //				new RdfSerializer.Turtle().setTrimNullProperties(false).setAddLiteralTypes(true),
 //				RdfParser.DEFAULT_TURTLE,
 //				0
 //			},
-//			{ /* 12 */
+//			{ /* 13 */
 //				"Rdf.NTriple",
 //				new RdfSerializer.NTriple().setTrimNullProperties(false).setAddLiteralTypes(true),
 //				RdfParser.DEFAULT_NTRIPLE,
 //				0
 //			},
-//			{ /* 13 */
+//			{ /* 14 */
 //				"Rdf.N3",
 //				new RdfSerializer.N3().setTrimNullProperties(false).setAddLiteralTypes(true),
 //				RdfParser.DEFAULT_N3,
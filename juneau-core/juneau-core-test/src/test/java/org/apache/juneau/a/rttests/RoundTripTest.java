@@ -19,6 +19,7 @@ import java.util.*;
 import java.util.Map.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.cbor.*;
 import org.apache.juneau.html.*;
 import org.apache.juneau.jena.*;
 import org.apache.juneau.json.*;
@@ -167,15 +168,21 @@ public abstract class RoundTripTest {
 				new MsgPackParserBuilder(),
 				0
 			},
+			{ /* 20 */
+				"Cbor",
+				new CborSerializerBuilder().trimNullProperties(false),
+				new CborParserBuilder(),
+				0
+			},
 
 			// Validation testing only
-			{ /* 20 */
+			{ /* 21 */
 				"Json schema",
 				new JsonSchemaSerializerBuilder().trimNullProperties(false),
 				null,
 				RETURN_ORIGINAL_OBJECT
 			},
-			{ /* 21 */
+			{ /* 22 */
 				"Xml schema",
 				new XmlSchemaSerializerBuilder().trimNullProperties(false),
 				new XmlValidatorParserBuilder(),
@@ -0,0 +1,208 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.cbor;
+
+import static org.apache.juneau.internal.StringUtils.*;
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.parser.*;
+import org.junit.*;
+
+@SuppressWarnings({"javadoc"})
+public class CborTest {
+
+	private static final JsonSerializer js = JsonSerializer.DEFAULT_LAX;
+
+	//====================================================================================================
+	// testSerialize
+	//====================================================================================================
+	@Test
+	public void testSerialize() throws Exception {
+
+		testSerialize(null, "F6");
+
+		testSerialize(false, "F4");
+		testSerialize(true, "F5");
+
+		// Unsigned integers:  000xxxxx followed by 0, 1, 2, 4, or 8 bytes.
+		testSerialize(0, "00");
+		testSerialize(23, "17");
+		testSerialize(24, "18 18");
+		testSerialize(0xFF, "18 FF");
+		testSerialize(0x100, "19 01 00");
+		testSerialize(0xFFFF, "19 FF FF");
+		testSerialize(0x10000, "1A 00 01 00 00");
+		testSerialize(Integer.MAX_VALUE, "1A 7F FF FF FF");
+		testSerialize(0xFFFFFFFFL, "1A FF FF FF FF");
+		testSerialize(0x100000000L, "1B 00 00 00 01 00 00 00 00");
+		testSerialize(Long.MAX_VALUE, "1B 7F FF FF FF FF FF FF FF");
+
+		// Negative integers:  001xxxxx, stored as -1 minus the value.
+		testSerialize(-1, "20");
+		testSerialize(-24, "37");
+		testSerialize(-25, "38 18");
+		testSerialize(-100, "38 63");
+		testSerialize(-1000, "39 03 E7");
+		testSerialize(Integer.MIN_VALUE, "3A 7F FF FF FF");
+		testSerialize(Long.MIN_VALUE, "3B 7F FF FF FF FF FF FF FF");
+
+		testSerialize(0f, "FA 00 00 00 00");
+		testSerialize(1f, "FA 3F 80 00 00");
+		testSerialize(-1f, "FA BF 80 00 00");
+		testSerialize(1.1d, "FB 3F F1 99 99 99 99 99 9A");
+
+		// Text strings:  011xxxxx followed by the UTF-8 bytes.
+		testSerialize("", "60");
+		testSerialize("IETF", "64 49 45 54 46");
+		testSerialize("ü", "62 C3 BC");
+		testSerialize("aaaaaaaaaaaaaaaaaaaaaaa", "77 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61");
+		testSerialize("aaaaaaaaaaaaaaaaaaaaaaaa", "78 18 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61");
+
+		// Arrays:  100xxxxx followed by the elements.
+		testSerialize(new int[0], "80");
+		testSerialize(new int[]{1,2,3}, "83 01 02 03");
+		testSerialize(new int[]{1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1}, "98 18 01 01 01 01 01 01 01 01 01 01 01 01 01 01 01 01 01 01 01 01 01 01 01 01");
+
+		// Maps:  101xxxxx followed by the keys and values.
+		testSerialize(new ObjectMap("{}"), "A0");
+		testSerialize(new ObjectMap("{a:1,b:[2,3]}"), "A2 61 61 01 61 62 82 02 03");
+		testSerialize(new Person(), "A2 64 6E 61 6D 65 6A 4A 6F 68 6E 20 53 6D 69 74 68 63 61 67 65 15");
+	}
+
+	//====================================================================================================
+	// testParse
+	//====================================================================================================
+	@Test
+	public void testParse() throws Exception {
+
+		// Definite lengths.
+		testParse("A2 61 61 01 61 62 82 02 03", "{a:1,b:[2,3]}");
+		testParse("83 F6 F4 F5", "[null,false,true]");
+		testParse("82 1B 00 00 00 01 00 00 00 00 3B 7F FF FF FF FF FF FF FF", "[4294967296,-9223372036854775808]");
+		testParse("62 C3 BC", "'ü'");
+		assertTrue(Arrays.equals(new byte[]{1,2,3}, (byte[])CborParser.DEFAULT.parse(fromHex("43010203"), Object.class)));
+
+		// Indefinite lengths.
+		testParse("9F 01 82 02 03 9F 04 05 FF FF", "[1,[2,3],[4,5]]");
+		testParse("BF 61 61 01 61 62 9F 02 03 FF FF", "{a:1,b:[2,3]}");
+		testParse("7F 65 73 74 72 65 61 FF", "'strea'");
+		testParse("7F 65 73 74 72 65 61 64 6D 69 6E 67 FF", "'streaming'");
+		assertTrue(Arrays.equals(new byte[]{1,2,3}, (byte[])CborParser.DEFAULT.parse(fromHex("5F42010241 03FF".replace(" ", "")), Object.class)));
+
+		// Half, single, and double-precision floats.
+		testParse("F9 3C 00", "1.0");
+		testParse("F9 C4 00", "-4.0");
+		testParse("F9 00 01", "5.9604645E-8");
+		testParse("F9 7C 00", "Infinity");
+		testParse("FA 47 C3 50 00", "100000.0");
+		testParse("FB 3F F1 99 99 99 99 99 9A", "1.1");
+
+		// Tags are ignored, and undefined is null.
+		testParse("C1 1A 51 4B 67 B0", "1363896240");
+		testParse("D8 20 76 68 74 74 70 3A 2F 2F 77 77 77 2E 65 78 61 6D 70 6C 65 2E 63 6F 6D", "'http://www.example.com'");
+		testParse("F7", "null");
+
+		// Beans.
+		Person p = CborParser.DEFAULT.parse(fromHex("BF646E616D656446726564636167651819FF"), Person.class);
+		assertEquals("{name:'Fred',age:25}", js.serialize(p));
+		p = CborParser.DEFAULT.parse(CborSerializer.DEFAULT.serialize(new Person()), Person.class);
+		assertEquals("{name:'John Smith',age:21}", js.serialize(p));
+	}
+
+	//====================================================================================================
+	// testParseErrors
+	//====================================================================================================
+	@Test
+	public void testParseErrors() throws Exception {
+		String[] in = {
+			"82 01",                          // Truncated array.
+			"BF 61 61 01",                    // Unterminated map.
+			"63 61 61",                       // Truncated string.
+			"FF",                             // Unexpected break.
+			"1C",                             // Reserved additional information.
+			"F0",                             // Unsupported simple value.
+			"1B FF FF FF FF FF FF FF FF",     // Integer out of range.
+			"7F 01 FF",                       // Invalid indefinite-length string chunk.
+		};
+		for (String x : in) {
+			try {
+				CborParser.DEFAULT.parse(fromHex(x.replace(" ", "")), Object.class);
+				fail(x);
+			} catch (ParseException e) {
+				// OK
+			}
+		}
+	}
+
+	//====================================================================================================
+	// testStreams
+	//====================================================================================================
+	@Test
+	public void testStreams() throws Exception {
+		CborParser p = new CborParserBuilder().bufferSize(16).build();
+
+		// Values spanning buffer boundaries.
+		Map<String,Object> m = new LinkedHashMap<String,Object>();
+		m.put("a", repeat(100, "xü"));
+		m.put("b", new long[]{1, 4294967296L, -9223372036854775808L});
+		m.put("c", 1.1);
+		byte[] b = CborSerializer.DEFAULT.serialize(m);
+		String expected = js.serialize(m);
+		assertEquals(expected, js.serialize(p.parse(new ByteArrayInputStream(b), Object.class)));
+		assertEquals(expected, js.serialize(p.parse(b, Object.class)));
+
+		// Lengths larger than the input fail without allocating the declared length.
+		for (String x : new String[]{"5A 7F FF FF FF 01 02 03", "7A 7F FF FF FF 61 62 63", "5F 5A 7F FF FF FF 01 FF"}) {
+			byte[] in = fromHex(x.replace(" ", ""));
+			for (Object o : new Object[]{in, new ByteArrayInputStream(in)}) {
+				try {
+					p.parse(o, Object.class);
+					fail(x);
+				} catch (ParseException e) {
+					// OK
+				}
+			}
+		}
+	}
+
+	//====================================================================================================
+	// testProjection
+	//====================================================================================================
+	@Test
+	public void testProjection() throws Exception {
+		CborParser p = new CborParserBuilder().projection("a").build();
+		assertEquals("{a:1}", js.serialize(p.parse(fromHex("BF6162BF61637F7818666666666666666666666666666666666666666666666666FF6178C11A514B67B0FF6161016179F9C400FF"), ObjectMap.class)));
+		p = new CborParserBuilder().projection("name").build();
+		assertEquals("{name:'Fred',age:21}", js.serialize(p.parse(fromHex("BF646E616D656446726564636167651819FF"), Person.class)));
+	}
+
+	public static class Person {
+		public String name = "John Smith";
+		public int age = 21;
+	}
+
+	private void testSerialize(Object input, String expected) throws Exception {
+		byte[] b = CborSerializer.DEFAULT.serialize(input);
+		assertEquals(expected, TestUtils.toReadableBytes2(b));
+	}
+
+	private void testParse(String input, String expected) throws Exception {
+		Object o = CborParser.DEFAULT.parse(fromHex(input.replace(" ", "")), Object.class);
+		assertEquals(expected, js.serialize(o));
+	}
+}
@@ -16,6 +16,9 @@ import static org.junit.Assert.*;
 
 import java.util.*;
 
+import org.apache.juneau.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.parser.*;
 import org.apache.juneau.serializer.*;
 import org.junit.*;
 
@@ -39,10 +42,179 @@ public class CsvTest {
 		assertEquals("b,c\nb1,1\nb2,2\n", r);
 	}
 
+	//====================================================================================================
+	// testIterator
+	//====================================================================================================
+	@Test
+	public void testIterator() throws Exception {
+		List<A> l = new LinkedList<A>();
+		l.add(new A("b1",1));
+		l.add(new A("b2",2));
+
+		WriterSerializer s = CsvSerializer.DEFAULT;
+
+		assertEquals("b,c\nb1,1\nb2,2\n", s.serialize(l.iterator()));
+		assertEquals("b,c\nb1,1\nb2,2\n", s.serialize(Collections.enumeration(l)));
+		assertEquals("", s.serialize(new ArrayList<A>().iterator()));
+	}
+
+	//====================================================================================================
+	// testSerializeValues
+	//====================================================================================================
+	@Test
+	public void testSerializeValues() throws Exception {
+		WriterSerializer s = CsvSerializer.DEFAULT;
+
+		// Quoting.
+		List<A> l = new LinkedList<A>();
+		l.add(new A("x,y",1));
+		l.add(new A("say \"hi\"",2));
+		l.add(new A("a\nb",3));
+		l.add(new A("null",4));
+		l.add(null);
+		l.add(new A(null,5));
+		String r = s.serialize(l);
+		assertEquals("b,c\n\"x,y\",1\n\"say \"\"hi\"\"\",2\n\"a\nb\",3\n\"null\",4\nnull,5\n", r);
+		assertEquals("[{b:'x,y',c:1},{b:'say \"hi\"',c:2},{b:'a\\nb',c:3},{b:'null',c:4},{c:5}]", JsonSerializer.DEFAULT_LAX.serialize(CsvParser.DEFAULT.parse(r, List.class, A.class)));
+
+		// Arrays and single beans.
+		assertEquals("b,c\nb1,1\n", s.serialize(new A[]{new A("b1",1)}));
+		assertEquals("b,c\nb1,1\n", s.serialize(new A("b1",1)));
+
+		// Maps.
+		assertEquals("b,c\nb1,1\nb2,null\n", s.serialize(new ObjectList("[{b:'b1',c:1},{b:'b2'}]")));
+
+		// Lists and values.
+		assertEquals("1,2\n3,4\n", s.serialize(new int[][]{{1,2},{3,4}}));
+		assertEquals("a,true\n\"b c\"\n", s.serialize(new ObjectList("[['a',true],['b c']]")));
+		assertEquals("1\n2\n", s.serialize(new int[]{1,2}));
+		assertEquals("", s.serialize(new ArrayList<A>()));
+	}
+
+	//====================================================================================================
+	// testParse
+	//====================================================================================================
+	@Test
+	public void testParse() throws Exception {
+		ReaderParser p = CsvParser.DEFAULT;
+		WriterSerializer js = JsonSerializer.DEFAULT_LAX;
+
+		// Beans, in column order of header.
+		List<A> l = p.parse("c,b\n1,b1\n2,b2\n", LinkedList.class, A.class);
+		assertEquals("[{b:'b1',c:1},{b:'b2',c:2}]", js.serialize(l));
+		A[] a = p.parse("b,c\r\nb1,1\r\nb2,2", A[].class);
+		assertEquals("[{b:'b1',c:1},{b:'b2',c:2}]", js.serialize(a));
+
+		// Round trip.
+		l = new LinkedList<A>();
+		l.add(new A("b1",1));
+		l.add(new A("b 2",2));
+		assertEquals("[{b:'b1',c:1},{b:'b 2',c:2}]", js.serialize(p.parse(CsvSerializer.DEFAULT.serialize(l), List.class, A.class)));
+
+		// Maps and lists.
+		assertEquals("[{b:'b1',c:'1'},{b:'b2',c:'2'}]", js.serialize(p.parse("b,c\nb1,1\nb2,2\n", Object.class)));
+		assertEquals("[{b:1,c:2}]", js.serialize(p.parse("b,c\n1,2\n", List.class, Map.class, String.class, Integer.class)));
+		assertEquals("[[1,2],[3,4]]", js.serialize(p.parse("b,c\n1,2\n3,4\n", List.class, List.class, Integer.class)));
+		assertEquals("[[1,2],[3,4]]", js.serialize(p.parse("b,c\n1,2\n3,4\n", int[][].class)));
+
+		// Quoted fields, nulls, and empty fields.
+		assertEquals("[{b:'x,y',c:'\"z\"'},{b:'a\\nb',c:null},{b:'null',c:''}]", js.serialize(p.parse("b,c\n\"x,y\",\"\"\"z\"\"\"\n\"a\nb\",null\n\"null\",\n", Object.class)));
+		l = p.parse("b,c\n,\nnull,null\n", List.class, A.class);
+		assertEquals("[{b:'',c:0},{c:0}]", js.serialize(l));
+
+		// Single row into a bean.
+		assertEquals("b1", p.parse("b,c\nb1,1\n", A.class).b);
+		assertNull(p.parse("b,c\n", A.class));
+		assertNull(p.parse("", A.class));
+
+		// Custom delimiter.
+		p = new CsvParserBuilder().delimiter(';').build();
+		assertEquals("[{b:'b1,x',c:1}]", js.serialize(p.parse("b;c\nb1,x;1\n", List.class, A.class)));
+
+		// No header.
+		p = new CsvParserBuilder().header(false).build();
+		assertEquals("[{b:'b1',c:1},{b:'b2',c:2}]", js.serialize(p.parse("b1,1\nb2,2\n", List.class, A.class)));
+		assertEquals("[['b1','1'],['b2','2']]", js.serialize(p.parse("b1,1\nb2,2\n", Object.class)));
+
+		// Projection.
+		p = new CsvParserBuilder().projection("c").build();
+		assertEquals("[{c:1}]", js.serialize(p.parse("b,c\nb1,1\n", List.class, A.class)));
+		assertEquals("[{c:'1'}]", js.serialize(p.parse("b,c\nb1,1\n", Object.class)));
+	}
+
+	//====================================================================================================
+	// testParseErrors
+	//====================================================================================================
+	@Test
+	public void testParseErrors() throws Exception {
+		ReaderParser p = CsvParser.DEFAULT;
+		String[] in = {
+			"b,c\n\"b1,1\n",
+			"b,c\n\"b1\"x,1\n",
+			"b,d\nb1,1\n",
+			"b,c\nb1,x\n",
+		};
+		for (String x : in) {
+			try {
+				p.parse(x, List.class, A.class);
+				fail(x);
+			} catch (ParseException e) {
+				// OK
+			}
+		}
+		p = new CsvParserBuilder().ignoreUnknownBeanProperties(true).build();
+		assertEquals("b1", p.parse("b,d\nb1,1\n", A.class).b);
+		try {
+			new CsvParserBuilder().header(false).build().parse("1,2\n", List.class, Map.class);
+			fail();
+		} catch (ParseException e) {
+			// OK
+		}
+	}
+
+	//====================================================================================================
+	// testRowIterator
+	//====================================================================================================
+	@Test
+	public void testRowIterator() throws Exception {
+		CsvRowIterator<A> i = CsvParser.DEFAULT.createRowIterator("b,c\nb1,1\nb2,x\n", A.class);
+		try {
+			assertTrue(i.hasNext());
+			assertTrue(i.hasNext());
+			assertEquals("b1", i.next().b);
+			assertTrue(i.hasNext());
+			try {
+				i.next();
+				fail();
+			} catch (FormattedRuntimeException e) {
+				assertTrue(e.getCause() instanceof ParseException);
+			}
+			assertFalse(i.hasNext());
+			try {
+				i.next();
+				fail();
+			} catch (NoSuchElementException e) {
+				// OK
+			}
+		} finally {
+			i.close();
+		}
+
+		// Iterators can be serialized without being copied into memory.
+		i = CsvParser.DEFAULT.createRowIterator("b,c\nb1,1\nb2,2\n", A.class);
+		assertEquals("b,c\nb1,1\nb2,2\n", CsvSerializer.DEFAULT.serialize(i));
+
+		CsvRowIterator<Map> i2 = CsvParser.DEFAULT.createRowIterator("", Map.class);
+		assertFalse(i2.hasNext());
+		i2.close();
+	}
+
 	public static class A {
 		public String b;
 		public int c;
 
+		public A() {}
+
 		public A(String b, int c) {
 			this.b = b;
 			this.c = c;
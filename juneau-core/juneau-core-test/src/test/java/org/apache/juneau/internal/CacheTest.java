@@ -0,0 +1,86 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static org.junit.Assert.*;
+
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class CacheTest {
+
+	//====================================================================================================
+	// Basic get/put and counters.
+	//====================================================================================================
+	@Test
+	public void testBasic() throws Exception {
+		Cache<String,String> c = new Cache<String,String>(false, 10);
+		assertNull(c.get("a"));
+		assertEquals("A", c.put("a", "A"));
+		assertEquals("A", c.put("a", "A2"));
+		assertEquals("A", c.get("a"));
+		assertEquals(1, c.size());
+		assertEquals(1, c.getHits());
+		assertEquals(1, c.getMisses());
+		assertEquals(0, c.getEvictions());
+	}
+
+	//====================================================================================================
+	// Disabled cache.
+	//====================================================================================================
+	@Test
+	public void testDisabled() throws Exception {
+		Cache<String,String> c = new Cache<String,String>(true, 10);
+		assertEquals("A", c.put("a", "A"));
+		assertNull(c.get("a"));
+		assertEquals(0, c.size());
+	}
+
+	//====================================================================================================
+	// Cache never grows past its maximum size, and evicts one entry at a time.
+	//====================================================================================================
+	@Test
+	public void testBounded() throws Exception {
+		Cache<Integer,Integer> c = new Cache<Integer,Integer>(false, 100);
+		for (int i = 0; i < 1000; i++) {
+			c.put(i, i);
+			assertTrue(c.size() <= 100);
+		}
+		assertEquals(100, c.size());
+		assertEquals(900, c.getEvictions());
+
+		// Most recently added entries are still there.
+		assertEquals(Integer.valueOf(999), c.get(999));
+	}
+
+	//====================================================================================================
+	// Frequently-used entries survive a flood of one-time keys.
+	//====================================================================================================
+	@Test
+	public void testScanResistant() throws Exception {
+		Cache<String,String> c = new Cache<String,String>(false, 100);
+		for (int i = 0; i < 10; i++) {
+			c.put("hot" + i, "hot" + i);
+			c.get("hot" + i);
+		}
+		for (int i = 0; i < 10000; i++) {
+			c.put("cold" + i, "cold" + i);
+			if (i % 50 == 0)
+				for (int j = 0; j < 10; j++)
+					assertNotNull("hot" + j, c.get("hot" + j));
+		}
+		for (int i = 0; i < 10; i++)
+			assertEquals("hot" + i, c.get("hot" + i));
+		assertEquals(100, c.size());
+	}
+}
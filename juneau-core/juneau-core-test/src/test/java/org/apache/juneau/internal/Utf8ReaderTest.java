@@ -0,0 +1,187 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static org.apache.juneau.internal.IOUtils.*;
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.charset.*;
+import java.util.*;
+
+import org.apache.juneau.json.*;
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class Utf8ReaderTest {
+
+	private static final String[] STRINGS = {
+		"",
+		"foo",
+		"féö",
+		"€100",
+		"a😀b",
+		"😀",
+		"߿ࠀ￿",
+	};
+
+	//====================================================================================================
+	// Output matches new String(byte[],UTF8) for all input types.
+	//====================================================================================================
+	@Test
+	public void testDecoding() throws Exception {
+		for (String s : STRINGS) {
+			byte[] b = s.getBytes(UTF8);
+			assertEquals(s, read(new Utf8Reader(b, true)));
+			assertEquals(s, read(new Utf8Reader(new ByteArrayInputStream(b), 16, true)));
+			assertEquals(s, read(new Utf8Reader(new TrickleInputStream(b), 16, true)));
+			assertEquals(s, read(new Utf8Reader(ByteBuffer.wrap(b), 16, true)));
+			assertEquals(s, read(new Utf8Reader(direct(b), 16, true)));
+
+			// One character at a time so that surrogate pairs span calls.
+			Utf8Reader r = new Utf8Reader(new TrickleInputStream(b), 16, true);
+			StringBuilder sb = new StringBuilder();
+			for (int c = r.read(); c != -1; c = r.read())
+				sb.append((char)c);
+			r.close();
+			assertEquals(s, sb.toString());
+		}
+	}
+
+	//====================================================================================================
+	// Input larger than the internal buffer.
+	//====================================================================================================
+	@Test
+	public void testLargeInput() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		Random r = new Random(0);
+		for (int i = 0; i < 100000; i++) {
+			int n = r.nextInt(10);
+			sb.append(n < 7 ? (char)('a' + n) : n == 7 ? 'é' : n == 8 ? '€' : '\ud83d').append(n == 9 ? "\ude00" : "");
+		}
+		String s = sb.toString();
+		byte[] b = s.getBytes(UTF8);
+
+		assertEquals(s, read(new Utf8Reader(new ByteArrayInputStream(b), 8192, true)));
+		assertEquals(s, read(new Utf8Reader(new ByteArrayInputStream(b), 17, true)));
+		assertEquals(s, read(new Utf8Reader(direct(b), 8192, true)));
+	}
+
+	//====================================================================================================
+	// Malformed input is replaced in lax mode and reported in strict mode.
+	//====================================================================================================
+	@Test
+	public void testMalformed() throws Exception {
+		byte[][] inputs = {
+			{'a', (byte)0xC3, '(', 'b'},
+			{'a', (byte)0x80, 'b'},
+			{'a', (byte)0xE2, (byte)0x82},
+			{(byte)0xC0, (byte)0xAF},
+			{(byte)0xF0, 'b', 'c'},
+			{'a', (byte)0xE2, 'b'},
+			{'a', (byte)0xF0, (byte)0x9F, 'b'},
+			{'a', (byte)0xF0, (byte)0x9F, (byte)0x98},
+			{'a', (byte)0xE0, (byte)0x80},
+		};
+		for (byte[] b : inputs) {
+			assertEquals(new String(b, UTF8), read(new Utf8Reader(b, false)));
+			assertEquals(new String(b, UTF8), read(new Utf8Reader(new TrickleInputStream(b), 16, false)));
+			try {
+				read(new Utf8Reader(b, true));
+				fail();
+			} catch (MalformedInputException e) {
+				// Expected.
+			}
+		}
+
+		// Bytes after a truncated sequence at the end of the input are not lost.
+		byte[] json = {'{', 'a', ':', '"', 'x', (byte)0xF0, '"', '}'};
+		assertEquals("x\uFFFD", JsonParser.DEFAULT.parse(json, Map.class).get("a"));
+
+		// Encoded surrogates are not valid UTF-8.
+		byte[] b = {'a', (byte)0xED, (byte)0xA0, (byte)0x80, 'b'};
+		String s = read(new Utf8Reader(b, false));
+		assertTrue(s.startsWith("a\uFFFD") && s.endsWith("\uFFFDb"));
+		try {
+			read(new Utf8Reader(b, true));
+			fail();
+		} catch (MalformedInputException e) {
+			// Expected.
+		}
+	}
+
+	//====================================================================================================
+	// Parsers decode UTF-8 bytes directly from InputStream, byte[], and ByteBuffer inputs.
+	//====================================================================================================
+	@Test
+	public void testParserInput() throws Exception {
+		String json = "{a:'féö😀',b:[1,2,3],c:'" + StringUtils.repeat(100, "xé") + "'}";
+		byte[] b = json.getBytes(UTF8);
+		JsonParser p = new JsonParserBuilder().bufferSize(16).build();
+
+		for (Object in : new Object[]{new ByteArrayInputStream(b), b, ByteBuffer.wrap(b), direct(b), new TrickleInputStream(b)}) {
+			Map<?,?> m = p.parse(in, Map.class);
+			assertEquals("féö😀", m.get("a"));
+			assertEquals(200, m.get("c").toString().length());
+		}
+
+		// Byte buffer positions are not changed by parsing.
+		ByteBuffer bb = ByteBuffer.wrap(b);
+		p.parse(bb, Map.class);
+		assertEquals(0, bb.position());
+	}
+
+	//====================================================================================================
+	// Inherited Reader methods such as skip() work on all inputs.
+	//====================================================================================================
+	@Test
+	public void testSkip() throws Exception {
+		String s = "abcéö😀" + StringUtils.repeat(100, "xé") + "end";
+		byte[] b = s.getBytes(UTF8);
+		for (Reader r : new Reader[]{new Utf8Reader(new ByteArrayInputStream(b), 16, true), new Utf8Reader(b, true), new Utf8Reader(ByteBuffer.wrap(b), 16, true), new Utf8Reader(direct(b), 16, true)}) {
+			assertEquals(3, r.skip(3));
+			assertEquals('é', r.read());
+			assertEquals(3, r.skip(3));
+			assertEquals(196, r.skip(196));
+			assertEquals("xéxéend", read(r));
+		}
+	}
+
+	private static String read(Reader r) throws IOException {
+		try {
+			return IOUtils.read(r);
+		} finally {
+			r.close();
+		}
+	}
+
+	private static ByteBuffer direct(byte[] b) {
+		ByteBuffer bb = ByteBuffer.allocateDirect(b.length);
+		bb.put(b).flip();
+		return bb;
+	}
+
+	/**
+	 * Input stream that returns at most one byte per read.
+	 */
+	private static class TrickleInputStream extends ByteArrayInputStream {
+		TrickleInputStream(byte[] b) {
+			super(b);
+		}
+		@Override /* InputStream */
+		public synchronized int read(byte[] b, int off, int len) {
+			return super.read(b, off, Math.min(len, 1));
+		}
+	}
+}
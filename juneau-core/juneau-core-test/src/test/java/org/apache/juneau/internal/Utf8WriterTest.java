@@ -0,0 +1,136 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static org.apache.juneau.internal.IOUtils.*;
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+
+import org.apache.juneau.json.*;
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class Utf8WriterTest {
+
+	private static final String[] STRINGS = {
+		"",
+		"foo",
+		"féö",
+		"€100",
+		"a😀b",
+		"\ud83d",
+		"\ude00x",
+		"\ud83dx",
+	};
+
+	//====================================================================================================
+	// Output matches String.getBytes() for all writer methods.
+	//====================================================================================================
+	@Test
+	public void testEncoding() throws Exception {
+		for (String s : STRINGS) {
+			byte[] expected = s.getBytes(UTF8);
+
+			ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			Utf8Writer w = new Utf8Writer(baos);
+			w.write(s);
+			w.close();
+			assertArrayEquals(s, expected, baos.toByteArray());
+
+			baos = new ByteArrayOutputStream();
+			w = new Utf8Writer(baos);
+			w.write(s.toCharArray());
+			w.close();
+			assertArrayEquals(s, expected, baos.toByteArray());
+
+			// One character at a time so that surrogate pairs span calls.
+			baos = new ByteArrayOutputStream();
+			w = new Utf8Writer(baos);
+			for (int i = 0; i < s.length(); i++)
+				w.write(s.charAt(i));
+			w.close();
+			assertArrayEquals(s, expected, baos.toByteArray());
+		}
+	}
+
+	//====================================================================================================
+	// Output larger than the internal buffer.
+	//====================================================================================================
+	@Test
+	public void testLargeOutput() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		Random r = new Random(0);
+		for (int i = 0; i < 100000; i++) {
+			int n = r.nextInt(10);
+			sb.append(n < 7 ? (char)('a' + n) : n == 7 ? 'é' : n == 8 ? '€' : '\ud83d').append(n == 9 ? "\ude00" : "");
+		}
+		String s = sb.toString();
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		Utf8Writer w = new Utf8Writer(baos);
+		w.write(s);
+		w.flush();
+		assertArrayEquals(s.getBytes(UTF8), baos.toByteArray());
+
+		// Writer can still be used after its buffer is released.
+		w.release();
+		w.write("xyz");
+		w.close();
+		assertEquals(s + "xyz", new String(baos.toByteArray(), UTF8));
+	}
+
+	//====================================================================================================
+	// Writing to a ByteBuffer.
+	//====================================================================================================
+	@Test
+	public void testByteBuffer() throws Exception {
+		ByteBuffer bb = ByteBuffer.allocate(100);
+		Utf8Writer w = new Utf8Writer(bb);
+		w.write("féö");
+		w.close();
+		assertEquals(5, bb.position());
+
+		bb = ByteBuffer.allocate(2);
+		w = new Utf8Writer(bb);
+		w.write("foo");
+		try {
+			w.close();
+			fail();
+		} catch (IOException e) {
+			// Expected.
+		}
+	}
+
+	//====================================================================================================
+	// Serializers write UTF-8 bytes directly to OutputStream and ByteBuffer outputs.
+	//====================================================================================================
+	@Test
+	public void testSerializerOutput() throws Exception {
+		Map<String,Object> m = new LinkedHashMap<String,Object>();
+		m.put("a", "féö😀");
+		m.put("b", Arrays.asList(1, 2, 3));
+		String expected = "{a:'féö😀',b:[1,2,3]}";
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		JsonSerializer.DEFAULT_LAX.createSession().serialize(baos, m);
+		assertEquals(expected, new String(baos.toByteArray(), UTF8));
+
+		ByteBuffer bb = ByteBuffer.allocate(100);
+		JsonSerializer.DEFAULT_LAX.createSession().serialize(bb, m);
+		bb.flip();
+		assertEquals(expected, UTF8.decode(bb).toString());
+	}
+}
@@ -292,6 +292,46 @@ public class CommonTest {
 		public R1 r1;
 	}
 
+	//====================================================================================================
+	// Recursion detection in deeply-nested models
+	//====================================================================================================
+	@Test
+	public void testRecursionDeep() throws Exception {
+		JsonSerializer s = new JsonSerializerBuilder().simple().detectRecursions(true).build();
+
+		// Same object appearing in sibling branches is not recursion.
+		R3 r3 = new R3();
+		assertEquals("[{name:'baz'},{name:'baz'}]", s.serialize(new R3[]{r3, r3}));
+
+		// Deeper than the initial size of the stack.
+		ObjectMap root = new ObjectMap(), m = root;
+		for (int i = 0; i < 40; i++) {
+			ObjectMap m2 = new ObjectMap();
+			m.put("m", m2);
+			m = m2;
+		}
+		StringBuilder prefix = new StringBuilder(), suffix = new StringBuilder();
+		for (int i = 0; i < 40; i++) {
+			prefix.append("{m:");
+			suffix.append('}');
+		}
+		assertEquals(prefix + "{}" + suffix, s.serialize(root));
+
+		m.put("m", root);
+		try {
+			s.serialize(root);
+			fail("Exception expected!");
+		} catch (Exception e) {
+			String msg = e.getLocalizedMessage();
+			assertTrue(msg.contains("[0]root:org.apache.juneau.ObjectMap"));
+			assertTrue(msg.contains("->[40]m:org.apache.juneau.ObjectMap"));
+			assertTrue(msg.contains("->[41]m:org.apache.juneau.ObjectMap"));
+		}
+
+		s = new JsonSerializerBuilder().simple().detectRecursions(true).ignoreRecursions(true).build();
+		assertEquals(prefix + "{m:null}" + suffix, s.serialize(root));
+	}
+
 	//====================================================================================================
 	// Basic bean
 	//====================================================================================================
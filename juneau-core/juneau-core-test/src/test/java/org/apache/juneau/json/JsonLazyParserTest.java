@@ -0,0 +1,170 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+import org.junit.*;
+
+@SuppressWarnings({"javadoc"})
+public class JsonLazyParserTest {
+
+	private static final JsonParser p = JsonParser.DEFAULT;
+	private static final JsonParser lp = new JsonParserBuilder().lazy().build();
+	private static final JsonParser lsp = new JsonParserBuilder().strict().lazy().build();
+	private static final JsonSerializer s = JsonSerializer.DEFAULT_LAX;
+
+	//====================================================================================================
+	// Lazy results should be the same as regular results.
+	//====================================================================================================
+	@Test
+	public void testSameAsEager() throws Exception {
+		String[] in = {
+			"{}",
+			"[]",
+			" { a : 1 , b : 'foo' , c : \"bar\" , d : true , e : false , f : null } ",
+			"{a:{b:{c:[1,2,{d:'x'}]}},e:[[],[[]],{}]}",
+			"{a:'x\\'y\\n\\u0041',b:\"}]\",c:'{[',d:'a' + 'b' /* comment */ + \"c\"}",
+			"/* comment */ {a:1 // comment\n, b:[1 /* ] */ ,2] } // comment",
+			"{a:{it's:1},c:1.5,d:-1e3,'null':1,null:2}",
+			"{a:,b:1,c:[1,,2]}",
+			"[1,'foo',{a:1},[{b:2}]]",
+			"{a:1};",
+		};
+		for (String x : in) {
+			assertEquals(x, s.serialize(p.parse(x, Object.class)), s.serialize(lp.parse(x, Object.class)));
+		}
+		for (String x : in) {
+			if (x.startsWith("{") || x.startsWith(" {"))
+				assertEquals(x, s.serialize(p.parse(x, ObjectMap.class)), s.serialize(lp.parse(x, ObjectMap.class)));
+			if (x.startsWith("["))
+				assertEquals(x, s.serialize(p.parse(x, ObjectList.class)), s.serialize(lp.parse(x, ObjectList.class)));
+		}
+
+		// Non-object input is parsed normally.
+		assertEquals("foo", lp.parse("'foo'", Object.class));
+		assertEquals(123, lp.parse(" 123 ", Object.class));
+		assertNull(lp.parse(null, Object.class));
+
+		// Readers and streams.
+		assertEquals("{a:1}", s.serialize(lp.parse(new StringReader("{a:1}"), ObjectMap.class)));
+		assertEquals("{a:1}", lp.parse(new StringReader("{a:1}"), ObjectMap.class).toString());
+	}
+
+	//====================================================================================================
+	// Values should only be decoded when they're retrieved.
+	//====================================================================================================
+	@Test
+	public void testLazyDecoding() throws Exception {
+
+		// "tru" and "1x2" are only invalid once they're decoded.
+		ObjectMap m = lp.parse("{a:1,b:{c:tru,d:'foo'},e:[1x2]}", ObjectMap.class);
+		assertEquals(1, m.getInt("a").intValue());
+		assertEquals("foo", m.getObjectMap("b").getString("d"));
+		assertEquals(Arrays.asList("a","b","e"), new ArrayList<String>(m.keySet()));
+		assertTrue(m.getClass() != ObjectMap.class);
+		assertTrue(m.get("b").getClass() != ObjectMap.class);
+		try {
+			m.getObjectMap("b").get("c");
+			fail();
+		} catch (FormattedRuntimeException e) {
+			assertTrue(e.getCause() instanceof ParseException);
+		}
+		try {
+			m.get("e");
+			fail();
+		} catch (FormattedRuntimeException e) {
+			assertTrue(e.getCause() instanceof ParseException);
+		}
+
+		// Entries can be replaced and removed before they're decoded.
+		m = lp.parse("{a:1,b:2,c:3,d:4}", ObjectMap.class);
+		assertEquals(1, m.put("a", 5));
+		assertEquals(2, m.remove("b"));
+		m.put("e", 6);
+		assertEquals("{a:5,c:3,d:4,e:6}", s.serialize(m));
+		assertEquals(4, m.size());
+		assertTrue(m.containsValue(3));
+		assertEquals("[5,3,4,6]", s.serialize(m.values()));
+
+		// Copies and serialized forms contain the decoded values.
+		m = lp.parse("{a:{b:[1,2]}}", ObjectMap.class);
+		assertEquals("{a:{b:[1,2]}}", s.serialize(new ObjectMap(m)));
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		ObjectOutputStream oos = new ObjectOutputStream(baos);
+		oos.writeObject(m);
+		oos.close();
+		Object o = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray())).readObject();
+		assertEquals(ObjectMap.class, o.getClass());
+		assertEquals("{a:{b:[1,2]}}", s.serialize(o));
+	}
+
+	//====================================================================================================
+	// Structural errors should be reported by the parse method.
+	//====================================================================================================
+	@Test
+	public void testErrors() throws Exception {
+		String[] in = {
+			"{a:1",
+			"{a:[1}",
+			"{a:'foo}",
+			"{a:1,}",
+			"{a 1}",
+			"{a:1} b",
+			"[1,]",
+			"[1 2]",
+			"{a:1 /* }",
+		};
+		for (String x : in) {
+			try {
+				lp.parse(x, ObjectMap.class);
+				fail(x);
+			} catch (ParseException e) {
+				// OK
+			}
+		}
+
+		// Strict mode.
+		in = new String[] {
+			"{a:1}",
+			"{\"a\":1 /* comment */}",
+			"{\"a\":'foo' + 'bar'}",
+			"{\"a\":}",
+		};
+		for (String x : in) {
+			try {
+				lsp.parse(x, ObjectMap.class);
+				fail(x);
+			} catch (ParseException e) {
+				// OK
+			}
+		}
+		assertEquals("{a:'foo',b:1}", s.serialize(lsp.parse("{\"a\":\"foo\",\"b\":1}", ObjectMap.class)));
+
+		// Invalid values in strict mode are reported when they're retrieved.
+		ObjectMap m = lsp.parse("{\"a\":'foo',\"b\":\"x\ty\"}", ObjectMap.class);
+		for (String k : new String[]{"a","b"}) {
+			try {
+				m.get(k);
+				fail(k);
+			} catch (FormattedRuntimeException e) {
+				// OK
+			}
+		}
+	}
+}
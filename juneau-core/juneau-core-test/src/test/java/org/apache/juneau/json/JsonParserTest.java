@@ -310,6 +310,27 @@ public class JsonParserTest {
 		}
 	}
 
+	//====================================================================================================
+	// Property names matched against the bean property name index.
+	//====================================================================================================
+	@Test
+	public void testPropertyNames() throws Exception {
+		String json = "{\"f\\u0031\":'a','f2':'b',f3:'c',\"f4\":'d'}";
+		D d = p.parse(json, D.class);
+		assertEquals("a/b/c/d", d.f1 + '/' + d.f2 + '/' + d.f3 + '/' + d.f4);
+
+		try {
+			p.parse("{f1:'a',f5:'b'}", D.class);
+			fail("Exception expected");
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("Unknown property 'f5'"));
+		}
+	}
+
+	public static class D {
+		public String f1, f2, f3, f4;
+	}
+
 	public static class C {
 		String f;
 		public static C valueOf(String s) {
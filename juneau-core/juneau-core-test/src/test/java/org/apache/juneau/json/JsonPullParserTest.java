@@ -0,0 +1,263 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import static org.apache.juneau.json.JsonPullParser.Token.*;
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.json.JsonPullParser.*;
+import org.apache.juneau.parser.*;
+import org.junit.*;
+
+@SuppressWarnings({"javadoc"})
+public class JsonPullParserTest {
+
+	private static final JsonParser p = JsonParser.DEFAULT;
+	private static final JsonParser sp = JsonParser.DEFAULT_STRICT;
+
+	//====================================================================================================
+	// Token sequence
+	//====================================================================================================
+	@Test
+	public void testTokens() throws Exception {
+		JsonPullParser pp = p.createPullParser("{a:'foo',\"b\":[1,-2.5,true,false,null],c:{}, d:[] } /* comment */");
+		try {
+			assertEquals(START_OBJECT, pp.nextToken());
+			assertEquals(1, pp.getDepth());
+			assertEquals(FIELD_NAME, pp.nextToken());
+			assertEquals("a", pp.getString());
+			assertEquals(STRING, pp.nextToken());
+			assertEquals("foo", pp.getString());
+			assertEquals(FIELD_NAME, pp.nextToken());
+			assertEquals("b", pp.getString());
+			assertEquals(START_ARRAY, pp.nextToken());
+			assertEquals(2, pp.getDepth());
+			assertEquals(NUMBER, pp.nextToken());
+			assertEquals(1, pp.getNumber());
+			assertEquals(NUMBER, pp.nextToken());
+			assertEquals(-2.5f, pp.getNumber());
+			assertEquals(TRUE, pp.nextToken());
+			assertTrue(pp.getBoolean());
+			assertEquals(FALSE, pp.nextToken());
+			assertFalse(pp.getBoolean());
+			assertEquals(NULL, pp.nextToken());
+			assertEquals(END_ARRAY, pp.nextToken());
+			assertEquals(FIELD_NAME, pp.nextToken());
+			assertEquals(START_OBJECT, pp.nextToken());
+			assertEquals(END_OBJECT, pp.nextToken());
+			assertEquals(FIELD_NAME, pp.nextToken());
+			assertEquals("d", pp.getString());
+			assertEquals(START_ARRAY, pp.nextToken());
+			assertEquals(END_ARRAY, pp.nextToken());
+			assertEquals(END_OBJECT, pp.nextToken());
+			assertEquals(0, pp.getDepth());
+			assertNull(pp.nextToken());
+			assertNull(pp.nextToken());
+		} finally {
+			pp.close();
+		}
+	}
+
+	@Test
+	public void testScalarRoot() throws Exception {
+		JsonPullParser pp = p.createPullParser(" \"foo\" ");
+		assertEquals(STRING, pp.nextToken());
+		assertEquals("foo", pp.getString());
+		assertNull(pp.nextToken());
+		pp.close();
+
+		pp = p.createPullParser(null);
+		assertNull(pp.nextToken());
+		pp.close();
+	}
+
+	@Test
+	public void testWrongTokenType() throws Exception {
+		JsonPullParser pp = p.createPullParser("[1]");
+		pp.nextToken();
+		try {
+			pp.getString();
+			fail("Exception expected.");
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("Current token 'START_ARRAY' is not a string or attribute name."));
+		}
+		pp.close();
+	}
+
+	//====================================================================================================
+	// Strings are only decoded when asked for.
+	//====================================================================================================
+	@Test
+	public void testSkippedStrings() throws Exception {
+		JsonPullParser pp = p.createPullParser("['a\\'b,]', 'x' + /*c*/ 'y', \"q\\\"\\u0041\", bar, 'z']");
+		assertEquals(START_ARRAY, pp.nextToken());
+		assertEquals(STRING, pp.nextToken());
+		assertEquals(STRING, pp.nextToken());
+		assertEquals(STRING, pp.nextToken());
+		assertEquals(STRING, pp.nextToken());
+		assertEquals(STRING, pp.nextToken());
+		assertEquals("z", pp.getString());
+		assertEquals("z", pp.getString());
+		assertEquals(END_ARRAY, pp.nextToken());
+		pp.close();
+
+		pp = p.createPullParser("['a\\'b,]', 'x' + /*c*/ 'y', \"q\\\"\\u0041\"]");
+		pp.nextToken();
+		pp.nextToken();
+		assertEquals("a'b,]", pp.getString());
+		pp.nextToken();
+		assertEquals("xy", pp.getString());
+		pp.nextToken();
+		assertEquals("q\"A", pp.getString());
+		pp.close();
+
+		pp = p.createPullParser("['foo");
+		pp.nextToken();
+		pp.nextToken();
+		try {
+			pp.nextToken();
+			fail("Exception expected.");
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("Could not find expected end character"));
+		}
+		pp.close();
+	}
+
+	//====================================================================================================
+	// Invalid input
+	//====================================================================================================
+	@Test
+	public void testInvalidInput() throws Exception {
+		for (String in : new String[]{"{a:1 b:2}", "{a 1}", "[1 2]", "[1,", "{a:1,}", "{} x", "[,]"}) {
+			JsonPullParser pp = p.createPullParser(in);
+			try {
+				while (pp.nextToken() != null) {}
+				fail("Exception expected for input '" + in + "'.");
+			} catch (ParseException e) {
+				// Expected.
+			} finally {
+				pp.close();
+			}
+		}
+	}
+
+	@Test
+	public void testStrict() throws Exception {
+		for (String in : new String[]{"{a:1}", "['a']", "[foo]", "[1] // comment"}) {
+			JsonPullParser pp = sp.createPullParser(in);
+			try {
+				while (pp.nextToken() != null) {}
+				fail("Exception expected for input '" + in + "'.");
+			} catch (ParseException e) {
+				// Expected.
+			} finally {
+				pp.close();
+			}
+		}
+
+		// Unquoted strings are allowed in lax mode.
+		JsonPullParser pp = p.createPullParser("[bar]");
+		pp.nextToken();
+		assertEquals(STRING, pp.nextToken());
+		assertEquals("bar", pp.getString());
+		pp.close();
+	}
+
+	//====================================================================================================
+	// skipChildren()
+	//====================================================================================================
+	@Test
+	public void testSkipChildren() throws Exception {
+		JsonPullParser pp = p.createPullParser("{a:{b:[1,{c:2}],d:'x'},e:3}");
+		assertEquals(START_OBJECT, pp.nextToken());
+		assertEquals(FIELD_NAME, pp.nextToken());
+		assertEquals(START_OBJECT, pp.nextToken());
+		assertEquals(END_OBJECT, pp.skipChildren().getCurrentToken());
+		assertEquals(FIELD_NAME, pp.nextToken());
+		assertEquals("e", pp.getString());
+		assertEquals(NUMBER, pp.skipChildren().nextToken());
+		assertEquals(3, pp.getNumber());
+		assertEquals(END_OBJECT, pp.nextToken());
+		assertNull(pp.nextToken());
+		pp.close();
+	}
+
+	//====================================================================================================
+	// readValue()
+	//====================================================================================================
+	@Test
+	public void testReadValueStreaming() throws Exception {
+		JsonPullParser pp = p.createPullParser("{total:3, items:[{f1:'a',f2:1},{f1:'b',f2:2},{f1:'c',f2:3}]}");
+		List<A> l = new ArrayList<A>();
+		int total = 0;
+		assertEquals(START_OBJECT, pp.nextToken());
+		while (pp.nextToken() == FIELD_NAME) {
+			String name = pp.getString();
+			if (name.equals("total")) {
+				total = pp.readValue(int.class);
+			} else if (name.equals("items")) {
+				assertEquals(START_ARRAY, pp.nextToken());
+				while (pp.nextToken() != END_ARRAY) {
+					l.add(pp.readValue(A.class));
+					assertEquals(END_OBJECT, pp.getCurrentToken());
+				}
+			}
+		}
+		assertEquals(END_OBJECT, pp.getCurrentToken());
+		assertNull(pp.nextToken());
+		pp.close();
+
+		assertEquals(3, total);
+		assertEquals(3, l.size());
+		assertEquals("c", l.get(2).f1);
+		assertEquals(3, l.get(2).f2);
+	}
+
+	@Test
+	public void testReadValue() throws Exception {
+		JsonPullParser pp = p.createPullParser("[[1,2],{a:'b'},'foo',123,true,null]");
+		pp.nextToken();
+		pp.nextToken();
+		List<Integer> l = pp.readValue(List.class, Integer.class);
+		assertEquals(Arrays.asList(1, 2), l);
+		pp.nextToken();
+		assertEquals("{a:'b'}", pp.readValue(ObjectMap.class).toString());
+		pp.nextToken();
+		assertEquals("foo", pp.readValue(String.class));
+		pp.nextToken();
+		assertEquals(123L, pp.readValue(Long.class).longValue());
+		pp.nextToken();
+		assertEquals(Boolean.TRUE, pp.readValue(Boolean.class));
+		pp.nextToken();
+		assertNull(pp.readValue(A.class));
+		assertEquals(END_ARRAY, pp.nextToken());
+		assertNull(pp.nextToken());
+		pp.close();
+
+		// Reading the root value without calling nextToken() first.
+		pp = p.createPullParser("{f1:'x',f2:5}");
+		A a = pp.readValue(A.class);
+		assertEquals("x", a.f1);
+		assertEquals(5, a.f2);
+		assertNull(pp.nextToken());
+		pp.close();
+	}
+
+	public static class A {
+		public String f1;
+		public int f2;
+	}
+}
@@ -18,6 +18,7 @@ import static org.junit.Assert.*;
 import java.util.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
 import org.apache.juneau.json.annotation.*;
 import org.apache.juneau.serializer.*;
 import org.junit.*;
@@ -301,4 +302,83 @@ public class JsonTest {
 		r = JsonParser.DEFAULT.parse(r, String.class);
 		assertEquals("foo/bar", r);
 	}
+
+	//====================================================================================================
+	// Bean property names are encoded the same as map keys.
+	//====================================================================================================
+	@Test
+	public void testEncodedPropertyNames() throws Exception {
+		WriterSerializer[] serializers = {
+			JsonSerializer.DEFAULT,
+			JsonSerializer.DEFAULT_LAX,
+			new JsonSerializerBuilder().simple().quoteChar('"').build(),
+			new JsonSerializerBuilder().escapeSolidus(true).build(),
+			new JsonSerializerBuilder().simple().escapeSolidus(true).build(),
+			new JsonSerializerBuilder().simple().trimStrings(true).build(),
+			new JsonSerializerBuilder().simple().quoteChar('`').build(),
+		};
+
+		D d = new D();
+		Map<String,Object> m = new LinkedHashMap<String,Object>();
+		m.put("foo", 1);
+		m.put("a/b", 2);
+		m.put("class", 3);
+		m.put("x'y\"z", 4);
+		m.put("1x", 5);
+
+		for (WriterSerializer s : serializers) {
+			String expected = s.serialize(m);
+			assertEquals(expected, s.serialize(d));
+			assertEquals(expected, s.serialize(d));
+		}
+		assertEquals("{foo:1,'a/b':2,'class':3,'x\\'y\"z':4,'1x':5}", JsonSerializer.DEFAULT_LAX.serialize(d));
+	}
+
+	//====================================================================================================
+	// Numbers written without intermediate strings should be identical to their toString() values.
+	//====================================================================================================
+	@Test
+	public void testNumbers() throws Exception {
+		Object[] in = {
+			0, 1, -1, 123, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, (short)-12, (byte)12,
+			0d, -0d, 1d, -1d, 1.5d, 9999999d, 10000000d, -9999999d, 1e20d, 0.001d, Double.MAX_VALUE,
+			0f, -0f, 1f, 1.2f, 9999999f, 10000000f
+		};
+		StringBuilder sb = new StringBuilder();
+		for (Object o : in)
+			sb.append(sb.length() == 0 ? "[" : ",").append(o);
+		sb.append(']');
+		String expected = sb.toString();
+
+		assertEquals(expected, JsonSerializer.DEFAULT_LAX.serialize(in));
+		assertEquals(expected, JsonSerializer.DEFAULT_LAX.serialize(new ObjectList(in)));
+
+		ObjectList l = JsonParser.DEFAULT.parse("[0,1,-1,123,2147483647,-2147483648,2147483648,-2147483649,999999999999999999,1000000000000000000,1.5,0123,0x10]", ObjectList.class);
+		assertEquals("[0,1,-1,123,2147483647,-2147483648,2147483648,-2147483649,999999999999999999,1000000000000000000,1.5,83,16]", JsonSerializer.DEFAULT_LAX.serialize(l));
+		assertObjectEquals("['java.lang.Integer','java.lang.Integer','java.lang.Integer','java.lang.Integer','java.lang.Integer','java.lang.Integer','java.lang.Long','java.lang.Long','java.lang.Long','java.lang.Long','java.lang.Float','java.lang.Integer','java.lang.Integer']", getClassNames(l));
+	}
+
+	private static List<String> getClassNames(List<?> l) {
+		List<String> r = new ArrayList<String>();
+		for (Object o : l)
+			r.add(o.getClass().getName());
+		return r;
+	}
+
+	@Bean(properties="foo,a/b,class,x'y\"z,1x")
+	public static class D {
+		public int foo = 1;
+
+		@BeanProperty(name="a/b")
+		public int f2 = 2;
+
+		@BeanProperty(name="class")
+		public int f3 = 3;
+
+		@BeanProperty(name="x'y\"z")
+		public int f4 = 4;
+
+		@BeanProperty(name="1x")
+		public int f5 = 5;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,153 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.msgpack;
+
+import static org.apache.juneau.internal.StringUtils.*;
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.parser.*;
+import org.junit.*;
+
+@SuppressWarnings({"javadoc"})
+public class MsgPackStreamTest {
+
+	private static final MsgPackSerializer s = MsgPackSerializer.DEFAULT;
+	private static final MsgPackParser p = MsgPackParser.DEFAULT;
+	private static final JsonSerializer js = JsonSerializer.DEFAULT_LAX;
+
+	//====================================================================================================
+	// Values that span the internal buffers.
+	//====================================================================================================
+	@Test
+	public void testLargeValues() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 5000; i++)
+			sb.append("a\u00e9\u20ac\ud83d\ude00");
+		String[] in = {
+			repeat(20000, "x"),
+			sb.toString(),
+			"\u00e9" + repeat(8190, "x") + "\ud83d\ude00",
+		};
+		for (String x : in) {
+			assertEquals(x, p.parse(s.serialize(x), String.class));
+			assertEquals(x, p.parse(new SlowInputStream(s.serialize(x)), String.class));
+		}
+
+		// Unpaired surrogates are written as '?'.
+		assertEquals("a?b?", p.parse(s.serialize("a\ud83db\ude00"), String.class));
+
+		List<Object> l = new ArrayList<Object>();
+		for (int i = 0; i < 3000; i++) {
+			l.add(i * 1000000L);
+			l.add(i + 0.5);
+			l.add(new ObjectMap().append("a", i).append("b", "foo" + i));
+		}
+		String expected = js.serialize(l);
+		byte[] b = s.serialize(l);
+		assertEquals(expected, js.serialize(p.parse(b, List.class)));
+		assertEquals(expected, js.serialize(p.parse(new SlowInputStream(b), List.class)));
+	}
+
+	//====================================================================================================
+	// Output is written to the underlying stream in blocks.
+	//====================================================================================================
+	@Test
+	public void testBlockWrites() throws Exception {
+		List<Integer> l = new ArrayList<Integer>();
+		for (int i = 0; i < 10000; i++)
+			l.add(i);
+		CountingOutputStream os = new CountingOutputStream();
+		s.serialize(os, l);
+		assertTrue(os.bytes > 20000);
+		assertTrue("Too many writes: " + os.writes, os.writes < 10);
+		assertEquals(js.serialize(l), js.serialize(p.parse(os.toByteArray(), List.class)));
+	}
+
+	//====================================================================================================
+	// Truncated input.
+	//====================================================================================================
+	@Test
+	public void testTruncated() throws Exception {
+		String[] in = {
+			"A3 61 61",     // Truncated string.
+			"CD 01",        // Truncated uint 16.
+			"CB 00 00 00",  // Truncated float 64.
+			"DC 00",        // Truncated array header.
+			"92 01",        // Truncated array.
+		};
+		for (String x : in) {
+			try {
+				p.parse(fromHex(x.replace(" ", "")), Object.class);
+				fail(x);
+			} catch (ParseException e) {
+				// OK
+			}
+		}
+	}
+
+	//====================================================================================================
+	// Skipped values.
+	//====================================================================================================
+	@Test
+	public void testSkipped() throws Exception {
+		// {zz:-1,y:-100,x:300,w:5,b:2} using neg fixint, int 8, uint 16, and pos fixint values.
+		byte[] b = fromHex("85A27A7AFFA179D09CA178CD012CA17705A16202");
+
+		MsgPackParser p2 = new MsgPackParserBuilder().projection("b").build();
+		assertEquals("{b:2}", js.serialize(p2.parse(b, ObjectMap.class)));
+		assertEquals("{b:2}", js.serialize(p2.parse(new SlowInputStream(b), ObjectMap.class)));
+
+		p2 = new MsgPackParserBuilder().ignoreUnknownBeanProperties(true).build();
+		assertEquals(2, p2.parse(b, A.class).b);
+		assertEquals(2, p2.parse(new SlowInputStream(b), A.class).b);
+	}
+
+	public static class A {
+		public int b;
+	}
+
+	// Returns one byte at a time from reads.
+	private static class SlowInputStream extends ByteArrayInputStream {
+		SlowInputStream(byte[] b) {
+			super(b);
+		}
+
+		@Override
+		public synchronized int read(byte[] b, int off, int len) {
+			return super.read(b, off, Math.min(len, 1));
+		}
+	}
+
+	private static class CountingOutputStream extends ByteArrayOutputStream {
+		int writes, bytes;
+
+		@Override
+		public synchronized void write(int b) {
+			writes++;
+			bytes++;
+			super.write(b);
+		}
+
+		@Override
+		public synchronized void write(byte[] b, int off, int len) {
+			writes++;
+			bytes += len;
+			super.write(b, off, len);
+		}
+	}
+}
@@ -0,0 +1,121 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+import static org.apache.juneau.internal.StringUtils.*;
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.util.*;
+
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.junit.*;
+
+@SuppressWarnings({"javadoc"})
+public class ParserPipeTest {
+
+	private static final JsonSerializer js = JsonSerializer.DEFAULT_LAX;
+	private static final MsgPackParser mp = new MsgPackParserBuilder().bufferSize(16).build();
+	private static final JsonParser jp = new JsonParserBuilder().fileCharset("UTF-8").bufferSize(16).build();
+
+	private static List<Object> createList(int size) {
+		List<Object> l = new ArrayList<Object>();
+		for (int i = 0; i < size; i++)
+			l.add(new TreeMap<String,Object>(Collections.singletonMap("a", "foo" + i)));
+		return l;
+	}
+
+	//====================================================================================================
+	// Stream-based parsers read byte buffers directly.
+	//====================================================================================================
+	@Test
+	public void testByteBuffers() throws Exception {
+		List<Object> l = createList(1000);
+		String expected = js.serialize(l);
+		byte[] b = MsgPackSerializer.DEFAULT.serialize(l);
+
+		// Buffer that doesn't start at the beginning of its backing array.
+		byte[] b2 = new byte[b.length + 10];
+		System.arraycopy(b, 0, b2, 5, b.length);
+		ByteBuffer offset = ByteBuffer.wrap(b2, 3, b.length + 2);
+		offset.position(5);
+		offset = offset.slice();
+		offset.limit(b.length);
+
+		ByteBuffer direct = ByteBuffer.allocateDirect(b.length);
+		direct.put(b).flip();
+
+		for (ByteBuffer bb : new ByteBuffer[]{ByteBuffer.wrap(b), offset, direct, ByteBuffer.wrap(b).asReadOnlyBuffer()}) {
+			assertEquals(expected, js.serialize(mp.parse(bb, List.class)));
+			assertEquals(0, bb.position());
+		}
+
+		// Truncated input.
+		for (ByteBuffer bb : new ByteBuffer[]{ByteBuffer.wrap(fromHex("A36161")), ByteBuffer.wrap(fromHex("9201"))}) {
+			try {
+				mp.parse(bb, Object.class);
+				fail();
+			} catch (ParseException e) {
+				// OK
+			}
+		}
+	}
+
+	//====================================================================================================
+	// Files and file channels.
+	//====================================================================================================
+	@Test
+	public void testFiles() throws Exception {
+		List<Object> l = createList(100000);
+		String expected = js.serialize(l);
+
+		File f = File.createTempFile("ParserPipeTest", ".msgpack");
+		File f2 = File.createTempFile("ParserPipeTest", ".json");
+		try {
+			MsgPackSerializer.DEFAULT.serialize(new FileOutputStream(f), l);
+			JsonSerializer.DEFAULT.serialize(new OutputStreamWriter(new FileOutputStream(f2), "UTF-8"), l);
+
+			// Files are read through a stream.
+			assertNull(new ParserPipe(f).getByteBuffer());
+			assertEquals(expected, js.serialize(mp.parse(f, List.class)));
+			assertEquals(expected, js.serialize(jp.parse(f2, List.class)));
+
+			// Channels are memory-mapped and read from their current position, and are not closed or advanced.
+			RandomAccessFile raf = new RandomAccessFile(f, "r");
+			try {
+				FileChannel fc = raf.getChannel();
+				assertNotNull(new ParserPipe(fc).getByteBuffer());
+				assertEquals(expected, js.serialize(mp.parse(fc, List.class)));
+				assertTrue(fc.isOpen());
+				assertEquals(0, fc.position());
+				fc.position(5);  // Skip the array 32 header.
+				assertEquals(js.serialize(l.get(0)), js.serialize(mp.parse(fc, Map.class)));
+				assertEquals(5, fc.position());
+			} finally {
+				raf.close();
+			}
+			raf = new RandomAccessFile(f2, "r");
+			try {
+				assertEquals(expected, js.serialize(jp.parse(raf.getChannel(), List.class)));
+			} finally {
+				raf.close();
+			}
+		} finally {
+			f.delete();
+			f2.delete();
+		}
+	}
+}
@@ -0,0 +1,177 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+import static org.apache.juneau.parser.ParserContext.*;
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.uon.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+@SuppressWarnings({"javadoc"})
+public class ProjectionTest {
+
+	private static final JsonSerializer js = JsonSerializer.DEFAULT_LAX;
+
+	private static final Serializer[] serializers = {
+		JsonSerializer.DEFAULT,
+		UonSerializer.DEFAULT,
+		XmlSerializer.DEFAULT,
+		MsgPackSerializer.DEFAULT,
+	};
+
+	private static Parser parser(int i, String...projection) {
+		ParserBuilder[] b = {
+			new JsonParserBuilder(),
+			new UonParserBuilder(),
+			new XmlParserBuilder(),
+			new MsgPackParserBuilder(),
+		};
+		return b[i].projection(projection).build();
+	}
+
+	private static A createA() throws Exception {
+		A a = new A();
+		a.name = "foo";
+		a.age = 10;
+		a.addresses = new ArrayList<B>();
+		a.addresses.add(new B("street1", "city1"));
+		a.addresses.add(new B("street2", "city2"));
+		a.extra = new ObjectMap("{x:{y:1,z:[1,2]},w:{y:2,z:3}}");
+		return a;
+	}
+
+	//====================================================================================================
+	// Parsing into maps.
+	//====================================================================================================
+	@Test
+	public void testMaps() throws Exception {
+		ObjectMap m = new ObjectMap(js.serialize(createA()));
+		for (int i = 0; i < serializers.length; i++) {
+			Object in = serializers[i].serialize(m);
+			String label = serializers[i].getClass().getSimpleName();
+
+			Parser p = parser(i);
+			assertEquals(label, "{name:'foo',age:10,addresses:[{street:'street1',city:'city1'},{street:'street2',city:'city2'}],extra:{x:{y:1,z:[1,2]},w:{y:2,z:3}}}", js.serialize(p.parse(in, ObjectMap.class)));
+
+			p = parser(i, "name");
+			assertEquals(label, "{name:'foo'}", js.serialize(p.parse(in, ObjectMap.class)));
+
+			p = parser(i, "addresses.street", "extra.x");
+			assertEquals(label, "{addresses:[{street:'street1'},{street:'street2'}],extra:{x:{y:1,z:[1,2]}}}", js.serialize(p.parse(in, ObjectMap.class)));
+
+			p = parser(i, "extra.*.y");
+			assertEquals(label, "{extra:{x:{y:1},w:{y:2}}}", js.serialize(p.parse(in, ObjectMap.class)));
+
+			p = parser(i, "extra.*.y", "extra");
+			assertEquals(label, "{extra:{x:{y:1,z:[1,2]},w:{y:2,z:3}}}", js.serialize(p.parse(in, ObjectMap.class)));
+
+			p = parser(i, "xxx");
+			assertEquals(label, "{}", js.serialize(p.parse(in, ObjectMap.class)));
+		}
+	}
+
+	//====================================================================================================
+	// Parsing into beans.
+	//====================================================================================================
+	@Test
+	public void testBeans() throws Exception {
+		for (int i = 0; i < serializers.length; i++) {
+			Object in = serializers[i].serialize(createA());
+			String label = serializers[i].getClass().getSimpleName();
+
+			Parser p = parser(i, "name", "addresses.city");
+			A a = p.parse(in, A.class);
+			assertEquals(label, "{name:'foo',age:0,addresses:[{city:'city1'},{city:'city2'}]}", js.serialize(a));
+
+			// Unknown properties are still reported if they're in the projection.
+			p = parser(i, "name", "xxx");
+			in = serializers[i].serialize(new ObjectMap("{name:'foo',xxx:1}"));
+			try {
+				p.parse(in, A.class);
+				fail(label);
+			} catch (ParseException e) {
+				// OK
+			}
+
+			// ...but not if they're outside it.
+			p = parser(i, "name");
+			assertEquals(label, "foo", p.parse(in, A.class).name);
+		}
+	}
+
+	//====================================================================================================
+	// Values outside the projection are not parsed.
+	//====================================================================================================
+	@Test
+	public void testSkipped() throws Exception {
+		JsonParser p = new JsonParserBuilder().projection("a").build();
+		assertEquals("{a:1}", js.serialize(p.parse("{a:1,b:{c:tru,d:[1x2,'}]',\"[{\"]},e:it's,f:'x' + 'y'}", ObjectMap.class)));
+		assertEquals("{a:1}", js.serialize(p.parse("{b:[[[{}]]], a:1 /* comment */}", ObjectMap.class)));
+		assertEquals("[{a:1},{a:2}]", js.serialize(p.parse("[{a:1,b:2},{b:{},a:2}]", ObjectList.class)));
+		try {
+			p.parse("{a:1,b:{c:1}", ObjectMap.class);
+			fail();
+		} catch (ParseException e) {
+			// OK
+		}
+
+		UonParser up = new UonParserBuilder().projection("a").build();
+		assertEquals("{a:1}", js.serialize(up.parse("(a=1,b=(c=tru,d=@(1x2,')'),e=it's),f='x~'y')", ObjectMap.class)));
+		assertEquals("{a:'x'}", js.serialize(up.parse("(b=@((c=1)),a=x)", ObjectMap.class)));
+
+		// Skipped values of every integer size, including negative fixints.
+		MsgPackParser mp = new MsgPackParserBuilder().projection("b", "c").build();
+		for (String x : new String[]{"{a:-1,b:2,c:'x'}", "{a:[-1,-100,300,5],b:2,c:'x'}", "{a:{d:-1},b:2,c:'x'}"})
+			assertEquals(x, "{b:2,c:'x'}", js.serialize(mp.parse(MsgPackSerializer.DEFAULT.serialize(new ObjectMap(x)), ObjectMap.class)));
+
+		// The bean type property is never excluded.
+		assertEquals("{_type:'foo',a:1}", js.serialize(p.parse("{_type:'foo',a:1,b:2}", ObjectMap.class)));
+	}
+
+	//====================================================================================================
+	// Session-overridable.
+	//====================================================================================================
+	@Test
+	public void testSessionOverride() throws Exception {
+		JsonParser p = JsonParser.DEFAULT;
+		ParserSessionArgs args = new ParserSessionArgs(new ObjectMap().append(PARSER_projection, new String[]{"a"}), null, null, null, null, null);
+		assertEquals("{a:1}", js.serialize(p.createSession(args).parse("{a:1,b:2}", ObjectMap.class)));
+		assertEquals("{a:1,b:2}", js.serialize(p.parse("{a:1,b:2}", ObjectMap.class)));
+	}
+
+	public static class A {
+		public String name;
+		public int age;
+		public List<B> addresses;
+		public ObjectMap extra;
+	}
+
+	public static class B {
+		public String street, city;
+
+		public B() {}
+
+		public B(String street, String city) {
+			this.street = street;
+			this.city = city;
+		}
+	}
+}
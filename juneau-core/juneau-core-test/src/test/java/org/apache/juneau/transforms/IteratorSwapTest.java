@@ -14,10 +14,15 @@ package org.apache.juneau.transforms;
 
 import static org.junit.Assert.*;
 
+import java.io.*;
 import java.util.*;
 
+import org.apache.juneau.html.*;
 import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
 import org.apache.juneau.serializer.*;
+import org.apache.juneau.uon.*;
+import org.apache.juneau.xml.*;
 import org.junit.*;
 
 @SuppressWarnings("javadoc")
@@ -35,4 +40,70 @@ public class IteratorSwapTest {
 		Iterator<String> i = l.iterator();
 		assertEquals("['foo','bar','baz']", s.serialize(i));
 	}
+
+	//====================================================================================================
+	// Elements are serialized as they're pulled from the iterator.
+	//====================================================================================================
+	@Test
+	public void testStreaming() throws Exception {
+		WriterSerializer[] serializers = {
+			new JsonSerializerBuilder().simple().pojoSwaps(IteratorSwap.class).build(),
+			new XmlSerializerBuilder().sq().pojoSwaps(IteratorSwap.class).build(),
+			new UonSerializerBuilder().pojoSwaps(IteratorSwap.class).build(),
+		};
+		for (WriterSerializer s : serializers) {
+			StringWriter sw = new StringWriter();
+			s.createSession().serialize(sw, new CheckingIterator(sw, 3));
+			assertEquals(s.serialize(Arrays.asList("e0","e1","e2")), sw.toString());
+		}
+	}
+
+	//====================================================================================================
+	// Serializers that need all the elements up front copy them first.
+	//====================================================================================================
+	@Test
+	public void testBuffered() throws Exception {
+		List<String> l = Arrays.asList("foo","bar","baz");
+
+		WriterSerializer s = new JsonSerializerBuilder().simple().sortCollections(true).pojoSwaps(IteratorSwap.class).build();
+		assertEquals("['bar','baz','foo']", s.serialize(l.iterator()));
+
+		s = new HtmlSerializerBuilder().sq().pojoSwaps(IteratorSwap.class).build();
+		assertEquals(s.serialize(l), s.serialize(l.iterator()));
+
+		OutputStreamSerializer s2 = new MsgPackSerializerBuilder().pojoSwaps(IteratorSwap.class).build();
+		assertArrayEquals(s2.serialize(l), s2.serialize(l.iterator()));
+	}
+
+	/**
+	 * Iterator that verifies that the previous element has already been written to the output when the next one is
+	 * requested.
+	 */
+	public static class CheckingIterator implements Iterator<String> {
+		private final StringWriter sw;
+		private final int count;
+		private int i;
+
+		public CheckingIterator(StringWriter sw, int count) {
+			this.sw = sw;
+			this.count = count;
+		}
+
+		@Override /* Iterator */
+		public boolean hasNext() {
+			return i < count;
+		}
+
+		@Override /* Iterator */
+		public String next() {
+			if (i > 0)
+				assertTrue(sw.toString().contains("e" + (i-1)));
+			return "e" + i++;
+		}
+
+		@Override /* Iterator */
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
 }
\ No newline at end of file
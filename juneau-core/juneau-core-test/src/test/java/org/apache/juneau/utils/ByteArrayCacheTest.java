@@ -58,4 +58,46 @@ public class ByteArrayCacheTest {
 		assertObjectEquals("[1,2,3]", b);
 		assertEquals(4, bac.size());
 	}
+
+	//====================================================================================================
+	// testByteBudget
+	//====================================================================================================
+	@Test
+	public void testByteBudget() throws Exception {
+		ByteArrayCache bac = new ByteArrayCache(100);
+		for (int i = 0; i < 100; i++) {
+			bac.cache(new byte[]{(byte)i,1,2,3,4,5,6,7,8,9});
+			assertTrue(bac.getBytes() <= 100);
+		}
+		assertEquals(10, bac.size());
+		assertEquals(100, bac.getBytes());
+		assertEquals(90, bac.getEvictions());
+		assertEquals(100, bac.getMisses());
+
+		// Arrays bigger than the budget aren't cached.
+		byte[] b = new byte[101];
+		assertSame(b, bac.cache(b));
+		assertEquals(10, bac.size());
+
+		// Requested arrays survive eviction.
+		byte[] b1 = bac.cache(new byte[]{99,1,2,3,4,5,6,7,8,9});
+		assertEquals(1, bac.getHits());
+		for (int i = 0; i < 9; i++)
+			bac.cache(new byte[]{(byte)i,0});
+		assertSame(b1, bac.cache(new byte[]{99,1,2,3,4,5,6,7,8,9}));
+	}
+
+	//====================================================================================================
+	// testLargeArrays
+	//====================================================================================================
+	@Test
+	public void testLargeArrays() throws Exception {
+		ByteArrayCache bac = new ByteArrayCache(1000000);
+		byte[] b1 = new byte[10000], b2 = new byte[10000];
+		b2[5001] = 1;  // Not one of the sampled bytes.
+		assertSame(b1, bac.cache(b1));
+		assertSame(b2, bac.cache(b2));
+		assertEquals(2, bac.size());
+		assertSame(b1, bac.cache(new byte[10000]));
+	}
 }
@@ -179,7 +179,36 @@ public class StringUtilsTest {
 			n = parseNumber(in, c);
 			assertTrue(c.isInstance(n));
 			assertEquals(123, n.intValue());
+			assertEquals('\'', in.read());
 		}
+
+		// Plain integers are parsed without creating strings, everything else falls back to parseNumber(String,Class).
+		String[] s = {"123", "-123", "0", "-0", "-0", "-0", "0123", "0x1F", "1.5", "1e3", "999999999999999999", "9999999999999999999", "32768", "-"};
+		Class[] c = {Integer.class, Integer.class, Long.class, Integer.class, Double.class, Float.class, Integer.class, Integer.class, Double.class, Float.class, Long.class, Double.class, Short.class, Integer.class};
+		for (int i = 0; i < s.length; i++) {
+			in = new ParserReader(new ParserPipe(s[i] + ","));
+			try {
+				Number expected = parseNumber(s[i], c[i]);
+				assertEquals(expected, parseNumber(in, c[i]));
+				assertEquals(',', in.read());
+			} catch (ParseException e) {
+				try {
+					parseNumber(in, c[i]);
+					fail("Exception expected for " + s[i]);
+				} catch (ParseException e2) {
+					assertEquals(e.getMessage(), e2.getMessage());
+				}
+			}
+		}
+
+		in = new ParserReader(new ParserPipe("123"));
+		assertEquals(123, parseInteger(in, null));
+		assertEquals(-1, in.read());
+
+		// Negative zero is only preserved by floating-point types.
+		assertEquals(-0.0d, parseNumber(new ParserReader(new ParserPipe("-0")), Double.class));
+		assertEquals(-0.0f, parseNumber(new ParserReader(new ParserPipe("-0")), Float.class));
+		assertEquals(0, parseNumber(new ParserReader(new ParserPipe("-0")), Integer.class));
 	}
 
 	//====================================================================================================
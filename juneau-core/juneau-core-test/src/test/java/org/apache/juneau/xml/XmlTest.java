@@ -1029,4 +1029,38 @@ public class XmlTest {
 			f3 = "f3";
 		}
 	}
+
+	//====================================================================================================
+	// Bean property names are encoded the same as map keys.
+	//====================================================================================================
+	@Test
+	public void testEncodedPropertyNames() throws Exception {
+		XmlSerializer s = XmlSerializer.DEFAULT_SQ;
+
+		R r = new R();
+		Map<String,Object> m = new LinkedHashMap<String,Object>();
+		m.put("foo", "1");
+		m.put("a b", "2");
+		m.put("1x", "3");
+		m.put("_x0020_", "4");
+
+		String expected = s.serialize(m);
+		assertEquals(expected, s.serialize(r));
+		assertEquals(expected, s.serialize(r));
+		assertEquals("<object><foo>1</foo><a_x0020_b>2</a_x0020_b><_x0031_x>3</_x0031_x><_x005F_x0020_>4</_x005F_x0020_></object>", s.serialize(r));
+	}
+
+	@Bean(properties="foo,a b,1x,_x0020_")
+	public static class R {
+		public String foo = "1";
+
+		@BeanProperty(name="a b")
+		public String f2 = "2";
+
+		@BeanProperty(name="1x")
+		public String f3 = "3";
+
+		@BeanProperty(name="_x0020_")
+		public String f4 = "4";
+	}
 }
\ No newline at end of file
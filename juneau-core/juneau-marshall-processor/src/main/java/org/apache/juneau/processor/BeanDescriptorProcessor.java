@@ -0,0 +1,329 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.processor;
+
+import java.io.*;
+import java.util.*;
+
+import javax.annotation.processing.*;
+import javax.lang.model.*;
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.*;
+import javax.tools.*;
+
+/**
+ * Annotation processor that generates <code>org.apache.juneau.BeanDescriptor</code> classes for classes annotated
+ * with <code>@Bean</code>.
+ *
+ * <p>
+ * For each bean class <code>com.foo.MyBean</code>, a class called <code>com.foo.MyBean_BeanDescriptor</code> is
+ * generated containing the fields, getters, and setters that would otherwise be found through reflection at runtime
+ * using the default field and method visibility.
+ * The descriptors are picked up automatically by <code>BeanMeta</code>.
+ *
+ * <p>
+ * To use, add this artifact to the annotation processor path of the compiler (or simply to the compile classpath):
+ * <p class='bcode'>
+ * 	<xt>&lt;dependency&gt;</xt>
+ * 		<xt>&lt;groupId&gt;</xt>org.apache.juneau<xt>&lt;/groupId&gt;</xt>
+ * 		<xt>&lt;artifactId&gt;</xt>juneau-marshall-processor<xt>&lt;/artifactId&gt;</xt>
+ * 		<xt>&lt;scope&gt;</xt>provided<xt>&lt;/scope&gt;</xt>
+ * 	<xt>&lt;/dependency&gt;</xt>
+ * </p>
+ */
+@SupportedAnnotationTypes(BeanDescriptorProcessor.BEAN)
+public class BeanDescriptorProcessor extends AbstractProcessor {
+
+	static final String
+		BEAN = "org.apache.juneau.annotation.Bean",
+		BEAN_IGNORE = "org.apache.juneau.annotation.BeanIgnore",
+		BEAN_PROPERTY = "org.apache.juneau.annotation.BeanProperty",
+		SUFFIX = "_BeanDescriptor";
+
+	private Elements elements;
+	private Types types;
+
+	@Override /* Processor */
+	public synchronized void init(ProcessingEnvironment env) {
+		super.init(env);
+		elements = env.getElementUtils();
+		types = env.getTypeUtils();
+	}
+
+	@Override /* Processor */
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override /* Processor */
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		TypeElement bean = elements.getTypeElement(BEAN);
+		if (bean == null)
+			return false;
+		for (Element e : roundEnv.getElementsAnnotatedWith(bean)) {
+			if (e.getKind() != ElementKind.CLASS)
+				continue;
+			TypeElement c = (TypeElement)e;
+			NestingKind nk = c.getNestingKind();
+			if (nk != NestingKind.TOP_LEVEL && nk != NestingKind.MEMBER)
+				continue;
+			try {
+				write(c, describe(c));
+			} catch (FilerException x) {
+				// Already generated in a previous round.
+			} catch (IOException x) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Could not generate bean descriptor: " + x.getLocalizedMessage(), c);
+			}
+		}
+		return false;
+	}
+
+	//--------------------------------------------------------------------------------
+	// Introspection.
+	// These mirror the rules in BeanMeta.findBeanFields() and BeanMeta.findBeanMethods() with PUBLIC visibility.
+	//--------------------------------------------------------------------------------
+
+	private List<String> describe(TypeElement c) {
+		List<String> l = new ArrayList<String>();
+		List<TypeElement> classes = findClasses(c);
+
+		// Lets BeanMeta detect classes in the hierarchy that were changed after the descriptor was generated.
+		for (int i = 0; i < classes.size(); i++) {
+			TypeElement ci = classes.get(i);
+			int fields = 0, methods = 0;
+			for (VariableElement f : ElementFilter.fieldsIn(ci.getEnclosedElements()))
+				if (! f.getModifiers().contains(Modifier.STATIC))
+					fields++;
+			for (ExecutableElement m : ElementFilter.methodsIn(ci.getEnclosedElements()))
+				if (! m.getModifiers().contains(Modifier.STATIC))
+					methods++;
+			l.add("type(" + i + ", " + quote(elements.getBinaryName(ci).toString()) + ", " + fields + ", " + methods + ")");
+		}
+
+		for (int i = 0; i < classes.size(); i++) {
+			for (VariableElement f : ElementFilter.fieldsIn(classes.get(i).getEnclosedElements())) {
+				Set<Modifier> mod = f.getModifiers();
+				if (mod.contains(Modifier.STATIC) || mod.contains(Modifier.TRANSIENT))
+					continue;
+				if (getAnnotation(f, BEAN_IGNORE) != null)
+					continue;
+				AnnotationMirror bp = getAnnotation(f, BEAN_PROPERTY);
+				if (! (mod.contains(Modifier.PUBLIC) || bp != null))
+					continue;
+				String fn = f.getSimpleName().toString(), bpName = bpName(bp);
+				boolean named = ! bpName.isEmpty();
+				l.add("field(" + i + ", " + quote(fn) + ", " + quote(named ? bpName : fn) + ", " + named + ")");
+			}
+		}
+
+		for (int i = 0; i < classes.size(); i++) {
+			for (ExecutableElement m : ElementFilter.methodsIn(classes.get(i).getEnclosedElements())) {
+				Set<Modifier> mod = m.getModifiers();
+				if (mod.contains(Modifier.STATIC))
+					continue;
+				if (getMethodAnnotation(c, m, BEAN_IGNORE) != null)
+					continue;
+				AnnotationMirror bp = getMethodAnnotation(c, m, BEAN_PROPERTY);
+				if (! (mod.contains(Modifier.PUBLIC) || bp != null))
+					continue;
+
+				String n = m.getSimpleName().toString(), mn = n;
+				List<? extends VariableElement> pt = m.getParameters();
+				TypeMirror rt = m.getReturnType();
+				boolean isGetter = false, isSetter = false;
+				String bpName = bpName(bp);
+				if (pt.size() == 0) {
+					if (n.startsWith("get") && rt.getKind() != TypeKind.VOID) {
+						isGetter = true;
+						n = n.substring(3);
+					} else if (n.startsWith("is") && (rt.getKind() == TypeKind.BOOLEAN || isClass(rt, "java.lang.Boolean"))) {
+						isGetter = true;
+						n = n.substring(2);
+					} else if (! bpName.isEmpty()) {
+						isGetter = true;
+					}
+				} else if (pt.size() == 1) {
+					if (n.startsWith("set") && (rt.getKind() == TypeKind.VOID || isParentClass(rt, c))) {
+						isSetter = true;
+						n = n.substring(3);
+					} else if (! bpName.isEmpty()) {
+						isSetter = true;
+					}
+				} else if (pt.size() == 2) {
+					if ("*".equals(bpName))
+						isSetter = true;
+				}
+
+				if (isGetter || isSetter) {
+					boolean named = ! bpName.isEmpty();
+					if (named)
+						n = bpName;
+					if (isGetter) {
+						l.add("getter(" + i + ", " + quote(mn) + ", " + quote(n) + ", " + named + ")");
+					} else {
+						StringBuilder sb = new StringBuilder("new String[]{");
+						for (int j = 0; j < pt.size(); j++)
+							sb.append(j == 0 ? "" : ", ").append(quote(getTypeName(pt.get(j).asType())));
+						sb.append('}');
+						l.add("setter(" + i + ", " + quote(mn) + ", " + sb + ", " + quote(n) + ", " + named + ")");
+					}
+				}
+			}
+		}
+		return l;
+	}
+
+	/*
+	 * Same as BeanMeta.findClasses(Class,Class) with a stop class of Object.
+	 */
+	private List<TypeElement> findClasses(TypeElement c) {
+		LinkedList<TypeElement> l = new LinkedList<TypeElement>();
+		findClasses(c, l);
+		return l;
+	}
+
+	private void findClasses(TypeElement c, LinkedList<TypeElement> l) {
+		while (c != null && ! c.getQualifiedName().contentEquals("java.lang.Object")) {
+			l.addFirst(c);
+			for (TypeMirror ci : c.getInterfaces())
+				findClasses((TypeElement)types.asElement(ci), l);
+			c = c.getSuperclass().getKind() == TypeKind.DECLARED ? (TypeElement)types.asElement(c.getSuperclass()) : null;
+		}
+	}
+
+	/*
+	 * Same as ClassUtils.getMethodAnnotation(Class,Class,Method).
+	 */
+	private AnnotationMirror getMethodAnnotation(TypeElement c, ExecutableElement method, String a) {
+		for (ExecutableElement m : ElementFilter.methodsIn(c.getEnclosedElements())) {
+			if (isSameMethod(method, m)) {
+				AnnotationMirror t = getAnnotation(m, a);
+				if (t != null)
+					return t;
+			}
+		}
+		if (c.getSuperclass().getKind() == TypeKind.DECLARED) {
+			AnnotationMirror t = getMethodAnnotation((TypeElement)types.asElement(c.getSuperclass()), method, a);
+			if (t != null)
+				return t;
+		}
+		for (TypeMirror ic : c.getInterfaces()) {
+			AnnotationMirror t = getMethodAnnotation((TypeElement)types.asElement(ic), method, a);
+			if (t != null)
+				return t;
+		}
+		return null;
+	}
+
+	private boolean isSameMethod(ExecutableElement m1, ExecutableElement m2) {
+		if (! m1.getSimpleName().equals(m2.getSimpleName()))
+			return false;
+		List<? extends VariableElement> p1 = m1.getParameters(), p2 = m2.getParameters();
+		if (p1.size() != p2.size())
+			return false;
+		for (int i = 0; i < p1.size(); i++)
+			if (! types.isSameType(types.erasure(p1.get(i).asType()), types.erasure(p2.get(i).asType())))
+				return false;
+		return true;
+	}
+
+	private static AnnotationMirror getAnnotation(Element e, String a) {
+		for (AnnotationMirror am : e.getAnnotationMirrors())
+			if (((TypeElement)am.getAnnotationType().asElement()).getQualifiedName().contentEquals(a))
+				return am;
+		return null;
+	}
+
+	/*
+	 * Same as BeanMeta.bpName(BeanProperty).
+	 */
+	private static String bpName(AnnotationMirror bp) {
+		if (bp == null)
+			return "";
+		String name = "", value = "";
+		for (Map.Entry<? extends ExecutableElement,? extends AnnotationValue> e : bp.getElementValues().entrySet()) {
+			String k = e.getKey().getSimpleName().toString();
+			if (k.equals("name"))
+				name = String.valueOf(e.getValue().getValue());
+			else if (k.equals("value"))
+				value = String.valueOf(e.getValue().getValue());
+		}
+		return name.isEmpty() ? value : name;
+	}
+
+	private boolean isClass(TypeMirror t, String name) {
+		return t.getKind() == TypeKind.DECLARED && ((TypeElement)types.asElement(t)).getQualifiedName().contentEquals(name);
+	}
+
+	private boolean isParentClass(TypeMirror parent, TypeElement child) {
+		if (parent.getKind() != TypeKind.DECLARED)
+			return false;
+		return types.isAssignable(types.erasure(child.asType()), types.erasure(parent));
+	}
+
+	/*
+	 * Returns the erased type name in the format expected by BeanDescriptor.setter().
+	 */
+	private String getTypeName(TypeMirror t) {
+		t = types.erasure(t);
+		if (t.getKind() == TypeKind.ARRAY)
+			return getTypeName(((ArrayType)t).getComponentType()) + "[]";
+		if (t.getKind() == TypeKind.DECLARED)
+			return elements.getBinaryName((TypeElement)types.asElement(t)).toString();
+		return t.toString();
+	}
+
+	//--------------------------------------------------------------------------------
+	// Code generation.
+	//--------------------------------------------------------------------------------
+
+	private void write(TypeElement c, List<String> entries) throws IOException {
+		String pkg = elements.getPackageOf(c).getQualifiedName().toString();
+		String binaryName = elements.getBinaryName(c).toString();
+		String name = binaryName.substring(pkg.isEmpty() ? 0 : pkg.length() + 1) + SUFFIX;
+
+		JavaFileObject f = processingEnv.getFiler().createSourceFile(binaryName + SUFFIX, c);
+		Writer w = f.openWriter();
+		try {
+			w.append("// Generated by ").append(getClass().getName()).append(" from ").append(c.getQualifiedName()).append(".  Do not edit.\n");
+			if (! pkg.isEmpty())
+				w.append("package ").append(pkg).append(";\n");
+			w.append("\n");
+			w.append("public final class ").append(name).append(" extends org.apache.juneau.BeanDescriptor {\n");
+			w.append("\tpublic ").append(name).append("() {\n");
+			w.append("\t\tsuper(");
+			for (int i = 0; i < entries.size(); i++)
+				w.append(i == 0 ? "\n" : ",\n").append("\t\t\t").append(entries.get(i));
+			w.append(entries.isEmpty() ? ");\n" : "\n\t\t);\n");
+			w.append("\t}\n");
+			w.append("}\n");
+		} finally {
+			w.close();
+		}
+	}
+
+	private static String quote(String s) {
+		StringBuilder sb = new StringBuilder("\"");
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (c == '"' || c == '\\')
+				sb.append('\\').append(c);
+			else if (c < 0x20 || c > 0x7e)
+				sb.append(String.format("\\u%04x", (int)c));
+			else
+				sb.append(c);
+		}
+		return sb.append('"').toString();
+	}
+}
@@ -0,0 +1,219 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.apache.juneau.internal.IOUtils.*;
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+
+import javax.tools.*;
+
+import org.apache.juneau.internal.*;
+import org.apache.juneau.processor.*;
+import org.junit.*;
+
+/**
+ * Compiles sample beans with and without the annotation processor and compares the resulting bean metadata.
+ */
+@SuppressWarnings({"javadoc"})
+public class BeanDescriptorProcessorTest {
+
+	private static final String PARENT =
+		"package sample;\n"
+		+ "import org.apache.juneau.annotation.*;\n"
+		+ "@Bean\n"
+		+ "public class Parent {\n"
+		+ "	public String a;\n"
+		+ "	private int b;\n"
+		+ "	@BeanProperty(name=\"c2\") public String c;\n"
+		+ "	@BeanIgnore public String d;\n"
+		+ "	public transient String e;\n"
+		+ "	protected String p;\n"
+		+ "	public static String s;\n"
+		+ "	public int getB() { return b; }\n"
+		+ "	public void setB(int b) { this.b = b; }\n"
+		+ "	public boolean isF() { return true; }\n"
+		+ "	@BeanIgnore public String getG() { return null; }\n"
+		+ "	public void setG(String g) {}\n"
+		+ "	%s\n"
+		+ "}\n";
+
+	private static final String IFACE =
+		"package sample;\n"
+		+ "public interface Iface {\n"
+		+ "	String getM();\n"
+		+ "}\n";
+
+	private static final String CHILD =
+		"package sample;\n"
+		+ "import org.apache.juneau.annotation.*;\n"
+		+ "@Bean\n"
+		+ "public class Child extends Parent implements Iface {\n"
+		+ "	public String h;\n"
+		+ "	private String[] i;\n"
+		+ "	public String[] getI() { return i; }\n"
+		+ "	public Child setI(String[] i) { this.i = i; return this; }\n"
+		+ "	@Override public int getB() { return 1; }\n"
+		+ "	@Override public String getG() { return null; }\n"
+		+ "	@BeanProperty(name=\"j2\") public String getJ() { return null; }\n"
+		+ "	@BeanProperty(name=\"j2\") public void setJ(String j) {}\n"
+		+ "	@BeanProperty public String getK() { return null; }\n"
+		+ "	protected String getL() { return null; }\n"
+		+ "	@BeanProperty protected void setL(String l) {}\n"
+		+ "	@Override public String getM() { return null; }\n"
+		+ "	public Boolean isN() { return null; }\n"
+		+ "	public void setO(java.util.List<String> o, int x) {}\n"
+		+ "	public static String getS() { return null; }\n"
+		+ "	public static class Inner {}\n"
+		+ "	@Bean public static class Nested { public int x; public int getY() { return 0; } }\n"
+		+ "}\n";
+
+	private File dir;
+
+	@Before
+	public void before() throws Exception {
+		dir = File.createTempFile("BeanDescriptorProcessorTest", "");
+		dir.delete();
+		FileUtils.mkdirs(dir, true);
+	}
+
+	@After
+	public void after() {
+		FileUtils.delete(dir);
+	}
+
+	//====================================================================================================
+	// Generated descriptors produce the same bean metadata as reflection.
+	//====================================================================================================
+	@Test
+	public void testSameAsReflection() throws Exception {
+		File processed = new File(dir, "processed"), reflected = new File(dir, "reflected");
+
+		compile(processed, true, source("Parent", String.format(PARENT, "")), source("Iface", IFACE));
+		compile(processed, true, source("Child", CHILD));
+		compile(reflected, false, source("Parent", String.format(PARENT, "")), source("Iface", IFACE), source("Child", CHILD));
+
+		assertTrue(new File(processed, "sample/Child_BeanDescriptor.class").exists());
+		assertTrue(new File(processed, "sample/Child$Nested_BeanDescriptor.class").exists());
+		assertFalse(new File(reflected, "sample/Child_BeanDescriptor.class").exists());
+
+		ClassLoader pcl = loader(processed), rcl = loader(reflected);
+		for (String c : new String[]{"sample.Parent", "sample.Child", "sample.Child$Nested"}) {
+			String expected = describe(rcl.loadClass(c));
+			assertEquals(c, expected, describe(pcl.loadClass(c)));
+		}
+		assertEquals("[a,c2,h,b,f,m,i,j2,k,n]", describe(pcl.loadClass("sample.Child")).replaceAll("\\{[^}]*\\}", ""));
+
+		// Make sure the descriptors are actually used.
+		assertTrue(isUsed(pcl.loadClass("sample.Child"), "sample.Parent", "sample.Iface", "sample.Child"));
+		assertTrue(isUsed(pcl.loadClass("sample.Parent"), "sample.Parent"));
+	}
+
+	//====================================================================================================
+	// A parent class recompiled separately with new members.
+	//====================================================================================================
+	@Test
+	public void testParentChangedLater() throws Exception {
+		File processed = new File(dir, "processed"), reflected = new File(dir, "reflected");
+
+		compile(processed, true, source("Parent", String.format(PARENT, "")), source("Iface", IFACE));
+		compile(processed, true, source("Child", CHILD));
+		compile(reflected, false, source("Parent", String.format(PARENT, "")), source("Iface", IFACE), source("Child", CHILD));
+
+		// Recompile only the parent class.
+		String parent2 = String.format(PARENT, "public String q; public String getR() { return null; }");
+		compile(processed, true, source("Parent", parent2));
+		compile(reflected, false, source("Parent", parent2));
+
+		ClassLoader pcl = loader(processed), rcl = loader(reflected);
+		assertNotNull(BeanDescriptor.find(pcl.loadClass("sample.Child")));
+		assertFalse(isUsed(pcl.loadClass("sample.Child"), "sample.Parent", "sample.Iface", "sample.Child"));
+		assertTrue(isUsed(pcl.loadClass("sample.Parent"), "sample.Parent"));
+
+		for (String c : new String[]{"sample.Parent", "sample.Child"}) {
+			String expected = describe(rcl.loadClass(c));
+			assertTrue(expected, expected.contains("q{") && expected.contains("r{"));
+			assertEquals(c, expected, describe(pcl.loadClass(c)));
+		}
+	}
+
+	private static boolean isUsed(Class<?> c, String...hierarchy) throws Exception {
+		List<Class<?>> classes = new ArrayList<Class<?>>();
+		for (String n : hierarchy)
+			classes.add(c.getClassLoader().loadClass(n));
+		BeanDescriptor bd = BeanDescriptor.find(c);
+		return bd != null && bd.matches(classes) && bd.resolveFields(classes) != null && bd.resolveMethods(classes) != null;
+	}
+
+	/*
+	 * Returns the bean properties in order along with the members they map to.
+	 */
+	private static String describe(Class<?> c) {
+		BeanMeta<?> bm = BeanContext.DEFAULT.createSession().getBeanMeta(c);
+		StringBuilder sb = new StringBuilder("[");
+		for (BeanPropertyMeta p : bm.getPropertyMetas()) {
+			if (sb.length() > 1)
+				sb.append(',');
+			sb.append(p.getName()).append('{')
+				.append(p.getClassMeta()).append(';')
+				.append(p.getGetter() == null ? null : p.getGetter().getName()).append(';')
+				.append(p.getSetter() == null ? null : p.getSetter().getName()).append(';')
+				.append(p.getField() == null ? null : p.getField().getName()).append('}');
+		}
+		return sb.append(']').toString();
+	}
+
+	private File source(String name, String contents) throws IOException {
+		File f = new File(dir, "src/" + System.nanoTime() + "/sample/" + name + ".java");
+		FileUtils.mkdirs(f.getParentFile(), false);
+		Writer w = new OutputStreamWriter(new FileOutputStream(f), UTF8);
+		try {
+			w.write(contents);
+		} finally {
+			w.close();
+		}
+		return f;
+	}
+
+	private void compile(File out, boolean process, File...sources) throws Exception {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		Assume.assumeNotNull(compiler);
+		FileUtils.mkdirs(out, false);
+		File gen = FileUtils.mkdirs(new File(dir, "gen/" + System.nanoTime()), false);
+		List<String> options = new ArrayList<String>(Arrays.asList(
+			"-d", out.getPath(),
+			"-s", gen.getPath(),
+			"-classpath", out.getPath() + File.pathSeparator + System.getProperty("java.class.path"),
+			"-nowarn"
+		));
+		if (! process)
+			options.add("-proc:none");
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+		StandardJavaFileManager fm = compiler.getStandardFileManager(null, null, UTF8);
+		try {
+			JavaCompiler.CompilationTask task = compiler.getTask(null, fm, diagnostics, options, null, fm.getJavaFileObjects(sources));
+			if (process)
+				task.setProcessors(Collections.singletonList(new BeanDescriptorProcessor()));
+			assertTrue(diagnostics.getDiagnostics().toString(), task.call());
+		} finally {
+			fm.close();
+		}
+	}
+
+	private static ClassLoader loader(File dir) throws Exception {
+		return new URLClassLoader(new URL[]{dir.toURI().toURL()}, BeanDescriptorProcessorTest.class.getClassLoader());
+	}
+}
@@ -402,6 +402,27 @@ public class BeanContext extends Context {
 	 */
 	public static final String BEAN_useJavaBeanIntrospector = "BeanContext.useJavaBeanIntrospector";
 
+	/**
+	 * <b>Configuration property:</b>  Use generated bean property accessors.
+	 *
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"BeanContext.useGeneratedAccessors"</js>
+	 * 	<li><b>Data type:</b> <code>Boolean</code>
+	 * 	<li><b>Default:</b> <jk>false</jk>
+	 * 	<li><b>Session-overridable:</b> <jk>false</jk>
+	 * </ul>
+	 *
+	 * <p>
+	 * If <jk>true</jk>, a {@link BeanPropertyAccessor} class is generated for each bean property when the bean metadata
+	 * is built, and bean property values are read and written through it instead of through
+	 * {@link Method#invoke(Object, Object...)} and {@link Field#get(Object)}/{@link Field#set(Object, Object)}.
+	 *
+	 * <p>
+	 * Properties that cannot be accessed from a generated class (e.g. non-public classes or members) silently fall back
+	 * to reflection.
+	 */
+	public static final String BEAN_useGeneratedAccessors = "BeanContext.useGeneratedAccessors";
+
 	/**
 	 * <b>Configuration property:</b>  Use interface proxies.
 	 *
@@ -923,8 +944,36 @@ public class BeanContext extends Context {
 	// This map ensures that if the BeanContext properties in the ConfigFactory are the same,
 	// then we reuse the same Class->ClassMeta cache map.
 	// This significantly reduces the number of times we need to construct ClassMeta objects which can be expensive.
-	private static final ConcurrentHashMap<Integer,Map<Class,ClassMeta>> cmCacheCache
-		= new ConcurrentHashMap<Integer,Map<Class,ClassMeta>>();
+	// Keyed on a copy of the BeanContext properties so that hash collisions can't share maps.
+	// Bounded so that short-lived configurations don't accumulate ClassMeta maps forever.
+	private static final Cache<PropertyStore.PropertyMap,Map<Class,ClassMeta>> cmCacheCache
+		= new Cache<PropertyStore.PropertyMap,Map<Class,ClassMeta>>(false, Integer.getInteger("juneau.classMetaCache.maxSize", 100));
+
+	// Threads blocked waiting on ClassMeta objects being constructed, mapped to the constructing threads.
+	// Used to detect cross-thread reference loops between bean classes.
+	private static final ConcurrentHashMap<Thread,Thread> waitingOn = new ConcurrentHashMap<Thread,Thread>();
+
+	// Extended metadata created by warmUp(Collection).
+	private static final Class<?>[] DEFAULT_EXTENDED_METAS = {
+		org.apache.juneau.json.JsonClassMeta.class,
+		org.apache.juneau.json.JsonBeanPropertyMeta.class,
+		org.apache.juneau.xml.XmlClassMeta.class,
+		org.apache.juneau.xml.XmlBeanMeta.class,
+		org.apache.juneau.xml.XmlBeanPropertyMeta.class,
+		org.apache.juneau.html.HtmlClassMeta.class,
+		org.apache.juneau.html.HtmlBeanPropertyMeta.class,
+		org.apache.juneau.urlencoding.UrlEncodingClassMeta.class
+	};
+
+	// Daemon threads so that an abandoned warm-up never blocks JVM shutdown.
+	private static final ThreadFactory WARMUP_THREAD_FACTORY = new ThreadFactory() {
+		@Override /* ThreadFactory */
+		public Thread newThread(Runnable r) {
+			Thread t = new Thread(r, "BeanContext.warmUp");
+			t.setDaemon(true);
+			return t;
+		}
+	};
 
 	/** Default config.  All default settings. */
 	public static final BeanContext DEFAULT = PropertyStore.create().getContext(BeanContext.class);
@@ -945,6 +994,7 @@ public class BeanContext extends Context {
 		ignoreInvocationExceptionsOnGetters,
 		ignoreInvocationExceptionsOnSetters,
 		useJavaBeanIntrospector,
+		useGeneratedAccessors,
 		sortProperties,
 		debug;
 
@@ -968,6 +1018,8 @@ public class BeanContext extends Context {
 	final Map<String,String[]> includeProperties, excludeProperties;
 
 	final Map<Class,ClassMeta> cmCache;
+	private final PropertyStore.PropertyMap cmCacheKey;
+	private final ConcurrentHashMap<Class,InFlight> cmInFlight = new ConcurrentHashMap<Class,InFlight>();
 	final ClassMeta<Object> cmObject;  // Reusable ClassMeta that represents general Objects.
 	final ClassMeta<String> cmString;  // Reusable ClassMeta that represents general Strings.
 	final ClassMeta<Class> cmClass;  // Reusable ClassMeta that represents general Classes.
@@ -991,7 +1043,8 @@ public class BeanContext extends Context {
 		super(ps);
 
 		PropertyStore.PropertyMap pm = ps.getPropertyMap("BeanContext");
-		hashCode = pm.hashCode();
+		cmCacheKey = pm.copy();
+		hashCode = cmCacheKey.hashCode();
 		classLoader = ps.classLoader;
 		defaultParser = ps.defaultParser;
 
@@ -1007,6 +1060,7 @@ public class BeanContext extends Context {
 		ignoreInvocationExceptionsOnGetters = pm.get(BEAN_ignoreInvocationExceptionsOnGetters, boolean.class, false);
 		ignoreInvocationExceptionsOnSetters = pm.get(BEAN_ignoreInvocationExceptionsOnSetters, boolean.class, false);
 		useJavaBeanIntrospector = pm.get(BEAN_useJavaBeanIntrospector, boolean.class, false);
+		useGeneratedAccessors = pm.get(BEAN_useGeneratedAccessors, boolean.class, false);
 		sortProperties = pm.get(BEAN_sortProperties, boolean.class, false);
 		beanTypePropertyName = pm.get(BEAN_beanTypePropertyName, String.class, "_type");
 		debug = ps.getProperty(BEAN_debug, boolean.class, false);
@@ -1068,13 +1122,14 @@ public class BeanContext extends Context {
 		timeZone = pm.get(BEAN_timeZone, TimeZone.class, null);
 		mediaType = pm.get(BEAN_mediaType, MediaType.class, null);
 
-		if (! cmCacheCache.containsKey(hashCode)) {
+		Map<Class,ClassMeta> cmc = cmCacheCache.get(cmCacheKey);
+		if (cmc == null) {
 			ConcurrentHashMap<Class,ClassMeta> cm = new ConcurrentHashMap<Class,ClassMeta>();
 			cm.putIfAbsent(String.class, new ClassMeta(String.class, this, null, null, findPojoSwaps(String.class), findChildPojoSwaps(String.class)));
 			cm.putIfAbsent(Object.class, new ClassMeta(Object.class, this, null, null, findPojoSwaps(Object.class), findChildPojoSwaps(Object.class)));
-			cmCacheCache.putIfAbsent(hashCode, cm);
+			cmc = cmCacheCache.put(cmCacheKey, cm);
 		}
-		this.cmCache = cmCacheCache.get(hashCode);
+		this.cmCache = cmc;
 		this.cmString = cmCache.get(String.class);
 		this.cmObject = cmCache.get(Object.class);
 		this.cmClass = cmCache.get(Class.class);
@@ -1162,15 +1217,41 @@ public class BeanContext extends Context {
 	 */
 	protected static void dumpCacheStats() {
 		try {
-			int ctCount = 0;
-			for (Map<Class,ClassMeta> cm : cmCacheCache.values())
-				ctCount += cm.size();
-			System.out.println(format("ClassMeta cache: {0} instances in {1} caches", ctCount, cmCacheCache.size())); // NOT DEBUG
+			System.out.println(format("ClassMeta cache: {0} instances in {1} caches", getClassMetaCacheStats().get("classMetas"), cmCacheCache.size())); // NOT DEBUG
 		} catch (Exception e) {
 			e.printStackTrace();
 		}
 	}
 
+	/**
+	 * Returns statistics on the global cache of <code>Class-&gt;ClassMeta</code> maps shared between bean contexts with
+	 * identical properties.
+	 *
+	 * <p>
+	 * Primarily useful for monitoring.
+	 *
+	 * @return
+	 * 	A new map with the following entries:
+	 * 	<ul>
+	 * 		<li><js>"size"</js> - The number of distinct bean context configurations currently cached.
+	 * 		<li><js>"classMetas"</js> - The total number of {@link ClassMeta} objects in those caches.
+	 * 		<li><js>"maxSize"</js> - The maximum number of cached configurations.
+	 * 		<li><js>"hits"</js>, <js>"misses"</js>, <js>"evictions"</js> - Cache counters.
+	 * 	</ul>
+	 */
+	public static ObjectMap getClassMetaCacheStats() {
+		int ctCount = 0;
+		for (Map<Class,ClassMeta> cm : cmCacheCache.values())
+			ctCount += cm.size();
+		return new ObjectMap()
+			.append("size", cmCacheCache.size())
+			.append("classMetas", ctCount)
+			.append("maxSize", cmCacheCache.getMaxSize())
+			.append("hits", cmCacheCache.getHits())
+			.append("misses", cmCacheCache.getMisses())
+			.append("evictions", cmCacheCache.getEvictions());
+	}
+
 	/**
 	 * Returns the {@link BeanMeta} class for the specified class.
 	 *
@@ -1186,14 +1267,125 @@ public class BeanContext extends Context {
 		return getClassMeta(c).getBeanMeta();
 	}
 
+	/**
+	 * Builds the metadata on the specified classes ahead of time.
+	 *
+	 * <p>
+	 * Same as calling {@link #warmUp(Collection, Class...)} with the extended metadata used by the serializers and
+	 * parsers in this library (e.g. {@link org.apache.juneau.json.JsonClassMeta},
+	 * {@link org.apache.juneau.xml.XmlBeanMeta}, {@link org.apache.juneau.html.HtmlClassMeta}).
+	 *
+	 * @param types The classes to introspect.
+	 */
+	public void warmUp(Collection<? extends Type> types) {
+		warmUp(types, DEFAULT_EXTENDED_METAS);
+	}
+
+	/**
+	 * Builds the metadata on the specified classes ahead of time.
+	 *
+	 * <p>
+	 * Creates the {@link ClassMeta} and {@link BeanMeta} objects for the specified classes and for all the classes
+	 * reachable through their bean properties, collection elements, map keys and values, and swaps.
+	 * The top-level classes are introspected in parallel using up to one thread per available processor.
+	 *
+	 * <p>
+	 * Primarily meant to be called during application startup so that the first serialization or parse of a class
+	 * doesn't pay the cost of introspection.
+	 * Classes that cannot be introspected are skipped.
+	 * Any problems with them are reported when they are actually used, and are also logged as warnings if
+	 * {@link #BEAN_debug} is enabled.
+	 *
+	 * @param types The classes to introspect.
+	 * @param extendedMetas
+	 * 	The extended metadata to create on each class, bean, and bean property.
+	 * 	<br>Subclasses of {@link ClassMetaExtended}, {@link BeanMetaExtended}, or {@link BeanPropertyMetaExtended}.
+	 */
+	public void warmUp(Collection<? extends Type> types, Class<?>...extendedMetas) {
+		if (types.isEmpty())
+			return;
+		final Set<ClassMeta<?>> seen = Collections.newSetFromMap(new ConcurrentHashMap<ClassMeta<?>,Boolean>());
+		final Class<?>[] em = extendedMetas;
+		List<Callable<Object>> tasks = new ArrayList<Callable<Object>>(types.size());
+		for (final Type t : types) {
+			tasks.add(new Callable<Object>() {
+				@Override /* Callable */
+				public Object call() {
+					// Sessions are not thread safe, so each task gets its own.
+					warmUp(t, seen, createSession(), em);
+					return null;
+				}
+			});
+		}
+		int threads = Math.min(tasks.size(), Runtime.getRuntime().availableProcessors());
+		if (threads <= 1) {
+			BeanSession session = createSession();
+			for (Type t : types)
+				warmUp(t, seen, session, em);
+			return;
+		}
+		ExecutorService es = Executors.newFixedThreadPool(threads, WARMUP_THREAD_FACTORY);
+		try {
+			es.invokeAll(tasks);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			es.shutdown();
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private void warmUp(Type t, Set<ClassMeta<?>> seen, BeanSession session, Class<?>[] extendedMetas) {
+		LinkedList<ClassMeta<?>> queue = new LinkedList<ClassMeta<?>>();
+		try {
+			queue.add(getClassMeta(t));
+		} catch (Exception e) {
+			warmUpFailed(session, t, e);
+		}
+		while (! queue.isEmpty()) {
+			ClassMeta<?> cm = queue.removeFirst();
+			if (cm == null || ! seen.add(cm))
+				continue;
+			try {
+				for (Class c : extendedMetas)
+					if (ClassMetaExtended.class.isAssignableFrom(c))
+						cm.getExtendedMeta(c);
+				BeanMeta<?> bm = cm.getBeanMeta();
+				if (bm != null) {
+					for (Class c : extendedMetas)
+						if (BeanMetaExtended.class.isAssignableFrom(c))
+							bm.getExtendedMeta(c);
+					for (BeanPropertyMeta pMeta : bm.getPropertyMetas()) {
+						for (Class c : extendedMetas)
+							if (BeanPropertyMetaExtended.class.isAssignableFrom(c))
+								pMeta.getExtendedMeta(c);
+						queue.add(pMeta.getClassMeta());
+					}
+				}
+				queue.add(cm.getElementType());
+				queue.add(cm.getKeyType());
+				queue.add(cm.getValueType());
+				queue.add(cm.getSerializedClassMeta(session));
+			} catch (Exception e) {
+				warmUpFailed(session, cm, e);
+			}
+		}
+	}
+
+	/*
+	 * Failures are otherwise only reported when the class is actually used.
+	 */
+	private void warmUpFailed(BeanSession session, Object type, Exception e) {
+		if (debug)
+			session.addWarning("Could not warm up class ''{0}'', exception = {1}", type, e.getLocalizedMessage());
+	}
+
 	/**
 	 * Construct a {@code ClassMeta} wrapper around a {@link Class} object.
 	 *
 	 * @param <T> The class type being wrapped.
 	 * @param type The class to resolve.
-	 * @return
-	 * 	If the class is not an array, returns a cached {@link ClassMeta} object.
-	 * 	Otherwise, returns a new {@link ClassMeta} object every time.
+	 * @return The cached {@link ClassMeta} object.
 	 */
 	public final <T> ClassMeta<T> getClassMeta(Class<T> type) {
 		return getClassMeta(type, true);
@@ -1202,41 +1394,170 @@ public class BeanContext extends Context {
 	/**
 	 * Construct a {@code ClassMeta} wrapper around a {@link Class} object.
 	 *
+	 * <p>
+	 * Only threads requesting the same class wait on each other while a new {@code ClassMeta} is being created.
+	 * If waiting on a {@code ClassMeta} being constructed by another thread would deadlock (because that thread is
+	 * itself waiting on a {@code ClassMeta} being constructed by this thread), the partially-constructed object is
+	 * returned just like for recursive references on the same thread, and this thread waits for it to finish once
+	 * it's done constructing its own {@code ClassMeta} objects.
+	 *
 	 * @param <T> The class type being wrapped.
 	 * @param type The class to resolve.
 	 * @param waitForInit
 	 * 	If <jk>true</jk>, wait for the ClassMeta constructor to finish before returning.
-	 * @return
-	 * 	If the class is not an array, returns a cached {@link ClassMeta} object.
-	 * 	Otherwise, returns a new {@link ClassMeta} object every time.
+	 * @return The cached {@link ClassMeta} object.
 	 */
 	final <T> ClassMeta<T> getClassMeta(Class<T> type, boolean waitForInit) {
 
-		// If this is an array, then we want it wrapped in an uncached ClassMeta object.
-		// Note that if it has a pojo swap, we still want to cache it so that
-		// we can cache something like byte[] with ByteArrayBase64Swap.
-		if (type.isArray() && findPojoSwaps(type) == null)
-			return new ClassMeta(type, this, findImplClass(type), findBeanFilter(type), findPojoSwaps(type), findChildPojoSwaps(type));
-
 		// This can happen if we have transforms defined against String or Object.
 		if (cmCache == null)
 			return null;
 
 		ClassMeta<T> cm = cmCache.get(type);
-		if (cm == null) {
+		if (cm == null)
+			cm = findOrCreateClassMeta(type);
+
+		Thread t = cm.getInitThread();
+		if (t != null && t != Thread.currentThread()) {
+			if (waitForInit && canWaitFor(t)) {
+				awaitInit(cm);
+			} else {
+				// Only deferred while this thread is constructing ClassMetas, since that's when it gets drained.
+				InitState s = InitState.get();
+				if (waitForInit || s.depth > 0) {
+					s.deferred.add(cm);
+					if (waitForInit)
+						s.awaitDeferredIfIdle();
+				}
+			}
+		}
+		return cm;
+	}
 
-			synchronized (this) {
-				// Make sure someone didn't already set it while this thread was blocked.
+	private final <T> ClassMeta<T> findOrCreateClassMeta(Class<T> type) {
+		ClassMeta<T> cm = null;
+		while (cm == null) {
+			InFlight f = new InFlight(), f2 = cmInFlight.putIfAbsent(type, f);
+			if (f2 == null) {
+				try {
+					// Make sure someone didn't already set it before we registered.
+					cm = cmCache.get(type);
+					if (cm == null)
+						cm = createClassMeta(type);
+				} finally {
+					cmInFlight.remove(type, f);
+					f.done();
+				}
+				InitState.get().awaitDeferredIfIdle();
+			} else {
+				// Another thread is creating it.  Only wait for that thread.
+				// If that thread is waiting on us, it has already cached the partially-constructed object.
+				if (canWaitFor(f2.thread)) {
+					try {
+						f2.await();
+					} finally {
+						waitingOn.remove(Thread.currentThread());
+					}
+				}
 				cm = cmCache.get(type);
 				if (cm == null)
-					cm = new ClassMeta<T>(type, this, findImplClass(type), findBeanFilter(type), findPojoSwaps(type), findChildPojoSwaps(type));
+					f2.await();
 			}
 		}
-		if (waitForInit)
-			cm.waitForInit();
 		return cm;
 	}
 
+	private final <T> ClassMeta<T> createClassMeta(Class<T> type) {
+		InitState s = InitState.get();
+		s.depth++;
+		try {
+			return new ClassMeta<T>(type, this, findImplClass(type), findBeanFilter(type), findPojoSwaps(type), findChildPojoSwaps(type));
+		} finally {
+			s.depth--;
+		}
+	}
+
+	/*
+	 * Returns false if the specified thread is (directly or indirectly) waiting on the current thread, in which case
+	 * waiting on it would deadlock.
+	 * If this method returns true, the caller must remove the current thread from waitingOn once done waiting.
+	 */
+	private static boolean canWaitFor(Thread t) {
+		Thread ct = Thread.currentThread();
+		waitingOn.put(ct, t);
+		for (int i = waitingOn.size(); t != null && i >= 0; i--) {
+			if (t == ct) {
+				waitingOn.remove(ct);
+				return false;
+			}
+			t = waitingOn.get(t);
+		}
+		return true;
+	}
+
+	private static void awaitInit(ClassMeta<?> cm) {
+		try {
+			cm.waitForInit();
+		} finally {
+			waitingOn.remove(Thread.currentThread());
+		}
+	}
+
+	/*
+	 * Marker for a ClassMeta currently being created by a thread.
+	 */
+	private static final class InFlight {
+		final Thread thread = Thread.currentThread();
+		private boolean done;
+
+		synchronized void done() {
+			done = true;
+			notifyAll();
+		}
+
+		synchronized void await() {
+			boolean interrupted = false;
+			while (! done) {
+				try {
+					wait();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if (interrupted)
+				Thread.currentThread().interrupt();
+		}
+	}
+
+	/*
+	 * Per-thread ClassMeta creation state.
+	 */
+	private static final class InitState {
+		private static final ThreadLocal<InitState> STATE = new ThreadLocal<InitState>() {
+			@Override /* ThreadLocal */
+			protected InitState initialValue() {
+				return new InitState();
+			}
+		};
+
+		int depth;                                                      // Number of ClassMeta constructors on the stack.
+		final List<ClassMeta<?>> deferred = new ArrayList<ClassMeta<?>>();  // ClassMetas being built by other threads.
+
+		static InitState get() {
+			return STATE.get();
+		}
+
+		// Waits on any ClassMetas we had to use before other threads finished them.
+		// Only done once this thread isn't constructing anything, so no other thread can be waiting on it.
+		void awaitDeferredIfIdle() {
+			if (depth == 0 && ! deferred.isEmpty()) {
+				for (ClassMeta<?> cm : deferred)
+					cm.waitForInit();
+				deferred.clear();
+			}
+		}
+	}
+
 	/**
 	 * Used to resolve <code>ClassMetas</code> of type <code>Collection</code> and <code>Map</code> that have
 	 * <code>ClassMeta</code> values that themselves could be collections or maps.
@@ -1746,7 +2067,7 @@ public class BeanContext extends Context {
 		if (this == o)
 			return true;
 		if (o instanceof BeanContext)
-			return ((BeanContext)o).hashCode == hashCode;
+			return ((BeanContext)o).cmCacheKey.equals(cmCacheKey);
 		return false;
 	}
 
@@ -1771,6 +2092,7 @@ public class BeanContext extends Context {
 				.append("ignoreInvocationExceptionsOnGetters", ignoreInvocationExceptionsOnGetters)
 				.append("ignoreInvocationExceptionsOnSetters", ignoreInvocationExceptionsOnSetters)
 				.append("useJavaBeanIntrospector", useJavaBeanIntrospector)
+				.append("useGeneratedAccessors", useGeneratedAccessors)
 				.append("beanFilters", beanFilters)
 				.append("pojoSwaps", pojoSwaps)
 				.append("notBeanClasses", notBeanClasses)
@@ -0,0 +1,316 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+import org.apache.juneau.annotation.*;
+
+/**
+ * Precomputed list of the bean members of a bean class.
+ *
+ * <p>
+ * Descriptors are generated at compile time by the <code>juneau-marshall-processor</code> annotation processor for
+ * classes annotated with {@link Bean @Bean}.
+ * The generated class is named after the bean class with a <js>"_BeanDescriptor"</js> suffix (e.g.
+ * <js>"com.foo.MyBean_BeanDescriptor"</js> or <js>"com.foo.Outer$Inner_BeanDescriptor"</js>).
+ *
+ * <p>
+ * When a descriptor is present, {@link BeanMeta} uses it in place of scanning all the fields and methods of the
+ * class hierarchy and looking up their {@link BeanIgnore @BeanIgnore} and {@link BeanProperty @BeanProperty}
+ * annotations.
+ * Descriptors are only used with the default field and method visibility, the default stop class, and when
+ * {@link BeanContext#BEAN_useJavaBeanIntrospector} is disabled.
+ * If any member in the descriptor can no longer be found on the class (e.g. the class was recompiled without the
+ * annotation processor), the descriptor is ignored and the class is introspected through reflection.
+ * The same happens if the classes in the hierarchy or the number of members they declare have changed since the
+ * descriptor was generated (e.g. a parent class in another library was recompiled with new members).
+ *
+ * <p>
+ * The members are resolved in the same order that reflection returns them (parent classes first, then
+ * {@link Class#getDeclaredFields()} and {@link Class#getDeclaredMethods()} order), so bean properties are ordered the
+ * same whether or not a descriptor is present.
+ */
+public abstract class BeanDescriptor {
+
+	private static final String SUFFIX = "_BeanDescriptor";
+
+	private final Entry[] members;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param members
+	 * 	The classes in the hierarchy, followed by the bean fields and the bean methods in declaration order starting
+	 * 	from the topmost parent class.
+	 * 	Created using the {@link #type(int,String,int,int)}, {@link #field(int,String,String,boolean)},
+	 * 	{@link #getter(int,String,String,boolean)}, and {@link #setter(int,String,String[],String,boolean)} methods.
+	 */
+	protected BeanDescriptor(Entry...members) {
+		this.members = members;
+	}
+
+	/**
+	 * Describes a class in the class hierarchy of the bean class.
+	 *
+	 * @param classIndex The position of the class in the class hierarchy, parent classes first.
+	 * @param className The binary name of the class (e.g. <js>"com.foo.Outer$Inner"</js>).
+	 * @param fieldCount The number of non-static fields declared on the class.
+	 * @param methodCount The number of non-static methods declared on the class.
+	 * @return A new member description.
+	 */
+	protected static Entry type(int classIndex, String className, int fieldCount, int methodCount) {
+		return new Entry(Entry.TYPE, classIndex, className, new String[0], null, false, fieldCount, methodCount);
+	}
+
+	/**
+	 * Describes a bean field.
+	 *
+	 * @param classIndex The position of the declaring class in the class hierarchy, parent classes first.
+	 * @param fieldName The field name.
+	 * @param propertyName
+	 * 	The property name.
+	 * 	If <code>named</code> is <jk>false</jk>, this is the field name before it's passed through the
+	 * 	{@link PropertyNamer}.
+	 * @param named <jk>true</jk> if the property name was specified through {@link BeanProperty#name()}.
+	 * @return A new member description.
+	 */
+	protected static Entry field(int classIndex, String fieldName, String propertyName, boolean named) {
+		return new Entry(Entry.FIELD, classIndex, fieldName, null, propertyName, named, 0, 0);
+	}
+
+	/**
+	 * Describes a bean getter method.
+	 *
+	 * @param classIndex The position of the declaring class in the class hierarchy, parent classes first.
+	 * @param methodName The method name.
+	 * @param propertyName
+	 * 	The property name.
+	 * 	If <code>named</code> is <jk>false</jk>, this is the method name minus the <js>"get"</js> or <js>"is"</js>
+	 * 	prefix before it's passed through the {@link PropertyNamer}.
+	 * @param named <jk>true</jk> if the property name was specified through {@link BeanProperty#name()}.
+	 * @return A new member description.
+	 */
+	protected static Entry getter(int classIndex, String methodName, String propertyName, boolean named) {
+		return new Entry(Entry.GETTER, classIndex, methodName, new String[0], propertyName, named, 0, 0);
+	}
+
+	/**
+	 * Describes a bean setter method.
+	 *
+	 * @param classIndex The position of the declaring class in the class hierarchy, parent classes first.
+	 * @param methodName The method name.
+	 * @param paramTypes
+	 * 	The names of the erased parameter types (e.g. <js>"java.lang.String"</js>, <js>"int[]"</js>,
+	 * 	<js>"com.foo.Outer$Inner"</js>).
+	 * @param propertyName
+	 * 	The property name.
+	 * 	If <code>named</code> is <jk>false</jk>, this is the method name minus the <js>"set"</js> prefix before it's
+	 * 	passed through the {@link PropertyNamer}.
+	 * @param named <jk>true</jk> if the property name was specified through {@link BeanProperty#name()}.
+	 * @return A new member description.
+	 */
+	protected static Entry setter(int classIndex, String methodName, String[] paramTypes, String propertyName, boolean named) {
+		return new Entry(Entry.SETTER, classIndex, methodName, paramTypes, propertyName, named, 0, 0);
+	}
+
+	/**
+	 * Returns the descriptor generated for the specified class.
+	 *
+	 * @param c The bean class.
+	 * @return The descriptor, or <jk>null</jk> if no descriptor was generated for the class.
+	 */
+	public static BeanDescriptor find(Class<?> c) {
+		ClassLoader cl = c.getClassLoader();
+		if (cl == null)
+			return null;
+		try {
+			Class<?> dc = Class.forName(c.getName() + SUFFIX, true, cl);
+			if (BeanDescriptor.class.isAssignableFrom(dc))
+				return (BeanDescriptor)dc.newInstance();
+		} catch (ClassNotFoundException e) {
+			// No descriptor generated for this class.
+		} catch (Exception e) {
+			// Descriptor could not be instantiated.
+		} catch (LinkageError e) {
+			// Descriptor compiled against an incompatible version of this class.
+		}
+		return null;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified class hierarchy is the same as the one this descriptor was generated from.
+	 *
+	 * <p>
+	 * The names of the classes and the number of non-static fields and methods they declare must match.
+	 *
+	 * @param classes The class hierarchy of the bean class, parent classes first.
+	 * @return <jk>true</jk> if the descriptor can be used for the specified class hierarchy.
+	 */
+	boolean matches(List<Class<?>> classes) {
+		int n = 0;
+		for (Entry m : members) {
+			if (m.kind == Entry.TYPE) {
+				n++;
+				if (m.classIndex >= classes.size())
+					return false;
+				Class<?> c = classes.get(m.classIndex);
+				if (! c.getName().equals(m.name))
+					return false;
+				int fields = 0, methods = 0;
+				for (Field f : c.getDeclaredFields())
+					if (! (f.isSynthetic() || Modifier.isStatic(f.getModifiers())))
+						fields++;
+				for (Method m2 : c.getDeclaredMethods())
+					if (! (m2.isSynthetic() || m2.isBridge() || Modifier.isStatic(m2.getModifiers())))
+						methods++;
+				if (fields != m.fieldCount || methods != m.methodCount)
+					return false;
+			}
+		}
+		return n == classes.size();
+	}
+
+	/**
+	 * Resolves the fields described by this descriptor.
+	 *
+	 * @param classes The class hierarchy of the bean class, parent classes first.
+	 * @return The resolved members, or <jk>null</jk> if any of the members could not be found.
+	 */
+	List<Resolved<Field>> resolveFields(List<Class<?>> classes) {
+		List<Resolved<Field>> l = new ArrayList<Resolved<Field>>();
+		Field[][] declared = new Field[classes.size()][];
+		for (Entry m : members) {
+			if (m.kind == Entry.FIELD) {
+				if (m.classIndex >= classes.size())
+					return null;
+				if (declared[m.classIndex] == null)
+					declared[m.classIndex] = classes.get(m.classIndex).getDeclaredFields();
+				Field[] fields = declared[m.classIndex];
+				int found = -1;
+				for (int i = 0; i < fields.length && found == -1; i++)
+					if (fields[i].getName().equals(m.name))
+						found = i;
+				if (found == -1 || Modifier.isStatic(fields[found].getModifiers()))
+					return null;
+				l.add(new Resolved<Field>(fields[found], m, found));
+			}
+		}
+		Collections.sort(l);
+		return l;
+	}
+
+	/**
+	 * Resolves the getters and setters described by this descriptor.
+	 *
+	 * @param classes The class hierarchy of the bean class, parent classes first.
+	 * @return The resolved members, or <jk>null</jk> if any of the members could not be found.
+	 */
+	List<Resolved<Method>> resolveMethods(List<Class<?>> classes) {
+		List<Resolved<Method>> l = new ArrayList<Resolved<Method>>();
+		Method[][] declared = new Method[classes.size()][];
+		for (Entry m : members) {
+			if (m.kind == Entry.GETTER || m.kind == Entry.SETTER) {
+				if (m.classIndex >= classes.size())
+					return null;
+				if (declared[m.classIndex] == null)
+					declared[m.classIndex] = classes.get(m.classIndex).getDeclaredMethods();
+				Method[] methods = declared[m.classIndex];
+				int found = -1;
+				for (int i = 0; i < methods.length && found == -1; i++)
+					if (m.matches(methods[i]))
+						found = i;
+				if (found == -1)
+					return null;
+				l.add(new Resolved<Method>(methods[found], m, found));
+			}
+		}
+		Collections.sort(l);
+		return l;
+	}
+
+	/**
+	 * Description of a single bean field or method.
+	 */
+	public static final class Entry {
+		static final int FIELD = 0, GETTER = 1, SETTER = 2, TYPE = 3;
+
+		final int kind, classIndex, fieldCount, methodCount;
+		final String name, propertyName;
+		final String[] paramTypes;
+		final boolean named;
+
+		Entry(int kind, int classIndex, String name, String[] paramTypes, String propertyName, boolean named, int fieldCount, int methodCount) {
+			this.kind = kind;
+			this.classIndex = classIndex;
+			this.name = name;
+			this.paramTypes = paramTypes;
+			this.propertyName = propertyName;
+			this.named = named;
+			this.fieldCount = fieldCount;
+			this.methodCount = methodCount;
+		}
+
+		boolean isSetter() {
+			return kind == SETTER;
+		}
+
+		boolean matches(Method m) {
+			if (! m.getName().equals(name) || m.isBridge() || Modifier.isStatic(m.getModifiers()))
+				return false;
+			Class<?>[] pt = m.getParameterTypes();
+			if (pt.length != paramTypes.length)
+				return false;
+			for (int i = 0; i < pt.length; i++)
+				if (! getTypeName(pt[i]).equals(paramTypes[i]))
+					return false;
+			return true;
+		}
+
+		private static String getTypeName(Class<?> c) {
+			if (c.isArray())
+				return getTypeName(c.getComponentType()) + "[]";
+			return c.getName();
+		}
+
+		@Override /* Object */
+		public String toString() {
+			return name;
+		}
+	}
+
+	/**
+	 * A bean member resolved to a field or method on the bean class.
+	 *
+	 * @param <T> The member type.
+	 */
+	static final class Resolved<T> implements Comparable<Resolved<T>> {
+		final T member;
+		final Entry desc;
+		final int index;
+
+		Resolved(T member, Entry desc, int index) {
+			this.member = member;
+			this.desc = desc;
+			this.index = index;
+		}
+
+		@Override /* Comparable */
+		public int compareTo(Resolved<T> o) {
+			if (desc.classIndex != o.desc.classIndex)
+				return desc.classIndex < o.desc.classIndex ? -1 : 1;
+			return index < o.index ? -1 : index == o.index ? 0 : 1;
+		}
+	}
+}
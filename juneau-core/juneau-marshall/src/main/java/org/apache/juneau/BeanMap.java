@@ -63,11 +63,26 @@ public class BeanMap<T> extends AbstractMap<String,Object> implements Delegate<T
 	/** The wrapped object. */
 	protected T bean;
 
-	/** Temporary holding cache for beans with read-only properties.  Normally null. */
-	protected Map<String,Object> propertyCache;
+	/**
+	 * Temporary holding cache for beans with read-only properties.  Normally null.
+	 * Indexed by {@link BeanPropertyMeta#getIndex()}.
+	 */
+	protected Object[] propertyCache;
+
+	/**
+	 * Temporary holding cache for bean properties of array types when the add() method is being used.
+	 * Indexed by {@link BeanPropertyMeta#getIndex()}.
+	 */
+	protected List<?>[] arrayPropertyCache;
+
+	/**
+	 * Temporary holding cache for the values of the dyna property (see {@link BeanMeta#getPropertyMeta(String)}) of
+	 * beans with read-only properties.  Keyed by property name.  Normally null.
+	 */
+	protected Map<String,Object> dynaPropertyCache;
 
-	/** Temporary holding cache for bean properties of array types when the add() method is being used. */
-	protected Map<String,List<?>> arrayPropertyCache;
+	// Marker for properties explicitly set to null in propertyCache.
+	private static final Object NULL = new Object();
 
 	/** The BeanMeta associated with the class of the object. */
 	protected BeanMeta<T> meta;
@@ -87,7 +102,7 @@ public class BeanMap<T> extends AbstractMap<String,Object> implements Delegate<T
 		this.bean = bean;
 		this.meta = meta;
 		if (meta.constructorArgs.length > 0)
-			propertyCache = new TreeMap<String,Object>();
+			propertyCache = new Object[meta.propertyArray.length];
 		this.beanTypePropertyName = session.getBeanTypePropertyName(meta.classMeta);
 	}
 
@@ -123,14 +138,14 @@ public class BeanMap<T> extends AbstractMap<String,Object> implements Delegate<T
 
 		// If we have any arrays that need to be constructed, do it now.
 		if (arrayPropertyCache != null) {
-			for (Map.Entry<String,List<?>> e : arrayPropertyCache.entrySet()) {
-				String key = e.getKey();
-				List<?> value = e.getValue();
-				BeanPropertyMeta bpm = getPropertyMeta(key);
-				try {
-					bpm.setArray(b, value);
-				} catch (Exception e1) {
-					throw new RuntimeException(e1);
+			for (int i = 0; i < arrayPropertyCache.length; i++) {
+				List<?> value = arrayPropertyCache[i];
+				if (value != null) {
+					try {
+						meta.propertyArray[i].setArray(b, value);
+					} catch (Exception e1) {
+						throw new RuntimeException(e1);
+					}
 				}
 			}
 			arrayPropertyCache = null;
@@ -155,16 +170,29 @@ public class BeanMap<T> extends AbstractMap<String,Object> implements Delegate<T
 	public T getBean(boolean create) {
 		/** If this is a read-only bean, then we need to create it. */
 		if (bean == null && create && meta.constructorArgs.length > 0) {
-			String[] props = meta.constructorArgs;
+			int[] props = meta.constructorArgIndexes;
 			Constructor<T> c = meta.constructor;
 			Object[] args = new Object[props.length];
-			for (int i = 0; i < props.length; i++)
-				args[i] = propertyCache.remove(props[i]);
+			for (int i = 0; i < props.length; i++) {
+				if (props[i] != -1) {
+					args[i] = getCachedProperty(props[i]);
+					propertyCache[props[i]] = null;
+				}
+			}
 			try {
 				bean = c.newInstance(args);
-				for (Map.Entry<String,Object> e : propertyCache.entrySet())
-					put(e.getKey(), e.getValue());
+				Object[] pc = propertyCache;
+				Map<String,Object> dc = dynaPropertyCache;
 				propertyCache = null;
+				dynaPropertyCache = null;
+				for (int i = 0; i < pc.length; i++) {
+					Object v = pc[i];
+					if (v != null && ! meta.propertyArray[i].isDyna())
+						put(meta.propertyArray[i].getName(), v == NULL ? null : v);
+				}
+				if (dc != null)
+					for (Map.Entry<String,Object> e : dc.entrySet())
+						meta.dynaProperty.set(this, e.getKey(), e.getValue());
 			} catch (IllegalArgumentException e) {
 				throw new BeanRuntimeException("IllegalArgumentException occurred on call to class constructor ''{0}'' with argument types ''{1}''", c.getName(), JsonSerializer.DEFAULT_LAX.toString(ClassUtils.getClasses(args)));
 			} catch (Exception e) {
@@ -174,6 +202,39 @@ public class BeanMap<T> extends AbstractMap<String,Object> implements Delegate<T
 		return bean;
 	}
 
+	/*
+	 * Returns the value of the property with the specified index in the temporary holding cache for read-only beans.
+	 */
+	final Object getCachedProperty(int index) {
+		Object v = propertyCache[index];
+		return v == NULL ? null : v;
+	}
+
+	/*
+	 * Returns the value of the specified property in the temporary holding cache for read-only beans.
+	 * Values of the dyna property are held by name since they all share the same property meta.
+	 */
+	final Object getCachedProperty(BeanPropertyMeta pMeta, String pName) {
+		if (pMeta.isDyna())
+			return dynaPropertyCache == null ? null : dynaPropertyCache.get(pName);
+		return getCachedProperty(pMeta.index);
+	}
+
+	/*
+	 * Sets the value of the specified property in the temporary holding cache for read-only beans.
+	 * Returns the previous value.
+	 */
+	final Object setCachedProperty(BeanPropertyMeta pMeta, String pName, Object value) {
+		if (pMeta.isDyna()) {
+			if (dynaPropertyCache == null)
+				dynaPropertyCache = new LinkedHashMap<String,Object>();
+			return dynaPropertyCache.put(pName, value);
+		}
+		Object v = getCachedProperty(pMeta.index);
+		propertyCache[pMeta.index] = value == null ? NULL : value;
+		return v;
+	}
+
 	/**
 	 * Sets a property on the bean.
 	 *
@@ -89,6 +89,15 @@ public class BeanMeta<T> {
 	/** For beans with constructors with BeanConstructor annotation, this is the list of constructor arg properties. */
 	protected final String[] constructorArgs;
 
+	/** Indexes of the constructor arg properties in {@link #propertyArray}, or <code>-1</code> if not a property. */
+	final int[] constructorArgIndexes;
+
+	/** The properties on the target class indexed by {@link BeanPropertyMeta#getIndex()}. */
+	final BeanPropertyMeta[] propertyArray;
+
+	/** The property names and the "_type" property name, for matching names without creating strings. */
+	private final NameIndex propertyNameIndex;
+
 	private final MetadataMap extMeta;  // Extended metadata
 
 	// Other fields
@@ -125,11 +134,25 @@ public class BeanMeta<T> {
 		this.typeVarImpls = b.typeVarImpls == null ? null : Collections.unmodifiableMap(b.typeVarImpls);
 		this.constructor = b.constructor;
 		this.constructorArgs = b.constructorArgs;
+		this.propertyArray = properties == null ? new BeanPropertyMeta[0] : properties.values().toArray(new BeanPropertyMeta[properties.size()]);
+		for (int i = 0; i < propertyArray.length; i++)
+			propertyArray[i].index = i;
+		this.constructorArgIndexes = new int[constructorArgs.length];
+		for (int i = 0; i < constructorArgs.length; i++) {
+			BeanPropertyMeta p = properties == null ? null : properties.get(constructorArgs[i]);
+			constructorArgIndexes[i] = p == null ? -1 : p.index;
+		}
 		this.extMeta = b.extMeta;
 		this.beanRegistry = b.beanRegistry;
 		this.typePropertyName = b.typePropertyName;
 		this.typeProperty = new BeanPropertyMeta.Builder(this, typePropertyName, ctx.string(), beanRegistry).build();
 		this.sortProperties = b.sortProperties;
+		List<String> names = new ArrayList<String>(propertyArray.length + 1);
+		if (properties != null)
+			names.addAll(properties.keySet());
+		if (typePropertyName != null)
+			names.add(typePropertyName);
+		this.propertyNameIndex = new NameIndex(names);
 	}
 
 	private static final class Builder<T> {
@@ -280,16 +303,47 @@ public class BeanMeta<T> {
 
 				} else /* Use 'better' introspection */ {
 
-					for (Field f : findBeanFields(c2, stopClass, fVis)) {
-						String name = findPropertyName(f, fixedBeanProps);
-						if (name != null) {
-							if (! normalProps.containsKey(name))
-								normalProps.put(name, new BeanPropertyMeta.Builder(beanMeta, name));
-							normalProps.get(name).setField(f);
+					// Use the members precomputed by the annotation processor if available.
+					List<BeanDescriptor.Resolved<Field>> dFields = null;
+					List<BeanDescriptor.Resolved<Method>> dMethods = null;
+					if (bean != null && c2 == c && stopClass == Object.class && fVis == PUBLIC && mVis == PUBLIC) {
+						BeanDescriptor bd = BeanDescriptor.find(c);
+						List<Class<?>> classes = bd == null ? null : findClasses(c, stopClass);
+						if (bd != null && bd.matches(classes)) {
+							dFields = bd.resolveFields(classes);
+							dMethods = dFields == null ? null : bd.resolveMethods(classes);
 						}
 					}
 
-					List<BeanMethod> bms = findBeanMethods(c2, stopClass, mVis, fixedBeanProps, propertyNamer);
+					List<BeanMethod> bms;
+					if (dMethods != null) {
+						for (BeanDescriptor.Resolved<Field> r : dFields) {
+							String name = findPropertyName(r.desc, fixedBeanProps);
+							if (name != null) {
+								if (! normalProps.containsKey(name))
+									normalProps.put(name, new BeanPropertyMeta.Builder(beanMeta, name));
+								normalProps.get(name).setField(r.member);
+							}
+						}
+						bms = new LinkedList<BeanMethod>();
+						for (BeanDescriptor.Resolved<Method> r : dMethods) {
+							String name = findPropertyName(r.desc, fixedBeanProps);
+							if (name != null)
+								bms.add(new BeanMethod(name, r.desc.isSetter(), r.member));
+						}
+
+					} else {
+						for (Field f : findBeanFields(c2, stopClass, fVis)) {
+							String name = findPropertyName(f, fixedBeanProps);
+							if (name != null) {
+								if (! normalProps.containsKey(name))
+									normalProps.put(name, new BeanPropertyMeta.Builder(beanMeta, name));
+								normalProps.get(name).setField(f);
+							}
+						}
+
+						bms = findBeanMethods(c2, stopClass, mVis, fixedBeanProps, propertyNamer);
+					}
 
 					// Iterate through all the getters.
 					for (BeanMethod bm : bms) {
@@ -452,6 +506,20 @@ public class BeanMeta<T> {
 				return name;
 			return null;
 		}
+
+		/*
+		 * Returns the property name of the specified precomputed field or method.
+		 * Follows the same rules as findPropertyName(Field,Set) and findBeanMethods().
+		 * Returns null if the member isn't a valid property.
+		 */
+		private String findPropertyName(BeanDescriptor.Entry e, Set<String> fixedBeanProps) {
+			if (e.named)
+				return (fixedBeanProps.isEmpty() || fixedBeanProps.contains(e.propertyName)) ? e.propertyName : null;
+			String name = propertyNamer.getPropertyName(e.propertyName);
+			if (e.kind != BeanDescriptor.Entry.FIELD || fixedBeanProps.isEmpty() || fixedBeanProps.contains(name))
+				return name;
+			return null;
+		}
 	}
 
 	/**
@@ -684,6 +752,30 @@ public class BeanMeta<T> {
 		return extMeta.get(metaDataClass, this);
 	}
 
+	/**
+	 * Returns metadata about the property at the specified position.
+	 *
+	 * @param index The position of the property as returned by {@link BeanPropertyMeta#getIndex()}.
+	 * @return The metadata about the property.
+	 */
+	public BeanPropertyMeta getPropertyMeta(int index) {
+		return propertyArray[index];
+	}
+
+	/**
+	 * Returns an index of the property names on this bean, including the bean type property name.
+	 *
+	 * <p>
+	 * Used by parsers to match property names directly against their input buffers.
+	 * Names that are found in the index are returned as the same <code>String</code> instances used as keys in the
+	 * property map.
+	 *
+	 * @return An index of the property names on this bean.  Never <jk>null</jk>.
+	 */
+	public NameIndex getPropertyNameIndex() {
+		return propertyNameIndex;
+	}
+
 	/**
 	 * Returns metadata about the specified property.
 	 *
@@ -0,0 +1,500 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.apache.juneau.internal.ClassUtils.*;
+
+import java.io.*;
+import java.lang.ref.*;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Generated accessor for reading and writing a single bean property without going through reflection.
+ *
+ * <p>
+ * When {@link BeanContext#BEAN_useGeneratedAccessors} is enabled, a small subclass of this class is generated for each
+ * bean property when the {@link BeanMeta} is built.
+ * The generated class calls the getter, setter, or field of the property directly so that calls to
+ * {@link BeanMap#get(Object)} and {@link BeanMap#put(String,Object)} cost about the same as a direct method call.
+ *
+ * <p>
+ * Accessors can only be generated for properties whose bean class, members, and types are public.
+ * Otherwise {@link #create(Class,Method,Method,Field)} returns <jk>null</jk> and the property falls back to
+ * reflection.
+ */
+public abstract class BeanPropertyAccessor {
+
+	private Class<?> getOwner, setOwner, setType;
+
+	/**
+	 * Constructor.
+	 */
+	protected BeanPropertyAccessor() {}
+
+	/**
+	 * Returns the value of this property on the specified bean.
+	 *
+	 * @param bean The bean to read the property from.
+	 * @return The property value.  Primitive values are boxed.
+	 * @throws Exception Thrown by the getter method.
+	 */
+	public abstract Object get(Object bean) throws Exception;
+
+	/**
+	 * Sets the value of this property on the specified bean.
+	 *
+	 * @param bean The bean to set the property on.
+	 * @param value The new property value.  Primitive values must be passed in as their exact wrapper types.
+	 * @throws Exception Thrown by the setter method.
+	 */
+	public abstract void set(Object bean, Object value) throws Exception;
+
+	/**
+	 * Returns <jk>true</jk> if {@link #get(Object)} can be called on the specified bean.
+	 *
+	 * <p>
+	 * Unlike reflection, the generated code does not validate its arguments.
+	 * If this method returns <jk>false</jk>, the property should be read through reflection instead so that invalid
+	 * arguments are reported the same way.
+	 *
+	 * @param bean The bean to read the property from.
+	 * @return <jk>true</jk> if the bean is an instance of the class that declares the getter or field.
+	 */
+	public boolean canGet(Object bean) {
+		return getOwner != null && getOwner.isInstance(bean);
+	}
+
+	/**
+	 * Returns <jk>true</jk> if {@link #set(Object,Object)} can be called on the specified bean and value.
+	 *
+	 * <p>
+	 * Primitive values are only accepted as their exact wrapper types (e.g. a {@link Long} is never narrowed into an
+	 * <jk>int</jk> property).
+	 * If this method returns <jk>false</jk>, the property should be set through reflection instead so that invalid
+	 * arguments are reported the same way.
+	 *
+	 * @param bean The bean to set the property on.
+	 * @param value The new property value.
+	 * @return <jk>true</jk> if the bean and value are valid arguments for the setter or field.
+	 */
+	public boolean canSet(Object bean, Object value) {
+		if (setOwner == null || ! setOwner.isInstance(bean))
+			return false;
+		if (value == null)
+			return ! setType.isPrimitive();
+		if (setType.isPrimitive())
+			return value.getClass() == getWrapperIfPrimitive(setType);
+		return setType.isInstance(value);
+	}
+
+	/**
+	 * Generates an accessor for the specified bean property members.
+	 *
+	 * @param c The bean class.
+	 * @param getter The getter method.  Can be <jk>null</jk>.
+	 * @param setter The setter method.  Can be <jk>null</jk>.
+	 * @param field The property field.  Can be <jk>null</jk>.
+	 * @return
+	 * 	A new accessor, or <jk>null</jk> if an accessor could not be generated (e.g. because a member is not public or
+	 * 	the class loader does not allow new classes to be defined).
+	 */
+	public static BeanPropertyAccessor create(Class<?> c, Method getter, Method setter, Field field) {
+		try {
+			ClassLoader cl = c.getClassLoader();
+			if (cl == null)
+				return null;
+			if (setter == null && field != null && Modifier.isFinal(field.getModifiers()))
+				return null;
+			Member get = getter != null ? getter : field, set = setter != null ? setter : field;
+			if (get == null && set == null)
+				return null;
+			if (! (canAccess(get, cl) && canAccess(set, cl)))
+				return null;
+			String name = "org.apache.juneau.generated.BeanPropertyAccessor" + COUNTER.incrementAndGet();
+			byte[] b = new ClassWriter(name.replace('.', '/')).build(get, set);
+			BeanPropertyAccessor a = (BeanPropertyAccessor)getLoader(cl).define(name, b).newInstance();
+			if (get != null)
+				a.getOwner = get.getDeclaringClass();
+			if (set != null) {
+				a.setOwner = set.getDeclaringClass();
+				a.setType = set instanceof Field ? ((Field)set).getType() : ((Method)set).getParameterTypes()[0];
+			}
+			return a;
+		} catch (Throwable t) {
+			// Security manager, sealed packages, verification errors, etc...
+			return null;
+		}
+	}
+
+	//--------------------------------------------------------------------------------
+	// Accessibility checks
+	//--------------------------------------------------------------------------------
+
+	private static boolean canAccess(Member m, ClassLoader cl) {
+		if (m == null)
+			return true;
+		if (! (Modifier.isPublic(m.getModifiers()) && isPublic(m.getDeclaringClass(), cl)))
+			return false;
+		if (m instanceof Field)
+			return isPublic(((Field)m).getType(), cl);
+		Method mm = (Method)m;
+		for (Class<?> pt : mm.getParameterTypes())
+			if (! isPublic(pt, cl))
+				return false;
+		return isPublic(mm.getReturnType(), cl);
+	}
+
+	/*
+	 * Returns true if the specified class can be referenced from a class defined by a child of the specified loader.
+	 */
+	private static boolean isPublic(Class<?> c, ClassLoader cl) {
+		while (c.isArray())
+			c = c.getComponentType();
+		if (c.isPrimitive())
+			return true;
+		for (Class<?> c2 = c; c2 != null; c2 = c2.getDeclaringClass())
+			if (! Modifier.isPublic(c2.getModifiers()))
+				return false;
+		try {
+			return Class.forName(c.getName(), false, cl) == c;
+		} catch (ClassNotFoundException e) {
+			return false;
+		}
+	}
+
+	//--------------------------------------------------------------------------------
+	// Class loading
+	//--------------------------------------------------------------------------------
+
+	private static final AtomicInteger COUNTER = new AtomicInteger();
+
+	// The loaders are only weakly referenced here.
+	// The generated classes hold onto their own loader, so a loader lives exactly as long as its accessors.
+	private static final Map<ClassLoader,WeakReference<AccessorLoader>> LOADERS = new WeakHashMap<ClassLoader,WeakReference<AccessorLoader>>();
+
+	private static synchronized AccessorLoader getLoader(ClassLoader parent) {
+		WeakReference<AccessorLoader> r = LOADERS.get(parent);
+		AccessorLoader l = r == null ? null : r.get();
+		if (l == null) {
+			l = new AccessorLoader(parent);
+			LOADERS.put(parent, new WeakReference<AccessorLoader>(l));
+		}
+		return l;
+	}
+
+	/*
+	 * Child of the bean class loader that can also see this class, which may live in a different loader.
+	 */
+	private static final class AccessorLoader extends ClassLoader {
+
+		AccessorLoader(ClassLoader parent) {
+			super(parent);
+		}
+
+		@Override /* ClassLoader */
+		protected synchronized Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if (name.equals(BeanPropertyAccessor.class.getName()))
+				return BeanPropertyAccessor.class;
+			return super.loadClass(name, resolve);
+		}
+
+		synchronized Class<?> define(String name, byte[] b) {
+			return defineClass(name, b, 0, b.length);
+		}
+	}
+
+	//--------------------------------------------------------------------------------
+	// Class file generation
+	//--------------------------------------------------------------------------------
+
+	/*
+	 * Writes a minimal version 49 (Java 5) class file so that no stack map frames are needed.
+	 */
+	private static final class ClassWriter {
+
+		private static final String SUPER = BeanPropertyAccessor.class.getName().replace('.', '/');
+
+		private final String name;
+		private final Map<String,Integer> pool = new LinkedHashMap<String,Integer>();
+		private final ByteArrayOutputStream poolBytes = new ByteArrayOutputStream();
+		private final DataOutputStream cp = new DataOutputStream(poolBytes);
+		private int poolSize = 1;
+
+		ClassWriter(String name) {
+			this.name = name;
+		}
+
+		byte[] build(Member get, Member set) throws IOException {
+			int thisClass = classRef(name), superClass = classRef(SUPER);
+			byte[] init = initMethod(), getM = getMethod(get), setM = setMethod(set);
+
+			ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(baos);
+			out.writeInt(0xCAFEBABE);
+			out.writeShort(0);
+			out.writeShort(49);
+			out.writeShort(poolSize);
+			cp.flush();
+			out.write(poolBytes.toByteArray());
+			out.writeShort(0x0001 | 0x0010 | 0x0020);  // public final super
+			out.writeShort(thisClass);
+			out.writeShort(superClass);
+			out.writeShort(0);  // Interfaces
+			out.writeShort(0);  // Fields
+			out.writeShort(3);  // Methods
+			out.write(init);
+			out.write(getM);
+			out.write(setM);
+			out.writeShort(0);  // Attributes
+			out.flush();
+			return baos.toByteArray();
+		}
+
+		private byte[] initMethod() throws IOException {
+			Code c = new Code(1, 1);
+			c.op(0x2a);                                                 // aload_0
+			c.op(0xb7, methodRef(SUPER, "<init>", "()V", false));      // invokespecial
+			c.op(0xb1);                                                 // return
+			return method(0x0001, "<init>", "()V", c);
+		}
+
+		private byte[] getMethod(Member m) throws IOException {
+			Code c = new Code(3, 2);
+			if (m == null) {
+				unsupported(c);
+			} else {
+				String owner = internalName(m.getDeclaringClass());
+				c.op(0x2b);                                              // aload_1
+				c.op(0xc0, classRef(owner));                            // checkcast
+				Class<?> type;
+				if (m instanceof Field) {
+					Field f = (Field)m;
+					type = f.getType();
+					c.op(0xb4, fieldRef(owner, f.getName(), descriptor(type)));  // getfield
+				} else {
+					Method mm = (Method)m;
+					type = mm.getReturnType();
+					invoke(c, mm, 1);
+				}
+				if (type.isPrimitive()) {
+					String w = internalName(getWrapperIfPrimitive(type));
+					c.op(0xb8, methodRef(w, "valueOf", "(" + descriptor(type) + ")L" + w + ";", false));  // invokestatic
+				}
+				c.op(0xb0);                                              // areturn
+			}
+			return method(0x0001, "get", "(Ljava/lang/Object;)Ljava/lang/Object;", c);
+		}
+
+		private byte[] setMethod(Member m) throws IOException {
+			Code c = new Code(4, 3);
+			if (m == null) {
+				unsupported(c);
+			} else {
+				String owner = internalName(m.getDeclaringClass());
+				Class<?> type = m instanceof Field ? ((Field)m).getType() : ((Method)m).getParameterTypes()[0];
+				c.op(0x2b);                                              // aload_1
+				c.op(0xc0, classRef(owner));                            // checkcast
+				c.op(0x2c);                                              // aload_2
+				if (type.isPrimitive()) {
+					String w = internalName(getWrapperIfPrimitive(type));
+					c.op(0xc0, classRef(w));                              // checkcast
+					c.op(0xb6, methodRef(w, type.getName() + "Value", "()" + descriptor(type), false));  // invokevirtual
+				} else if (type != Object.class) {
+					c.op(0xc0, classRef(internalName(type)));             // checkcast
+				}
+				if (m instanceof Field) {
+					Field f = (Field)m;
+					c.op(0xb5, fieldRef(owner, f.getName(), descriptor(type)));  // putfield
+				} else {
+					Method mm = (Method)m;
+					invoke(c, mm, 1 + size(type));
+					Class<?> rt = mm.getReturnType();
+					if (rt != void.class)
+						c.op(size(rt) == 2 ? 0x58 : 0x57);                   // pop2/pop
+				}
+				c.op(0xb1);                                              // return
+			}
+			return method(0x0001, "set", "(Ljava/lang/Object;Ljava/lang/Object;)V", c);
+		}
+
+		private void invoke(Code c, Method m, int argSlots) throws IOException {
+			Class<?> dc = m.getDeclaringClass();
+			StringBuilder d = new StringBuilder("(");
+			for (Class<?> pt : m.getParameterTypes())
+				d.append(descriptor(pt));
+			d.append(')').append(descriptor(m.getReturnType()));
+			int ref = methodRef(internalName(dc), m.getName(), d.toString(), dc.isInterface());
+			if (dc.isInterface()) {
+				c.op(0xb9, ref);                                         // invokeinterface
+				c.out.writeByte(argSlots);
+				c.out.writeByte(0);
+			} else {
+				c.op(0xb6, ref);                                         // invokevirtual
+			}
+		}
+
+		private void unsupported(Code c) throws IOException {
+			String e = "java/lang/UnsupportedOperationException";
+			c.op(0xbb, classRef(e));                                   // new
+			c.op(0x59);                                                 // dup
+			c.op(0xb7, methodRef(e, "<init>", "()V", false));          // invokespecial
+			c.op(0xbf);                                                 // athrow
+		}
+
+		private byte[] method(int access, String name, String desc, Code c) throws IOException {
+			byte[] code = c.baos.toByteArray();
+			ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(baos);
+			out.writeShort(access);
+			out.writeShort(utf8(name));
+			out.writeShort(utf8(desc));
+			out.writeShort(1);
+			out.writeShort(utf8("Code"));
+			out.writeInt(12 + code.length);
+			out.writeShort(c.maxStack);
+			out.writeShort(c.maxLocals);
+			out.writeInt(code.length);
+			out.write(code);
+			out.writeShort(0);  // Exception table
+			out.writeShort(0);  // Attributes
+			out.flush();
+			return baos.toByteArray();
+		}
+
+		//--------------------------------------------------------------------------------
+		// Constant pool
+		//--------------------------------------------------------------------------------
+
+		private int utf8(String s) throws IOException {
+			Integer i = pool.get("U" + s);
+			if (i == null) {
+				cp.writeByte(1);
+				cp.writeUTF(s);
+				i = add("U" + s);
+			}
+			return i;
+		}
+
+		private int classRef(String internalName) throws IOException {
+			Integer i = pool.get("C" + internalName);
+			if (i == null) {
+				int n = utf8(internalName);
+				cp.writeByte(7);
+				cp.writeShort(n);
+				i = add("C" + internalName);
+			}
+			return i;
+		}
+
+		private int nameAndType(String name, String desc) throws IOException {
+			String key = "N" + name + ' ' + desc;
+			Integer i = pool.get(key);
+			if (i == null) {
+				int n = utf8(name), d = utf8(desc);
+				cp.writeByte(12);
+				cp.writeShort(n);
+				cp.writeShort(d);
+				i = add(key);
+			}
+			return i;
+		}
+
+		private int fieldRef(String owner, String name, String desc) throws IOException {
+			return memberRef(9, owner, name, desc);
+		}
+
+		private int methodRef(String owner, String name, String desc, boolean isInterface) throws IOException {
+			return memberRef(isInterface ? 11 : 10, owner, name, desc);
+		}
+
+		private int memberRef(int tag, String owner, String name, String desc) throws IOException {
+			String key = "M" + tag + owner + ' ' + name + ' ' + desc;
+			Integer i = pool.get(key);
+			if (i == null) {
+				int c = classRef(owner), nt = nameAndType(name, desc);
+				cp.writeByte(tag);
+				cp.writeShort(c);
+				cp.writeShort(nt);
+				i = add(key);
+			}
+			return i;
+		}
+
+		private int add(String key) {
+			int i = poolSize++;
+			pool.put(key, i);
+			return i;
+		}
+	}
+
+	/*
+	 * Bytecode of a single method.
+	 */
+	private static final class Code {
+		final int maxStack, maxLocals;
+		final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		final DataOutputStream out = new DataOutputStream(baos);
+
+		Code(int maxStack, int maxLocals) {
+			this.maxStack = maxStack;
+			this.maxLocals = maxLocals;
+		}
+
+		void op(int opcode) throws IOException {
+			out.writeByte(opcode);
+		}
+
+		void op(int opcode, int index) throws IOException {
+			out.writeByte(opcode);
+			out.writeShort(index);
+		}
+	}
+
+	//--------------------------------------------------------------------------------
+	// Type descriptors
+	//--------------------------------------------------------------------------------
+
+	private static String internalName(Class<?> c) {
+		return c.getName().replace('.', '/');
+	}
+
+	private static String descriptor(Class<?> c) {
+		if (c.isArray())
+			return internalName(c);
+		if (c == int.class)
+			return "I";
+		if (c == long.class)
+			return "J";
+		if (c == boolean.class)
+			return "Z";
+		if (c == byte.class)
+			return "B";
+		if (c == char.class)
+			return "C";
+		if (c == short.class)
+			return "S";
+		if (c == float.class)
+			return "F";
+		if (c == double.class)
+			return "D";
+		if (c == void.class)
+			return "V";
+		return "L" + internalName(c) + ";";
+	}
+
+	private static int size(Class<?> c) {
+		return (c == long.class || c == double.class) ? 2 : 1;
+	}
+}
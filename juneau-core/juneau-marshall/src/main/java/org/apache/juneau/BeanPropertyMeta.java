@@ -69,6 +69,10 @@ public class BeanPropertyMeta {
 	private final Object overrideValue;                       // The bean property value (if it's an overridden delegate).
 	private final BeanPropertyMeta delegateFor;               // The bean property that this meta is a delegate for.
 
+	private final BeanPropertyAccessor accessor;              // Generated accessor (if BEAN_useGeneratedAccessors is enabled).
+
+	int index = -1;                                           // Position in BeanMeta.propertyArray.  Set by BeanMeta.
+
 	/**
 	 * BeanPropertyMeta builder class.
 	 */
@@ -305,6 +309,9 @@ public class BeanPropertyMeta {
 		this.delegateFor = b.delegateFor;
 		this.extMeta = b.extMeta;
 		this.isDyna = b.isDyna;
+		this.accessor = beanContext.useGeneratedAccessors && ! isDyna && delegateFor == null ? BeanPropertyAccessor.create(beanMeta.c, getter, setter, field) : null;
+		if (delegateFor != null)
+			this.index = delegateFor.index;
 	}
 
 	/**
@@ -316,6 +323,20 @@ public class BeanPropertyMeta {
 		return name;
 	}
 
+	/**
+	 * Returns the position of this property in the list of properties of the bean.
+	 *
+	 * <p>
+	 * This is the same as the position of this property in {@link BeanMeta#getPropertyMetas()} and can be passed to
+	 * {@link BeanMeta#getPropertyMeta(int)}.
+	 *
+	 * @return The position of this property, or <code>-1</code> if this is not one of the properties of the bean
+	 * 	(e.g. the bean type property).
+	 */
+	public int getIndex() {
+		return index;
+	}
+
 	/**
 	 * Returns the bean meta that this property belongs to.
 	 *
@@ -353,6 +374,17 @@ public class BeanPropertyMeta {
 		return field;
 	}
 
+	/**
+	 * Returns the generated accessor for this property.
+	 *
+	 * @return
+	 * 	The generated accessor for this bean property, or <jk>null</jk> if {@link BeanContext#BEAN_useGeneratedAccessors}
+	 * 	is not enabled or an accessor could not be generated for this property.
+	 */
+	public BeanPropertyAccessor getAccessor() {
+		return accessor;
+	}
+
 	/**
 	 * Returns the {@link ClassMeta} of the class of this property.
 	 *
@@ -447,7 +479,7 @@ public class BeanPropertyMeta {
 			// Read-only beans have their properties stored in a cache until getBean() is called.
 			Object bean = m.bean;
 			if (bean == null)
-				return m.propertyCache.get(name);
+				return m.getCachedProperty(this, pName);
 
 			return toSerializedForm(m.getBeanSession(), getRaw(m, pName));
 
@@ -473,7 +505,7 @@ public class BeanPropertyMeta {
 			// Read-only beans have their properties stored in a cache until getBean() is called.
 			Object bean = m.bean;
 			if (bean == null)
-				return m.propertyCache.get(name);
+				return m.getCachedProperty(this, pName);
 
 			return invokeGetter(bean, pName);
 
@@ -543,7 +575,7 @@ public class BeanPropertyMeta {
 
 				// Read-only beans get their properties stored in a cache.
 				if (m.propertyCache != null)
-					return m.propertyCache.put(name, value);
+					return m.setCachedProperty(this, pName, value);
 
 				throw new BeanRuntimeException("Non-existent bean instance on bean.");
 			}
@@ -712,6 +744,13 @@ public class BeanPropertyMeta {
 				throw new BeanRuntimeException(beanMeta.c, "Getter or public field not defined on property ''{0}''", name);
 			return (m == null ? null : m.get(pName));
 		}
+		if (accessor != null && accessor.canGet(bean)) {
+			try {
+				return accessor.get(bean);
+			} catch (Throwable t) {
+				throw new InvocationTargetException(t);
+			}
+		}
 		if (getter != null)
 			return getter.invoke(bean);
 		if (field != null)
@@ -732,6 +771,14 @@ public class BeanPropertyMeta {
 				throw new BeanRuntimeException(beanMeta.c, "Cannot set property ''{0}'' of type ''{1}'' to object of type ''{2}'' because no setter is defined on this property, and the existing property value is null", name, this.getClassMeta().getInnerClass().getName(), findClassName(val));
 			return (m == null ? null : m.put(pName, val));
 		}
+		if (accessor != null && accessor.canSet(bean, val)) {
+			try {
+				accessor.set(bean, val);
+				return null;
+			} catch (Throwable t) {
+				throw new InvocationTargetException(t);
+			}
+		}
 		if (setter != null)
 			return setter.invoke(bean, val);
 		if (field != null) {
@@ -800,9 +847,9 @@ public class BeanPropertyMeta {
 
 		// Read-only beans get their properties stored in a cache.
 		if (m.bean == null) {
-			if (! m.propertyCache.containsKey(name))
-				m.propertyCache.put(name, new ObjectList(m.getBeanSession()));
-			((ObjectList)m.propertyCache.get(name)).add(value);
+			if (m.getCachedProperty(this, pName) == null)
+				m.setCachedProperty(this, pName, new ObjectList(m.getBeanSession()));
+			((ObjectList)m.getCachedProperty(this, pName)).add(value);
 			return;
 		}
 
@@ -841,12 +888,12 @@ public class BeanPropertyMeta {
 			} else /* isArray() */ {
 
 				if (m.arrayPropertyCache == null)
-					m.arrayPropertyCache = new TreeMap<String,List<?>>();
+					m.arrayPropertyCache = new List<?>[beanMeta.propertyArray.length];
 
-				List l = m.arrayPropertyCache.get(name);
+				List l = m.arrayPropertyCache[index];
 				if (l == null) {
 					l = new LinkedList();  // ArrayLists and LinkLists appear to perform equally.
-					m.arrayPropertyCache.put(name, l);
+					m.arrayPropertyCache[index] = l;
 
 					// Copy any existing array values into the temporary list.
 					Object oldArray = invokeGetter(bean, pName);
@@ -877,9 +924,9 @@ public class BeanPropertyMeta {
 
  		// Read-only beans get their properties stored in a cache.
 		if (m.bean == null) {
-			if (! m.propertyCache.containsKey(name))
-				m.propertyCache.put(name, new ObjectMap(m.getBeanSession()));
-			((ObjectMap)m.propertyCache.get(name)).append(key.toString(), value);
+			if (m.getCachedProperty(this, pName) == null)
+				m.setCachedProperty(this, pName, new ObjectMap(m.getBeanSession()));
+			((ObjectMap)m.getCachedProperty(this, pName)).append(key.toString(), value);
 			return;
 		}
 
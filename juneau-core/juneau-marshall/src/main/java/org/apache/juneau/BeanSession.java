@@ -357,6 +357,19 @@ public class BeanSession extends Session {
 			if (tc == Class.class)
 				return (T)(ctx.classLoader.loadClass(value.toString()));
 
+			// Use the conversion strategy resolved the first time this value class was converted to this type.
+			Class<?> vc = value.getClass();
+			Converter converter = type.getConverter(vc);
+			if (converter == null) {
+				converter = findConverter(vc, type);
+				type.setConverter(vc, converter);
+			}
+			if (converter != Converter.GENERAL) {
+				Object o = converter.convert(value, type);
+				if (o != Converter.NONE)
+					return (T)o;
+			}
+
 			PojoSwap swap = type.getPojoSwap(this);
 			if (swap != null) {
 				Class<?> nc = swap.getNormalClass(), fc = swap.getSwapClass();
@@ -634,6 +647,153 @@ public class BeanSession extends Session {
 		throw new InvalidDataConversionException(value, type, null);
 	}
 
+	/*
+	 * Resolves the strategy for converting instances of the specified class to the specified type.
+	 * Must produce the same results as the general conversion path in convertToMemberType().
+	 */
+	private Converter findConverter(Class<?> vc, ClassMeta<?> type) {
+		ClassMeta<?> vt = ctx.getClassMeta(vc);
+		if (type.hasPojoSwaps() || vt.hasPojoSwaps())
+			return Converter.GENERAL;
+
+		if (type.isNumber()) {
+			int kind = Converter.numberKind(type.getInnerClass());
+			if (kind == -1)
+				return Converter.GENERAL;
+			if (Number.class.isAssignableFrom(vc))
+				return new Converter.NumberToNumber(kind);
+			if (vc == String.class)
+				return new Converter.StringToNumber(kind, kind == Converter.INT || kind == Converter.SHORT || kind == Converter.LONG);
+			return Converter.GENERAL;
+		}
+
+		if (type.isChar())
+			return Converter.TO_CHAR;
+
+		if (type.isBoolean())
+			return Converter.TO_BOOLEAN;
+
+		if (type.isString()) {
+			if (vt.isMapOrBean() || vt.isCollectionOrArray() || vt.isClass())
+				return Converter.GENERAL;
+			return Converter.TO_STRING;
+		}
+
+		return Converter.GENERAL;
+	}
+
+	/*
+	 * Strategy for converting values of a specific class to a specific type.
+	 * Cached on the target ClassMeta keyed by the value class.
+	 */
+	abstract static class Converter {
+
+		// Returned by convert() when the value must go through the general conversion path.
+		static final Object NONE = new Object();
+
+		// Conversion always goes through the general conversion path.
+		static final Converter GENERAL = new Converter() {
+			@Override
+			Object convert(Object value, ClassMeta<?> type) {
+				return NONE;
+			}
+		};
+
+		static final Converter TO_STRING = new Converter() {
+			@Override
+			Object convert(Object value, ClassMeta<?> type) {
+				return value.toString();
+			}
+		};
+
+		static final Converter TO_CHAR = new Converter() {
+			@Override
+			Object convert(Object value, ClassMeta<?> type) {
+				String s = value.toString();
+				return s.isEmpty() ? NONE : Character.valueOf(s.charAt(0));
+			}
+		};
+
+		static final Converter TO_BOOLEAN = new Converter() {
+			@Override
+			Object convert(Object value, ClassMeta<?> type) {
+				if (value instanceof Number)
+					return ((Number)value).intValue() == 0 ? Boolean.FALSE : Boolean.TRUE;
+				return Boolean.valueOf(value.toString());
+			}
+		};
+
+		static final int INT = 0, SHORT = 1, LONG = 2, FLOAT = 3, DOUBLE = 4, BYTE = 5;
+
+		static int numberKind(Class<?> c) {
+			if (c == Integer.class || c == Integer.TYPE)
+				return INT;
+			if (c == Short.class || c == Short.TYPE)
+				return SHORT;
+			if (c == Long.class || c == Long.TYPE)
+				return LONG;
+			if (c == Float.class || c == Float.TYPE)
+				return FLOAT;
+			if (c == Double.class || c == Double.TYPE)
+				return DOUBLE;
+			if (c == Byte.class || c == Byte.TYPE)
+				return BYTE;
+			return -1;
+		}
+
+		static final class NumberToNumber extends Converter {
+			private final int kind;
+
+			NumberToNumber(int kind) {
+				this.kind = kind;
+			}
+
+			@Override
+			Object convert(Object value, ClassMeta<?> type) {
+				Number n = (Number)value;
+				switch (kind) {
+					case INT: return Integer.valueOf(n.intValue());
+					case SHORT: return Short.valueOf(n.shortValue());
+					case LONG: return Long.valueOf(n.longValue());
+					case FLOAT: return Float.valueOf(n.floatValue());
+					case DOUBLE: return Double.valueOf(n.doubleValue());
+					default: return Byte.valueOf(n.byteValue());
+				}
+			}
+		}
+
+		static final class StringToNumber extends Converter {
+			private final int kind;
+			private final boolean allowMultiplier;
+
+			StringToNumber(int kind, boolean allowMultiplier) {
+				this.kind = kind;
+				this.allowMultiplier = allowMultiplier;
+			}
+
+			@Override
+			Object convert(Object value, ClassMeta<?> type) {
+				String n = (String)value;
+				if (n.isEmpty() || (allowMultiplier && getMultiplier(n) != 1))
+					return NONE;
+				switch (kind) {
+					case INT: return Integer.valueOf(n);
+					case SHORT: return Short.valueOf(n);
+					case LONG: return Long.valueOf(n);
+					case FLOAT: return Float.valueOf(n);
+					case DOUBLE: return Double.valueOf(n);
+					default: return Byte.valueOf(n);
+				}
+			}
+		}
+
+		/*
+		 * Converts the specified value to the specified type.
+		 * Returns NONE if the value must go through the general conversion path.
+		 */
+		abstract Object convert(Object value, ClassMeta<?> type) throws Exception;
+	}
+
 	private static int getMultiplier(String s) {
 		if (s.endsWith("G"))
 			return 1024*1024*1024;
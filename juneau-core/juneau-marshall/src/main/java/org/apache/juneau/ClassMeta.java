@@ -115,6 +115,8 @@ public final class ClassMeta<T> implements Type {
 
 	private ReadWriteLock lock = new ReentrantReadWriteLock(false);
 	private Lock rLock = lock.readLock(), wLock = lock.writeLock();
+	private volatile Thread initThread;                     // The thread running the constructor, or null when done.
+	private volatile Map<Class<?>,BeanSession.Converter> converters;  // Conversion strategies from other classes to this class.
 
 	/**
 	 * Construct a new {@code ClassMeta} based on the specified {@link Class}.
@@ -144,6 +146,7 @@ public final class ClassMeta<T> implements Type {
 		this.beanContext = beanContext;
 
 		wLock.lock();
+		initThread = Thread.currentThread();
 		try {
 			// We always immediately add this class meta to the bean context cache so that we can resolve recursive references.
 			if (beanContext != null && beanContext.cmCache != null)
@@ -188,6 +191,7 @@ public final class ClassMeta<T> implements Type {
 			this.childPojoSwaps = builder.childPojoSwaps;
 			this.args = null;
 		} finally {
+			initThread = null;
 			wLock.unlock();
 		}
 	}
@@ -200,6 +204,15 @@ public final class ClassMeta<T> implements Type {
 		rLock.unlock();
 	}
 
+	/**
+	 * Returns the thread currently running the constructor of this object.
+	 *
+	 * @return The constructing thread, or <jk>null</jk> if the constructor has exited.
+	 */
+	final Thread getInitThread() {
+		return initThread;
+	}
+
 	/**
 	 * Copy constructor.
 	 *
@@ -792,6 +805,37 @@ public final class ClassMeta<T> implements Type {
 		return childPojoSwaps != null;
 	}
 
+	/*
+	 * Returns true if this class has any POJO swaps associated with it.
+	 */
+	final boolean hasPojoSwaps() {
+		return pojoSwaps != null;
+	}
+
+	/*
+	 * Returns the cached strategy for converting instances of the specified class to this class.
+	 * Returns null if it hasn't been resolved yet.
+	 */
+	final BeanSession.Converter getConverter(Class<?> c) {
+		Map<Class<?>,BeanSession.Converter> m = converters;
+		return m == null ? null : m.get(c);
+	}
+
+	/*
+	 * Caches the strategy for converting instances of the specified class to this class.
+	 */
+	final void setConverter(Class<?> c, BeanSession.Converter converter) {
+		Map<Class<?>,BeanSession.Converter> m = converters;
+		if (m == null) {
+			synchronized(this) {
+				m = converters;
+				if (m == null)
+					converters = m = new ConcurrentHashMap<Class<?>,BeanSession.Converter>(4, 0.75f, 1);
+			}
+		}
+		m.put(c, converter);
+	}
+
 	/**
 	 * Returns the {@link PojoSwap} where the specified class is the same/subclass of the normal class of one of the
 	 * child POJO swaps associated with this class.
@@ -497,6 +497,34 @@ public abstract class CoreObjectBuilder {
 		return property(BEAN_useJavaBeanIntrospector, value);
 	}
 
+	/**
+	 * <b>Configuration property:</b>  Use generated bean property accessors.
+	 *
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"BeanContext.useGeneratedAccessors"</js>
+	 * 	<li><b>Data type:</b> <code>Boolean</code>
+	 * 	<li><b>Default:</b> <jk>false</jk>
+	 * 	<li><b>Session-overridable:</b> <jk>false</jk>
+	 * </ul>
+	 *
+	 * <p>
+	 * If <jk>true</jk>, bean properties are read and written through classes generated when the bean metadata is built
+	 * instead of through reflection.
+	 *
+	 * <h5 class 'section'>Notes:</h5>
+	 * <ul>
+	 * 	<li>This is equivalent to calling <code>property(<jsf>BEAN_useGeneratedAccessors</jsf>, value)</code>.
+	 * 	<li>Properties on non-public classes or with non-public members fall back to reflection.
+	 * </ul>
+	 *
+	 * @param value The new value for this property.
+	 * @return This object (for method chaining).
+	 * @see BeanContext#BEAN_useGeneratedAccessors
+	 */
+	public CoreObjectBuilder useGeneratedAccessors(boolean value) {
+		return property(BEAN_useGeneratedAccessors, value);
+	}
+
 	/**
 	 * <b>Configuration property:</b>  Use interface proxies.
 	 *
@@ -0,0 +1,83 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import java.util.*;
+
+/**
+ * Stores a fixed set of names for quick lookup against character buffers.
+ *
+ * <p>
+ * Allows names to be matched directly against a range of characters in a buffer without having to create a
+ * <code>String</code> first.
+ * Lookups return the original name instances, so any hash codes they have already computed are reused by later
+ * map lookups.
+ */
+public final class NameIndex {
+	private final String[] names;
+	private final int[] hashes;
+	private final int mask;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param names The names to keep in this index.
+	 */
+	public NameIndex(Collection<String> names) {
+		int size = 4;
+		while (size < names.size() * 2)
+			size <<= 1;
+		this.names = new String[size];
+		this.hashes = new int[size];
+		this.mask = size - 1;
+		for (String n : names) {
+			int h = n.hashCode();
+			int i = spread(h) & mask;
+			while (this.names[i] != null && ! this.names[i].equals(n))
+				i = (i + 1) & mask;
+			this.names[i] = n;
+			this.hashes[i] = h;
+		}
+	}
+
+	/**
+	 * Returns the name in this index matching the specified characters.
+	 *
+	 * @param c The character buffer.
+	 * @param off The position of the first character in the buffer.
+	 * @param len The number of characters.
+	 * @return The matching name, or <jk>null</jk> if the characters don't match any name in this index.
+	 */
+	public String get(char[] c, int off, int len) {
+		int h = 0;
+		for (int i = off, end = off + len; i < end; i++)
+			h = 31*h + c[i];
+		for (int i = spread(h) & mask; names[i] != null; i = (i + 1) & mask)
+			if (hashes[i] == h && matches(names[i], c, off, len))
+				return names[i];
+		return null;
+	}
+
+	private static boolean matches(String s, char[] c, int off, int len) {
+		if (s.length() != len)
+			return false;
+		for (int i = 0; i < len; i++)
+			if (s.charAt(i) != c[off + i])
+				return false;
+		return true;
+	}
+
+	private static int spread(int h) {
+		return h ^ (h >>> 16);
+	}
+}
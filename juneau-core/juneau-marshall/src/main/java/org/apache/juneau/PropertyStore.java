@@ -238,6 +238,11 @@ import org.apache.juneau.parser.*;
  * 	<jsm>assertFalse</jsm>(bc1 == bc2);
  * </p>
  *
+ * <p>
+ * Contexts are also cached globally so that stores with identical properties share the same context objects.
+ * <br>The global cache holds up to 1000 contexts by default.
+ * <br>This can be changed through the <js>"juneau.contextCache.maxSize"</js> system property.
+ *
  * <h6 class='topic'>Session objects</h6>
  *
  * Session objects are created through {@link Context} objects, typically through a <code>createContext()</code> method.
@@ -261,10 +266,10 @@ public final class PropertyStore {
 	private final Map<Class<? extends Context>,Context> contexts = new ConcurrentHashMap<Class<? extends Context>,Context>();
 
 	// Global Context cache.
-	// Property stores that are the 'same' will use the same maps from this cache.
-	// 'same' means the context properties are all the same when converted to strings.
-	private static final ConcurrentHashMap<Integer, ConcurrentHashMap<Class<? extends Context>,Context>>
-		globalContextCache = new ConcurrentHashMap<Integer, ConcurrentHashMap<Class<? extends Context>,Context>>();
+	// Property stores that are the 'same' will use the same contexts from this cache.
+	// 'same' means the context properties are all equal after normalizing numbers and booleans to strings.
+	private static final Cache<ContextKey,Context> globalContextCache
+		= new Cache<ContextKey,Context>(false, Integer.getInteger("juneau.contextCache.maxSize", 1000));
 
 	private ReadWriteLock lock = new ReentrantReadWriteLock();
 	private Lock rl = lock.readLock(), wl = lock.writeLock();
@@ -602,15 +607,12 @@ public final class PropertyStore {
 				if (! contexts.containsKey(c)) {
 
 					// Try to get it from the global cache.
-					Integer key = hashCode();
-					if (! globalContextCache.containsKey(key))
-						globalContextCache.putIfAbsent(key, new ConcurrentHashMap<Class<? extends Context>,Context>());
-					ConcurrentHashMap<Class<? extends Context>, Context> cacheForThisConfig = globalContextCache.get(key);
-
-					if (! cacheForThisConfig.containsKey(c))
-						cacheForThisConfig.putIfAbsent(c, newInstance(c, c, this));
+					ContextKey key = new ContextKey(c, this);
+					Context x = globalContextCache.get(key);
+					if (x == null)
+						x = globalContextCache.put(key, newInstance(c, c, this));
 
-					contexts.put(c, cacheForThisConfig.get(c));
+					contexts.put(c, x);
 				}
 				return (T)contexts.get(c);
 			} catch (Exception e) {
@@ -621,6 +623,30 @@ public final class PropertyStore {
 		}
 	}
 
+	/**
+	 * Returns statistics on the global cache of {@link Context} objects shared between property stores with identical
+	 * properties.
+	 *
+	 * <p>
+	 * Primarily useful for monitoring.
+	 *
+	 * @return
+	 * 	A new map with the following entries:
+	 * 	<ul>
+	 * 		<li><js>"size"</js> - The number of distinct contexts currently cached.
+	 * 		<li><js>"maxSize"</js> - The maximum number of cached contexts.
+	 * 		<li><js>"hits"</js>, <js>"misses"</js>, <js>"evictions"</js> - Cache counters.
+	 * 	</ul>
+	 */
+	public static ObjectMap getContextCacheStats() {
+		return new ObjectMap()
+			.append("size", globalContextCache.size())
+			.append("maxSize", globalContextCache.getMaxSize())
+			.append("hits", globalContextCache.getHits())
+			.append("misses", globalContextCache.getMisses())
+			.append("evictions", globalContextCache.getEvictions());
+	}
+
 	/**
 	 * Returns the configuration properties with the specified prefix.
 	 *
@@ -1109,6 +1135,19 @@ public final class PropertyStore {
 			}
 		}
 
+		/*
+		 * Returns a copy of this property map.
+		 * Used as a key for global caches that shouldn't be affected by later changes to this map.
+		 */
+		PropertyMap copy() {
+			rl.lock();
+			try {
+				return new PropertyMap(null, this);
+			} finally {
+				rl.unlock();
+			}
+		}
+
 		@Override
 		public int hashCode() {
 			rl.lock();
@@ -1147,6 +1186,42 @@ public final class PropertyStore {
 		}
 	}
 
+	/*
+	 * Key for the global context cache.
+	 * Contains a copy of all the properties in a store so that hash collisions between different stores can't
+	 * return the wrong context.
+	 */
+	private static final class ContextKey {
+		private final Class<? extends Context> c;
+		private final Map<String,PropertyMap> properties = new TreeMap<String,PropertyMap>();
+		private final int hashCode;
+
+		ContextKey(Class<? extends Context> c, PropertyStore ps) {
+			this.c = c;
+			HashCode h = new HashCode().add(c.getName());
+			for (Map.Entry<String,PropertyMap> e : ps.properties.entrySet()) {
+				PropertyMap m = e.getValue().copy();
+				properties.put(e.getKey(), m);
+				h.add(m);
+			}
+			this.hashCode = h.get();
+		}
+
+		@Override /* Object */
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override /* Object */
+		public boolean equals(Object o) {
+			if (o instanceof ContextKey) {
+				ContextKey k = (ContextKey)o;
+				return k.hashCode == hashCode && k.c == c && k.properties.equals(properties);
+			}
+			return false;
+		}
+	}
+
 	private abstract static class Property {
 		private final String name, type;
 		private final Object value;
@@ -1196,17 +1271,37 @@ public final class PropertyStore {
 		public int hashCode() {
 			HashCode c = new NormalizingHashCode().add(name);
 			if (value instanceof Map) {
+				// Entries are hashed independently of their order, same as identical().
+				int h = 0;
 				for (Map.Entry<?,?> e : ((Map<?,?>)value).entrySet())
-					c.add(e.getKey()).add(e.getValue());
+					h += new NormalizingHashCode().add(e.getKey()).add(e.getValue()).get();
+				c.add(h);
+			} else if (value instanceof Set) {
+				int h = 0;
+				for (Object o : (Set<?>)value)
+					h += new NormalizingHashCode().add(o).get();
+				c.add(h);
 			} else if (value instanceof Collection) {
 				for (Object o : (Collection<?>)value)
 					c.add(o);
+			} else if (value != null && value.getClass().isArray()) {
+				for (int i = 0; i < Array.getLength(value); i++)
+					c.add(Array.get(value, i));
 			} else {
 				c.add(value);
 			}
 			return c.get();
 		}
 
+		@Override /* Object */
+		public boolean equals(Object o) {
+			if (o instanceof Property) {
+				Property p = (Property)o;
+				return name.equals(p.name) && type.equals(p.type) && identical(value, p.value);
+			}
+			return false;
+		}
+
 		@Override
 		public String toString() {
 			return "Property(name="+name+",type="+type+")";
@@ -1452,6 +1547,84 @@ public final class PropertyStore {
 		}
 	}
 
+	/*
+	 * Same as same(), but classes must be the same class and not just have the same name, and arrays are compared
+	 * by their elements.
+	 * Maps and sets are compared by their entries regardless of the order they were added in.
+	 * Used for comparing properties of cached contexts.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static boolean identical(Object o1, Object o2) {
+		if (o1 == o2)
+			return true;
+		if (o1 == null || o2 == null)
+			return false;
+		if (o1 instanceof Map) {
+			if (o2 instanceof Map) {
+				Map m1 = (Map)o1, m2 = (Map)o2;
+				if (m1.size() == m2.size()) {
+					for (Map.Entry e1 : (Set<Map.Entry>)m1.entrySet()) {
+						Map.Entry e2 = findIdentical((Set<Map.Entry>)m2.entrySet(), e1.getKey(), true);
+						if (e2 == null || ! identical(e1.getValue(), e2.getValue()))
+							return false;
+					}
+					return true;
+				}
+			}
+			return false;
+		} else if (o1 instanceof Set && o2 instanceof Set) {
+			Set s1 = (Set)o1, s2 = (Set)o2;
+			if (s1.size() == s2.size()) {
+				for (Object o : s1)
+					if (findIdentical(s2, o, false) == null)
+						return false;
+				return true;
+			}
+			return false;
+		} else if (o1 instanceof Collection) {
+			if (o2 instanceof Collection) {
+				Collection c1 = (Collection)o1, c2 = (Collection)o2;
+				if (c1.size() == c2.size()) {
+					for (Iterator i1 = c1.iterator(), i2 = c2.iterator(); i1.hasNext();) {
+						if (! identical(i1.next(), i2.next()))
+							return false;
+					}
+					return true;
+				}
+			}
+			return false;
+		} else if (o1.getClass().isArray()) {
+			if (o2.getClass().isArray()) {
+				int l = Array.getLength(o1);
+				if (l == Array.getLength(o2)) {
+					for (int i = 0; i < l; i++)
+						if (! identical(Array.get(o1, i), Array.get(o2, i)))
+							return false;
+					return true;
+				}
+			}
+			return false;
+		} else if (o1 instanceof Class || o2 instanceof Class) {
+			return false;
+		} else {
+			return unswap(o1).equals(unswap(o2));
+		}
+	}
+
+	/*
+	 * Finds the element (or map entry if 'entries' is true) in the collection that's identical to the specified
+	 * object (or map key).
+	 * Property maps and sets are small, so a linear search is used instead of lookups that depend on how keys are
+	 * hashed or compared.
+	 */
+	@SuppressWarnings("rawtypes")
+	private static <T> T findIdentical(Collection<T> c, Object o, boolean entries) {
+		for (T t : c)
+			if (identical(entries ? ((Map.Entry)t).getKey() : t, o))
+				return t;
+		return null;
+	}
+
 	private static String prefix(String name) {
 		if (name == null)
 			throw new ConfigException("Invalid property name specified: 'null'");
@@ -0,0 +1,450 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.cbor;
+
+import static org.apache.juneau.cbor.DataType.*;
+import static org.apache.juneau.internal.IOUtils.*;
+
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+
+import org.apache.juneau.parser.*;
+
+/**
+ * Specialized input stream for parsing CBOR streams.
+ *
+ * <p>
+ * Both definite and indefinite-length strings, arrays, and maps are supported.
+ * Semantic tags are read and ignored, so tagged items are parsed as their underlying data items.
+ *
+ * <p>
+ * Input is read from the underlying stream in blocks into an internal buffer (sized by
+ * {@link ParserPipe#getBufferSize()}), and multi-byte values are decoded directly from the buffer.
+ * If the input is available as a {@link ByteBuffer} backed by an array (see {@link ParserPipe#getByteBuffer()}),
+ * values are decoded directly from that array instead.
+ *
+ * <p>
+ * Byte and text strings are read in blocks as the data arrives, so a corrupt or malicious length field cannot cause
+ * more memory to be allocated than the input actually contains.
+ *
+ * <h5 class='section'>Notes:</h5>
+ * <ul>
+ * 	<li>This class is not intended for external use.
+ * </ul>
+ */
+public final class CborInputStream extends InputStream {
+
+	private final ParserPipe pipe;
+	private final InputStream is;
+	private DataType currentDataType;
+	private long length, value;
+	private final byte[] buff;
+	private int bpos, blen;  // Position and end of the unread bytes in the buffer.
+	int pos = 0;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param pipe The parser input.
+	 * @throws Exception
+	 */
+	protected CborInputStream(ParserPipe pipe) throws Exception {
+		this.pipe = pipe;
+		ByteBuffer bb = pipe.getByteBuffer();
+		if (bb != null && bb.hasArray()) {
+			this.is = null;
+			this.buff = bb.array();
+			this.bpos = bb.arrayOffset() + bb.position();
+			this.blen = bb.arrayOffset() + bb.limit();
+		} else {
+			this.is = pipe.getInputStream();
+			this.buff = new byte[Math.max(pipe.getBufferSize(), 16)];
+		}
+	}
+
+	@Override /* InputStream */
+	public int read() throws IOException {
+		if (bpos == blen && ! fill(1))
+			return -1;
+		pos++;
+		return buff[bpos++] & 0xFF;
+	}
+
+	/**
+	 * Makes sure there are at least the specified number of unread bytes in the buffer.
+	 */
+	private void require(int n) throws IOException {
+		if (blen - bpos < n && ! fill(n))
+			throw new IOException("Unexpected end of file found at position " + pos);
+	}
+
+	/*
+	 * Moves any unread bytes to the start of the buffer and reads from the underlying stream until the buffer
+	 * contains at least the specified number of unread bytes.
+	 * Returns false if the end of the stream was reached first.
+	 */
+	private boolean fill(int n) throws IOException {
+		if (is == null)
+			return false;
+		if (bpos > 0) {
+			System.arraycopy(buff, bpos, buff, 0, blen - bpos);
+			blen -= bpos;
+			bpos = 0;
+		}
+		while (blen < n) {
+			int i = is.read(buff, blen, buff.length - blen);
+			if (i == -1)
+				return false;
+			blen += i;
+		}
+		return true;
+	}
+
+	/**
+	 * Reads the data type flag from the stream.
+	 *
+	 * <p>
+	 * This is the initial byte of a data item (plus any bytes containing its length), which indicates what kind of
+	 * data follows.
+	 */
+	DataType readDataType() throws IOException {
+		while (true) {
+			int i = readByte();
+			int mt = i >> 5, ai = i & 0x1F;
+			switch (mt) {
+				case MT_UINT:
+				case MT_NEGINT: {
+					long n = readArgument(ai);
+					if (n < 0)
+						throw new IOException("Integer value out of range at position " + pos);
+					value = (mt == MT_UINT ? n : -1 - n);
+					currentDataType = (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE ? INT : LONG);
+					return currentDataType;
+				}
+				case MT_BYTES:
+				case MT_TEXT:
+				case MT_ARRAY:
+				case MT_MAP: {
+					length = (ai == AI_INDEFINITE ? -1 : readArgument(ai));
+					if (length < -1 || length > Integer.MAX_VALUE)
+						throw new IOException("Length out of range at position " + pos);
+					currentDataType = (mt == MT_BYTES ? BIN : mt == MT_TEXT ? STRING : mt == MT_ARRAY ? ARRAY : MAP);
+					return currentDataType;
+				}
+				case MT_TAG: {
+					// Tags add meaning to the item that follows, but the item itself is parsed as-is.
+					readArgument(ai);
+					continue;
+				}
+				default: {
+					if (i == FALSE || i == TRUE) {
+						value = (i == TRUE ? 1 : 0);
+						currentDataType = BOOLEAN;
+					} else if (i == NIL || i == UNDEFINED) {
+						currentDataType = NULL;
+					} else if (i == FLOAT16) {
+						value = Float.floatToIntBits(halfToFloat(readUInt2()));
+						currentDataType = FLOAT;
+					} else if (i == FLOAT32) {
+						value = readUInt4();
+						currentDataType = FLOAT;
+					} else if (i == FLOAT64) {
+						value = readUInt8();
+						currentDataType = DOUBLE;
+					} else if (i == BREAK) {
+						throw new IOException("Unexpected break code found at position " + pos);
+					} else {
+						throw new IOException("Unsupported simple value 0x" + Integer.toHexString(i) + " found at position " + pos);
+					}
+					return currentDataType;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the length value for the field.
+	 *
+	 * <p>
+	 * For bins/strings, this is the number of bytes of data.
+	 * For arrays, it's the number of array entries.
+	 * For maps, it's the number of map entries.
+	 * For indefinite-length items, it's <code>-1</code>.
+	 */
+	long readLength() {
+		return length;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if there are more entries in the current array or map.
+	 *
+	 * <p>
+	 * For indefinite-length arrays and maps, this consumes the break code that marks the end of the entries.
+	 *
+	 * @param length The length returned by {@link #readLength()} when the array or map was started.
+	 * @param index The number of entries read so far.
+	 */
+	boolean hasNext(long length, long index) throws IOException {
+		if (length >= 0)
+			return index < length;
+		require(1);
+		if ((buff[bpos] & 0xFF) == BREAK) {
+			bpos++;
+			pos++;
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Read a boolean from the stream.
+	 */
+	boolean readBoolean() {
+		return value == 1;
+	}
+
+	/**
+	 * Read a string from the stream.
+	 */
+	String readString() throws IOException {
+		return new String(readBinary(), UTF8);
+	}
+
+	/**
+	 * Read a binary field from the stream.
+	 *
+	 * <p>
+	 * The chunks of indefinite-length fields are concatenated together.
+	 */
+	byte[] readBinary() throws IOException {
+		if (length >= 0)
+			return readBytes((int)length);
+		DataType dt = currentDataType;
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		while (hasNext(-1, 0)) {
+			if (readDataType() != dt || length < 0)
+				throw new IOException("Invalid chunk found in indefinite-length string at position " + pos);
+			baos.write(readBytes((int)length));
+		}
+		return baos.toByteArray();
+	}
+
+	/**
+	 * Read an integer from the stream.
+	 */
+	int readInt() {
+		return (int)value;
+	}
+
+	/**
+	 * Read 64-bit long from the stream.
+	 */
+	long readLong() {
+		return value;
+	}
+
+	/**
+	 * Read a float from the stream.
+	 */
+	float readFloat() {
+		return Float.intBitsToFloat((int)value);
+	}
+
+	/**
+	 * Read a double from the stream.
+	 */
+	double readDouble() {
+		return Double.longBitsToDouble(value);
+	}
+
+	/**
+	 * Skips over the data of the current value without decoding it.
+	 *
+	 * <p>
+	 * Must be called immediately after {@link #readDataType()}.
+	 * The entries of arrays and maps are skipped over as well.
+	 */
+	void skipData() throws IOException {
+		DataType dt = currentDataType;
+		long n = length;
+		if (dt == ARRAY || dt == MAP) {
+			long entries = (dt == MAP && n > 0 ? n*2 : n);
+			for (long i = 0; hasNext(entries, i); i++) {
+				readDataType();
+				skipData();
+			}
+		} else if (dt == STRING || dt == BIN) {
+			if (n < 0) {
+				readBinary();
+				return;
+			}
+			long x = Math.min(n, blen - bpos);
+			bpos += x;
+			pos += x;
+			n -= x;
+			while (n > 0) {
+				if (is == null)
+					throw new IOException("Unexpected end of file found at position " + pos);
+				x = is.skip(n);
+				if (x <= 0) {
+					if (is.read() == -1)
+						throw new IOException("Unexpected end of file found at position " + pos);
+					x = 1;
+				}
+				n -= x;
+				pos += x;
+			}
+		}
+	}
+
+	/**
+	 * Skips over the next value in the stream without decoding it.
+	 */
+	void skipValue() throws IOException {
+		readDataType();
+		skipData();
+	}
+
+	/**
+	 * Reads the unsigned argument of a data item whose initial byte contained the specified additional information.
+	 */
+	private long readArgument(int ai) throws IOException {
+		if (ai <= AI_MAX_DIRECT)
+			return ai;
+		if (ai == AI_UINT8) {
+			require(1);
+			pos++;
+			return buff[bpos++] & 0xFF;
+		}
+		if (ai == AI_UINT16)
+			return readUInt2();
+		if (ai == AI_UINT32)
+			return readUInt4();
+		if (ai == AI_UINT64)
+			return readUInt8();
+		throw new IOException("Invalid additional information value " + ai + " found at position " + pos);
+	}
+
+	/**
+	 * Read two bytes from the stream.
+	 */
+	private int readUInt2() throws IOException {
+		require(2);
+		byte[] b = buff;
+		int p = bpos;
+		bpos += 2;
+		pos += 2;
+		return ((b[p] & 0xFF) << 8) | (b[p+1] & 0xFF);
+	}
+
+	/**
+	 * Read four bytes from the stream.
+	 */
+	private long readUInt4() throws IOException {
+		require(4);
+		byte[] b = buff;
+		int p = bpos;
+		bpos += 4;
+		pos += 4;
+		return ((long)(b[p] & 0xFF) << 24) | ((b[p+1] & 0xFF) << 16) | ((b[p+2] & 0xFF) << 8) | (b[p+3] & 0xFF);
+	}
+
+	/**
+	 * Read eight bytes from the stream.
+	 */
+	private long readUInt8() throws IOException {
+		require(8);
+		byte[] b = buff;
+		int p = bpos;
+		long l = 0;
+		for (int i = 0; i < 8; i++)
+			l = (l << 8) | (b[p+i] & 0xFF);
+		bpos += 8;
+		pos += 8;
+		return l;
+	}
+
+	/**
+	 * Read one byte from the stream, failing if the end of the stream was reached.
+	 */
+	private int readByte() throws IOException {
+		require(1);
+		pos++;
+		return buff[bpos++] & 0xFF;
+	}
+
+	/**
+	 * Read the specified number of bytes from the stream.
+	 *
+	 * <p>
+	 * The returned array is grown as data is read instead of being allocated up front, since the length comes from
+	 * the input itself.
+	 */
+	private byte[] readBytes(int n) throws IOException {
+		int avail = blen - bpos;
+		if (n <= avail) {
+			byte[] b = Arrays.copyOfRange(buff, bpos, bpos + n);
+			bpos += n;
+			pos += n;
+			return b;
+		}
+		if (is == null)
+			throw new IOException("Unexpected end of file found at position " + (pos + avail));
+		byte[] b = new byte[Math.min(n, Math.max(avail, buff.length))];
+		System.arraycopy(buff, bpos, b, 0, avail);
+		bpos = blen;
+		int off = avail;
+		while (off < n) {
+			if (off == b.length)
+				b = Arrays.copyOf(b, (int)Math.min(n, 2L*b.length));
+			int i = is.read(b, off, b.length - off);
+			if (i == -1)
+				throw new IOException("Unexpected end of file found at position " + (pos + off));
+			off += i;
+		}
+		pos += n;
+		return b;
+	}
+
+	/*
+	 * Converts an IEEE 754 half-precision value to a float.
+	 */
+	private static float halfToFloat(int h) {
+		int exp = (h >> 10) & 0x1F, mant = h & 0x3FF;
+		float f;
+		if (exp == 0)
+			f = mant * (float)Math.pow(2, -24);
+		else if (exp == 31)
+			f = (mant == 0 ? Float.POSITIVE_INFINITY : Float.NaN);
+		else
+			f = (mant + 1024) * (float)Math.pow(2, exp - 25);
+		return (h & 0x8000) == 0 ? f : -f;
+	}
+
+	/**
+	 * Return the current read position in the stream (i.e. number of bytes we've read so far).
+	 */
+	int getPosition() {
+		return pos;
+	}
+
+	/**
+	 * Returns the pipe that was passed into the constructor.
+	 *
+	 * @return The pipe that was passed into the constructor.
+	 */
+	public ParserPipe getPipe() {
+		return pipe;
+	}
+}
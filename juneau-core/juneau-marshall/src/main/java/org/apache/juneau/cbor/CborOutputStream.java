@@ -0,0 +1,196 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.cbor;
+
+import static org.apache.juneau.cbor.DataType.*;
+
+import java.io.*;
+import java.math.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Specialized output stream for serializing CBOR streams.
+ *
+ * <p>
+ * Values are always written using the shortest possible encoding of their length or value, and arrays and maps are
+ * written with definite lengths.
+ *
+ * <h5 class='section'>Notes:</h5>
+ * <ul>
+ * 	<li>This class is not intended for external use.
+ * </ul>
+ */
+public final class CborOutputStream extends OutputStream {
+
+	private final OutputStream os;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param os The output stream being wrapped.
+	 */
+	protected CborOutputStream(OutputStream os) {
+		this.os = os;
+	}
+
+	@Override /* OutputStream */
+	public void write(int b) throws IOException {
+		os.write(b);
+	}
+
+	/**
+	 * Same as {@link #write(byte[])}.
+	 */
+	final CborOutputStream append(byte[] b) throws IOException {
+		os.write(b);
+		return this;
+	}
+
+	/**
+	 * Appends one byte to the stream.
+	 */
+	final CborOutputStream append1(int i) throws IOException {
+		os.write(i);
+		return this;
+	}
+
+	/**
+	 * Appends two bytes to the stream.
+	 */
+	final CborOutputStream append2(int i) throws IOException {
+		return append1(i>>8).append1(i);
+	}
+
+	/**
+	 * Appends four bytes to the stream.
+	 */
+	final CborOutputStream append4(int i) throws IOException {
+		return append1(i>>24).append1(i>>16).append1(i>>8).append1(i);
+	}
+
+	/**
+	 * Appends eight bytes to the stream.
+	 */
+	final CborOutputStream append8(long l) throws IOException {
+		return append4((int)(l>>32)).append4((int)l);
+	}
+
+	/**
+	 * Appends the initial byte of a data item, followed by its unsigned length or value argument.
+	 */
+	final CborOutputStream appendHead(int majorType, long n) throws IOException {
+		// +--------+
+		// |MMMXXXXX|                              0 <= N <= 23
+		// +--------+--------+
+		// |MMM11000|YYYYYYYY|                     N < 2^8
+		// +--------+--------+--------+
+		// |MMM11001|ZZZZZZZZ|ZZZZZZZZ|            N < 2^16
+		// +--------+--------+--------+~~~~~~~~+
+		// |MMM11010|    32-bit big-endian N   |   N < 2^32
+		// +--------+--------+--------+~~~~~~~~+
+		// |MMM11011|    64-bit big-endian N   |   otherwise
+		// +--------+--------+--------+~~~~~~~~+
+		int mt = majorType << 5;
+		if (n <= AI_MAX_DIRECT)
+			return append1(mt | (int)n);
+		if (n < (1<<8))
+			return append1(mt | AI_UINT8).append1((int)n);
+		if (n < (1<<16))
+			return append1(mt | AI_UINT16).append2((int)n);
+		if (n < (1L<<32))
+			return append1(mt | AI_UINT32).append4((int)n);
+		return append1(mt | AI_UINT64).append8(n);
+	}
+
+	/**
+	 * Appends a NULL flag to the stream.
+	 */
+	final CborOutputStream appendNull() throws IOException {
+		return append1(NIL);
+	}
+
+	/**
+	 * Appends a boolean to the stream.
+	 */
+	final CborOutputStream appendBoolean(boolean b) throws IOException {
+		return append1(b ? TRUE : FALSE);
+	}
+
+	/**
+	 * Appends a long to the stream.
+	 */
+	final CborOutputStream appendLong(long l) throws IOException {
+		// Negative integers are stored as -1 minus the argument.
+		if (l >= 0)
+			return appendHead(MT_UINT, l);
+		return appendHead(MT_NEGINT, -1 - l);
+	}
+
+	/**
+	 * Appends a generic Number to the stream.
+	 */
+	final CborOutputStream appendNumber(Number n) throws IOException {
+		Class<?> c = n.getClass();
+		if (c == Integer.class || c == Short.class || c == Byte.class || c == AtomicInteger.class
+				|| c == Long.class || c == AtomicLong.class || c == BigInteger.class)
+			return appendLong(n.longValue());
+		if (c == Float.class)
+			return appendFloat(n.floatValue());
+		if (c == Double.class || c == BigDecimal.class)
+			return appendDouble(n.doubleValue());
+		return appendLong(0);
+	}
+
+	/**
+	 * Appends a float to the stream.
+	 */
+	final CborOutputStream appendFloat(float f) throws IOException {
+		return append1(FLOAT32).append4(Float.floatToIntBits(f));
+	}
+
+	/**
+	 * Appends a double to the stream.
+	 */
+	final CborOutputStream appendDouble(double d) throws IOException {
+		return append1(FLOAT64).append8(Double.doubleToLongBits(d));
+	}
+
+	/**
+	 * Appends a string to the stream.
+	 */
+	final CborOutputStream appendString(CharSequence cs) throws IOException {
+		byte[] b = cs.toString().getBytes("UTF-8");
+		return appendHead(MT_TEXT, b.length).append(b);
+	}
+
+	/**
+	 * Appends a binary field to the stream.
+	 */
+	final CborOutputStream appendBinary(byte[] b) throws IOException {
+		return appendHead(MT_BYTES, b.length).append(b);
+	}
+
+	/**
+	 * Appends an array data type flag to the stream.
+	 */
+	final CborOutputStream startArray(int size) throws IOException {
+		return appendHead(MT_ARRAY, size);
+	}
+
+	/**
+	 * Appends a map data type flag to the stream.
+	 */
+	final CborOutputStream startMap(int size) throws IOException {
+		return appendHead(MT_MAP, size);
+	}
+}
@@ -0,0 +1,65 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.cbor;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * Parses a CBOR (Concise Binary Object Representation, RFC 7049) stream into a POJO model.
+ *
+ * <h5 class='section'>Media types:</h5>
+ *
+ * Handles <code>Content-Type</code> types: <code>application/cbor</code>
+ *
+ * <h5 class='section'>Description:</h5>
+ *
+ * Supports definite and indefinite-length strings, arrays, and maps, as well as half, single, and double-precision
+ * floating point values.
+ * Semantic tags are ignored, and the <code>undefined</code> value is treated as <jk>null</jk>.
+ *
+ * <h5 class='section'>Configurable properties:</h5>
+ *
+ * This class has the following properties associated with it:
+ * <ul>
+ * 	<li>{@link CborParserContext}
+ * </ul>
+ */
+public class CborParser extends InputStreamParser {
+
+	/** Default parser, all default settings.*/
+	public static final CborParser DEFAULT = new CborParser(PropertyStore.create());
+
+
+	private final CborParserContext ctx;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param propertyStore The property store containing all the settings for this object.
+	 */
+	public CborParser(PropertyStore propertyStore) {
+		super(propertyStore, "application/cbor");
+		this.ctx = createContext(CborParserContext.class);
+	}
+
+	@Override /* CoreObject */
+	public CborParserBuilder builder() {
+		return new CborParserBuilder(propertyStore);
+	}
+
+	@Override /* Parser */
+	public CborParserSession createSession(ParserSessionArgs args) {
+		return new CborParserSession(ctx, args);
+	}
+}
@@ -0,0 +1,224 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.cbor;
+
+import static org.apache.juneau.cbor.DataType.*;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.transform.*;
+
+/**
+ * Session object that lives for the duration of a single use of {@link CborParser}.
+ *
+ * <p>
+ * This class is NOT thread safe.
+ * It is typically discarded after one-time use although it can be reused against multiple inputs.
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public final class CborParserSession extends InputStreamParserSession {
+
+	/**
+	 * Create a new session using properties specified in the context.
+	 *
+	 * @param ctx
+	 * 	The context creating this session object.
+	 * 	The context contains all the configuration settings for this object.
+	 * @param args
+	 * 	Runtime session arguments.
+	 */
+	protected CborParserSession(CborParserContext ctx, ParserSessionArgs args) {
+		super(ctx, args);
+	}
+
+	@Override /* ParserSession */
+	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws Exception {
+		CborInputStream is = new CborInputStream(pipe);
+		T o = parseAnything(type, is, getOuter(), null);
+		return o;
+	}
+
+	/*
+	 * Workhorse method.
+	 */
+	private <T> T parseAnything(ClassMeta<T> eType, CborInputStream is, Object outer, BeanPropertyMeta pMeta) throws Exception {
+
+		if (eType == null)
+			eType = (ClassMeta<T>)object();
+		PojoSwap<T,Object> swap = (PojoSwap<T,Object>)eType.getPojoSwap(this);
+		ClassMeta<?> sType = swap == null ? eType : swap.getSwapClassMeta(this);
+		setCurrentClass(sType);
+
+		Object o = null;
+		DataType dt = is.readDataType();
+		int length = (int)is.readLength();
+
+		if (dt != DataType.NULL) {
+			if (dt == BOOLEAN)
+				o = is.readBoolean();
+			else if (dt == INT)
+				o = is.readInt();
+			else if (dt == LONG)
+				o = is.readLong();
+			else if (dt == FLOAT)
+				o = is.readFloat();
+			else if (dt == DOUBLE)
+				o = is.readDouble();
+			else if (dt == STRING)
+				o = trim(is.readString());
+			else if (dt == BIN)
+				o = is.readBinary();
+			else if (dt == ARRAY && sType.isObject()) {
+				ObjectList ol = new ObjectList(this);
+				for (int i = 0; is.hasNext(length, i); i++)
+					ol.add(parseAnything(object(), is, outer, pMeta));
+				o = ol;
+			} else if (dt == MAP && sType.isObject()) {
+				ObjectMap om = parseIntoObjectMap(is, length, outer, pMeta);
+				o = cast(om, pMeta, eType);
+			}
+
+			if (sType.isObject()) {
+				// Do nothing.
+			} else if (sType.isBoolean() || sType.isCharSequence() || sType.isChar() || sType.isNumber()) {
+				o = convertToType(o, sType);
+			} else if (sType.isMap()) {
+				if (dt == MAP) {
+					Map m = (sType.canCreateNewInstance(outer) ? (Map)sType.newInstance(outer) : new ObjectMap(this));
+					for (int i = 0; is.hasNext(length, i); i++) {
+						Object key = parseAnything(sType.getKeyType(), is, outer, pMeta);
+						String name = key == null ? null : key.toString();
+						if (isExcluded(name)) {
+							is.skipValue();
+							continue;
+						}
+						Projection pp = pushProjection(name);
+						ClassMeta<?> vt = sType.getValueType();
+						Object value = parseAnything(vt, is, m, pMeta);
+						setName(vt, value, key);
+						m.put(key, value);
+						popProjection(pp);
+					}
+					o = m;
+				} else {
+					throw new ParseException(loc(is), "Invalid data type {0} encountered for parse type {1}", dt, sType);
+				}
+			} else if (sType.canCreateNewBean(outer)) {
+				if (dt == MAP) {
+					BeanMap m = newBeanMap(outer, sType.getInnerClass());
+					for (int i = 0; is.hasNext(length, i); i++) {
+						String pName = parseAnything(string(), is, m.getBean(false), null);
+						BeanPropertyMeta bpm = m.getPropertyMeta(pName);
+						if (isExcluded(pName)) {
+							is.skipValue();
+						} else if (bpm == null) {
+							if (pName.equals(getBeanTypePropertyName(eType)))
+								parseAnything(string(), is, null, null);
+							else {
+								onUnknownProperty(is.getPipe(), pName, m, 0, is.getPosition());
+								is.skipValue();
+							}
+						} else {
+							Projection pp = pushProjection(pName);
+							ClassMeta<?> cm = bpm.getClassMeta();
+							Object value = parseAnything(cm, is, m.getBean(false), bpm);
+							setName(cm, value, pName);
+							bpm.set(m, pName, value);
+							popProjection(pp);
+						}
+					}
+					o = m.getBean();
+				} else {
+					throw new ParseException(loc(is), "Invalid data type {0} encountered for parse type {1}", dt, sType);
+				}
+			} else if (sType.canCreateNewInstanceFromString(outer) && dt == STRING) {
+				o = sType.newInstanceFromString(outer, o == null ? "" : o.toString());
+			} else if (sType.canCreateNewInstanceFromNumber(outer) && dt.isOneOf(INT, LONG, FLOAT, DOUBLE)) {
+				o = sType.newInstanceFromNumber(this, outer, (Number)o);
+			} else if (sType.isCollection()) {
+				if (dt == MAP) {
+					ObjectMap m = parseIntoObjectMap(is, length, outer, pMeta);
+					o = cast(m, pMeta, eType);
+				} else if (dt == ARRAY) {
+					Collection l = (
+						sType.canCreateNewInstance(outer)
+						? (Collection)sType.newInstance()
+						: new ObjectList(this)
+					);
+					for (int i = 0; is.hasNext(length, i); i++)
+						l.add(parseAnything(sType.getElementType(), is, l, pMeta));
+					o = l;
+				} else {
+					throw new ParseException(loc(is), "Invalid data type {0} encountered for parse type {1}", dt, sType);
+				}
+			} else if (sType.isArray() || sType.isArgs()) {
+				if (dt == MAP) {
+					ObjectMap m = parseIntoObjectMap(is, length, outer, pMeta);
+					o = cast(m, pMeta, eType);
+				} else if (dt == ARRAY) {
+					Collection l = (
+						sType.isCollection() && sType.canCreateNewInstance(outer)
+						? (Collection)sType.newInstance()
+						: new ObjectList(this)
+					);
+					for (int i = 0; is.hasNext(length, i); i++)
+						l.add(parseAnything(sType.isArgs() ? sType.getArg(i) : sType.getElementType(), is, l, pMeta));
+					o = toArray(sType, l);
+				} else {
+					throw new ParseException(loc(is), "Invalid data type {0} encountered for parse type {1}", dt, sType);
+				}
+			} else if (dt == MAP) {
+				ObjectMap m = parseIntoObjectMap(is, length, outer, pMeta);
+				if (m.containsKey(getBeanTypePropertyName(eType)))
+					o = cast(m, pMeta, eType);
+				else
+					throw new ParseException(loc(is), "Class ''{0}'' could not be instantiated.  Reason: ''{1}''",
+						sType.getInnerClass().getName(), sType.getNotABeanReason());
+			} else {
+				throw new ParseException(loc(is), "Invalid data type {0} encountered for parse type {1}", dt, sType);
+			}
+		}
+
+		if (swap != null && o != null)
+			o = swap.unswap(this, o, eType);
+
+		if (outer != null)
+			setParent(eType, o, outer);
+
+		return (T)o;
+	}
+
+	/*
+	 * Parses the entries of a map whose header has already been read.
+	 */
+	private ObjectMap parseIntoObjectMap(CborInputStream is, int length, Object outer, BeanPropertyMeta pMeta) throws Exception {
+		ObjectMap m = new ObjectMap(this);
+		for (int i = 0; is.hasNext(length, i); i++) {
+			String key = parseAnything(string(), is, outer, pMeta);
+			if (isExcluded(key)) {
+				is.skipValue();
+			} else {
+				Projection pp = pushProjection(key);
+				m.put(key, parseAnything(object(), is, m, pMeta));
+				popProjection(pp);
+			}
+		}
+		return m;
+	}
+
+	private ObjectMap loc(CborInputStream is) {
+		return getLastLocation().append("position", is.getPosition());
+	}
+}
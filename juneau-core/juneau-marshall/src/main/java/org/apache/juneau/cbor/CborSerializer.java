@@ -0,0 +1,68 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.cbor;
+
+import org.apache.juneau.*;
+import org.apache.juneau.serializer.*;
+
+/**
+ * Serializes POJO models to CBOR (Concise Binary Object Representation, RFC 7049).
+ *
+ * <h5 class='section'>Media types:</h5>
+ *
+ * Handles <code>Accept</code> types: <code>application/cbor</code>
+ * <p>
+ * Produces <code>Content-Type</code> types: <code>application/cbor</code>
+ *
+ * <h5 class='section'>Description:</h5>
+ *
+ * Integers, lengths, and sizes are written using their shortest encoding.
+ * Arrays and maps are always written with definite lengths.
+ *
+ * <h5 class='section'>Configurable properties:</h5>
+ *
+ * This class has the following properties associated with it:
+ * <ul>
+ * 	<li>{@link CborSerializerContext}
+ * 	<li>{@link SerializerContext}
+ * 	<li>{@link BeanContext}
+ * </ul>
+ */
+public class CborSerializer extends OutputStreamSerializer {
+
+	/** Default serializer, all default settings.*/
+	public static final CborSerializer DEFAULT = new CborSerializer(PropertyStore.create());
+
+
+	private final CborSerializerContext ctx;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param propertyStore The property store containing all the settings for this object.
+	 */
+	public CborSerializer(PropertyStore propertyStore) {
+		super(propertyStore, "application/cbor");
+		this.ctx = createContext(CborSerializerContext.class);
+	}
+
+	@Override /* CoreObject */
+	public CborSerializerBuilder builder() {
+		return new CborSerializerBuilder(propertyStore);
+	}
+
+	@Override /* Serializer */
+	public OutputStreamSerializerSession createSession(SerializerSessionArgs args) {
+		return new CborSerializerSession(ctx, args);
+	}
+}
@@ -0,0 +1,56 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.cbor;
+
+/**
+ * Constants for the CBOR format.
+ */
+enum DataType {
+	NULL, BOOLEAN, INT, LONG, FLOAT, DOUBLE, STRING, BIN, ARRAY, MAP;
+
+	boolean isOneOf(DataType...dataTypes) {
+		for (DataType dt : dataTypes)
+			if (this == dt)
+				return true;
+		return false;
+	}
+
+	static final int
+		// Major types (high-order 3 bits of the initial byte).
+		MT_UINT      = 0,     //   unsigned integer     000xxxxx     0x00 - 0x1b
+		MT_NEGINT    = 1,     //   negative integer     001xxxxx     0x20 - 0x3b
+		MT_BYTES     = 2,     //   byte string          010xxxxx     0x40 - 0x5f
+		MT_TEXT      = 3,     //   text string          011xxxxx     0x60 - 0x7f
+		MT_ARRAY     = 4,     //   array                100xxxxx     0x80 - 0x9f
+		MT_MAP       = 5,     //   map                  101xxxxx     0xa0 - 0xbf
+		MT_TAG       = 6,     //   tagged item          110xxxxx     0xc0 - 0xdb
+		MT_SIMPLE    = 7,     //   simple/float         111xxxxx     0xe0 - 0xff
+
+		// Additional information (low-order 5 bits of the initial byte).
+		AI_MAX_DIRECT = 23,   //   value stored in the initial byte
+		AI_UINT8      = 24,   //   value stored in the next byte
+		AI_UINT16     = 25,   //   value stored in the next 2 bytes
+		AI_UINT32     = 26,   //   value stored in the next 4 bytes
+		AI_UINT64     = 27,   //   value stored in the next 8 bytes
+		AI_INDEFINITE = 31,   //   indefinite-length string, array, or map
+
+		// Initial bytes of major type 7.
+		FALSE        = 0xF4,  //   false                11110100     0xf4
+		TRUE         = 0xF5,  //   true                 11110101     0xf5
+		NIL          = 0xF6,  //   null                 11110110     0xf6
+		UNDEFINED    = 0xF7,  //   undefined            11110111     0xf7
+		FLOAT16      = 0xF9,  //   half-precision       11111001     0xf9
+		FLOAT32      = 0xFA,  //   single-precision     11111010     0xfa
+		FLOAT64      = 0xFB,  //   double-precision     11111011     0xfb
+		BREAK        = 0xFF;  //   end of indefinite    11111111     0xff
+}
@@ -12,11 +12,33 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.csv;
 
+import java.lang.reflect.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.parser.*;
 
 /**
- * TODO - Work in progress.  CSV parser.
+ * Parses CSV (comma-separated values) input into collections of beans, maps, or lists.
+ *
+ * <h5 class='section'>Media types:</h5>
+ *
+ * Handles <code>Content-Type</code> types: <code>text/csv</code>
+ *
+ * <h5 class='section'>Description:</h5>
+ *
+ * Each row of the input is converted to an element of the collection or array being parsed.
+ * By default, the first row contains the column names, which are matched against the bean property names of the
+ * element type (or used as map keys).
+ * See {@link CsvParserContext#CSV_header} for parsing input without a header row.
+ *
+ * <p>
+ * Fields can be quoted with <js>'"'</js> characters, in which case they can contain delimiters, line breaks, and
+ * quotes escaped as <js>'""'</js>.
+ * Unquoted fields containing <js>"null"</js> are converted to <jk>null</jk> values.
+ *
+ * <p>
+ * Rows are read one at a time, so large inputs can be processed without loading them into memory in their entirety
+ * using {@link #createRowIterator(Object, Class)}.
  */
 public class CsvParser extends ReaderParser {
 
@@ -44,4 +66,36 @@ public class CsvParser extends ReaderParser {
 	public ReaderParserSession createSession(ParserSessionArgs args) {
 		return new CsvParserSession(ctx, args);
 	}
+
+	/**
+	 * Creates an iterator over the rows of the specified input.
+	 *
+	 * <p>
+	 * Equivalent to calling <code>createSession().createRowIterator(input, rowType, args)</code>.
+	 *
+	 * @param input
+	 * 	The input.
+	 * 	See {@link ParserSession#parse(Object, Type, Type...)} for supported input types.
+	 * @param rowType The class type of the object to create for each row.
+	 * @param args The type arguments of the row class if it's a collection or map.
+	 * @return A new iterator positioned before the first row of the input.
+	 * @throws ParseException If the input could not be opened or the header row is malformed.
+	 */
+	public <T> CsvRowIterator<T> createRowIterator(Object input, Type rowType, Type...args) throws ParseException {
+		return ((CsvParserSession)createSession()).createRowIterator(input, rowType, args);
+	}
+
+	/**
+	 * Same as {@link #createRowIterator(Object, Type, Type...)} except optimized for a non-parameterized row class.
+	 *
+	 * @param input
+	 * 	The input.
+	 * 	See {@link ParserSession#parse(Object, Type, Type...)} for supported input types.
+	 * @param rowType The class type of the object to create for each row.
+	 * @return A new iterator positioned before the first row of the input.
+	 * @throws ParseException If the input could not be opened or the header row is malformed.
+	 */
+	public <T> CsvRowIterator<T> createRowIterator(Object input, Class<T> rowType) throws ParseException {
+		return ((CsvParserSession)createSession()).createRowIterator(input, rowType);
+	}
 }
@@ -12,6 +12,8 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.csv;
 
+import static org.apache.juneau.csv.CsvParserContext.*;
+
 import java.util.*;
 
 import org.apache.juneau.*;
@@ -48,6 +50,59 @@ public class CsvParserBuilder extends ParserBuilder {
 	// Properties
 	//--------------------------------------------------------------------------------
 
+	/**
+	 * <b>Configuration property:</b>  Field delimiter.
+	 *
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"CsvParser.delimiter"</js>
+	 * 	<li><b>Data type:</b> <code>Character</code>
+	 * 	<li><b>Default:</b> <js>','</js>
+	 * 	<li><b>Session-overridable:</b> <jk>true</jk>
+	 * </ul>
+	 *
+	 * <p>
+	 * The character separating the fields in a row.
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul>
+	 * 	<li>This is equivalent to calling <code>property(<jsf>CSV_delimiter</jsf>, value)</code>.
+	 * </ul>
+	 *
+	 * @param value The new value for this property.
+	 * @return This object (for method chaining).
+	 * @see CsvParserContext#CSV_delimiter
+	 */
+	public CsvParserBuilder delimiter(char value) {
+		return property(CSV_delimiter, value);
+	}
+
+	/**
+	 * <b>Configuration property:</b>  First row contains column names.
+	 *
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"CsvParser.header"</js>
+	 * 	<li><b>Data type:</b> <code>Boolean</code>
+	 * 	<li><b>Default:</b> <jk>true</jk>
+	 * 	<li><b>Session-overridable:</b> <jk>true</jk>
+	 * </ul>
+	 *
+	 * <p>
+	 * If <jk>false</jk>, all rows contain data and columns are assigned to bean properties in the order they're
+	 * defined on the bean.
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul>
+	 * 	<li>This is equivalent to calling <code>property(<jsf>CSV_header</jsf>, value)</code>.
+	 * </ul>
+	 *
+	 * @param value The new value for this property.
+	 * @return This object (for method chaining).
+	 * @see CsvParserContext#CSV_header
+	 */
+	public CsvParserBuilder header(boolean value) {
+		return property(CSV_header, value);
+	}
+
 	@Override /* ParserBuilder */
 	public CsvParserBuilder trimStrings(boolean value) {
 		super.trimStrings(value);
@@ -78,12 +133,30 @@ public class CsvParserBuilder extends ParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public CsvParserBuilder bufferSize(int value) {
+		super.bufferSize(value);
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public CsvParserBuilder listener(Class<? extends ParserListener> value) {
 		super.listener(value);
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public CsvParserBuilder projection(String...values) {
+		super.projection(values);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public CsvParserBuilder projection(Collection<String> values) {
+		super.projection(values);
+		return this;
+	}
+
 	@Override /* CoreObjectBuilder */
 	public CsvParserBuilder beansRequireDefaultConstructor(boolean value) {
 		super.beansRequireDefaultConstructor(value);
@@ -144,6 +217,12 @@ public class CsvParserBuilder extends ParserBuilder {
 		return this;
 	}
 
+	@Override /* CoreObjectBuilder */
+	public CsvParserBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
 	@Override /* CoreObjectBuilder */
 	public CsvParserBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
@@ -39,6 +39,48 @@ import org.apache.juneau.parser.*;
  */
 public final class CsvParserContext extends ParserContext {
 
+	/**
+	 * <b>Configuration property:</b>  Field delimiter.
+	 *
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"CsvParser.delimiter"</js>
+	 * 	<li><b>Data type:</b> <code>Character</code>
+	 * 	<li><b>Default:</b> <js>','</js>
+	 * 	<li><b>Session-overridable:</b> <jk>true</jk>
+	 * </ul>
+	 *
+	 * <p>
+	 * The character separating the fields in a row (e.g. <js>';'</js> or <js>'\t'</js>).
+	 */
+	public static final String CSV_delimiter = "CsvParser.delimiter";
+
+	/**
+	 * <b>Configuration property:</b>  First row contains column names.
+	 *
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"CsvParser.header"</js>
+	 * 	<li><b>Data type:</b> <code>Boolean</code>
+	 * 	<li><b>Default:</b> <jk>true</jk>
+	 * 	<li><b>Session-overridable:</b> <jk>true</jk>
+	 * </ul>
+	 *
+	 * <p>
+	 * If <jk>true</jk>, the first row of the input contains the names of the columns.
+	 * When rows are parsed into beans, the names identify the bean properties of the columns.
+	 * When rows are parsed into maps, the names are used as the keys.
+	 * When rows are parsed into collections or arrays, the header row is skipped.
+	 *
+	 * <p>
+	 * If <jk>false</jk>, all rows contain data.
+	 * When rows are parsed into beans, the columns are assigned to the bean properties in the order they're defined
+	 * on the bean.
+	 * Rows cannot be parsed into maps without column names.
+	 */
+	public static final String CSV_header = "CsvParser.header";
+
+	final char delimiter;
+	final boolean header;
+
 	/**
 	 * Constructor.
 	 *
@@ -49,12 +91,16 @@ public final class CsvParserContext extends ParserContext {
 	 */
 	public CsvParserContext(PropertyStore ps) {
 		super(ps);
+		delimiter = ps.getProperty(CSV_delimiter, Character.class, ',');
+		header = ps.getProperty(CSV_header, boolean.class, true);
 	}
 
 	@Override /* Context */
 	public ObjectMap asMap() {
 		return super.asMap()
 			.append("CsvParserContext", new ObjectMap()
-		);
+				.append("delimiter", delimiter)
+				.append("header", header)
+			);
 	}
 }
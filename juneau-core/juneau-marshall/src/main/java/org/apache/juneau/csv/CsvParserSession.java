@@ -12,6 +12,11 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.csv;
 
+import static org.apache.juneau.csv.CsvParserContext.*;
+
+import java.lang.reflect.*;
+import java.util.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.parser.*;
 
@@ -22,8 +27,12 @@ import org.apache.juneau.parser.*;
  * This class is NOT thread safe.
  * It is typically discarded after one-time use although it can be reused against multiple inputs.
  */
+@SuppressWarnings({ "rawtypes", "unchecked" })
 public final class CsvParserSession extends ReaderParserSession {
 
+	private final char delimiter;
+	private final boolean header;
+
 	/**
 	 * Create a new session using properties specified in the context.
 	 *
@@ -35,6 +44,14 @@ public final class CsvParserSession extends ReaderParserSession {
 	 */
 	protected CsvParserSession(CsvParserContext ctx, ParserSessionArgs args) {
 		super(ctx, args);
+		ObjectMap p = getProperties();
+		if (p.isEmpty()) {
+			delimiter = ctx.delimiter;
+			header = ctx.header;
+		} else {
+			delimiter = p.getWithDefault(CSV_delimiter, ctx.delimiter, Character.class);
+			header = p.getBoolean(CSV_header, ctx.header);
+		}
 	}
 
 	@Override /* ParserSession */
@@ -42,12 +59,279 @@ public final class CsvParserSession extends ReaderParserSession {
 		ParserReader r = pipe.getParserReader();
 		if (r == null)
 			return null;
-		T o = parseAnything(type, r, getOuter(), null);
-		return o;
+		if (type.isObject() || type.isCollectionOrArray()) {
+			Collection l = (
+				type.isCollection() && type.canCreateNewInstance(getOuter())
+				? (Collection)type.newInstance()
+				: new ObjectList(this)
+			);
+			parseIntoCollection(r, l, type.isObject() ? object() : type.getElementType());
+			return (T)(type.isArray() ? toArray(type, l) : l);
+		}
+		RowReader<T> rr = new RowReader<T>(r, type);
+		return rr.next() ? rr.get() : null;
+	}
+
+	@Override /* ReaderParserSession */
+	protected <E> Collection<E> doParseIntoCollection(ParserPipe pipe, Collection<E> c, Type elementType) throws Exception {
+		ParserReader r = pipe.getParserReader();
+		if (r != null)
+			parseIntoCollection(r, c, getClassMeta(elementType));
+		return c;
+	}
+
+	/**
+	 * Creates an iterator over the rows of the specified input.
+	 *
+	 * <p>
+	 * Rows are read and converted one at a time as the iterator is advanced, so the input is never loaded into
+	 * memory in its entirety.
+	 * The returned iterator must be closed when no longer needed.
+	 *
+	 * @param input
+	 * 	The input.
+	 * 	See {@link #parse(Object, Type, Type...)} for supported input types.
+	 * @param rowType
+	 * 	The class type of the object to create for each row.
+	 * 	Can be a bean, map, collection, or array type.
+	 * @param args
+	 * 	The type arguments of the row class if it's a collection or map.
+	 * @return A new iterator positioned before the first row of the input.
+	 * @throws ParseException If the input could not be opened or the header row is malformed.
+	 */
+	public <T> CsvRowIterator<T> createRowIterator(Object input, Type rowType, Type...args) throws ParseException {
+		return createRowIterator(input, (ClassMeta<T>)getClassMeta(rowType, args));
+	}
+
+	/**
+	 * Same as {@link #createRowIterator(Object, Type, Type...)} except optimized for a non-parameterized row class.
+	 *
+	 * @param input
+	 * 	The input.
+	 * 	See {@link #parse(Object, Type, Type...)} for supported input types.
+	 * @param rowType
+	 * 	The class type of the object to create for each row.
+	 * 	Can be a bean, map, collection, or array type.
+	 * @return A new iterator positioned before the first row of the input.
+	 * @throws ParseException If the input could not be opened or the header row is malformed.
+	 */
+	public <T> CsvRowIterator<T> createRowIterator(Object input, Class<T> rowType) throws ParseException {
+		return createRowIterator(input, getClassMeta(rowType));
+	}
+
+	private <T> CsvRowIterator<T> createRowIterator(Object input, ClassMeta<T> rowType) throws ParseException {
+		ParserPipe pipe = createPipe(input);
+		try {
+			ParserReader r = pipe.getParserReader();
+			return new CsvRowIterator<T>(pipe, r == null ? null : new RowReader<T>(r, rowType));
+		} catch (ParseException e) {
+			pipe.close();
+			throw e;
+		} catch (Exception e) {
+			pipe.close();
+			throw new ParseException(getLastLocation(), e);
+		}
 	}
 
-	@SuppressWarnings({"static-method","unused"})
-	private <T> T parseAnything(ClassMeta<T> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws Exception {
-		throw new NoSuchMethodException("Not implemented.");
+	private <E> void parseIntoCollection(ParserReader r, Collection<E> c, ClassMeta<E> elementType) throws Exception {
+		RowReader<E> rr = new RowReader<E>(r, elementType);
+		while (rr.next())
+			c.add(rr.get());
+	}
+
+	/*
+	 * Reads the fields of the next row into the list.
+	 * Unquoted null fields are added as null values.
+	 * Returns false if the end of the input was reached before the start of a row.
+	 */
+	private boolean readRow(ParserReader r, List<String> row) throws Exception {
+		row.clear();
+		int c;
+		while ((c = r.read()) == '\r' || c == '\n') {
+			// Skip blank lines.
+		}
+		if (c == -1)
+			return false;
+		r.unread();
+		while (true) {
+			c = r.read();
+			String s;
+			if (c == '"') {
+				r.mark();
+				while (true) {
+					c = r.read();
+					if (c == -1)
+						throw new ParseException(loc(r), "Could not find '\"' marking end of quoted field.");
+					if (c == '"') {
+						if (r.peek() != '"')
+							break;
+						r.read();
+						r.delete();  // Escaped quote.
+					}
+				}
+				s = r.getMarked(0, -1);
+				c = r.read();
+				if (c != delimiter && c != '\r' && c != '\n' && c != -1)
+					throw new ParseException(loc(r), "Unexpected character ''{0}'' found after quoted field.", (char)c);
+			} else if (c == delimiter || c == '\r' || c == '\n' || c == -1) {
+				s = "";
+			} else {
+				r.unread();
+				r.mark();
+				while ((c = r.read()) != delimiter && c != '\r' && c != '\n' && c != -1) {
+					// Find end of field.
+				}
+				s = r.getMarked(0, c == -1 ? 0 : -1);
+				if (s.equals("null"))
+					s = null;
+			}
+			row.add(trim(s));
+			if (c != delimiter) {
+				if (c == '\r' && r.peek() == '\n')
+					r.read();
+				return true;
+			}
+		}
+	}
+
+	/*
+	 * Converts the specified field to the specified type.
+	 * Empty fields are converted to null unless they're being converted to strings.
+	 */
+	private <T> T convertField(Object outer, String s, ClassMeta<T> type) throws Exception {
+		if (s == null || (s.isEmpty() && ! (type.isCharSequence() || type.isObject())))
+			return null;
+		return convertAttrToType(outer, s, type);
+	}
+
+	private ObjectMap loc(ParserReader r) {
+		return getLastLocation().append("line", r.getLine()).append("column", r.getColumn());
+	}
+
+	/*
+	 * Reads the rows of the input one at a time and converts them to the row type.
+	 * The header row (if any) and the mapping of the columns to bean properties are resolved once on creation.
+	 */
+	final class RowReader<T> {
+		private final ParserReader r;
+		private final ClassMeta<T> type;
+		private final List<String> fields = new ArrayList<String>();
+		private final String[] names;
+		private final boolean[] excluded;
+		private final BeanPropertyMeta[] props;
+
+		RowReader(ParserReader r, ClassMeta<T> type) throws Exception {
+			this.r = r;
+			this.type = type;
+			setCurrentClass(type);
+
+			String[] names = null;
+			if (header && readRow(r, fields)) {
+				names = fields.toArray(new String[fields.size()]);
+				for (String name : names)
+					if (name == null)
+						throw new ParseException(loc(r), "Null column name found in header row.");
+			}
+			this.names = names;
+
+			if (type.isMap() && ! header)
+				throw new ParseException(loc(r), "Rows cannot be parsed into maps without a header row.");
+
+			boolean[] excluded = null;
+			if (names != null && (type.isMap() || type.isObject())) {
+				excluded = new boolean[names.length];
+				for (int i = 0; i < names.length; i++)
+					excluded[i] = isExcluded(names[i]);
+			}
+			this.excluded = excluded;
+
+			BeanPropertyMeta[] props = null;
+			if (type.isBean()) {
+				BeanMeta<T> bm = type.getBeanMeta();
+				if (names == null) {
+					props = bm.getPropertyMetas().toArray(new BeanPropertyMeta[0]);
+					for (int i = 0; i < props.length; i++)
+						if (isExcluded(props[i].getName()))
+							props[i] = null;
+				} else {
+					props = new BeanPropertyMeta[names.length];
+					BeanMap<T> m = null;
+					for (int i = 0; i < names.length; i++) {
+						if (isExcluded(names[i]))
+							continue;
+						props[i] = bm.getPropertyMeta(names[i]);
+						if (props[i] == null) {
+							if (m == null)
+								m = newBeanMap(type.getInnerClass());
+							onUnknownProperty(r.getPipe(), names[i], m, 1, i+1);
+						}
+					}
+				}
+			}
+			this.props = props;
+		}
+
+		/*
+		 * Reads the next row.
+		 * Returns false if the end of the input was reached.
+		 */
+		boolean next() throws Exception {
+			return readRow(r, fields);
+		}
+
+		/*
+		 * Converts the last row read by next() to the row type.
+		 */
+		T get() throws Exception {
+			Object outer = getOuter();
+			int n = fields.size();
+			Object o;
+			if (type.isObject()) {
+				if (names == null) {
+					o = new ObjectList(fields).setBeanSession(CsvParserSession.this);
+				} else {
+					ObjectMap m = new ObjectMap(CsvParserSession.this);
+					for (int i = 0; i < n && i < names.length; i++)
+						if (! excluded[i])
+							m.put(names[i], fields.get(i));
+					o = m;
+				}
+			} else if (type.isMap()) {
+				Map m = (type.canCreateNewInstance(outer) ? (Map)type.newInstance(outer) : new ObjectMap(CsvParserSession.this));
+				ClassMeta<?> kt = type.getKeyType(), vt = type.getValueType();
+				for (int i = 0; i < n && i < names.length; i++)
+					if (! excluded[i])
+						m.put(convertAttrToType(m, names[i], kt), convertField(m, fields.get(i), vt));
+				o = m;
+			} else if (props != null) {
+				BeanMap<T> m = newBeanMap(outer, type.getInnerClass());
+				for (int i = 0; i < n && i < props.length; i++) {
+					BeanPropertyMeta pMeta = props[i];
+					if (pMeta != null) {
+						setCurrentProperty(pMeta);
+						Object value = convertField(m.getBean(false), fields.get(i), pMeta.getClassMeta());
+						if (value != null || ! pMeta.getClassMeta().isPrimitive())
+							pMeta.set(m, pMeta.getName(), value);
+						setCurrentProperty(null);
+					}
+				}
+				o = m.getBean();
+			} else if (type.isCollectionOrArray()) {
+				Collection l = (
+					type.isCollection() && type.canCreateNewInstance(outer)
+					? (Collection)type.newInstance()
+					: new ObjectList(CsvParserSession.this)
+				);
+				ClassMeta<?> et = type.getElementType();
+				for (int i = 0; i < n; i++)
+					l.add(convertField(l, fields.get(i), et));
+				o = type.isArray() ? toArray(type, l) : l;
+			} else if (n == 1) {
+				o = convertField(outer, fields.get(0), type);
+			} else {
+				throw new ParseException(loc(r), "Rows cannot be parsed into class ''{0}''.", type);
+			}
+			return (T)o;
+		}
 	}
 }
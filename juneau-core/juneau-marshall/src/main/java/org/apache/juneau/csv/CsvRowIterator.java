@@ -0,0 +1,102 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.csv;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * Iterates over the rows of CSV input, converting each row to a POJO as it's read.
+ *
+ * <p>
+ * Only one row is kept in memory at a time, which makes it possible to process inputs that are too large to be
+ * parsed into a collection.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	CsvRowIterator&lt;MyBean&gt; i = CsvParser.<jsf>DEFAULT</jsf>.createRowIterator(reader, MyBean.<jk>class</jk>);
+ * 	<jk>try</jk> {
+ * 		<jk>while</jk> (i.hasNext())
+ * 			process(i.next());
+ * 	} <jk>finally</jk> {
+ * 		i.close();
+ * 	}
+ * </p>
+ *
+ * <p>
+ * Obtained through {@link CsvParser#createRowIterator(Object, Class)} or
+ * {@link CsvParserSession#createRowIterator(Object, Class)}.
+ * Since the methods on {@link Iterator} cannot throw checked exceptions, errors in the input are thrown as
+ * {@link FormattedRuntimeException FormattedRuntimeExceptions} whose cause is the {@link ParseException}.
+ *
+ * <p>
+ * This class is NOT thread safe.
+ *
+ * @param <T> The row type.
+ */
+public final class CsvRowIterator<T> implements Iterator<T>, Closeable {
+
+	private final ParserPipe pipe;
+	private final CsvParserSession.RowReader<T> rows;
+	private boolean hasNext, advanced;
+
+	CsvRowIterator(ParserPipe pipe, CsvParserSession.RowReader<T> rows) {
+		this.pipe = pipe;
+		this.rows = rows;
+	}
+
+	@Override /* Iterator */
+	public boolean hasNext() {
+		if (! advanced) {
+			try {
+				hasNext = rows != null && rows.next();
+			} catch (Exception e) {
+				throw wrap(e);
+			}
+			advanced = true;
+		}
+		return hasNext;
+	}
+
+	@Override /* Iterator */
+	public T next() {
+		if (! hasNext())
+			throw new NoSuchElementException();
+		advanced = false;
+		try {
+			return rows.get();
+		} catch (Exception e) {
+			throw wrap(e);
+		}
+	}
+
+	@Override /* Iterator */
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Closes the underlying input.
+	 */
+	@Override /* Closeable */
+	public void close() {
+		pipe.close();
+	}
+
+	private static FormattedRuntimeException wrap(Exception e) {
+		return new FormattedRuntimeException(e, "Could not parse CSV row.");
+	}
+}
@@ -16,7 +16,29 @@ import org.apache.juneau.*;
 import org.apache.juneau.serializer.*;
 
 /**
- * TODO - Work in progress.  CSV serializer.
+ * Serializes collections of beans, maps, or lists to CSV (comma-separated values).
+ *
+ * <h5 class='section'>Media types:</h5>
+ *
+ * Handles <code>Accept</code> types: <code>text/csv</code>
+ * <p>
+ * Produces <code>Content-Type</code> types: <code>text/csv</code>
+ *
+ * <h5 class='section'>Description:</h5>
+ *
+ * Each element of the collection, array, {@link java.util.Iterator}, or {@link java.util.Enumeration} being
+ * serialized is written as a row.
+ * The header row is derived from the properties of the first bean (or the keys of the first map), and subsequent rows
+ * are written in the same column order.
+ * Rows that are collections or arrays are written without a header row.
+ *
+ * <p>
+ * Fields containing commas, quotes, or whitespace are quoted, and quotes are escaped as <js>'""'</js>.
+ * <jk>null</jk> values are written as <js>"null"</js>.
+ *
+ * <p>
+ * Rows are written to the output as they're read from the input, so iterators over large data sets can be
+ * serialized without loading them into memory.
  */
 public final class CsvSerializer extends WriterSerializer {
 
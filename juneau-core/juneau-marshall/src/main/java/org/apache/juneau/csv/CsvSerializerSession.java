@@ -16,6 +16,7 @@ import java.io.*;
 import java.util.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.serializer.*;
 
 /**
@@ -25,8 +26,11 @@ import org.apache.juneau.serializer.*;
  * This class is NOT thread safe.
  * It is typically discarded after one-time use although it can be reused within the same thread.
  */
+@SuppressWarnings({ "rawtypes", "unchecked" })
 public final class CsvSerializerSession extends WriterSerializerSession {
 
+	private char[] buff;
+
 	/**
 	 * Create a new session using properties specified in the context.
 	 *
@@ -43,57 +47,147 @@ public final class CsvSerializerSession extends WriterSerializerSession {
 		super(ctx, args);
 	}
 
+	/*
+	 * Rows are written as they're pulled from the input so that streamed collections aren't copied into memory.
+	 * The columns are determined once from the first row, and null rows are skipped.
+	 * Each row is built in a reused string builder and written to the output in a single call.
+	 */
 	@Override /* SerializerSession */
 	protected final void doSerialize(SerializerPipe out, Object o) throws Exception {
 		Writer w = out.getWriter();
-		ClassMeta<?> cm = getClassMetaForObject(o);
-		Collection<?> l = null;
-		if (cm.isArray()) {
-			l = Arrays.asList((Object[])o);
-		} else {
-			l = (Collection<?>)o;
-		}
-		// TODO - Doesn't support DynaBeans.
-		if (l.size() > 0) {
-			ClassMeta<?> entryType = getClassMetaForObject(l.iterator().next());
-			if (entryType.isBean()) {
-				BeanMeta<?> bm = entryType.getBeanMeta();
-				int i = 0;
-				for (BeanPropertyMeta pm : bm.getPropertyMetas()) {
-					if (i++ > 0)
-						w.append(',');
-					append(w, pm.getName());
-				}
-				w.append('\n');
-				for (Object o2 : l) {
-					i = 0;
-					BeanMap<?> bean = toBeanMap(o2);
-					for (BeanPropertyMeta pm : bm.getPropertyMetas()) {
-						if (i++ > 0)
-							w.append(',');
-						append(w, pm.get(bean, pm.getName()));
+		Iterator<?> it = rows(o);
+		Object first = nextRow(it);
+		if (first == null)
+			return;
+
+		StringBuilder sb = getStringBuilder();
+		try {
+			ClassMeta<?> rowType = getClassMetaForObject(first);
+			BeanMeta<?> bm = null;
+			BeanPropertyMeta[] props = null;
+			Object[] keys = null;
+			if (rowType.isBean()) {
+				bm = rowType.getBeanMeta();
+				props = bm.getPropertyMetas().toArray(new BeanPropertyMeta[0]);
+				for (int i = 0; i < props.length; i++)
+					appendField(sb, i, props[i].getName());
+				writeRow(w, sb);
+			} else if (rowType.isMap()) {
+				keys = ((Map)first).keySet().toArray();
+				for (int i = 0; i < keys.length; i++)
+					appendField(sb, i, toString(keys[i]));
+				writeRow(w, sb);
+			}
+			for (Object r = first; r != null; r = nextRow(it)) {
+				if (props != null) {
+					BeanMap<?> m = toBeanMap(r);
+					boolean sameType = m.getMeta() == bm;
+					for (int i = 0; i < props.length; i++) {
+						String n = props[i].getName();
+						appendField(sb, i, sameType ? props[i].get(m, n) : m.get(n));
+					}
+				} else if (keys != null) {
+					Map m = (Map)r;
+					for (int i = 0; i < keys.length; i++)
+						appendField(sb, i, generalize(m.get(keys[i]), null));
+				} else {
+					ClassMeta<?> cm = getClassMetaForObject(r);
+					if (cm.isCollectionOrArray()) {
+						int i = 0;
+						for (Iterator<?> i2 = rows(r); i2.hasNext(); i++)
+							appendField(sb, i, generalize(i2.next(), null));
+					} else {
+						appendField(sb, 0, generalize(r, cm));
 					}
-					w.append('\n');
 				}
+				writeRow(w, sb);
 			}
+		} finally {
+			returnStringBuilder(sb);
+		}
+	}
+
+	/*
+	 * Returns an iterator over the rows of the specified object.
+	 * Objects that aren't collections or arrays are treated as a single row.
+	 */
+	private static Iterator<?> rows(Object o) {
+		if (o instanceof Object[])
+			return Arrays.asList((Object[])o).iterator();
+		if (o != null && o.getClass().isArray()) {
+			List<Object> l = new ArrayList<Object>();
+			for (int i = 0; i < java.lang.reflect.Array.getLength(o); i++)
+				l.add(java.lang.reflect.Array.get(o, i));
+			return l.iterator();
 		}
+		if (o instanceof Iterator)
+			return (Iterator<?>)o;
+		if (o instanceof Enumeration)
+			return new StreamedCollection<Object>((Enumeration<Object>)o).iterator();
+		if (o instanceof Iterable)
+			return ((Iterable<?>)o).iterator();
+		return Collections.singletonList(o).iterator();
 	}
 
-	private static void append(Writer w, Object o) throws IOException {
-		if (o == null)
-			w.append("null");
-		else {
-			String s = o.toString();
-			boolean mustQuote = false;
+	/*
+	 * Returns the next non-null row, or null if there are no more rows.
+	 */
+	private static Object nextRow(Iterator<?> it) {
+		while (it.hasNext()) {
+			Object o = it.next();
+			if (o != null)
+				return o;
+		}
+		return null;
+	}
+
+	/*
+	 * Appends a single field to the row being built.
+	 * Fields are quoted if they contain delimiters, quotes, or whitespace, or if they're the string "null".
+	 * Quotes within quoted fields are escaped by doubling them.
+	 */
+	private void appendField(StringBuilder sb, int index, Object o) {
+		if (index > 0)
+			sb.append(',');
+		if (o == null) {
+			sb.append("null");
+		} else if (o instanceof Integer || o instanceof Long || o instanceof Short || o instanceof Byte) {
+			sb.append(((Number)o).longValue());
+		} else if (o instanceof Boolean) {
+			sb.append(((Boolean)o).booleanValue());
+		} else {
+			String s = trim(o);
+			boolean mustQuote = s.equals("null");
 			for (int i = 0; i < s.length() && ! mustQuote; i++) {
 				char c = s.charAt(i);
-				if (Character.isWhitespace(c) || c == ',')
+				if (Character.isWhitespace(c) || c == ',' || c == '"')
 					mustQuote = true;
 			}
-			if (mustQuote)
-				w.append('"').append(s).append('"');
-			else
-				w.append(s);
+			if (! mustQuote) {
+				sb.append(s);
+				return;
+			}
+			sb.append('"');
+			for (int i = 0; i < s.length(); i++) {
+				char c = s.charAt(i);
+				if (c == '"')
+					sb.append('"');
+				sb.append(c);
+			}
+			sb.append('"');
 		}
 	}
+
+	/*
+	 * Writes the row in the string builder followed by a newline, and then clears the string builder.
+	 */
+	private void writeRow(Writer w, StringBuilder sb) throws IOException {
+		sb.append('\n');
+		int len = sb.length();
+		if (buff == null || buff.length < len)
+			buff = new char[Math.max(len, 256)];
+		sb.getChars(0, len, buff, 0);
+		w.write(buff, 0, len);
+		sb.setLength(0);
+	}
 }
@@ -107,12 +107,30 @@ public class HtmlParserBuilder extends XmlParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public HtmlParserBuilder bufferSize(int value) {
+		super.bufferSize(value);
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public HtmlParserBuilder listener(Class<? extends ParserListener> value) {
 		super.listener(value);
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public HtmlParserBuilder projection(String...values) {
+		super.projection(values);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public HtmlParserBuilder projection(Collection<String> values) {
+		super.projection(values);
+		return this;
+	}
+
 	@Override /* CoreObjectBuilder */
 	public HtmlParserBuilder beansRequireDefaultConstructor(boolean value) {
 		super.beansRequireDefaultConstructor(value);
@@ -173,6 +191,12 @@ public class HtmlParserBuilder extends XmlParserBuilder {
 		return this;
 	}
 
+	@Override /* CoreObjectBuilder */
+	public HtmlParserBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
 	@Override /* CoreObjectBuilder */
 	public HtmlParserBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
@@ -15,21 +15,57 @@ package org.apache.juneau.internal;
 import java.io.*;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 /**
  * A utility class for caching byte arrays in memory so that duplicate arrays can be reused.
+ *
+ * <p>
+ * The total number of bytes held by the cache is bounded.
+ * <br>When adding an array would exceed the budget, arrays that haven't been requested since they were added (or
+ * since they were last given a second chance) are evicted in the order they were added.
+ * <br>Arrays larger than the budget are never cached.
  */
 public class ByteArrayCache {
 
+	private static final long DEFAULT_MAX_BYTES = Long.getLong("juneau.byteArrayCache.maxBytes", 10*1024*1024);
+
 	/**
 	 * Default global byte array cache.
 	 *
 	 * <p>
-	 * Note that this can't ever get garbage collected so don't add really large arrays!
+	 * The byte budget can be set through the <js>"juneau.byteArrayCache.maxBytes"</js> system property.
+	 * <br>Default is 10MB.
 	 */
 	public static final ByteArrayCache DEFAULT = new ByteArrayCache();
 
-	private final ConcurrentHashMap<ByteArray,byte[]> cache = new ConcurrentHashMap<ByteArray,byte[]>();
+	// Arrays up to this size are hashed in full.  Larger arrays are sampled.
+	private static final int FULL_HASH_SIZE = 256, SAMPLES = 128, TAIL = 16;
+
+	private final long maxBytes;
+	private final ConcurrentHashMap<ByteArray,ByteArray> cache = new ConcurrentHashMap<ByteArray,ByteArray>();
+	private final ArrayDeque<ByteArray> queue = new ArrayDeque<ByteArray>();  // Guarded by 'this'.
+	private long bytes;                                                        // Guarded by 'this'.
+	private final AtomicLong hits = new AtomicLong(), misses = new AtomicLong(), evictions = new AtomicLong();
+
+	/**
+	 * Constructor.
+	 *
+	 * <p>
+	 * Uses the byte budget defined by the <js>"juneau.byteArrayCache.maxBytes"</js> system property (default 10MB).
+	 */
+	public ByteArrayCache() {
+		this(DEFAULT_MAX_BYTES);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param maxBytes The maximum total number of bytes held by this cache.
+	 */
+	public ByteArrayCache(long maxBytes) {
+		this.maxBytes = maxBytes;
+	}
 
 	/**
 	 * Add the specified byte array to this cache.
@@ -43,8 +79,26 @@ public class ByteArrayCache {
 		if (contents == null)
 			return null;
 		ByteArray ba = new ByteArray(contents);
-		cache.putIfAbsent(ba, ba.contents);
-		return cache.get(ba);
+		ByteArray ba2 = cache.get(ba);
+		if (ba2 != null) {
+			if (! ba2.referenced)
+				ba2.referenced = true;
+			hits.incrementAndGet();
+			return ba2.contents;
+		}
+		misses.incrementAndGet();
+		if (contents.length > maxBytes)
+			return contents;
+		ba2 = cache.putIfAbsent(ba, ba);
+		if (ba2 != null)
+			return ba2.contents;
+		synchronized (this) {
+			queue.addLast(ba);
+			bytes += contents.length;
+			while (bytes > maxBytes)
+				evictOne();
+		}
+		return contents;
 	}
 
 	/**
@@ -59,9 +113,26 @@ public class ByteArrayCache {
 	public byte[] cache(InputStream contents) throws IOException {
 		if (contents == null)
 			return null;
-		ByteArray ba = new ByteArray(IOUtils.readBytes(contents, 1024));
-		cache.putIfAbsent(ba, ba.contents);
-		return cache.get(ba);
+		return cache(IOUtils.readBytes(contents, 1024));
+	}
+
+	/*
+	 * Evicts a single array.  Must be called while synchronized on this object.
+	 */
+	private void evictOne() {
+		while (true) {
+			ByteArray ba = queue.pollFirst();
+			if (ba.referenced) {
+				// Requested since it was added.  Give it a second chance.
+				ba.referenced = false;
+				queue.addLast(ba);
+				continue;
+			}
+			cache.remove(ba, ba);
+			bytes -= ba.contents.length;
+			evictions.incrementAndGet();
+			return;
+		}
 	}
 
 	/**
@@ -73,24 +144,88 @@ public class ByteArrayCache {
 		return cache.size();
 	}
 
+	/**
+	 * Returns the total number of bytes held by this cache.
+	 *
+	 * @return The total number of bytes held by this cache.
+	 */
+	public synchronized long getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * Returns the maximum total number of bytes held by this cache.
+	 *
+	 * @return The maximum total number of bytes held by this cache.
+	 */
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+
+	/**
+	 * Returns the number of times a byte array was found in this cache.
+	 *
+	 * @return The number of cache hits.
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Returns the number of times a byte array was not found in this cache.
+	 *
+	 * @return The number of cache misses.
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * Returns the number of byte arrays that have been evicted from this cache to stay within the byte budget.
+	 *
+	 * @return The number of evicted byte arrays.
+	 */
+	public long getEvictions() {
+		return evictions.get();
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return "ByteArrayCache[size=" + size() + ",bytes=" + getBytes() + ",maxBytes=" + maxBytes + ",hits=" + hits + ",misses=" + misses + ",evictions=" + evictions + "]";
+	}
+
 	private static class ByteArray {
-		private int hashCode;
-		private byte[] contents;
+		private final int hashCode;
+		private final byte[] contents;
+		private volatile boolean referenced;
 
 		private ByteArray(byte[] contents) {
 			this.contents = contents;
-			int multiplier = 1;
-			for (int i = 0; i < contents.length; i++) {
-				hashCode += contents[i] * multiplier;
-				int shifted = multiplier << 5;
-				multiplier = shifted - multiplier;
+			this.hashCode = hash(contents);
+		}
+
+		/*
+		 * Hashes small arrays in full.
+		 * Large arrays are hashed on their length, evenly-spaced samples, and their last bytes.
+		 * Collisions are resolved by a full comparison in equals().
+		 */
+		private static int hash(byte[] b) {
+			int l = b.length, h = l;
+			if (l <= FULL_HASH_SIZE) {
+				for (int i = 0; i < l; i++)
+					h = 31*h + b[i];
+			} else {
+				int stride = l / SAMPLES;
+				for (int i = 0; i < l; i += stride)
+					h = 31*h + b[i];
+				for (int i = l - TAIL; i < l; i++)
+					h = 31*h + b[i];
 			}
+			return h;
 		}
 
 		@Override /* Object */
 		public int hashCode() {
-			if (hashCode == 0) {
-			}
 			return hashCode;
 		}
 
@@ -0,0 +1,76 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.io.*;
+import java.nio.*;
+
+/**
+ * Similar to {@link ByteArrayInputStream} except reads from a {@link ByteBuffer}.
+ *
+ * <p>
+ * Bytes are read starting at the current position of the buffer up to its limit.
+ * The position of the buffer is advanced as bytes are consumed.
+ * Bulk reads are copied out of the buffer in a single {@link ByteBuffer#get(byte[], int, int)} call, which makes this
+ * class suitable for reading memory-mapped files.
+ */
+public final class ByteBufferInputStream extends InputStream {
+
+	private final ByteBuffer bb;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param bb The byte buffer to read from.
+	 */
+	public ByteBufferInputStream(ByteBuffer bb) {
+		this.bb = bb;
+	}
+
+	/**
+	 * Returns the underlying byte buffer.
+	 *
+	 * @return The underlying byte buffer.
+	 */
+	public ByteBuffer getByteBuffer() {
+		return bb;
+	}
+
+	@Override /* InputStream */
+	public int read() {
+		return bb.hasRemaining() ? bb.get() & 0xFF : -1;
+	}
+
+	@Override /* InputStream */
+	public int read(byte[] b, int off, int len) {
+		if (len == 0)
+			return 0;
+		int n = Math.min(len, bb.remaining());
+		if (n == 0)
+			return -1;
+		bb.get(b, off, n);
+		return n;
+	}
+
+	@Override /* InputStream */
+	public long skip(long n) {
+		int x = (int)Math.max(0, Math.min(n, bb.remaining()));
+		bb.position(bb.position() + x);
+		return x;
+	}
+
+	@Override /* InputStream */
+	public int available() {
+		return bb.remaining();
+	}
+}
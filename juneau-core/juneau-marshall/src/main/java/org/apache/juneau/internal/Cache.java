@@ -12,35 +12,62 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.internal;
 
+import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 /**
  * Simple in-memory cache of objects.
  *
  * <p>
- * Essentially just a wrapper around a ConcurrentHashMap.
+ * Lookups are lock-free against a ConcurrentHashMap.
+ * <br>The number of entries is bounded by a segmented LRU eviction policy so that a flood of one-time keys
+ * (e.g. unusual HTTP header values) can't push out frequently-used entries or grow the cache unbounded:
+ * <ul class='spaced-list'>
+ * 	<li>
+ * 		New entries are added to a <em>probationary</em> segment.
+ * 	<li>
+ * 		Entries that are read again while in the probationary segment are promoted to a <em>protected</em> segment
+ * 		that holds up to 80% of the entries.
+ * 	<li>
+ * 		When the cache is full, the least-recently-added unused entries are evicted from the probationary segment
+ * 		one at a time.
+ * 		<br>Entries that overflow the protected segment are given a second chance in the probationary segment.
+ * </ul>
+ *
+ * <p>
+ * Recency is tracked with a reference bit (CLOCK) instead of by reordering on every read, so reads never block.
  *
  * @param <K> The key type.
  * @param <V> The value type.
  */
 public class Cache<K,V> {
 	private final boolean nocache;
-	private final int maxSize;
-	private final ConcurrentHashMap<K,V> cache;
+	private final int maxSize, protectedMaxSize;
+	private final ConcurrentHashMap<K,Entry<K,V>> cache;
+	private final ArrayDeque<Entry<K,V>> probation, protect;  // Guarded by 'this'.
+	private final AtomicLong hits = new AtomicLong(), misses = new AtomicLong(), evictions = new AtomicLong();
 
 	/**
 	 * Constructor.
 	 *
 	 * @param disabled If <jk>true</jk> then the cache is disabled.
-	 * @param maxSize The maximum size of the cache.  If this threshold is reached, the cache is flushed.
+	 * @param maxSize
+	 * 	The maximum size of the cache.
+	 * 	If this threshold is reached, the least-useful entries are evicted one at a time.
 	 */
 	public Cache(boolean disabled, int maxSize) {
-		this.nocache = disabled;
+		this.nocache = disabled || maxSize <= 0;
 		this.maxSize = maxSize;
-		if (! nocache)
-			cache = new ConcurrentHashMap<K,V>();
-		else
+		this.protectedMaxSize = maxSize * 4 / 5;
+		if (! nocache) {
+			cache = new ConcurrentHashMap<K,Entry<K,V>>();
+			probation = new ArrayDeque<Entry<K,V>>();
+			protect = new ArrayDeque<Entry<K,V>>();
+		} else {
 			cache = null;
+			probation = protect = null;
+		}
 	}
 
 	/**
@@ -52,7 +79,15 @@ public class Cache<K,V> {
 	public V get(K key) {
 		if (nocache)
 			return null;
-		return cache.get(key);
+		Entry<K,V> e = cache.get(key);
+		if (e == null) {
+			misses.incrementAndGet();
+			return null;
+		}
+		if (! e.referenced)
+			e.referenced = true;
+		hits.incrementAndGet();
+		return e.value;
 	}
 
 	/**
@@ -68,16 +103,125 @@ public class Cache<K,V> {
 		if (nocache)
 			return value;
 
-		// Prevent OOM in case of DDOS
-		if (cache.size() > maxSize)
-			cache.clear();
+		Entry<K,V> e = new Entry<K,V>(key, value), e2 = cache.putIfAbsent(key, e);
+		if (e2 != null)
+			return e2.value;
 
+		synchronized (this) {
+			probation.addLast(e);
+			// Prevent OOM in case of DDOS
+			while (probation.size() + protect.size() > maxSize)
+				evictOne();
+		}
+		return value;
+	}
+
+	/*
+	 * Evicts a single entry.  Must be called while synchronized on this object.
+	 */
+	private void evictOne() {
+		// Each pass either evicts an entry or clears a reference bit, so this loop is bounded.
 		while (true) {
-			V v = cache.get(key);
-			if (v != null)
-				return v;
-			cache.putIfAbsent(key, value);
-			return value;
+			Entry<K,V> e = probation.pollFirst();
+			if (e == null) {
+				// Everything is protected.  Demote the oldest protected entry.
+				e = protect.pollFirst();
+				e.referenced = false;
+				probation.addLast(e);
+				continue;
+			}
+			if (e.referenced) {
+				// Used while on probation.  Promote it.
+				e.referenced = false;
+				protect.addLast(e);
+				while (protect.size() > protectedMaxSize) {
+					Entry<K,V> p = protect.pollFirst();
+					if (p.referenced) {
+						p.referenced = false;
+						protect.addLast(p);
+					} else {
+						probation.addLast(p);
+					}
+				}
+				continue;
+			}
+			cache.remove(e.key, e);
+			evictions.incrementAndGet();
+			return;
+		}
+	}
+
+	/**
+	 * Returns the number of entries currently in this cache.
+	 *
+	 * @return The number of entries currently in this cache, or <code>0</code> if the cache is disabled.
+	 */
+	public int size() {
+		return nocache ? 0 : cache.size();
+	}
+
+	/**
+	 * Returns the maximum number of entries in this cache.
+	 *
+	 * @return The maximum number of entries in this cache.
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Returns a snapshot of the values currently in this cache.
+	 *
+	 * @return A new list containing the values currently in this cache.
+	 */
+	public List<V> values() {
+		List<V> l = new ArrayList<V>();
+		if (! nocache)
+			for (Entry<K,V> e : cache.values())
+				l.add(e.value);
+		return l;
+	}
+
+	/**
+	 * Returns the number of times {@link #get(Object)} found a value in this cache.
+	 *
+	 * @return The number of cache hits.
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Returns the number of times {@link #get(Object)} did not find a value in this cache.
+	 *
+	 * @return The number of cache misses.
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * Returns the number of entries that have been evicted from this cache to keep it under its maximum size.
+	 *
+	 * @return The number of evicted entries.
+	 */
+	public long getEvictions() {
+		return evictions.get();
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return "Cache[size=" + size() + ",maxSize=" + maxSize + ",hits=" + hits + ",misses=" + misses + ",evictions=" + evictions + "]";
+	}
+
+	private static final class Entry<K,V> {
+		final K key;
+		final V value;
+		volatile boolean referenced;
+
+		Entry(K key, V value) {
+			this.key = key;
+			this.value = value;
 		}
 	}
 }
@@ -0,0 +1,115 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.util.*;
+
+/**
+ * A collection view of an {@link Iterator} or {@link Enumeration} that can be serialized without first copying its
+ * elements into memory.
+ *
+ * <p>
+ * The first call to {@link #iterator()} returns the underlying iterator itself, so elements are pulled from the source
+ * one at a time as they're serialized.
+ * Methods that need to see all the elements up front (e.g. {@link #size()} or {@link #toArray()}) copy the remaining
+ * elements into an internal list, after which the collection can be iterated any number of times.
+ * {@link #isEmpty()} never consumes any elements.
+ *
+ * <p>
+ * Note that this class is NOT thread safe.
+ *
+ * @param <E> The element class type.
+ */
+public final class StreamedCollection<E> extends AbstractCollection<E> {
+
+	private final Iterator<E> source;
+	private List<E> buffer;
+	private boolean streaming;
+
+	/**
+	 * Creates a collection around the specified iterator.
+	 *
+	 * @param source The iterator being wrapped.
+	 */
+	public StreamedCollection(Iterator<E> source) {
+		this.source = source;
+	}
+
+	/**
+	 * Creates a collection around the specified enumeration.
+	 *
+	 * @param source The enumeration being wrapped.
+	 */
+	public StreamedCollection(final Enumeration<E> source) {
+		this(new Iterator<E>() {
+			@Override /* Iterator */
+			public boolean hasNext() {
+				return source.hasMoreElements();
+			}
+
+			@Override /* Iterator */
+			public E next() {
+				return source.nextElement();
+			}
+
+			@Override /* Iterator */
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		});
+	}
+
+	@Override /* Collection */
+	public Iterator<E> iterator() {
+		if (buffer != null)
+			return buffer.iterator();
+		if (streaming)
+			throw new IllegalStateException("Collection has already been iterated.");
+		streaming = true;
+		return source;
+	}
+
+	@Override /* Collection */
+	public int size() {
+		return buffer().size();
+	}
+
+	@Override /* Collection */
+	public boolean isEmpty() {
+		if (buffer != null)
+			return buffer.isEmpty();
+		if (streaming)
+			throw new IllegalStateException("Collection has already been iterated.");
+		return ! source.hasNext();
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the elements of the underlying iterator have not been copied into memory.
+	 *
+	 * @return <jk>true</jk> if the elements of the underlying iterator have not been copied into memory.
+	 */
+	public boolean isStreamed() {
+		return buffer == null;
+	}
+
+	private List<E> buffer() {
+		if (buffer == null) {
+			if (streaming)
+				throw new IllegalStateException("Collection has already been iterated.");
+			buffer = new ArrayList<E>();
+			while (source.hasNext())
+				buffer.add(source.next());
+		}
+		return buffer;
+	}
+}
@@ -79,7 +79,85 @@ public final class StringUtils {
 	 * @throws Exception
 	 */
 	public static Number parseNumber(ParserReader r, Class<? extends Number> type) throws Exception {
-		return parseNumber(parseNumberString(r), type);
+		Number n = parseInteger(r, type);
+		if (n != null)
+			return n;
+		return parseNumber(r.getMarked(), type);
+	}
+
+	/**
+	 * Parses a plain decimal integer from the specified reader without creating an intermediate string.
+	 *
+	 * <p>
+	 * Only handles optionally-negative integers of up to 18 digits without leading zeros (e.g. <js>"123"</js>,
+	 * <js>"-123"</js>) being converted to one of the following types:
+	 * <ul>
+	 * 	<li> Integer, Long, Short, Byte, Double, Float, or their primitive equivalents.
+	 * 	<li> <jk>null</jk> or Number, in which case an Integer or Long is returned depending on the value.
+	 * </ul>
+	 *
+	 * <p>
+	 * If the number is anything else (e.g. it's a decimal or hexadecimal number, negative zero, or the value doesn't
+	 * fit into the specified type), the remainder of the number is read and <jk>null</jk> is returned.
+	 * In that case, the number string can be retrieved through {@link ParserReader#getMarked()}.
+	 *
+	 * @param r The reader to read from.
+	 * @param type The number type to create.
+	 * @return The parsed number, or <jk>null</jk> if the number must be parsed from the marked string instead.
+	 * @throws Exception
+	 */
+	public static Number parseInteger(ParserReader r, Class<? extends Number> type) throws Exception {
+		r.mark();
+		int c = r.read();
+		boolean isNegative = (c == '-');
+		if (isNegative)
+			c = r.read();
+		boolean isLeadingZero = (c == '0');
+		long l = 0;
+		int digits = 0;
+		while (c >= '0' && c <= '9' && digits < 18) {
+			l = l * 10 + (c - '0');
+			digits++;
+			c = r.read();
+		}
+
+		if (digits == 0 || (isLeadingZero && digits > 1) || (c != -1 && numberChars.contains((char)c))) {
+			while (c != -1 && numberChars.contains((char)c))
+				c = r.read();
+			if (c != -1)
+				r.unread();
+			return null;
+		}
+
+		if (c != -1)
+			r.unread();
+		if (isNegative)
+			l = -l;
+
+		// Negative zero can only be represented by the floating-point types.
+		Number n = (isNegative && l == 0) ? null : toNumber(l, type);
+		if (n != null)
+			r.unmark();
+		return n;
+	}
+
+	private static Number toNumber(long l, Class<? extends Number> type) {
+		boolean isInt = (l >= Integer.MIN_VALUE && l <= Integer.MAX_VALUE);
+		if (type == null || type == Number.class)
+			return isInt ? (Number)Integer.valueOf((int)l) : (Number)Long.valueOf(l);
+		if (type == Integer.class || type == Integer.TYPE)
+			return isInt ? Integer.valueOf((int)l) : null;
+		if (type == Long.class || type == Long.TYPE)
+			return Long.valueOf(l);
+		if (type == Double.class || type == Double.TYPE)
+			return Double.valueOf(l);
+		if (type == Float.class || type == Float.TYPE)
+			return Float.valueOf(l);
+		if (type == Short.class || type == Short.TYPE)
+			return (l >= Short.MIN_VALUE && l <= Short.MAX_VALUE) ? Short.valueOf((short)l) : null;
+		if (type == Byte.class || type == Byte.TYPE)
+			return (l >= Byte.MIN_VALUE && l <= Byte.MAX_VALUE) ? Byte.valueOf((byte)l) : null;
+		return null;
 	}
 
 	/**
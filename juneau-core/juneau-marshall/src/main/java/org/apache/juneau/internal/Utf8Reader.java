@@ -0,0 +1,294 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.charset.*;
+
+/**
+ * Reader that decodes UTF-8 bytes directly from an {@link InputStream}, byte array, or {@link ByteBuffer}.
+ *
+ * <p>
+ * Similar to {@link InputStreamReader} with a UTF-8 charset, but without the overhead of a charset decoder and its
+ * intermediate buffers.
+ * ASCII bytes are copied straight into the character buffer of the caller, and only non-ASCII bytes go through the
+ * multi-byte decoding logic.
+ * Byte arrays and heap byte buffers are decoded in place without being copied.
+ *
+ * <p>
+ * Malformed input either causes a {@link MalformedInputException} to be thrown, or is replaced with U+FFFD
+ * replacement characters, same as {@link CodingErrorAction#REPORT} and {@link CodingErrorAction#REPLACE}.
+ *
+ * <p>
+ * When reading from an input stream or direct byte buffer, bytes are collected in a buffer that's reused by
+ * subsequent readers created on the same thread.
+ * The buffer is returned to the pool by {@link #close()}.
+ *
+ * <p>
+ * Note that this class is NOT thread safe.
+ */
+public final class Utf8Reader extends Reader {
+
+	private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	private static final ThreadLocal<byte[]> BUFFER_POOL = new ThreadLocal<byte[]>();
+
+	private final InputStream is;
+	private final ByteBuffer bb;
+	private final boolean strict;
+	private final int bufferSize;
+	private final char[] one = new char[1];
+	private byte[] buff;
+	private int pos, end;
+	private char pendingLowSurrogate;
+	private boolean pooled, closed;
+
+	/**
+	 * Creates a reader that decodes UTF-8 bytes from the specified input stream.
+	 *
+	 * @param is The input stream being wrapped.
+	 * @param bufferSize The size of the byte buffer to use when reading from the stream.
+	 * @param strict If <jk>true</jk>, malformed input causes a {@link MalformedInputException} to be thrown.
+	 */
+	public Utf8Reader(InputStream is, int bufferSize, boolean strict) {
+		this.is = is;
+		this.bb = null;
+		this.bufferSize = Math.max(bufferSize, 16);
+		this.strict = strict;
+	}
+
+	/**
+	 * Creates a reader that decodes UTF-8 bytes from the specified byte array.
+	 *
+	 * @param b The bytes to decode.
+	 * @param strict If <jk>true</jk>, malformed input causes a {@link MalformedInputException} to be thrown.
+	 */
+	public Utf8Reader(byte[] b, boolean strict) {
+		this.is = null;
+		this.bb = null;
+		this.bufferSize = 0;
+		this.strict = strict;
+		this.buff = b;
+		this.end = b.length;
+	}
+
+	/**
+	 * Creates a reader that decodes UTF-8 bytes from the specified byte buffer.
+	 *
+	 * <p>
+	 * Bytes are read starting at the current position of the buffer up to its limit.
+	 * The position of the buffer is advanced as bytes are consumed.
+	 *
+	 * @param bb The byte buffer being wrapped.
+	 * @param bufferSize The size of the intermediate byte buffer to use if the buffer is not backed by an array.
+	 * @param strict If <jk>true</jk>, malformed input causes a {@link MalformedInputException} to be thrown.
+	 */
+	public Utf8Reader(ByteBuffer bb, int bufferSize, boolean strict) {
+		this.strict = strict;
+		this.bufferSize = Math.max(bufferSize, 16);
+		this.is = null;
+		if (bb.hasArray()) {
+			this.bb = null;
+			this.buff = bb.array();
+			this.pos = bb.arrayOffset() + bb.position();
+			this.end = bb.arrayOffset() + bb.limit();
+			bb.position(bb.limit());
+		} else {
+			this.bb = bb;
+		}
+	}
+
+	@Override /* Reader */
+	public int read() throws IOException {
+		int n = read(one, 0, 1);
+		return n == -1 ? -1 : one[0];
+	}
+
+	@Override /* Reader */
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		if (closed)
+			throw new IOException("Reader is closed.");
+		if (len == 0)
+			return 0;
+
+		int n = off, e = off + len;
+
+		if (pendingLowSurrogate != 0) {
+			cbuf[n++] = pendingLowSurrogate;
+			pendingLowSurrogate = 0;
+		}
+
+		while (n < e) {
+			if (pos == end && (n > off || ! fill()))
+				break;
+
+			// ASCII fast path.
+			byte[] b = buff;
+			int p = pos, l = end;
+			while (n < e && p < l && b[p] >= 0)
+				cbuf[n++] = (char)b[p++];
+			pos = p;
+			if (n == e || p == l)
+				continue;
+
+			int b0 = b[p] & 0xFF, need;
+			if (b0 >= 0xC2 && b0 <= 0xDF)
+				need = 2;
+			else if (b0 >= 0xE0 && b0 <= 0xEF)
+				need = 3;
+			else if (b0 >= 0xF0 && b0 <= 0xF4)
+				need = 4;
+			else {
+				n = malformed(cbuf, n, 1);
+				continue;
+			}
+
+			if (p + need > l) {
+				// Sequence is split across reads.
+				if (! fill())
+					n = malformed(cbuf, n, truncatedLength(b0));
+				continue;
+			}
+
+			int b1 = b[p+1] & 0xFF;
+			if (! isValidSecond(b0, b1)) {
+				n = malformed(cbuf, n, 1);
+				continue;
+			}
+
+			if (need == 2) {
+				cbuf[n++] = (char)(((b0 & 0x1F) << 6) | (b1 & 0x3F));
+				pos = p + 2;
+				continue;
+			}
+
+			int b2 = b[p+2] & 0xFF;
+			if ((b2 & 0xC0) != 0x80) {
+				n = malformed(cbuf, n, 2);
+				continue;
+			}
+
+			if (need == 3) {
+				cbuf[n++] = (char)(((b0 & 0x0F) << 12) | ((b1 & 0x3F) << 6) | (b2 & 0x3F));
+				pos = p + 3;
+				continue;
+			}
+
+			int b3 = b[p+3] & 0xFF;
+			if ((b3 & 0xC0) != 0x80) {
+				n = malformed(cbuf, n, 3);
+				continue;
+			}
+
+			int cp = ((b0 & 0x07) << 18) | ((b1 & 0x3F) << 12) | ((b2 & 0x3F) << 6) | (b3 & 0x3F);
+			cbuf[n++] = (char)((cp >>> 10) + (Character.MIN_HIGH_SURROGATE - (Character.MIN_SUPPLEMENTARY_CODE_POINT >>> 10)));
+			char low = (char)((cp & 0x3FF) + Character.MIN_LOW_SURROGATE);
+			if (n < e)
+				cbuf[n++] = low;
+			else
+				pendingLowSurrogate = low;
+			pos = p + 4;
+		}
+
+		return n == off ? -1 : n - off;
+	}
+
+	/**
+	 * Returns the length of the malformed sequence at the current position when the input ends before the sequence
+	 * is complete.
+	 *
+	 * <p>
+	 * Only the lead byte and the valid continuation bytes that follow it are part of the sequence, so any bytes after
+	 * them are still decoded.
+	 */
+	private int truncatedLength(int b0) {
+		if (pos + 1 == end || ! isValidSecond(b0, buff[pos+1] & 0xFF))
+			return 1;
+		if (pos + 2 == end || (buff[pos+2] & 0xC0) != 0x80)
+			return 2;
+		return 3;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified byte can follow the specified lead byte.
+	 */
+	private static boolean isValidSecond(int b0, int b1) {
+		return (b1 & 0xC0) == 0x80
+			&& ! (b0 == 0xE0 && b1 < 0xA0)     // Overlong.
+			&& ! (b0 == 0xED && b1 >= 0xA0)    // Surrogate.
+			&& ! (b0 == 0xF0 && b1 < 0x90)     // Overlong.
+			&& ! (b0 == 0xF4 && b1 >= 0x90);   // Above U+10FFFF.
+	}
+
+	/**
+	 * Handles a malformed byte sequence of the specified length at the current position.
+	 */
+	private int malformed(char[] cbuf, int n, int len) throws IOException {
+		if (strict)
+			throw new MalformedInputException(len);
+		pos += len;
+		cbuf[n++] = '\uFFFD';
+		return n;
+	}
+
+	/**
+	 * Reads more bytes from the underlying stream or buffer, keeping any unconsumed bytes.
+	 *
+	 * @return <jk>false</jk> if the end of the input was reached and no more bytes were read.
+	 */
+	private boolean fill() throws IOException {
+		if (is == null && bb == null)
+			return false;
+		if (buff == null) {
+			buff = BUFFER_POOL.get();
+			if (buff != null && buff.length == bufferSize)
+				BUFFER_POOL.set(null);
+			else
+				buff = new byte[bufferSize];
+			pooled = true;
+		}
+		int rem = end - pos;
+		if (rem > 0 && pos > 0)
+			System.arraycopy(buff, pos, buff, 0, rem);
+		pos = 0;
+		end = rem;
+		int x;
+		if (is != null) {
+			x = is.read(buff, end, buff.length - end);
+		} else {
+			x = Math.min(bb.remaining(), buff.length - end);
+			if (x == 0)
+				x = -1;
+			else
+				bb.get(buff, end, x);
+		}
+		if (x <= 0)
+			return false;
+		end += x;
+		return true;
+	}
+
+	@Override /* Reader */
+	public void close() throws IOException {
+		if (closed)
+			return;
+		closed = true;
+		if (pooled && buff.length == DEFAULT_BUFFER_SIZE)
+			BUFFER_POOL.set(buff);
+		buff = null;
+		pos = end = 0;
+		if (is != null)
+			is.close();
+	}
+}
@@ -0,0 +1,256 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.io.*;
+import java.nio.*;
+
+/**
+ * Writer that encodes characters as UTF-8 directly into an {@link OutputStream} or {@link ByteBuffer}.
+ *
+ * <p>
+ * Similar to {@link OutputStreamWriter} with a UTF-8 charset, but without the overhead of a charset encoder.
+ * ASCII characters are copied straight into the byte buffer, and only non-ASCII characters go through the
+ * multi-byte encoding logic.
+ * Unpaired surrogate characters are written as <js>'?'</js>, same as {@link OutputStreamWriter}.
+ *
+ * <p>
+ * When writing to an output stream, bytes are collected in a buffer that's reused by subsequent writers created on
+ * the same thread.
+ * The buffer is returned to the pool by {@link #close()} or {@link #release()}.
+ *
+ * <p>
+ * Note that this class is NOT thread safe.
+ */
+public final class Utf8Writer extends Writer {
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private static final ThreadLocal<byte[]> BUFFER_POOL = new ThreadLocal<byte[]>();
+
+	private final OutputStream os;
+	private final ByteBuffer bb;
+	private byte[] buff;
+	private int pos;
+	private char highSurrogate;
+	private boolean closed;
+
+	/**
+	 * Creates a writer that writes UTF-8 encoded bytes to the specified output stream.
+	 *
+	 * @param os The output stream being wrapped.
+	 */
+	public Utf8Writer(OutputStream os) {
+		this.os = os;
+		this.bb = null;
+	}
+
+	/**
+	 * Creates a writer that writes UTF-8 encoded bytes to the specified byte buffer.
+	 *
+	 * <p>
+	 * Bytes are written starting at the current position of the buffer.
+	 * An {@link IOException} is thrown if the buffer doesn't have enough remaining space.
+	 *
+	 * @param bb The byte buffer being wrapped.
+	 */
+	public Utf8Writer(ByteBuffer bb) {
+		this.os = null;
+		this.bb = bb;
+	}
+
+	@Override /* Writer */
+	public void write(int c) throws IOException {
+		ensureCapacity(4);
+		encode((char)c);
+	}
+
+	@Override /* Writer */
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		int end = off + len;
+		while (off < end) {
+			int n = Math.min(end - off, BUFFER_SIZE / 4);
+			ensureCapacity(n * 3 + 4);
+			byte[] b = buff;
+			int p = pos;
+			int i = off, e = off + n;
+
+			// ASCII fast path.
+			if (highSurrogate == 0)
+				for (char c; i < e && (c = cbuf[i]) < 0x80; i++)
+					b[p++] = (byte)c;
+			pos = p;
+
+			for (; i < e; i++)
+				encode(cbuf[i]);
+			off = e;
+		}
+	}
+
+	@Override /* Writer */
+	public void write(String str, int off, int len) throws IOException {
+		int end = off + len;
+		while (off < end) {
+			int n = Math.min(end - off, BUFFER_SIZE / 4);
+			ensureCapacity(n * 3 + 4);
+			byte[] b = buff;
+			int p = pos;
+			int i = off, e = off + n;
+
+			// ASCII fast path.
+			if (highSurrogate == 0)
+				for (char c; i < e && (c = str.charAt(i)) < 0x80; i++)
+					b[p++] = (byte)c;
+			pos = p;
+
+			for (; i < e; i++)
+				encode(str.charAt(i));
+			off = e;
+		}
+	}
+
+	@Override /* Writer */
+	public void write(String str) throws IOException {
+		write(str, 0, str.length());
+	}
+
+	@Override /* Writer */
+	public Utf8Writer append(char c) throws IOException {
+		write(c);
+		return this;
+	}
+
+	@Override /* Writer */
+	public Utf8Writer append(CharSequence csq) throws IOException {
+		write(String.valueOf(csq));
+		return this;
+	}
+
+	@Override /* Writer */
+	public Utf8Writer append(CharSequence csq, int start, int end) throws IOException {
+		write(String.valueOf(csq == null ? "null" : csq.subSequence(start, end)));
+		return this;
+	}
+
+	/**
+	 * Encodes a single character into the buffer.
+	 *
+	 * <p>
+	 * Assumes that there's room for at least 4 more bytes in the buffer.
+	 */
+	private void encode(char c) {
+		byte[] b = buff;
+		int p = pos;
+		if (highSurrogate != 0) {
+			if (Character.isLowSurrogate(c)) {
+				int cp = Character.toCodePoint(highSurrogate, c);
+				highSurrogate = 0;
+				b[p++] = (byte)(0xF0 | (cp >> 18));
+				b[p++] = (byte)(0x80 | ((cp >> 12) & 0x3F));
+				b[p++] = (byte)(0x80 | ((cp >> 6) & 0x3F));
+				b[p++] = (byte)(0x80 | (cp & 0x3F));
+				pos = p;
+				return;
+			}
+			highSurrogate = 0;
+			b[p++] = '?';
+		}
+		if (c < 0x80) {
+			b[p++] = (byte)c;
+		} else if (c < 0x800) {
+			b[p++] = (byte)(0xC0 | (c >> 6));
+			b[p++] = (byte)(0x80 | (c & 0x3F));
+		} else if (Character.isHighSurrogate(c)) {
+			highSurrogate = c;
+		} else if (Character.isLowSurrogate(c)) {
+			b[p++] = '?';
+		} else {
+			b[p++] = (byte)(0xE0 | (c >> 12));
+			b[p++] = (byte)(0x80 | ((c >> 6) & 0x3F));
+			b[p++] = (byte)(0x80 | (c & 0x3F));
+		}
+		pos = p;
+	}
+
+	/**
+	 * Makes sure the buffer can hold the specified number of additional bytes, flushing it if necessary.
+	 */
+	private void ensureCapacity(int n) throws IOException {
+		if (closed)
+			throw new IOException("Writer is closed.");
+		if (buff == null) {
+			buff = BUFFER_POOL.get();
+			if (buff == null)
+				buff = new byte[BUFFER_SIZE];
+			else
+				BUFFER_POOL.set(null);
+		}
+		if (pos + n > buff.length)
+			flushBuffer();
+	}
+
+	private void flushBuffer() throws IOException {
+		if (pos > 0) {
+			if (os != null) {
+				os.write(buff, 0, pos);
+			} else {
+				try {
+					bb.put(buff, 0, pos);
+				} catch (BufferOverflowException e) {
+					throw new IOException("Byte buffer does not have enough remaining space.");
+				}
+			}
+			pos = 0;
+		}
+	}
+
+	/**
+	 * Writes out any buffered bytes and returns the buffer to the pool.
+	 *
+	 * <p>
+	 * The writer can still be used afterwards, in which case a new buffer is obtained.
+	 *
+	 * @throws IOException
+	 */
+	public void release() throws IOException {
+		if (buff != null) {
+			flushBuffer();
+			if (buff.length == BUFFER_SIZE)
+				BUFFER_POOL.set(buff);
+			buff = null;
+		}
+	}
+
+	@Override /* Writer */
+	public void flush() throws IOException {
+		if (buff != null)
+			flushBuffer();
+		if (os != null)
+			os.flush();
+	}
+
+	@Override /* Writer */
+	public void close() throws IOException {
+		if (closed)
+			return;
+		if (highSurrogate != 0) {
+			ensureCapacity(1);
+			buff[pos++] = '?';
+			highSurrogate = 0;
+		}
+		release();
+		closed = true;
+		if (os != null)
+			os.close();
+	}
+}
@@ -0,0 +1,56 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.io.*;
+
+import org.apache.juneau.*;
+
+/**
+ * Metadata on bean properties specific to the JSON serializers.
+ *
+ * <p>
+ * Holds the encoded forms of the property name as written by {@link JsonWriter} so that the name doesn't need to be
+ * checked for quoting and escaping every time a bean is serialized.
+ */
+public final class JsonBeanPropertyMeta extends BeanPropertyMetaExtended {
+
+	// Encoded attribute names followed by ':', indexed by JsonWriter.attrNameKey.
+	private final String[] attrNames = new String[JsonWriter.ATTR_NAME_KEYS];
+
+	/**
+	 * Constructor.
+	 *
+	 * @param bpm The metadata of the bean property of this additional metadata.
+	 */
+	public JsonBeanPropertyMeta(BeanPropertyMeta bpm) {
+		super(bpm);
+	}
+
+	/**
+	 * Returns the property name encoded as a JSON attribute name followed by <js>':'</js>.
+	 *
+	 * @param w The writer whose quoting and escaping settings determine the encoding.
+	 * @param key The index of the writer settings.
+	 * @return The encoded attribute name.
+	 * @throws IOException Should never happen.
+	 */
+	String getAttrName(JsonWriter w, int key) throws IOException {
+		String s = attrNames[key];
+		if (s == null) {
+			s = w.encodeAttr(getBeanPropertyMeta().getName()) + ':';
+			attrNames[key] = s;
+		}
+		return s;
+	}
+}
@@ -0,0 +1,140 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+
+/**
+ * {@link ObjectMap} whose values are decoded from the JSON input the first time they're retrieved.
+ *
+ * <p>
+ * Created by {@link JsonParserSession} when {@link JsonParserContext#JSON_lazy} is enabled.
+ * Until an entry is retrieved, its value is only a pair of positions in the input string.
+ *
+ * <p>
+ * Methods that return all the values of the map (e.g. {@link #entrySet()} and {@link #values()}) decode all the
+ * remaining entries first.
+ */
+final class JsonLazyMap extends ObjectMap {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient JsonLazyScanner scanner;
+	private int unresolved;
+
+	JsonLazyMap(JsonLazyScanner scanner, BeanSession session) {
+		super(session);
+		this.scanner = scanner;
+	}
+
+	/*
+	 * Adds an entry whose value is located between the specified positions of the input.
+	 */
+	void putLazy(String key, int start, int end) {
+		if (! (super.put(key, new Value(start, end)) instanceof Value))
+			unresolved++;
+	}
+
+	@Override /* Map */
+	public Object get(Object key) {
+		Object o = super.get(key);
+		if (o instanceof Value) {
+			o = resolve(key, (Value)o);
+			super.put((String)key, o);
+			unresolved--;
+		}
+		return o;
+	}
+
+	@Override /* Map */
+	public Object remove(Object key) {
+		Object o = super.remove(key);
+		if (o instanceof Value) {
+			unresolved--;
+			o = resolve(key, (Value)o);
+		}
+		return o;
+	}
+
+	@Override /* Map */
+	public Object put(String key, Object value) {
+		Object o = super.put(key, value);
+		if (o instanceof Value) {
+			unresolved--;
+			o = resolve(key, (Value)o);
+		}
+		return o;
+	}
+
+	@Override /* Map */
+	public Set<Map.Entry<String,Object>> entrySet() {
+		resolveAll();
+		return super.entrySet();
+	}
+
+	@Override /* Map */
+	public Collection<Object> values() {
+		resolveAll();
+		return super.values();
+	}
+
+	@Override /* Map */
+	public boolean containsValue(Object value) {
+		resolveAll();
+		return super.containsValue(value);
+	}
+
+	@Override /* Map */
+	public void clear() {
+		super.clear();
+		unresolved = 0;
+	}
+
+	/*
+	 * Lazy values can't be serialized, so serialize a copy of this map instead.
+	 */
+	private Object writeReplace() {
+		return new ObjectMap(this);
+	}
+
+	private void resolveAll() {
+		if (unresolved > 0) {
+			for (Map.Entry<String,Object> e : super.entrySet())
+				if (e.getValue() instanceof Value)
+					e.setValue(resolve(e.getKey(), (Value)e.getValue()));
+			unresolved = 0;
+		}
+	}
+
+	private Object resolve(Object key, Value v) {
+		try {
+			return scanner.decode(v.start, v.end);
+		} catch (Exception e) {
+			throw new FormattedRuntimeException(e, "Could not parse value for key ''{0}''.", key);
+		}
+	}
+
+	/*
+	 * The position of an entry value that hasn't been decoded yet.
+	 */
+	private static final class Value {
+		final int start, end;
+
+		Value(int start, int end) {
+			this.start = start;
+			this.end = end;
+		}
+	}
+}
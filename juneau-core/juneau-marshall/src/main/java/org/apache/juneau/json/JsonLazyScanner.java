@@ -0,0 +1,374 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * Scans JSON input for the positions of values without decoding them.
+ *
+ * <p>
+ * Used by {@link JsonParserSession} when {@link JsonParserContext#JSON_lazy} is enabled.
+ * JSON objects are returned as {@link JsonLazyMap JsonLazyMaps} whose entries point back into the input string.
+ * The entries are decoded through the parser session the first time they're retrieved.
+ */
+final class JsonLazyScanner {
+
+	private final String s;
+	private final JsonParserSession session;
+	private final boolean isStrict, isTrimStrings;
+	private char[] stack = new char[16];
+	private int pos;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param s The entire JSON input.
+	 * @param session The session used for decoding values.
+	 * @param isStrict Whether strict mode is enabled on the session.
+	 * @param isTrimStrings Whether string trimming is enabled on the session.
+	 */
+	JsonLazyScanner(String s, JsonParserSession session, boolean isStrict, boolean isTrimStrings) {
+		this.s = s;
+		this.session = session;
+		this.isStrict = isStrict;
+		this.isTrimStrings = isTrimStrings;
+	}
+
+	/**
+	 * Scans the JSON object starting at the specified position.
+	 *
+	 * @param i The position of the <js>'{'</js> character.
+	 * @return A map whose values are decoded on first access.
+	 * @throws Exception If the structure of the object is malformed.
+	 */
+	ObjectMap parseObject(int i) throws Exception {
+		JsonLazyMap m = new JsonLazyMap(this, session);
+		pos = scanObject(i, m);
+		return m;
+	}
+
+	/**
+	 * Scans the JSON array starting at the specified position.
+	 *
+	 * @param i The position of the <js>'['</js> character.
+	 * @return A list whose JSON object elements are decoded on first access.
+	 * @throws Exception If the structure of the array is malformed.
+	 */
+	ObjectList parseArray(int i) throws Exception {
+		ObjectList l = new ObjectList(session);
+		pos = scanArray(i, l);
+		return l;
+	}
+
+	/**
+	 * Returns the position following the last object or array scanned by {@link #parseObject(int)} or
+	 * {@link #parseArray(int)}.
+	 *
+	 * @return The position following the last value scanned.
+	 */
+	int getPosition() {
+		return pos;
+	}
+
+	/**
+	 * Makes sure that the input only contains whitespace and comments starting at the specified position.
+	 *
+	 * @param i The position to start checking at.
+	 * @throws ParseException If the remainder contains anything else.
+	 */
+	void validateEnd(int i) throws ParseException {
+		i = skipCommentsAndSpace(i);
+		if (i < s.length() && s.charAt(i) != ';')  // var x = {...}; expressions can end with a semicolon.
+			throw error(i, "Remainder after parse: ''{0}''.", s.charAt(i));
+	}
+
+	/**
+	 * Decodes the value located at the specified position in the input.
+	 *
+	 * @param start The start position of the value.
+	 * @param end The end position of the value.
+	 * @return The decoded value.
+	 * @throws Exception If the value is malformed.
+	 */
+	synchronized Object decode(int start, int end) throws Exception {
+		char c = s.charAt(start);
+		if (c == '{') {
+			JsonLazyMap m = new JsonLazyMap(this, session);
+			scanObject(start, m);
+			return session.cast(m);
+		}
+		if (c == '[') {
+			ObjectList l = new ObjectList(session);
+			scanArray(start, l);
+			return l;
+		}
+		if ((c == '"' || c == '\'') && skipString(start) == end)
+			return getString(start, end);
+		ParserReader r = getReader(start, end);
+		Object o = session.parseValue(r, session.object());
+		session.validateEnd(r);
+		return o;
+	}
+
+	/**
+	 * Returns the position of the first character at or after the specified position that's not whitespace or part
+	 * of a comment.
+	 *
+	 * @param i The position to start at.
+	 * @return The position of the next significant character, or the length of the input if there are none.
+	 * @throws ParseException If a comment is malformed, or comments aren't allowed.
+	 */
+	int skipCommentsAndSpace(int i) throws ParseException {
+		int len = s.length();
+		while (i < len) {
+			char c = s.charAt(i);
+			if (c == '/') {
+				if (isStrict)
+					throw error(i, "Javascript comment detected.");
+				char c2 = (i+1 < len ? s.charAt(i+1) : 0);
+				if (c2 == '*') {
+					int j = s.indexOf("*/", i+2);
+					if (j == -1)
+						throw error(len, "Open ended comment.");
+					i = j + 2;
+				} else if (c2 == '/') {
+					int j = s.indexOf('\n', i+2);
+					i = (j == -1 ? len : j+1);
+				} else {
+					throw error(i+1, "Open ended comment.");
+				}
+			} else if (session.isWhitespace(c)) {
+				i++;
+			} else {
+				break;
+			}
+		}
+		return i;
+	}
+
+	/*
+	 * Adds the entries of the object starting at position i to the map.
+	 * Returns the position following the closing '}'.
+	 */
+	private int scanObject(int i, JsonLazyMap m) throws Exception {
+		i = skipCommentsAndSpace(i+1);
+		if (charAt(i) == '}')
+			return i+1;
+		while (true) {
+			int c = charAt(i);
+			if (c == -1)
+				throw error(i, "Could not find attribute name on JSON object.");
+			if (c == '}')
+				throw error(i, "Unexpected '}' found in JSON object.");
+
+			String key;
+			int e;
+			if (c == '"' || c == '\'') {
+				e = skipString(i);
+				key = getString(i, e);
+			} else {
+				if (isStrict)
+					throw error(i, "Unquoted attribute detected.");
+				e = i;
+				while (e < s.length() && (c = s.charAt(e)) != ':' && c != '/' && ! session.isWhitespace(c))
+					e++;
+				key = s.substring(i, e).intern();
+				if (key.equals("null"))
+					key = null;
+			}
+
+			i = skipCommentsAndSpace(e);
+			if (charAt(i) != ':')
+				throw error(i, "Could not find ':' following attribute name on JSON object.");
+			i = skipCommentsAndSpace(i+1);
+
+			c = charAt(i);
+			if (c == -1)
+				throw error(i, "Expected one of the following characters: {,[,',\",LITERAL.");
+			if (c == ',' || c == '}' || c == ']') {
+				if (isStrict)
+					throw error(i, "Missing value detected.");
+				m.put(key, null);
+			} else {
+				e = skipValue(i);
+				m.putLazy(key, i, e);
+				i = skipCommentsAndSpace(e);
+			}
+
+			c = charAt(i);
+			if (c == '}')
+				return i+1;
+			if (c != ',')
+				throw error(i, "Could not find '}' marking end of JSON object.");
+			i = skipCommentsAndSpace(i+1);
+		}
+	}
+
+	/*
+	 * Adds the elements of the array starting at position i to the list.
+	 * Returns the position following the closing ']'.
+	 */
+	private int scanArray(int i, ObjectList l) throws Exception {
+		i = skipCommentsAndSpace(i+1);
+		int c = charAt(i);
+		if (c == ']')
+			return i+1;
+		while (true) {
+			if (c == -1)
+				throw error(i, "Expected one of the following characters: {,[,',\",LITERAL.");
+			if (c == ',') {
+				if (isStrict)
+					throw error(i, "Missing value detected.");
+				l.add(null);
+			} else {
+				int e = skipValue(i);
+				l.add(decode(i, e));
+				i = skipCommentsAndSpace(e);
+			}
+
+			c = charAt(i);
+			if (c == ']')
+				return i+1;
+			if (c != ',')
+				throw error(i, "Expected ',' or ']'.");
+			i = skipCommentsAndSpace(i+1);
+			c = charAt(i);
+			if (c == ']')
+				throw error(i, "Unexpected trailing comma in array.");
+		}
+	}
+
+	/*
+	 * Returns the position following the value starting at position i.
+	 */
+	private int skipValue(int i) throws ParseException {
+		int len = s.length();
+		int c = charAt(i);
+		if (c == '{' || c == '[')
+			return skipContainer(i);
+		if (c == '"' || c == '\'') {
+			int e = skipString(i);
+			// Look for concatenated string (i.e. whitespace followed by +).
+			int j = skipCommentsAndSpace(e);
+			if (j < len && s.charAt(j) == '+') {
+				if (isStrict)
+					throw error(j, "String concatenation detected.");
+				return skipValue(skipCommentsAndSpace(j+1));
+			}
+			return e;
+		}
+		int e = i;
+		while (e < len && (c = s.charAt(e)) != ',' && c != '}' && c != ']' && ! session.isWhitespace(c))
+			e++;
+		return e;
+	}
+
+	/*
+	 * Returns the position following the object or array starting at position i.
+	 */
+	private int skipContainer(int i) throws ParseException {
+		int len = s.length(), depth = 0;
+		char prev = 0;
+		while (i < len) {
+			char c = s.charAt(i);
+			if (c == '{' || c == '[') {
+				if (depth == stack.length)
+					stack = Arrays.copyOf(stack, depth*2);
+				stack[depth++] = (c == '{' ? '}' : ']');
+				i++;
+			} else if (c == '}' || c == ']') {
+				if (c != stack[--depth])
+					throw error(i, "Unexpected ''{0}'' found.", c);
+				i++;
+				if (depth == 0)
+					return i;
+			} else if ((c == '"' || c == '\'') && isTokenStart(prev)) {
+				// Quotes inside unquoted lax strings (e.g. {foo:it's}) don't start a string.
+				i = skipString(i);
+			} else if (c == '/' || session.isWhitespace(c)) {
+				i = skipCommentsAndSpace(i);
+				continue;
+			} else {
+				i++;
+			}
+			prev = c;
+		}
+		char x = stack[depth-1];
+		throw error(len, "Could not find ''{0}'' marking end of JSON {1}.", x, x == '}' ? "object" : "array");
+	}
+
+	private static boolean isTokenStart(char prev) {
+		return prev == '{' || prev == '[' || prev == ',' || prev == ':' || prev == '+';
+	}
+
+	/*
+	 * Returns the position following the quoted string starting at position i.
+	 */
+	private int skipString(int i) throws ParseException {
+		char qc = s.charAt(i);
+		int len = s.length();
+		for (i++; i < len; i++) {
+			char c = s.charAt(i);
+			if (c == '\\')
+				i++;
+			else if (c == qc)
+				return i+1;
+		}
+		throw error(len, "Could not find expected end character ''{0}''.", qc);
+	}
+
+	/*
+	 * Returns the quoted string located between the specified positions.
+	 * Strings without escape sequences are returned as substrings of the input, everything else goes through the
+	 * session.
+	 */
+	private String getString(int start, int end) throws Exception {
+		if (s.charAt(start) == '"' || ! isStrict) {
+			boolean isPlain = true;
+			for (int i = start+1; i < end-1 && isPlain; i++) {
+				char c = s.charAt(i);
+				isPlain = c != '\\' && (c > 0x1F || ! isStrict);
+			}
+			if (isPlain) {
+				String x = s.substring(start+1, end-1);
+				return isTrimStrings ? x.trim() : x;
+			}
+		}
+		return session.parseString(getReader(start, end));
+	}
+
+	private ParserReader getReader(int start, int end) throws Exception {
+		return new ParserReader(session.createPipe(s.substring(start, end)));
+	}
+
+	private int charAt(int i) {
+		return i < s.length() ? s.charAt(i) : -1;
+	}
+
+	private ParseException error(int i, String msg, Object...args) {
+		int line = 1, column = 0;
+		for (int j = 0; j < i && j < s.length(); j++) {
+			if (s.charAt(j) == '\n') {
+				line++;
+				column = 0;
+			} else {
+				column++;
+			}
+		}
+		return new ParseException(session.getLastLocation().append("line", line).append("column", column+1), msg, args);
+	}
+}
@@ -160,4 +160,21 @@ public class JsonParser extends ReaderParser {
 	public ReaderParserSession createSession(ParserSessionArgs args) {
 		return new JsonParserSession(ctx, args);
 	}
+
+	/**
+	 * Creates a pull parser for reading the specified input one token at a time.
+	 *
+	 * <p>
+	 * Equivalent to calling <code>createSession().createPullParser(input)</code>.
+	 *
+	 * @param input
+	 * 	The input.
+	 * 	See {@link ParserSession#parse(Object, java.lang.reflect.Type, java.lang.reflect.Type...)} for supported
+	 * 	input types.
+	 * @return A new pull parser positioned before the first token of the input.
+	 * @throws ParseException If the input could not be opened.
+	 */
+	public JsonPullParser createPullParser(Object input) throws ParseException {
+		return ((JsonParserSession)createSession()).createPullParser(input);
+	}
 }
@@ -12,6 +12,8 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.json;
 
+import static org.apache.juneau.json.JsonParserContext.*;
+
 import java.util.*;
 
 import org.apache.juneau.*;
@@ -49,6 +51,42 @@ public class JsonParserBuilder extends ParserBuilder {
 	// Properties
 	//--------------------------------------------------------------------------------
 
+	/**
+	 * <b>Configuration property:</b> Lazily parse objects.
+	 *
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"JsonParser.lazy"</js>
+	 * 	<li><b>Data type:</b> <code>Boolean</code>
+	 * 	<li><b>Default:</b> <jk>false</jk>
+	 * 	<li><b>Session-overridable:</b> <jk>true</jk>
+	 * </ul>
+	 *
+	 * <p>
+	 * If <jk>true</jk>, input parsed into {@link ObjectMap}, {@link ObjectList}, or <code>Object</code> returns maps
+	 * that only decode their entries the first time they're retrieved.
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul>
+	 * 	<li>This is equivalent to calling <code>property(<jsf>JSON_lazy</jsf>, value)</code>.
+	 * </ul>
+	 *
+	 * @param value The new value for this property.
+	 * @return This object (for method chaining).
+	 * @see JsonParserContext#JSON_lazy
+	 */
+	public JsonParserBuilder lazy(boolean value) {
+		return property(JSON_lazy, value);
+	}
+
+	/**
+	 * Shortcut for calling <code>lazy(<jk>true</jk>)</code>.
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public JsonParserBuilder lazy() {
+		return lazy(true);
+	}
+
 	@Override /* ParserBuilder */
 	public JsonParserBuilder trimStrings(boolean value) {
 		super.trimStrings(value);
@@ -79,12 +117,30 @@ public class JsonParserBuilder extends ParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public JsonParserBuilder bufferSize(int value) {
+		super.bufferSize(value);
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public JsonParserBuilder listener(Class<? extends ParserListener> value) {
 		super.listener(value);
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public JsonParserBuilder projection(String...values) {
+		super.projection(values);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public JsonParserBuilder projection(Collection<String> values) {
+		super.projection(values);
+		return this;
+	}
+
 	@Override /* CoreObjectBuilder */
 	public JsonParserBuilder beansRequireDefaultConstructor(boolean value) {
 		super.beansRequireDefaultConstructor(value);
@@ -145,6 +201,12 @@ public class JsonParserBuilder extends ParserBuilder {
 		return this;
 	}
 
+	@Override /* CoreObjectBuilder */
+	public JsonParserBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
 	@Override /* CoreObjectBuilder */
 	public JsonParserBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
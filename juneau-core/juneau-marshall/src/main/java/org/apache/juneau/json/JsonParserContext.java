@@ -40,6 +40,40 @@ import org.apache.juneau.parser.*;
  */
 public final class JsonParserContext extends ParserContext {
 
+	/**
+	 * <b>Configuration property:</b> Lazily parse objects.
+	 *
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"JsonParser.lazy"</js>
+	 * 	<li><b>Data type:</b> <code>Boolean</code>
+	 * 	<li><b>Default:</b> <jk>false</jk>
+	 * 	<li><b>Session-overridable:</b> <jk>true</jk>
+	 * </ul>
+	 *
+	 * <p>
+	 * If <jk>true</jk>, input parsed into {@link ObjectMap}, {@link ObjectList}, or <code>Object</code> is only scanned
+	 * for the positions of the entries in JSON objects.
+	 * The returned maps decode each entry the first time it's retrieved, so that values that are never accessed
+	 * are never converted to maps, lists, strings, or numbers.
+	 *
+	 * <p>
+	 * Notes:
+	 * <ul>
+	 * 	<li>The entire input is kept in memory as a string for as long as any of the returned maps are in use.
+	 * 	<li>Iterating over the entries or values of a map decodes all the entries of that map (but not the entries
+	 * 		of the maps contained in it).
+	 * 	<li>Lists are decoded in full when they're first retrieved, except for the maps contained in them which are
+	 * 		also decoded lazily.
+	 * 	<li>Syntax errors in the structure of the input are reported by the parse method, but errors in individual
+	 * 		values are only reported when the value is first retrieved, as a {@link FormattedRuntimeException}.
+	 * 	<li>Returned maps are not thread safe.
+	 * </ul>
+	 */
+	public static final String JSON_lazy = "JsonParser.lazy";
+
+	final boolean
+		lazy;
+
 	/**
 	 * Constructor.
 	 *
@@ -50,12 +84,14 @@ public final class JsonParserContext extends ParserContext {
 	 */
 	public JsonParserContext(PropertyStore ps) {
 		super(ps);
+		this.lazy = ps.getProperty(JSON_lazy, boolean.class, false);
 	}
 
 	@Override /* Context */
 	public ObjectMap asMap() {
 		return super.asMap()
 			.append("JsonParserContext", new ObjectMap()
+				.append("lazy", lazy)
 		);
 	}
 }
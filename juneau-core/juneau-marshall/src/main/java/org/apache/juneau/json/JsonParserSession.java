@@ -13,6 +13,7 @@
 package org.apache.juneau.json;
 
 import static org.apache.juneau.internal.StringUtils.*;
+import static org.apache.juneau.json.JsonParserContext.*;
 
 import java.io.*;
 import java.lang.reflect.*;
@@ -35,6 +36,8 @@ public final class JsonParserSession extends ReaderParserSession {
 
 	private static final AsciiSet decChars = new AsciiSet("0123456789");
 
+	private final boolean lazy;
+
 	/**
 	 * Create a new session using properties specified in the context.
 	 *
@@ -46,6 +49,12 @@ public final class JsonParserSession extends ReaderParserSession {
 	 */
 	protected JsonParserSession(JsonParserContext ctx, ParserSessionArgs args) {
 		super(ctx, args);
+		ObjectMap p = getProperties();
+		if (p.isEmpty()) {
+			lazy = ctx.lazy;
+		} else {
+			lazy = p.getBoolean(JSON_lazy, ctx.lazy);
+		}
 	}
 
 	/**
@@ -81,6 +90,8 @@ public final class JsonParserSession extends ReaderParserSession {
 
 	@Override /* ParserSession */
 	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws Exception {
+		if (lazy && ! hasProjection() && (type.isObject() || type.getInnerClass() == ObjectMap.class || type.getInnerClass() == ObjectList.class))
+			return doParseLazy(pipe, type);
 		ParserReader r = pipe.getParserReader();
 		if (r == null)
 			return null;
@@ -89,6 +100,45 @@ public final class JsonParserSession extends ReaderParserSession {
 		return o;
 	}
 
+	/*
+	 * Parses the input into lazily-decoded maps if it's a JSON object or array.
+	 */
+	private <T> T doParseLazy(ParserPipe pipe, ClassMeta<T> type) throws Exception {
+		Reader r = pipe.getReader();
+		if (r == null)
+			return null;
+		if (r instanceof ParserReader && ! pipe.isString())
+			return parseAnything(type, (ParserReader)r, getOuter(), null);
+
+		String s = pipe.isString() ? pipe.getInputAsString() : IOUtils.read(r);
+		JsonLazyScanner p = new JsonLazyScanner(s, this, isStrict(), isTrimStrings());
+		int i = p.skipCommentsAndSpace(0);
+		int c = i < s.length() ? s.charAt(i) : -1;
+		Object o;
+		if (c == '{' && ! type.getInnerClass().equals(ObjectList.class)) {
+			o = p.parseObject(i);
+			if (type.isObject())
+				o = cast((ObjectMap)o, null, type);
+		}
+		else if (c == '[' && ! type.getInnerClass().equals(ObjectMap.class))
+			o = p.parseArray(i);
+		else {
+			ParserReader r2 = new ParserReader(createPipe(s));
+			T t = parseAnything(type, r2, getOuter(), null);
+			validateEnd(r2);
+			return t;
+		}
+		p.validateEnd(p.getPosition());
+		return (T)o;
+	}
+
+	/*
+	 * Converts a lazily-parsed map to a bean if it contains a bean type property.
+	 */
+	Object cast(ObjectMap m) {
+		return cast(m, null, object());
+	}
+
 	@Override /* ReaderParserSession */
 	protected <K,V> Map<K,V> doParseIntoMap(ParserPipe pipe, Map<K,V> m, Type keyType, Type valueType) throws Exception {
 		ParserReader r = pipe.getParserReader();
@@ -105,6 +155,36 @@ public final class JsonParserSession extends ReaderParserSession {
 		return c;
 	}
 
+	/**
+	 * Creates a pull parser for reading the specified input one token at a time.
+	 *
+	 * <p>
+	 * The returned parser must be closed when no longer needed.
+	 *
+	 * @param input
+	 * 	The input.
+	 * 	See {@link #parse(Object, Type, Type...)} for supported input types.
+	 * @return A new pull parser positioned before the first token of the input.
+	 * @throws ParseException If the input could not be opened.
+	 */
+	public JsonPullParser createPullParser(Object input) throws ParseException {
+		ParserPipe pipe = createPipe(input);
+		try {
+			return new JsonPullParser(this, pipe);
+		} catch (Exception e) {
+			pipe.close();
+			throw new ParseException(getLastLocation(), e);
+		}
+	}
+
+	/*
+	 * Parses the value starting at the current position of the reader.
+	 * Used by JsonPullParser to bind individual values in the input to POJOs.
+	 */
+	<T> T parseValue(ParserReader r, ClassMeta<T> type) throws Exception {
+		return parseAnything(type, r, getOuter(), null);
+	}
+
 	private <T> T parseAnything(ClassMeta<T> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws Exception {
 
 		if (eType == null)
@@ -214,11 +294,14 @@ public final class JsonParserSession extends ReaderParserSession {
 		return (T)o;
 	}
 
-	private Number parseNumber(ParserReader r, Class<? extends Number> type) throws Exception {
+	Number parseNumber(ParserReader r, Class<? extends Number> type) throws Exception {
 		int c = r.peek();
 		if (c == '\'' || c == '"')
 			return parseNumber(r, parseString(r), type);
-		return parseNumber(r, parseNumberString(r), type);
+		Number n = parseInteger(r, type);
+		if (n != null)
+			return n;
+		return parseNumber(r, r.getMarked(), type);
 	}
 
 	private Number parseNumber(ParserReader r, String s, Class<? extends Number> type) throws Exception {
@@ -310,11 +393,16 @@ public final class JsonParserSession extends ReaderParserSession {
 			} else if (state == S4) {
 				if (isCommentOrWhitespace(c)) {
 					skipCommentsAndSpace(r.unread());
+				} else if (isExcluded(currAttr)) {
+					skipValue(r.unread());
+					state = S5;
 				} else {
+					Projection pp = pushProjection(currAttr);
 					K key = convertAttrToType(m, currAttr, keyType);
 					V value = parseAnything(valueType, r.unread(), m, pMeta);
 					setName(valueType, value, key);
 					m.put(key, value);
+					popProjection(pp);
 					state = S5;
 				}
 			} else if (state == S5) {
@@ -358,10 +446,18 @@ public final class JsonParserSession extends ReaderParserSession {
 	 * Parse a JSON attribute from the character array at the specified position, then
 	 * set the position marker to the last character in the field name.
 	 */
-	private String parseFieldName(ParserReader r) throws Exception {
+	String parseFieldName(ParserReader r) throws Exception {
+		return parseFieldName(r, null);
+	}
+
+	/*
+	 * Same as parseFieldName(ParserReader), but returns the name from the specified index if it matches one of the
+	 * names in the index, so that no new string is created for known property names.
+	 */
+	private String parseFieldName(ParserReader r, NameIndex names) throws Exception {
 		int c = r.peek();
 		if (c == '\'' || c == '"')
-			return parseString(r);
+			return parseString(r, names);
 		if (isStrict())
 			throw new ParseException(loc(r), "Unquoted attribute detected.");
 		r.mark();
@@ -370,7 +466,7 @@ public final class JsonParserSession extends ReaderParserSession {
 			c = r.read();
 			if (c == ':' || isWhitespace(c) || c == '/') {
 				r.unread();
-				String s = r.getMarked().intern();
+				String s = names == null ? r.getMarked().intern() : r.getMarked(names, 0, 0);
 				return s.equals("null") ? null : s;
 			}
 		}
@@ -462,7 +558,7 @@ public final class JsonParserSession extends ReaderParserSession {
 					r.unread();
 					currAttrLine= r.getLine();
 					currAttrCol = r.getColumn();
-					currAttr = parseFieldName(r);
+					currAttr = parseFieldName(r, m.getMeta().getPropertyNameIndex());
 					state = S3;
 				}
 			} else if (state == S3) {
@@ -471,8 +567,12 @@ public final class JsonParserSession extends ReaderParserSession {
 			} else if (state == S4) {
 				if (isCommentOrWhitespace(c)) {
 					skipCommentsAndSpace(r.unread());
+				} else if (isExcluded(currAttr)) {
+					skipValue(r.unread());
+					state = S5;
 				} else {
 					if (! currAttr.equals(getBeanTypePropertyName(m.getClassMeta()))) {
+						Projection pp = pushProjection(currAttr);
 						BeanPropertyMeta pMeta = m.getPropertyMeta(currAttr);
 						setCurrentProperty(pMeta);
 						if (pMeta == null) {
@@ -485,6 +585,7 @@ public final class JsonParserSession extends ReaderParserSession {
 							pMeta.set(m, currAttr, value);
 						}
 						setCurrentProperty(null);
+						popProjection(pp);
 					}
 					state = S5;
 				}
@@ -518,7 +619,15 @@ public final class JsonParserSession extends ReaderParserSession {
 	 * If the string consists of a concatenation of strings (e.g. 'AAA' + "BBB"), this method
 	 * will automatically concatenate the strings and return the result.
 	 */
-	private String parseString(ParserReader r) throws Exception  {
+	String parseString(ParserReader r) throws Exception  {
+		return parseString(r, null);
+	}
+
+	/*
+	 * Same as parseString(ParserReader), but returns the string from the specified index if it matches one of the
+	 * names in the index.
+	 */
+	private String parseString(ParserReader r, NameIndex names) throws Exception  {
 		r.mark();
 		int qc = r.read();		// The quote character being used (" or ')
 		if (qc != '"' && isStrict()) {
@@ -568,7 +677,7 @@ public final class JsonParserSession extends ReaderParserSession {
 					r.delete();
 				} else if (isQuoted) {
 					if (c == qc) {
-						s = r.getMarked(1, -1);
+						s = names == null ? r.getMarked(1, -1) : r.getMarked(names, 1, -1);
 						break;
 					}
 				} else {
@@ -598,11 +707,61 @@ public final class JsonParserSession extends ReaderParserSession {
 		return trim(s); // End of input reached.
 	}
 
+	/*
+	 * Same as parseString(), but moves past the string without materializing it.
+	 * Escape sequences are skipped over but not decoded.
+	 */
+	void skipString(ParserReader r) throws Exception  {
+		int qc = r.read();		// The quote character being used (" or ')
+		if (qc != '"' && isStrict()) {
+			String msg = (
+				qc == '\''
+				? "Invalid quote character \"{0}\" being used."
+				: "Did not find quote character marking beginning of string.  Character=\"{0}\""
+			);
+			throw new ParseException(loc(r), msg, (char)qc);
+		}
+		final boolean isQuoted = (qc == '\'' || qc == '"');
+		boolean isInEscape = false;
+		int c = 0;
+		while (true) {
+			c = r.read();
+			if (c == -1) {
+				if (isQuoted)
+					throw new ParseException(loc(r), "Could not find expected end character ''{0}''.", (char)qc);
+				break;
+			}
+			if (isStrict() && c <= 0x1F)
+				throw new ParseException("Unescaped control character encountered: ''0x{0}''", String.format("%04X", c));
+			if (isInEscape) {
+				isInEscape = false;
+			} else if (c == '\\') {
+				isInEscape = true;
+			} else if (isQuoted) {
+				if (c == qc)
+					break;
+			} else if (c == ',' || c == '}' || c == ']' || isWhitespace(c)) {
+				r.unread();
+				break;
+			}
+		}
+
+		// Look for concatenated string (i.e. whitespace followed by +).
+		skipCommentsAndSpace(r);
+		if (r.peek() == '+') {
+			if (isStrict())
+				throw new ParseException(loc(r), "String concatenation detected.");
+			r.read();	// Skip past '+'
+			skipCommentsAndSpace(r);
+			skipString(r);
+		}
+	}
+
 	/*
 	 * Looks for the keywords true, false, or null.
 	 * Throws an exception if any of these keywords are not found at the specified position.
 	 */
-	private void parseKeyword(String keyword, ParserReader r) throws Exception {
+	void parseKeyword(String keyword, ParserReader r) throws Exception {
 		try {
 			String s = r.read(keyword.length());
 			if (s.equals(keyword))
@@ -619,7 +778,7 @@ public final class JsonParserSession extends ReaderParserSession {
 	 * the comments and whitespace.  Otherwise, the cursor will be set to the last position of
 	 * the comments and whitespace.
 	 */
-	private void skipCommentsAndSpace(ParserReader r) throws Exception {
+	void skipCommentsAndSpace(ParserReader r) throws Exception {
 		int c = 0;
 		while ((c = r.read()) != -1) {
 			if (! isWhitespace(c)) {
@@ -635,6 +794,49 @@ public final class JsonParserSession extends ReaderParserSession {
 		}
 	}
 
+	/*
+	 * Doesn't actually parse anything, but moves the position beyond the value starting at the current position.
+	 * Used for skipping over values excluded by the projection.
+	 * Only the nesting of objects and arrays is validated.
+	 */
+	private void skipValue(ParserReader r) throws Exception {
+		int depth = 0, prev = ':';
+		int c = 0;
+		while ((c = r.read()) != -1) {
+			if (c == '{' || c == '[') {
+				depth++;
+			} else if (c == '}' || c == ']') {
+				if (depth == 0) {
+					r.unread();
+					return;
+				}
+				if (--depth == 0)
+					return;
+			} else if ((c == '"' || c == '\'') && (prev == '{' || prev == '[' || prev == ',' || prev == ':' || prev == '+')) {
+				// Quotes inside unquoted lax strings (e.g. {foo:it's}) don't start a string.
+				int qc = c;
+				while ((c = r.read()) != qc) {
+					if (c == -1)
+						throw new ParseException(loc(r), "Could not find expected end character ''{0}''.", (char)qc);
+					if (c == '\\')
+						r.read();
+				}
+			} else if (c == ',' && depth == 0) {
+				r.unread();
+				return;
+			} else if (isCommentOrWhitespace(c)) {
+				skipCommentsAndSpace(r.unread());
+				// Look for concatenated string (i.e. whitespace followed by +).
+				if (depth == 0 && prev != '+' && r.peek() != '+')
+					return;
+				continue;
+			}
+			prev = c;
+		}
+		if (depth > 0)
+			throw new ParseException(loc(r), "Could not find end of JSON object or array.");
+	}
+
 	/*
 	 * Doesn't actually parse anything, but moves the position beyond the construct "{wrapperAttr:" when
 	 * the @Json.wrapperAttr() annotation is used on a class.
@@ -734,14 +936,14 @@ public final class JsonParserSession extends ReaderParserSession {
 	 * Call this method after you've finished a parsing a string to make sure that if there's any
 	 * remainder in the input, that it consists only of whitespace and comments.
 	 */
-	private void validateEnd(ParserReader r) throws Exception {
+	void validateEnd(ParserReader r) throws Exception {
 		skipCommentsAndSpace(r);
 		int c = r.read();
 		if (c != -1 && c != ';')  // var x = {...}; expressions can end with a semicolon.
 			throw new ParseException(loc(r), "Remainder after parse: ''{0}''.", (char)c);
 	}
 
-	private ObjectMap loc(ParserReader r) {
+	ObjectMap loc(ParserReader r) {
 		return getLastLocation().append("line", r.getLine()).append("column", r.getColumn());
 	}
 }
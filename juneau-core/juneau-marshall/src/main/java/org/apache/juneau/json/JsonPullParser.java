@@ -0,0 +1,420 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.io.*;
+import java.lang.reflect.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * Token-level pull parser for JSON input.
+ *
+ * <p>
+ * Reads JSON one token at a time instead of materializing the entire input as a POJO.
+ * Individual values (including whole objects and arrays) can still be converted to POJOs at any point using
+ * {@link #readValue(Type, Type...)}, which makes it possible to stream through very large arrays while binding each
+ * element to a bean.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	JsonPullParser p = JsonParser.<jsf>DEFAULT</jsf>.createPullParser(reader);
+ * 	<jk>try</jk> {
+ * 		p.nextToken();  <jc>// START_ARRAY</jc>
+ * 		<jk>while</jk> (p.nextToken() != Token.<jsf>END_ARRAY</jsf>) {
+ * 			MyBean b = p.readValue(MyBean.<jk>class</jk>);
+ * 			process(b);
+ * 		}
+ * 	} <jk>finally</jk> {
+ * 		p.close();
+ * 	}
+ * </p>
+ *
+ * <p>
+ * Obtained through {@link JsonParser#createPullParser(Object)} or {@link JsonParserSession#createPullParser(Object)}.
+ * Uses the same syntax rules (e.g. strict mode, comments, unquoted attribute names) as the session it was created from.
+ *
+ * <p>
+ * This class is NOT thread safe.
+ */
+public final class JsonPullParser implements Closeable {
+
+	/**
+	 * The tokens returned by {@link JsonPullParser#nextToken()}.
+	 */
+	public static enum Token {
+
+		/** Start of a JSON object (<js>'{'</js>). */
+		START_OBJECT,
+
+		/** End of a JSON object (<js>'}'</js>). */
+		END_OBJECT,
+
+		/** Start of a JSON array (<js>'['</js>). */
+		START_ARRAY,
+
+		/** End of a JSON array (<js>']'</js>). */
+		END_ARRAY,
+
+		/** An attribute name on a JSON object.  The name is available through {@link JsonPullParser#getString()}. */
+		FIELD_NAME,
+
+		/** A string value.  The value is available through {@link JsonPullParser#getString()}. */
+		STRING,
+
+		/** A number value.  The value is available through {@link JsonPullParser#getNumber()}. */
+		NUMBER,
+
+		/** The keyword <js>true</js>. */
+		TRUE,
+
+		/** The keyword <js>false</js>. */
+		FALSE,
+
+		/** The keyword <js>null</js>. */
+		NULL
+	}
+
+	// Parsing states for each nesting level.
+	private static final int
+		S_VALUE = 0,       // Looking for a value (root or array) or an attribute name (object).
+		S_FIRST = 1,       // Looking for the first array value or attribute name, or the end of the array or object.
+		S_COLON = 2,       // Found an attribute name, looking for ':' followed by a value.
+		S_NEXT = 3,        // Found a value, looking for ',' or the end of the array or object.
+		S_DONE = 4;        // Found the root value.
+
+	private final JsonParserSession session;
+	private final ParserPipe pipe;
+	private final ParserReader r;
+
+	private boolean[] isObject = new boolean[16];
+	private int[] states = new int[16];
+	private int depth;
+
+	private Token token;
+	private String string;
+	private Number number;
+	private boolean pending;  // The value of the current STRING token has not been read from the input yet.
+
+	JsonPullParser(JsonParserSession session, ParserPipe pipe) throws Exception {
+		this.session = session;
+		this.pipe = pipe;
+		this.r = pipe.getParserReader();
+		states[0] = r == null ? S_DONE : S_VALUE;
+	}
+
+	/**
+	 * Reads the next token from the input.
+	 *
+	 * @return The next token, or <jk>null</jk> if the end of the input has been reached.
+	 * @throws ParseException If the input is malformed.
+	 */
+	public Token nextToken() throws ParseException {
+		try {
+			if (pending) {
+				pending = false;
+				session.skipString(r);
+			}
+			string = null;
+			number = null;
+			token = readToken();
+			return token;
+		} catch (Exception e) {
+			throw wrap(e);
+		}
+	}
+
+	/**
+	 * Returns the token last returned by {@link #nextToken()}.
+	 *
+	 * @return The current token, or <jk>null</jk> if no tokens have been read yet or the end of the input was reached.
+	 */
+	public Token getCurrentToken() {
+		return token;
+	}
+
+	/**
+	 * Returns the current nesting level.
+	 *
+	 * <p>
+	 * The level is <code>0</code> at the root, and is incremented by {@link Token#START_OBJECT} and
+	 * {@link Token#START_ARRAY} tokens.
+	 *
+	 * @return The current nesting level.
+	 */
+	public int getDepth() {
+		return depth;
+	}
+
+	/**
+	 * Returns the value of the current {@link Token#STRING} or {@link Token#FIELD_NAME} token.
+	 *
+	 * <p>
+	 * String values are only decoded when this method is called.
+	 * Strings that are never asked for are skipped over without being converted to <code>String</code> objects.
+	 *
+	 * @return The string value.
+	 * @throws ParseException If the current token is not a string or attribute name.
+	 */
+	public String getString() throws ParseException {
+		if (token != Token.STRING && token != Token.FIELD_NAME)
+			throw new ParseException(loc(), "Current token ''{0}'' is not a string or attribute name.", token);
+		if (pending) {
+			try {
+				string = session.parseString(r);
+				pending = false;
+			} catch (Exception e) {
+				throw wrap(e);
+			}
+		}
+		return string;
+	}
+
+	/**
+	 * Returns the value of the current {@link Token#NUMBER} token.
+	 *
+	 * @return The number value.
+	 * @throws ParseException If the current token is not a number.
+	 */
+	public Number getNumber() throws ParseException {
+		if (token != Token.NUMBER)
+			throw new ParseException(loc(), "Current token ''{0}'' is not a number.", token);
+		return number;
+	}
+
+	/**
+	 * Returns the value of the current {@link Token#TRUE} or {@link Token#FALSE} token.
+	 *
+	 * @return The boolean value.
+	 * @throws ParseException If the current token is not a boolean.
+	 */
+	public boolean getBoolean() throws ParseException {
+		if (token != Token.TRUE && token != Token.FALSE)
+			throw new ParseException(loc(), "Current token ''{0}'' is not a boolean.", token);
+		return token == Token.TRUE;
+	}
+
+	/**
+	 * Skips over the contents of the current object or array.
+	 *
+	 * <p>
+	 * If the current token is {@link Token#START_OBJECT} or {@link Token#START_ARRAY}, advances to the matching
+	 * {@link Token#END_OBJECT} or {@link Token#END_ARRAY} token.
+	 * Otherwise, does nothing.
+	 *
+	 * @return This object (for method chaining).
+	 * @throws ParseException If the input is malformed.
+	 */
+	public JsonPullParser skipChildren() throws ParseException {
+		if (token == Token.START_OBJECT || token == Token.START_ARRAY) {
+			int d = depth;
+			while (depth >= d)
+				if (nextToken() == null)
+					throw new ParseException(loc(), "Unexpected end of input.");
+		}
+		return this;
+	}
+
+	/**
+	 * Converts the current value into a POJO.
+	 *
+	 * <p>
+	 * If the current token is {@link Token#START_OBJECT} or {@link Token#START_ARRAY}, the entire object or array is
+	 * parsed using the same rules as {@link JsonParser} and the current token becomes the matching
+	 * {@link Token#END_OBJECT} or {@link Token#END_ARRAY}.
+	 * If the current token is {@link Token#FIELD_NAME} or no tokens have been read yet, the next value is read first.
+	 * Scalar values are converted using {@link BeanSession#convertToType(Object, ClassMeta)}.
+	 *
+	 * @param <T> The class type of the object to create.
+	 * @param type
+	 * 	The object type to create.
+	 * 	<br>See {@link ParserSession#parse(Object, Type, Type...)} for argument syntax.
+	 * @param args
+	 * 	The type arguments of the class if it's a collection or map.
+	 * @return The parsed object.
+	 * @throws ParseException
+	 * 	If the input contains a syntax error or is malformed, or is not valid for the specified type.
+	 */
+	public <T> T readValue(Type type, Type...args) throws ParseException {
+		return readValue(session.<T>getClassMeta(type, args));
+	}
+
+	/**
+	 * Same as {@link #readValue(Type, Type...)} except optimized for a non-parameterized class.
+	 *
+	 * @param <T> The class type of the object to create.
+	 * @param type The object type to create.
+	 * @return The parsed object.
+	 * @throws ParseException
+	 * 	If the input contains a syntax error or is malformed, or is not valid for the specified type.
+	 */
+	public <T> T readValue(Class<T> type) throws ParseException {
+		return readValue(session.getClassMeta(type));
+	}
+
+	private <T> T readValue(ClassMeta<T> type) throws ParseException {
+		if (token == null || token == Token.FIELD_NAME)
+			if (nextToken() == null)
+				throw new ParseException(loc(), "Unexpected end of input.");
+		try {
+			switch (token) {
+				case START_OBJECT:
+				case START_ARRAY: {
+					// Hand the object or array over to the session, starting from the opening bracket.
+					r.unread();
+					depth--;
+					T o = session.parseValue(r, type);
+					token = (token == Token.START_OBJECT ? Token.END_OBJECT : Token.END_ARRAY);
+					return o;
+				}
+				case STRING: return session.convertToType(getString(), type);
+				case NUMBER: return session.convertToType(number, type);
+				case TRUE: return session.convertToType(Boolean.TRUE, type);
+				case FALSE: return session.convertToType(Boolean.FALSE, type);
+				case NULL: return session.convertToType(null, type);
+				default:
+					throw new ParseException(loc(), "Current token ''{0}'' is not a value.", token);
+			}
+		} catch (Exception e) {
+			throw wrap(e);
+		}
+	}
+
+	/**
+	 * Closes the underlying input.
+	 */
+	@Override /* Closeable */
+	public void close() {
+		pipe.close();
+	}
+
+	private Token readToken() throws Exception {
+		int state = states[depth];
+		if (state == S_DONE) {
+			if (r != null)
+				session.validateEnd(r);
+			return null;
+		}
+
+		session.skipCommentsAndSpace(r);
+		int c = r.read();
+
+		if (isObject[depth]) {
+			if (state == S_FIRST && c == '}')
+				return pop(Token.END_OBJECT);
+			if (state == S_NEXT) {
+				if (c == '}')
+					return pop(Token.END_OBJECT);
+				if (c != ',')
+					throw new ParseException(loc(), "Could not find '}' marking end of JSON object.");
+				session.skipCommentsAndSpace(r);
+				c = r.read();
+			}
+			if (state == S_COLON) {
+				if (c != ':')
+					throw new ParseException(loc(), "Could not find ':' following attribute name on JSON object.");
+				session.skipCommentsAndSpace(r);
+				return readValue(r.read());
+			}
+			if (c == -1 || c == '}')
+				throw new ParseException(loc(), "Could not find attribute name on JSON object.");
+			string = session.parseFieldName(r.unread());
+			states[depth] = S_COLON;
+			return Token.FIELD_NAME;
+		}
+
+		if (depth > 0) {
+			if (state == S_FIRST && c == ']')
+				return pop(Token.END_ARRAY);
+			if (state == S_NEXT) {
+				if (c == ']')
+					return pop(Token.END_ARRAY);
+				if (c != ',')
+					throw new ParseException(loc(), "Expected ',' or ']'.");
+				session.skipCommentsAndSpace(r);
+				c = r.read();
+			}
+		}
+		return readValue(c);
+	}
+
+	/*
+	 * Reads the value starting at the specified character that was just read from the input.
+	 */
+	private Token readValue(int c) throws Exception {
+		states[depth] = (depth == 0 ? S_DONE : S_NEXT);
+		if (c == '{')
+			return push(true, Token.START_OBJECT);
+		if (c == '[')
+			return push(false, Token.START_ARRAY);
+		if (c == -1)
+			throw new ParseException(loc(), "Unexpected end of input.");
+		r.unread();
+		if (c == '\'' || c == '"') {
+			pending = true;
+			return Token.STRING;
+		}
+		if (c >= '0' && c <= '9' || c == '-' || c == '.') {
+			number = session.parseNumber(r, null);
+			return Token.NUMBER;
+		}
+		if (c == 't') {
+			session.parseKeyword("true", r);
+			return Token.TRUE;
+		}
+		if (c == 'f') {
+			session.parseKeyword("false", r);
+			return Token.FALSE;
+		}
+		if (c == 'n') {
+			session.parseKeyword("null", r);
+			return Token.NULL;
+		}
+		if (c == ',' || c == '}' || c == ']' || c == ':')
+			throw new ParseException(loc(), "Unrecognized syntax, starting character ''{0}''", (char)c);
+		pending = true;
+		return Token.STRING;
+	}
+
+	private Token push(boolean object, Token t) {
+		depth++;
+		if (depth == states.length) {
+			states = Arrays.copyOf(states, depth << 1);
+			isObject = Arrays.copyOf(isObject, depth << 1);
+		}
+		isObject[depth] = object;
+		states[depth] = S_FIRST;
+		return t;
+	}
+
+	private Token pop(Token t) {
+		depth--;
+		return t;
+	}
+
+	private ObjectMap loc() {
+		return r == null ? session.getLastLocation() : session.loc(r);
+	}
+
+	private ParseException wrap(Exception e) {
+		if (e instanceof ParseException)
+			return (ParseException)e;
+		if (e instanceof IOException)
+			return new ParseException(loc(), "I/O exception occurred.  exception={0}, message={1}.",
+				e.getClass().getSimpleName(), e.getLocalizedMessage()).initCause(e);
+		return new ParseException(loc(), "Exception occurred.  exception={0}, message={1}.",
+			e.getClass().getSimpleName(), e.getLocalizedMessage()).initCause(e);
+	}
+}
@@ -118,7 +118,9 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		// '\0' characters are considered null.
 		if (o == null || (sType.isChar() && ((Character)o).charValue() == 0))
 			out.append("null");
-		else if (sType.isNumber() || sType.isBoolean())
+		else if (sType.isNumber())
+			out.appendNumber((Number)o);
+		else if (sType.isBoolean())
 			out.append(o);
 		else if (sType.isBean())
 			serializeBeanMap(out, toBeanMap(o), typeName);
@@ -203,7 +205,10 @@ public class JsonSerializerSession extends WriterSerializerSession {
 			if (addComma)
 				out.append(',').smi(i);
 
-			out.cr(i).attr(key).append(':').s(i);
+			if (key.equals(pMeta.getName()))
+				out.cr(i).attr(pMeta).s(i);
+			else
+				out.cr(i).attr(key).append(':').s(i);
 
 			serializeAnything(out, value, cMeta, key, pMeta);
 
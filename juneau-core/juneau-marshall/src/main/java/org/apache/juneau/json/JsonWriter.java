@@ -53,6 +53,13 @@ public final class JsonWriter extends SerializerWriter {
 
 	private final AsciiSet ec;
 
+	// Number of distinct combinations of settings that affect how attribute names are encoded.
+	static final int ATTR_NAME_KEYS = 16;
+
+	// Index of the settings of this writer used for looking up cached encoded attribute names, or -1 if names
+	// should not be cached (i.e. a custom quote character is used).
+	private final int attrNameKey;
+
 	/**
 	 * Constructor.
 	 *
@@ -71,6 +78,10 @@ public final class JsonWriter extends SerializerWriter {
 		this.laxMode = laxMode;
 		this.escapeSolidus = escapeSolidus;
 		this.ec = escapeSolidus ? encodedChars2 : encodedChars;
+		if (quoteChar == '"' || quoteChar == '\'')
+			this.attrNameKey = (quoteChar == '"' ? 1 : 0) | (laxMode ? 2 : 0) | (trimStrings ? 4 : 0) | (escapeSolidus ? 8 : 0);
+		else
+			this.attrNameKey = -1;
 	}
 
 	/**
@@ -168,6 +179,35 @@ public final class JsonWriter extends SerializerWriter {
 		return this;
 	}
 
+	/**
+	 * Serializes the name of the specified bean property as a JSON attribute name followed by <js>':'</js>.
+	 *
+	 * <p>
+	 * The encoded name is computed once per property and combination of writer settings, and then reused.
+	 *
+	 * @param pMeta The bean property whose name is being serialized.
+	 * @return This object (for method chaining).
+	 * @throws IOException Should never happen.
+	 */
+	public JsonWriter attr(BeanPropertyMeta pMeta) throws IOException {
+		if (attrNameKey == -1) {
+			attr(pMeta.getName());
+			out.append(':');
+		} else {
+			out.append(pMeta.getExtendedMeta(JsonBeanPropertyMeta.class).getAttrName(this, attrNameKey));
+		}
+		return this;
+	}
+
+	/**
+	 * Returns the specified string encoded as a JSON attribute name using the settings of this writer.
+	 */
+	String encodeAttr(String s) throws IOException {
+		StringBuilderWriter sw = new StringBuilderWriter();
+		new JsonWriter(sw, false, 0, escapeSolidus, quoteChar, laxMode, trimStrings, uriResolver).attr(s);
+		return sw.toString();
+	}
+
 	/**
 	 * Appends a URI to the output.
 	 *
@@ -281,6 +321,24 @@ public final class JsonWriter extends SerializerWriter {
 		return this;
 	}
 
+	@Override /* SerializerWriter */
+	public JsonWriter appendNumber(Number n) throws IOException {
+		super.appendNumber(n);
+		return this;
+	}
+
+	@Override /* SerializerWriter */
+	public JsonWriter appendLong(long l) throws IOException {
+		super.appendLong(l);
+		return this;
+	}
+
+	@Override /* SerializerWriter */
+	public JsonWriter appendDouble(double d) throws IOException {
+		super.appendDouble(d);
+		return this;
+	}
+
 	@Override /* SerializerWriter */
 	public JsonWriter appendIf(boolean b, String text) throws IOException {
 		super.appendIf(b, text);
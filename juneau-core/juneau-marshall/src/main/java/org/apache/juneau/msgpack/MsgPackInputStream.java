@@ -16,12 +16,19 @@ import static org.apache.juneau.msgpack.DataType.*;
 import static org.apache.juneau.internal.IOUtils.*;
 
 import java.io.*;
+import java.nio.*;
 
 import org.apache.juneau.parser.*;
 
 /**
  * Specialized input stream for parsing MessagePack streams.
  *
+ * <p>
+ * Input is read from the underlying stream in blocks into an internal buffer (sized by
+ * {@link ParserPipe#getBufferSize()}), and multi-byte values are decoded directly from the buffer.
+ * If the input is available as a {@link ByteBuffer} backed by an array (see {@link ParserPipe#getByteBuffer()}),
+ * values are decoded directly from that array instead.
+ *
  * <h5 class='section'>Notes:</h5>
  * <ul>
  * 	<li>This class is not intended for external use.
@@ -35,6 +42,8 @@ public final class MsgPackInputStream extends InputStream {
 	private long length;
 	private int lastByte;
 	private int extType;
+	private final byte[] buff;
+	private int bpos, blen;  // Position and end of the unread bytes in the buffer.
 	int pos = 0;
 
 	// Data type quick-lookup table.
@@ -65,15 +74,54 @@ public final class MsgPackInputStream extends InputStream {
 	 */
 	protected MsgPackInputStream(ParserPipe pipe) throws Exception {
 		this.pipe = pipe;
-		this.is = pipe.getInputStream();
+		ByteBuffer bb = pipe.getByteBuffer();
+		if (bb != null && bb.hasArray()) {
+			this.is = null;
+			this.buff = bb.array();
+			this.bpos = bb.arrayOffset() + bb.position();
+			this.blen = bb.arrayOffset() + bb.limit();
+		} else {
+			this.is = pipe.getInputStream();
+			this.buff = new byte[Math.max(pipe.getBufferSize(), 16)];
+		}
 	}
 
 	@Override /* InputStream */
 	public int read() throws IOException {
-		int i = is.read();
-		if (i > 0)
-			pos++;
-		return i;
+		if (bpos == blen && ! fill(1))
+			return -1;
+		pos++;
+		return buff[bpos++] & 0xFF;
+	}
+
+	/**
+	 * Makes sure there are at least the specified number of unread bytes in the buffer.
+	 */
+	private void require(int n) throws IOException {
+		if (blen - bpos < n && ! fill(n))
+			throw new IOException("Unexpected end of file found at position " + pos);
+	}
+
+	/*
+	 * Moves any unread bytes to the start of the buffer and reads from the underlying stream until the buffer
+	 * contains at least the specified number of unread bytes.
+	 * Returns false if the end of the stream was reached first.
+	 */
+	private boolean fill(int n) throws IOException {
+		if (is == null)
+			return false;
+		if (bpos > 0) {
+			System.arraycopy(buff, bpos, buff, 0, blen - bpos);
+			blen -= bpos;
+			bpos = 0;
+		}
+		while (blen < n) {
+			int i = is.read(buff, blen, buff.length - blen);
+			if (i == -1)
+				return false;
+			blen += i;
+		}
+		return true;
 	}
 
 	/**
@@ -340,7 +388,7 @@ public final class MsgPackInputStream extends InputStream {
 						length = readUInt2();
 				else if (i == EXT32)
 					length = readUInt4();
-				extType = is.read();
+				extType = read();
 
 				break;
 			}
@@ -404,6 +452,15 @@ public final class MsgPackInputStream extends InputStream {
 	 * Read a string from the stream.
 	 */
 	String readString() throws IOException {
+		int n = (int)length;
+		if (n <= buff.length) {
+			// Decode directly from the buffer.
+			require(n);
+			String s = new String(buff, bpos, n, UTF8);
+			bpos += n;
+			pos += n;
+			return s;
+		}
 		return new String(readBinary(), UTF8);
 	}
 
@@ -411,8 +468,18 @@ public final class MsgPackInputStream extends InputStream {
 	 * Read a binary field from the stream.
 	 */
 	byte[] readBinary() throws IOException {
-		byte[] b = new byte[(int)length];
-		is.read(b);
+		int n = (int)length;
+		byte[] b = new byte[n];
+		int off = Math.min(n, blen - bpos);
+		System.arraycopy(buff, bpos, b, 0, off);
+		bpos += off;
+		while (off < n) {
+			int i = (is == null ? -1 : is.read(b, off, n - off));
+			if (i == -1)
+				throw new IOException("Unexpected end of file found at position " + (pos + off));
+			off += i;
+		}
+		pos += n;
 		return b;
 	}
 
@@ -423,11 +490,10 @@ public final class MsgPackInputStream extends InputStream {
 		if (length == 0)
 			return lastByte;
 		if (length == 1)
-			return is.read();
+			return readUInt1();
 		if (length == 2)
-			return (is.read() << 8) | is.read();
-		int i = is.read(); i <<= 8; i |= is.read(); i <<= 8; i |= is.read(); i <<= 8; i |= is.read();
-		return i;
+			return readUInt2();
+		return (int)readUInt4();
 	}
 
 	/**
@@ -450,10 +516,52 @@ public final class MsgPackInputStream extends InputStream {
 	long readLong() throws IOException {
 		if (length == 4)
 			return readUInt4();
-		long l = is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read();
+		require(8);
+		byte[] b = buff;
+		int p = bpos;
+		long l = 0;
+		for (int i = 0; i < 8; i++)
+			l = (l << 8) | (b[p+i] & 0xFF);
+		bpos += 8;
+		pos += 8;
 		return l;
 	}
 
+	/**
+	 * Skips over the next value in the stream without decoding it.
+	 *
+	 * <p>
+	 * The entries of arrays and maps are skipped over as well.
+	 */
+	void skipValue() throws IOException {
+		DataType dt = readDataType();
+		long n = length;
+		if (dt == ARRAY) {
+			for (long i = 0; i < n; i++)
+				skipValue();
+		} else if (dt == MAP) {
+			for (long i = 0; i < n*2; i++)
+				skipValue();
+		} else if (dt != NULL && dt != BOOLEAN && n > 0) {
+			long x = Math.min(n, blen - bpos);
+			bpos += x;
+			pos += x;
+			n -= x;
+			while (n > 0) {
+				if (is == null)
+					throw new IOException("Unexpected end of file found at position " + pos);
+				x = is.skip(n);
+				if (x <= 0) {
+					if (is.read() == -1)
+						throw new IOException("Unexpected end of file found at position " + pos);
+					x = 1;
+				}
+				n -= x;
+				pos += x;
+			}
+		}
+	}
+
 	/**
 	 * Return the extended-format type.
 	 * Currently not used.
@@ -466,22 +574,33 @@ public final class MsgPackInputStream extends InputStream {
 	 * Read one byte from the stream.
 	 */
 	private int readUInt1() throws IOException {
-		return is.read();
+		require(1);
+		pos++;
+		return buff[bpos++] & 0xFF;
 	}
 
 	/**
 	 * Read two bytes from the stream.
 	 */
 	private int readUInt2() throws IOException {
-		return (is.read() << 8) | is.read();
+		require(2);
+		byte[] b = buff;
+		int p = bpos;
+		bpos += 2;
+		pos += 2;
+		return ((b[p] & 0xFF) << 8) | (b[p+1] & 0xFF);
 	}
 
 	/**
 	 * Read four bytes from the stream.
 	 */
 	private long readUInt4() throws IOException {
-		long l = is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read();
-		return l;
+		require(4);
+		byte[] b = buff;
+		int p = bpos;
+		bpos += 4;
+		pos += 4;
+		return ((long)(b[p] & 0xFF) << 24) | ((b[p+1] & 0xFF) << 16) | ((b[p+2] & 0xFF) << 8) | (b[p+3] & 0xFF);
 	}
 
 	/**
@@ -21,6 +21,11 @@ import java.util.concurrent.atomic.*;
 /**
  * Specialized output stream for serializing MessagePack streams.
  *
+ * <p>
+ * Output is collected in an internal buffer and written to the underlying stream in blocks, so that the underlying
+ * stream doesn't need to be buffered.
+ * The buffer is written out by {@link #flush()}.
+ *
  * <h5 class='section'>Notes:</h5>
  * <ul>
  * 	<li>This class is not intended for external use.
@@ -28,7 +33,14 @@ import java.util.concurrent.atomic.*;
  */
 public final class MsgPackOutputStream extends OutputStream {
 
+	private static final int BUFFER_SIZE = 8192;
+
+	// Reused buffers, one per thread.
+	private static final ThreadLocal<byte[]> BUFFER_POOL = new ThreadLocal<byte[]>();
+
 	private final OutputStream os;
+	private byte[] buff;
+	private int count;
 
 	/**
 	 * Constructor.
@@ -41,22 +53,55 @@ public final class MsgPackOutputStream extends OutputStream {
 
 	@Override /* OutputStream */
 	public void write(int b) throws IOException {
-		os.write(b);
+		append1(b);
+	}
+
+	@Override /* OutputStream */
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (len > BUFFER_SIZE) {
+			flushBuffer();
+			os.write(b, off, len);
+		} else {
+			ensureCapacity(len);
+			System.arraycopy(b, off, buff, count, len);
+			count += len;
+		}
+	}
+
+	/**
+	 * Writes out the buffered bytes, returns the buffer to the pool, and flushes the underlying stream.
+	 *
+	 * <p>
+	 * The stream can still be used afterwards, in which case a new buffer is obtained.
+	 */
+	@Override /* OutputStream */
+	public void flush() throws IOException {
+		if (buff != null) {
+			flushBuffer();
+			BUFFER_POOL.set(buff);
+			buff = null;
+		}
+		os.flush();
+	}
+
+	@Override /* OutputStream */
+	public void close() throws IOException {
+		flush();
+		os.close();
 	}
 
 	/**
 	 * Same as {@link #write(int)}.
 	 */
 	final MsgPackOutputStream append(byte b) throws IOException {
-		os.write(b);
-		return this;
+		return append1(b);
 	}
 
 	/**
 	 * Same as {@link #write(byte[])}.
 	 */
 	final MsgPackOutputStream append(byte[] b) throws IOException {
-		os.write(b);
+		write(b, 0, b.length);
 		return this;
 	}
 
@@ -64,7 +109,8 @@ public final class MsgPackOutputStream extends OutputStream {
 	 * Appends one byte to the stream.
 	 */
 	final MsgPackOutputStream append1(int i) throws IOException {
-		os.write(i);
+		ensureCapacity(1);
+		buff[count++] = (byte)i;
 		return this;
 	}
 
@@ -72,21 +118,65 @@ public final class MsgPackOutputStream extends OutputStream {
 	 * Appends two bytes to the stream.
 	 */
 	final MsgPackOutputStream append2(int i) throws IOException {
-		return append1(i>>8).append1(i);
+		ensureCapacity(2);
+		byte[] b = buff;
+		int c = count;
+		b[c] = (byte)(i>>8);
+		b[c+1] = (byte)i;
+		count = c+2;
+		return this;
 	}
 
 	/**
 	 * Appends four bytes to the stream.
 	 */
 	final MsgPackOutputStream append4(int i) throws IOException {
-		return append1(i>>24).append1(i>>16).append1(i>>8).append1(i);
+		ensureCapacity(4);
+		byte[] b = buff;
+		int c = count;
+		b[c] = (byte)(i>>24);
+		b[c+1] = (byte)(i>>16);
+		b[c+2] = (byte)(i>>8);
+		b[c+3] = (byte)i;
+		count = c+4;
+		return this;
 	}
 
 	/**
 	 * Appends eight bytes to the stream.
 	 */
 	final MsgPackOutputStream append8(long l) throws IOException {
-		return append1((int)(l>>56)).append1((int)(l>>48)).append1((int)(l>>40)).append1((int)(l>>32)).append1((int)(l>>24)).append1((int)(l>>16)).append1((int)(l>>8)).append1((int)(l));
+		ensureCapacity(8);
+		byte[] b = buff;
+		int c = count;
+		for (int i = 7; i >= 0; i--) {
+			b[c+i] = (byte)l;
+			l >>= 8;
+		}
+		count = c+8;
+		return this;
+	}
+
+	/**
+	 * Makes sure the buffer can hold the specified number of additional bytes, flushing it if necessary.
+	 */
+	private void ensureCapacity(int n) throws IOException {
+		if (buff == null) {
+			buff = BUFFER_POOL.get();
+			if (buff == null)
+				buff = new byte[BUFFER_SIZE];
+			else
+				BUFFER_POOL.set(null);
+		}
+		if (count + n > buff.length)
+			flushBuffer();
+	}
+
+	private void flushBuffer() throws IOException {
+		if (count > 0) {
+			os.write(buff, 0, count);
+			count = 0;
+		}
 	}
 
 	/**
@@ -214,14 +304,71 @@ public final class MsgPackOutputStream extends OutputStream {
 		// * AAAAAAAA_AAAAAAAA_AAAAAAAA_AAAAAAAA is a 32-bit big-endian unsigned integer which represents N
 		// * N is the length of data
 
-		byte[] b = cs.toString().getBytes("UTF-8");
-		if (b.length < 32)
-			return append1(0xA0 + b.length).append(b);
-		if (b.length < (1<<8))
-			return append1(STR8).append1(b.length).append(b);
-		if (b.length < (1<<16))
-			return append1(STR16).append2(b.length).append(b);
-		return append1(STR32).append4(b.length).append(b);
+		int len = utf8Length(cs);
+		if (len < 32)
+			append1(0xA0 + len);
+		else if (len < (1<<8))
+			append1(STR8).append1(len);
+		else if (len < (1<<16))
+			append1(STR16).append2(len);
+		else
+			append1(STR32).append4(len);
+
+		// Encode the characters directly into the buffer.
+		for (int i = 0, n = cs.length(); i < n; i++) {
+			ensureCapacity(4);
+			byte[] b = buff;
+			int c = count;
+			char ch = cs.charAt(i);
+			if (ch < 0x80) {
+				b[c++] = (byte)ch;
+				// Copy runs of ASCII characters without re-checking capacity for each one.
+				int max = Math.min(n, i + b.length - c);
+				while (i+1 < max && (ch = cs.charAt(i+1)) < 0x80) {
+					b[c++] = (byte)ch;
+					i++;
+				}
+			} else if (ch < 0x800) {
+				b[c++] = (byte)(0xC0 | (ch >> 6));
+				b[c++] = (byte)(0x80 | (ch & 0x3F));
+			} else if (Character.isHighSurrogate(ch) && i+1 < n && Character.isLowSurrogate(cs.charAt(i+1))) {
+				int cp = Character.toCodePoint(ch, cs.charAt(++i));
+				b[c++] = (byte)(0xF0 | (cp >> 18));
+				b[c++] = (byte)(0x80 | ((cp >> 12) & 0x3F));
+				b[c++] = (byte)(0x80 | ((cp >> 6) & 0x3F));
+				b[c++] = (byte)(0x80 | (cp & 0x3F));
+			} else if (ch >= Character.MIN_SURROGATE && ch <= Character.MAX_SURROGATE) {
+				b[c++] = '?';  // Unpaired surrogate, same as String.getBytes().
+			} else {
+				b[c++] = (byte)(0xE0 | (ch >> 12));
+				b[c++] = (byte)(0x80 | ((ch >> 6) & 0x3F));
+				b[c++] = (byte)(0x80 | (ch & 0x3F));
+			}
+			count = c;
+		}
+		return this;
+	}
+
+	/*
+	 * Returns the number of bytes in the UTF-8 encoding of the specified characters.
+	 */
+	private static int utf8Length(CharSequence cs) {
+		int len = 0;
+		for (int i = 0, n = cs.length(); i < n; i++) {
+			char ch = cs.charAt(i);
+			if (ch < 0x80)
+				len++;
+			else if (ch < 0x800)
+				len += 2;
+			else if (Character.isHighSurrogate(ch) && i+1 < n && Character.isLowSurrogate(cs.charAt(i+1))) {
+				len += 4;
+				i++;
+			} else if (ch >= Character.MIN_SURROGATE && ch <= Character.MAX_SURROGATE)
+				len++;
+			else
+				len += 3;
+		}
+		return len;
 	}
 
 	/**
@@ -86,9 +86,7 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 					ol.add(parseAnything(object(), is, outer, pMeta));
 				o = ol;
 			} else if (dt == MAP && sType.isObject()) {
-				ObjectMap om = new ObjectMap(this);
-				for (int i = 0; i < length; i++)
-					om.put(parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, om, pMeta));
+				ObjectMap om = parseIntoObjectMap(is, length, outer, pMeta);
 				o = cast(om, pMeta, eType);
 			}
 
@@ -101,10 +99,17 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 					Map m = (sType.canCreateNewInstance(outer) ? (Map)sType.newInstance(outer) : new ObjectMap(this));
 					for (int i = 0; i < length; i++) {
 						Object key = parseAnything(sType.getKeyType(), is, outer, pMeta);
+						String name = key == null ? null : key.toString();
+						if (isExcluded(name)) {
+							is.skipValue();
+							continue;
+						}
+						Projection pp = pushProjection(name);
 						ClassMeta<?> vt = sType.getValueType();
 						Object value = parseAnything(vt, is, m, pMeta);
 						setName(vt, value, key);
 						m.put(key, value);
+						popProjection(pp);
 					}
 					o = m;
 				} else {
@@ -116,16 +121,22 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 					for (int i = 0; i < length; i++) {
 						String pName = parseAnything(string(), is, m.getBean(false), null);
 						BeanPropertyMeta bpm = m.getPropertyMeta(pName);
-						if (bpm == null) {
+						if (isExcluded(pName)) {
+							is.skipValue();
+						} else if (bpm == null) {
 							if (pName.equals(getBeanTypePropertyName(eType)))
 								parseAnything(string(), is, null, null);
-							else
+							else {
 								onUnknownProperty(is.getPipe(), pName, m, 0, is.getPosition());
+								is.skipValue();
+							}
 						} else {
+							Projection pp = pushProjection(pName);
 							ClassMeta<?> cm = bpm.getClassMeta();
 							Object value = parseAnything(cm, is, m.getBean(false), bpm);
 							setName(cm, value, pName);
 							bpm.set(m, pName, value);
+							popProjection(pp);
 						}
 					}
 					o = m.getBean();
@@ -138,9 +149,7 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 				o = sType.newInstanceFromNumber(this, outer, (Number)o);
 			} else if (sType.isCollection()) {
 				if (dt == MAP) {
-					ObjectMap m = new ObjectMap(this);
-					for (int i = 0; i < length; i++)
-						m.put(parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, m, pMeta));
+					ObjectMap m = parseIntoObjectMap(is, length, outer, pMeta);
 					o = cast(m, pMeta, eType);
 				} else if (dt == ARRAY) {
 					Collection l = (
@@ -156,9 +165,7 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 				}
 			} else if (sType.isArray() || sType.isArgs()) {
 				if (dt == MAP) {
-					ObjectMap m = new ObjectMap(this);
-					for (int i = 0; i < length; i++)
-						m.put(parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, m, pMeta));
+					ObjectMap m = parseIntoObjectMap(is, length, outer, pMeta);
 					o = cast(m, pMeta, eType);
 				} else if (dt == ARRAY) {
 					Collection l = (
@@ -173,9 +180,7 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 					throw new ParseException(loc(is), "Invalid data type {0} encountered for parse type {1}", dt, sType);
 				}
 			} else if (dt == MAP) {
-				ObjectMap m = new ObjectMap(this);
-				for (int i = 0; i < length; i++)
-					m.put(parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, m, pMeta));
+				ObjectMap m = parseIntoObjectMap(is, length, outer, pMeta);
 				if (m.containsKey(getBeanTypePropertyName(eType)))
 					o = cast(m, pMeta, eType);
 				else
@@ -195,6 +200,24 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 		return (T)o;
 	}
 
+	/*
+	 * Parses the entries of a map whose header has already been read.
+	 */
+	private ObjectMap parseIntoObjectMap(MsgPackInputStream is, int length, Object outer, BeanPropertyMeta pMeta) throws Exception {
+		ObjectMap m = new ObjectMap(this);
+		for (int i = 0; i < length; i++) {
+			String key = parseAnything(string(), is, outer, pMeta);
+			if (isExcluded(key)) {
+				is.skipValue();
+			} else {
+				Projection pp = pushProjection(key);
+				m.put(key, parseAnything(object(), is, m, pMeta));
+				popProjection(pp);
+			}
+		}
+		return m;
+	}
+
 	private ObjectMap loc(MsgPackInputStream is) {
 		return getLastLocation().append("position", is.getPosition());
 	}
@@ -232,15 +232,21 @@ public abstract class Parser extends CoreObject {
 	 * 			{@link ParserContext#PARSER_inputStreamCharset} property value).
 	 * 		<li><code><jk>byte</jk>[]</code> containing UTF-8 encoded text (or charset defined by
 	 * 			{@link ParserContext#PARSER_inputStreamCharset} property value).
+	 * 		<li>{@link java.nio.ByteBuffer} containing UTF-8 encoded text (or charset defined by
+	 * 			{@link ParserContext#PARSER_inputStreamCharset} property value).
 	 * 		<li>{@link File} containing system encoded text (or charset defined by
 	 * 			{@link ParserContext#PARSER_fileCharset} property value).
+	 * 		<li>{@link java.nio.channels.FileChannel} containing system encoded text (or charset defined by
+	 * 			{@link ParserContext#PARSER_fileCharset} property value).
 	 * 	</ul>
 	 * 	<br>Stream-based parsers can handle the following input class types:
 	 * 	<ul>
 	 * 		<li><jk>null</jk>
 	 * 		<li>{@link InputStream}
 	 * 		<li><code><jk>byte</jk>[]</code>
+	 * 		<li>{@link java.nio.ByteBuffer}
 	 * 		<li>{@link File}
+	 * 		<li>{@link java.nio.channels.FileChannel}
 	 * 	</ul>
 	 * @param type
 	 * 	The object type to create.
@@ -202,6 +202,33 @@ public class ParserBuilder extends CoreObjectBuilder {
 		return property(PARSER_fileCharset, value);
 	}
 
+	/**
+	 * <b>Configuration property:</b>  Input buffer size.
+	 *
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"Parser.bufferSize"</js>
+	 * 	<li><b>Data type:</b> <code>Integer</code>
+	 * 	<li><b>Default:</b> <code>8192</code>
+	 * 	<li><b>Session-overridable:</b> <jk>true</jk>
+	 * </ul>
+	 *
+	 * <p>
+	 * The size of the character buffer used by reader-based parsers, and the byte buffer used when decoding UTF-8
+	 * input streams.
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul>
+	 * 	<li>This is equivalent to calling <code>property(<jsf>PARSER_bufferSize</jsf>, value)</code>.
+	 * </ul>
+	 *
+	 * @param value The new value for this property.
+	 * @return This object (for method chaining).
+	 * @see ParserContext#PARSER_bufferSize
+	 */
+	public ParserBuilder bufferSize(int value) {
+		return property(PARSER_bufferSize, value);
+	}
+
 	/**
 	 * <b>Configuration property:</b>  Parser listener.
 	 *
@@ -223,6 +250,48 @@ public class ParserBuilder extends CoreObjectBuilder {
 		return property(PARSER_listener, value);
 	}
 
+	/**
+	 * <b>Configuration property:</b>  Projection.
+	 *
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"Parser.projection.set"</js>
+	 * 	<li><b>Data type:</b> <code>Set&lt;String&gt;</code>
+	 * 	<li><b>Default:</b> empty set
+	 * 	<li><b>Session-overridable:</b> <jk>true</jk>
+	 * </ul>
+	 *
+	 * <p>
+	 * The property paths of the parts of the input that should be parsed.
+	 * Map entries and bean properties whose values are outside the projection are skipped over without being
+	 * converted to objects.
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul>
+	 * 	<li>This is equivalent to calling <code>property(<jsf>PARSER_projection</jsf>, values)</code>.
+	 * </ul>
+	 *
+	 * @param values The property paths (e.g. <js>"foo.bar"</js>).
+	 * @return This object (for method chaining).
+	 * @see ParserContext#PARSER_projection
+	 */
+	public ParserBuilder projection(String...values) {
+		return property(PARSER_projection, values);
+	}
+
+	/**
+	 * <b>Configuration property:</b>  Projection.
+	 *
+	 * <p>
+	 * Same as {@link #projection(String...)} but using a <code>Collection</code>.
+	 *
+	 * @param values The property paths (e.g. <js>"foo.bar"</js>).
+	 * @return This object (for method chaining).
+	 * @see ParserContext#PARSER_projection
+	 */
+	public ParserBuilder projection(Collection<String> values) {
+		return property(PARSER_projection, values);
+	}
+
 	@Override /* CoreObjectBuilder */
 	public ParserBuilder beansRequireDefaultConstructor(boolean value) {
 		super.beansRequireDefaultConstructor(value);
@@ -283,6 +352,12 @@ public class ParserBuilder extends CoreObjectBuilder {
 		return this;
 	}
 
+	@Override /* CoreObjectBuilder */
+	public ParserBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
 	@Override /* CoreObjectBuilder */
 	public ParserBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
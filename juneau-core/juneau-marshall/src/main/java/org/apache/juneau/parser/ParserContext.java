@@ -123,6 +123,26 @@ public class ParserContext extends BeanContext {
 	 */
 	public static final String PARSER_fileCharset = "Parser.fileCharset";
 
+	/**
+	 * <b>Configuration property:</b>  Input buffer size.
+	 *
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"Parser.bufferSize"</js>
+	 * 	<li><b>Data type:</b> <code>Integer</code>
+	 * 	<li><b>Default:</b> <code>8192</code>
+	 * 	<li><b>Session-overridable:</b> <jk>true</jk>
+	 * </ul>
+	 *
+	 * <p>
+	 * The size of the character buffer used by reader-based parsers, and the byte buffer used when decoding UTF-8
+	 * input streams.
+	 *
+	 * <p>
+	 * Larger values reduce the number of reads against the underlying input when parsing large documents.
+	 * Buffers for <code>CharSequence</code> input are never larger than the input itself.
+	 */
+	public static final String PARSER_bufferSize = "Parser.bufferSize";
+
 	/**
 	 * <b>Configuration property:</b>  Parser listener.
 	 *
@@ -138,9 +158,49 @@ public class ParserContext extends BeanContext {
 	 */
 	public static final String PARSER_listener = "PARSER.listener";
 
+	/**
+	 * <b>Configuration property:</b>  Projection.
+	 *
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"Parser.projection.set"</js>
+	 * 	<li><b>Data type:</b> <code>Set&lt;String&gt;</code>
+	 * 	<li><b>Default:</b> empty set
+	 * 	<li><b>Session-overridable:</b> <jk>true</jk>
+	 * </ul>
+	 *
+	 * <p>
+	 * The property paths of the parts of the input that should be parsed.
+	 *
+	 * <p>
+	 * Paths consist of property names separated by <js>'.'</js> characters (e.g. <js>"foo.bar"</js>), and
+	 * <js>"*"</js> matches any property name.
+	 * Arrays are transparent, so the path <js>"foo.bar"</js> also matches the <js>"bar"</js> properties of
+	 * objects in a <js>"foo"</js> array.
+	 *
+	 * <p>
+	 * Map entries and bean properties whose values are outside the projection are skipped over by the parser
+	 * without being converted to objects.
+	 * The results are the same as parsing into beans without these properties while
+	 * {@link BeanContext#BEAN_ignoreUnknownBeanProperties} is enabled.
+	 *
+	 * <p>
+	 * The contents of skipped values are only checked for proper nesting, so syntax errors inside them may not be
+	 * reported.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode'>
+	 * 	<jc>// Only parse the name and the street addresses of a person.</jc>
+	 * 	ReaderParser p = <jk>new</jk> JsonParserBuilder().projection(<js>"name"</js>,<js>"addresses.street"</js>).build();
+	 * 	ObjectMap m = p.parse(json, ObjectMap.<jk>class</jk>);
+	 * </p>
+	 */
+	public static final String PARSER_projection = "Parser.projection.set";
+
 	final boolean trimStrings, strict;
 	final String inputStreamCharset, fileCharset;
+	final int bufferSize;
 	final Class<? extends ParserListener> listener;
+	final String[] projection;
 
 	/**
 	 * Constructor.
@@ -154,7 +214,9 @@ public class ParserContext extends BeanContext {
 		this.strict = ps.getProperty(PARSER_strict, boolean.class, false);
 		this.inputStreamCharset = ps.getProperty(PARSER_inputStreamCharset, String.class, "UTF-8");
 		this.fileCharset = ps.getProperty(PARSER_fileCharset, String.class, "default");
+		this.bufferSize = ps.getProperty(PARSER_bufferSize, int.class, 8192);
 		this.listener = ps.getProperty(PARSER_listener, Class.class, null);
+		this.projection = ps.getProperty(PARSER_projection, String[].class, new String[0]);
 	}
 
 	@Override /* Context */
@@ -165,7 +227,9 @@ public class ParserContext extends BeanContext {
 				.append("strict", strict)
 				.append("inputStreamCharset", inputStreamCharset)
 				.append("fileCharset", fileCharset)
+				.append("bufferSize", bufferSize)
 				.append("listener", listener)
+				.append("projection", projection)
 			);
 	}
 }
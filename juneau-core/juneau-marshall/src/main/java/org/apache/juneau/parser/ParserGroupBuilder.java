@@ -250,6 +250,17 @@ public class ParserGroupBuilder {
 		return property(PARSER_fileCharset, value);
 	}
 
+	/**
+	 * Sets the {@link ParserContext#PARSER_bufferSize} property on all parsers in this group.
+	 *
+	 * @param value The new value for this property.
+	 * @return This object (for method chaining).
+	 * @see ParserContext#PARSER_bufferSize
+	 */
+	public ParserGroupBuilder bufferSize(int value) {
+		return property(PARSER_bufferSize, value);
+	}
+
 	/**
 	 * Sets the {@link ParserContext#PARSER_listener} property on all parsers in this group.
 	 *
@@ -261,6 +272,17 @@ public class ParserGroupBuilder {
 		return property(PARSER_listener, value);
 	}
 
+	/**
+	 * Sets the {@link ParserContext#PARSER_projection} property on all parsers in this group.
+	 *
+	 * @param values The new value for this property.
+	 * @return This object (for method chaining).
+	 * @see ParserContext#PARSER_projection
+	 */
+	public ParserGroupBuilder projection(String...values) {
+		return property(PARSER_projection, values);
+	}
+
 	/**
 	 * Sets the {@link BeanContext#BEAN_beansRequireDefaultConstructor} property on all parsers in this group.
 	 *
@@ -371,6 +393,17 @@ public class ParserGroupBuilder {
 		return property(BEAN_useJavaBeanIntrospector, value);
 	}
 
+	/**
+	 * Sets the {@link BeanContext#BEAN_useGeneratedAccessors} property on all parsers in this group.
+	 *
+	 * @param value The new value for this property.
+	 * @return This object (for method chaining).
+	 * @see BeanContext#BEAN_useGeneratedAccessors
+	 */
+	public ParserGroupBuilder useGeneratedAccessors(boolean value) {
+		return property(BEAN_useGeneratedAccessors, value);
+	}
+
 	/**
 	 * Sets the {@link BeanContext#BEAN_useInterfaceProxies} property on all parsers in this group.
 	 *
@@ -16,6 +16,9 @@ import static org.apache.juneau.internal.IOUtils.*;
 import static org.apache.juneau.internal.StringUtils.*;
 
 import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.channels.FileChannel.*;
 import java.nio.charset.*;
 
 import org.apache.juneau.*;
@@ -31,33 +34,57 @@ import org.apache.juneau.internal.*;
  * 	<li>{@link CharSequence}
  * 	<li>{@link InputStream}
  * 	<li><code><jk>byte</jk>[]</code>
+ * 	<li>{@link ByteBuffer}
  * 	<li>{@link File}
+ * 	<li>{@link FileChannel}
  * 	<li><code><jk>null</jk></code>
  * </ul>
  *
  * <p>
+ * UTF-8 encoded input streams, byte arrays, byte buffers, files, and file channels are decoded using a
+ * {@link Utf8Reader}.
+ *
+ * <p>
  * For stream-based parsers, the input object can be any of the following:
  * <ul>
  * 	<li>{@link InputStream}
  * 	<li><code><jk>byte</jk>[]</code>
+ * 	<li>{@link ByteBuffer}
  * 	<li>{@link File}
+ * 	<li>{@link FileChannel}
  * 	<li>{@link String} - Hex-encoded bytes.  (not BASE-64!)
  * 	<li><code><jk>null</jk></code>
  * </ul>
  *
  * <p>
- * Note that Readers and InputStreams will NOT be automatically closed when {@link #close()} is called, but
- * streams and readers created from other types (e.g. Files) WILL be automatically closed.
+ * Byte buffers and file channels are read starting at their current positions.
+ * File channels are memory-mapped instead of being read through a stream, and the mapped contents can be accessed
+ * directly through {@link #getByteBuffer()}.
+ * Note the following when passing in a file channel:
+ * <ul>
+ * 	<li>The position of the channel is not advanced by parsing.
+ * 		(Channels with more than 2GB remaining can't be mapped and are read through a stream instead, which does
+ * 		advance the position.)
+ * 	<li>The mapping is only released once the mapped buffer is garbage collected.
+ * 		On some platforms (e.g. Windows), the file cannot be deleted or truncated until then.
+ * </ul>
+ * {@link File} inputs are always read through a stream.
+ *
+ * <p>
+ * Note that Readers, InputStreams, and FileChannels will NOT be automatically closed when {@link #close()} is called,
+ * but streams and readers created from other types (e.g. Files) WILL be automatically closed.
  */
 public final class ParserPipe {
 
 	private final Object input;
 	private final boolean debug, strict;
 	private final String fileCharset, inputStreamCharset;
+	private final int bufferSize;
 
 	private String inputString;
 	private InputStream inputStream;
 	private Reader reader;
+	private ByteBuffer byteBuffer;
 
 	/**
 	 * Constructor.
@@ -77,17 +104,39 @@ public final class ParserPipe {
 	 * @param inputStreamCharset
 	 * 	The charset to expect when reading from {@link InputStream InputStreams}.
 	 * 	Use <js>"default"</js> to specify {@link Charset#defaultCharset()}.
+	 * @param bufferSize
+	 * 	The size of the buffers to use when reading the input.
 	 */
-	public ParserPipe(Object input, boolean debug, boolean strict, String fileCharset, String inputStreamCharset) {
+	public ParserPipe(Object input, boolean debug, boolean strict, String fileCharset, String inputStreamCharset, int bufferSize) {
 		this.input = input;
 		this.debug = debug;
 		this.strict = strict;
 		this.fileCharset = fileCharset;
 		this.inputStreamCharset = inputStreamCharset;
+		this.bufferSize = bufferSize;
 		if (input instanceof CharSequence)
 			this.inputString = input.toString();
 	}
 
+	/**
+	 * Same as {@link #ParserPipe(Object, boolean, boolean, String, String, int)} but uses the default buffer size of
+	 * <code>8192</code>.
+	 *
+	 * @param input The parser input object.
+	 * @param debug
+	 * 	If <jk>true</jk>, the input contents will be copied locally and accessible via the {@link #getInputAsString()}
+	 * 	method.
+	 * @param strict
+	 * 	If <jk>true</jk>, reports malformed and unmappable characters in the input as errors.
+	 * @param fileCharset
+	 * 	The charset to expect when reading from {@link File Files}.
+	 * @param inputStreamCharset
+	 * 	The charset to expect when reading from {@link InputStream InputStreams}.
+	 */
+	public ParserPipe(Object input, boolean debug, boolean strict, String fileCharset, String inputStreamCharset) {
+		this(input, debug, strict, fileCharset, inputStreamCharset, 8192);
+	}
+
 	/**
 	 * Shortcut constructor, typically for straight string input.
 	 *
@@ -100,6 +149,15 @@ public final class ParserPipe {
 		this(input, false, false, null, null);
 	}
 
+	/**
+	 * Returns the size of the buffers to use when reading the input.
+	 *
+	 * @return The buffer size.
+	 */
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
 	/**
 	 * Wraps the specified input object inside an input stream.
 	 *
@@ -113,7 +171,10 @@ public final class ParserPipe {
 		if (input == null)
 			return null;
 
-		if (input instanceof InputStream) {
+		ByteBuffer bb = getByteBuffer();
+		if (bb != null) {
+			inputStream = new ByteBufferInputStream(bb);
+		} else if (input instanceof InputStream) {
 			if (debug) {
 				byte[] b = readBytes((InputStream)input, 1024);
 				inputString = toHex(b);
@@ -136,6 +197,8 @@ public final class ParserPipe {
 			} else {
 				inputStream = new FileInputStream((File)input);
 			}
+		} else if (input instanceof FileChannel) {
+			inputStream = newInputStream((FileChannel)input);
 		} else {
 			throw new IOException("Cannot convert object of type "+input.getClass().getName()+" to an InputStream.");
 		}
@@ -143,6 +206,64 @@ public final class ParserPipe {
 		return inputStream;
 	}
 
+	/**
+	 * Returns the input as a byte buffer if it can be read directly without going through a stream.
+	 *
+	 * <p>
+	 * This is the case for {@link ByteBuffer} inputs, and for {@link FileChannel} inputs, which are memory-mapped.
+	 * Stream-based parsers can use this method to decode the input in place.
+	 *
+	 * <p>
+	 * The returned buffer is a view of the input positioned at the start of the remaining bytes, and the same buffer
+	 * is wrapped by {@link #getInputStream()}.
+	 *
+	 * @return The input as a byte buffer, or <jk>null</jk> if the input cannot be accessed as a byte buffer.
+	 * @throws IOException If the file channel could not be mapped.
+	 */
+	public ByteBuffer getByteBuffer() throws IOException {
+		ByteBuffer bb = toByteBuffer();
+		if (bb != null && debug && inputString == null) {
+			byte[] b = new byte[bb.remaining()];
+			bb.duplicate().get(b);
+			inputString = toHex(b);
+		}
+		return bb;
+	}
+
+	private ByteBuffer toByteBuffer() throws IOException {
+		if (byteBuffer == null) {
+			if (input instanceof ByteBuffer) {
+				byteBuffer = ((ByteBuffer)input).duplicate();
+			} else if (input instanceof FileChannel) {
+				byteBuffer = map((FileChannel)input);
+			}
+		}
+		return byteBuffer;
+	}
+
+	/*
+	 * Maps the remaining contents of the channel into memory.
+	 * Returns null if the contents are too large to fit in a single buffer.
+	 */
+	private static ByteBuffer map(FileChannel fc) throws IOException {
+		long size = fc.size() - fc.position();
+		if (size > Integer.MAX_VALUE)
+			return null;
+		return fc.map(MapMode.READ_ONLY, fc.position(), Math.max(size, 0));
+	}
+
+	/*
+	 * Creates an input stream over a channel that doesn't close the channel when it's closed.
+	 */
+	private static InputStream newInputStream(FileChannel fc) {
+		return new FilterInputStream(Channels.newInputStream(fc)) {
+			@Override /* InputStream */
+			public void close() {
+				// The channel is owned by the caller.
+			}
+		};
+	}
+
 
 	/**
 	 * Wraps the specified input object inside a reader.
@@ -167,43 +288,17 @@ public final class ParserPipe {
 		} else if (input instanceof CharSequence) {
 			inputString = input.toString();
 			reader = new ParserReader(this);
-		} else if (input instanceof InputStream || input instanceof byte[]) {
-			InputStream is = (
-				input instanceof InputStream
-				? (InputStream)input
-				: new ByteArrayInputStream((byte[])input)
-			);
-			CharsetDecoder cd = (
-				"default".equalsIgnoreCase(inputStreamCharset)
-				? Charset.defaultCharset()
-				: Charset.forName(inputStreamCharset)
-			).newDecoder();
-			if (strict) {
-				cd.onMalformedInput(CodingErrorAction.REPORT);
-				cd.onUnmappableCharacter(CodingErrorAction.REPORT);
-			} else {
-				cd.onMalformedInput(CodingErrorAction.REPLACE);
-				cd.onUnmappableCharacter(CodingErrorAction.REPLACE);
-			}
-			reader = new InputStreamReader(is, cd);
+		} else if (input instanceof InputStream || input instanceof byte[] || input instanceof ByteBuffer) {
+			reader = createReader(input instanceof ByteBuffer ? toByteBuffer() : input, inputStreamCharset);
 			if (debug) {
 				inputString = read(reader);
 				reader = new StringReader(inputString);
 			}
-		} else if (input instanceof File) {
-			CharsetDecoder cd = (
-				"default".equalsIgnoreCase(fileCharset)
-				? Charset.defaultCharset()
-				: Charset.forName(fileCharset)
-			).newDecoder();
-			if (strict) {
-				cd.onMalformedInput(CodingErrorAction.REPORT);
-				cd.onUnmappableCharacter(CodingErrorAction.REPORT);
-			} else {
-				cd.onMalformedInput(CodingErrorAction.REPLACE);
-				cd.onUnmappableCharacter(CodingErrorAction.REPLACE);
-			}
-			reader = new InputStreamReader(new FileInputStream((File)input), cd);
+		} else if (input instanceof File || input instanceof FileChannel) {
+			Object in = (input instanceof File ? new FileInputStream((File)input) : toByteBuffer());
+			if (in == null)
+				in = newInputStream((FileChannel)input);
+			reader = createReader(in, fileCharset);
 			if (debug) {
 				inputString = read(reader);
 				reader = new StringReader(inputString);
@@ -215,6 +310,37 @@ public final class ParserPipe {
 		return reader;
 	}
 
+	/*
+	 * Creates a reader that decodes the specified input stream, byte array, or byte buffer.
+	 */
+	private Reader createReader(Object in, String charset) {
+		Charset cs = (
+			"default".equalsIgnoreCase(charset)
+			? Charset.defaultCharset()
+			: Charset.forName(charset)
+		);
+		if (cs.equals(IOUtils.UTF8)) {
+			if (in instanceof ByteBuffer)
+				return new Utf8Reader((ByteBuffer)in, bufferSize, strict);
+			if (in instanceof byte[])
+				return new Utf8Reader((byte[])in, strict);
+			return new Utf8Reader((InputStream)in, bufferSize, strict);
+		}
+		CharsetDecoder cd = cs.newDecoder();
+		if (strict) {
+			cd.onMalformedInput(CodingErrorAction.REPORT);
+			cd.onUnmappableCharacter(CodingErrorAction.REPORT);
+		} else {
+			cd.onMalformedInput(CodingErrorAction.REPLACE);
+			cd.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		}
+		if (in instanceof ByteBuffer)
+			in = new ByteBufferInputStream((ByteBuffer)in);
+		else if (in instanceof byte[])
+			in = new ByteArrayInputStream((byte[])in);
+		return new InputStreamReader((InputStream)in, cd);
+	}
+
 	/**
 	 * Returns the contents of this pipe as a buffered reader.
 	 *
@@ -55,14 +55,15 @@ public class ParserReader extends Reader {
 		if (pipe.isString()) {
 			String in = pipe.getInputAsString();
 			this.r = new CharSequenceReader(in);
-			this.buff = new char[in.length() < 1024 ? in.length() : 1024];
+			int bufferSize = Math.max(pipe.getBufferSize(), 16);
+			this.buff = new char[in.length() < bufferSize ? in.length() : bufferSize];
 		} else {
 			Reader _r = pipe.getReader();
 			if (_r instanceof ParserReader)
 				this.r = ((ParserReader)_r).r;
 			else
 				this.r = _r;
-			this.buff = new char[1024];
+			this.buff = new char[Math.max(pipe.getBufferSize(), 16)];
 		}
 	}
 
@@ -215,6 +216,13 @@ public class ParserReader extends Reader {
 		iMark = iCurrent;
 	}
 
+	/**
+	 * Stops buffering the calls to read() without creating a string from the marked characters.
+	 */
+	public final void unmark() {
+		iMark = -1;
+	}
+
 	/**
 	 * Peeks the next character in the stream.
 	 *
@@ -336,6 +344,29 @@ public class ParserReader extends Reader {
 		return s;
 	}
 
+	/**
+	 * Same as {@link #getMarked(int, int)} except returns the matching name from the specified index instead of
+	 * creating a new string.
+	 *
+	 * <p>
+	 * Falls back to {@link #getMarked(int, int)} if the marked characters don't match any name in the index.
+	 *
+	 * @param names The names to match against.
+	 * @param offsetStart The offset of the start position.
+	 * @param offsetEnd The offset of the end position.
+	 * @return The contents of the reusable character buffer as a string.
+	 */
+	public final String getMarked(NameIndex names, int offsetStart, int offsetEnd) {
+		if (! holesExist) {
+			String s = names.get(buff, iMark + offsetStart, iCurrent - iMark + offsetEnd - offsetStart);
+			if (s != null) {
+				iMark = -1;
+				return s;
+			}
+		}
+		return getMarked(offsetStart, offsetEnd);
+	}
+
 	/**
 	 * Trims off the last character in the marking buffer.
 	 *
@@ -36,12 +36,15 @@ public abstract class ParserSession extends BeanSession {
 
 	private final boolean trimStrings, strict;
 	private final String inputStreamCharset, fileCharset;
+	private final int bufferSize;
 	private final Method javaMethod;
 	private final Object outer;
+	private final Projection rootProjection;
 
 	// Writable properties.
 	private BeanPropertyMeta currentProperty;
 	private ClassMeta<?> currentClass;
+	private Projection projection;
 	private final ParserListener listener;
 
 	/**
@@ -58,23 +61,29 @@ public abstract class ParserSession extends BeanSession {
 		if (ctx == null)
 			ctx = ParserContext.DEFAULT;
 		Class<?> listenerClass;
+		String[] projectionPaths;
 		ObjectMap p = getProperties();
 		if (p.isEmpty()) {
 			trimStrings = ctx.trimStrings;
 			strict = ctx.strict;
 			inputStreamCharset = ctx.inputStreamCharset;
 			fileCharset = ctx.fileCharset;
+			bufferSize = ctx.bufferSize;
 			listenerClass = ctx.listener;
+			projectionPaths = ctx.projection;
 		} else {
 			trimStrings = p.getBoolean(PARSER_trimStrings, ctx.trimStrings);
 			strict = p.getBoolean(PARSER_strict, ctx.strict);
 			inputStreamCharset = p.getString(PARSER_inputStreamCharset, ctx.inputStreamCharset);
 			fileCharset = p.getString(PARSER_fileCharset, ctx.fileCharset);
+			bufferSize = p.getInt(PARSER_bufferSize, ctx.bufferSize);
 			listenerClass = p.getWithDefault(PARSER_listener, ctx.listener, Class.class);
+			projectionPaths = p.getWithDefault(PARSER_projection, ctx.projection, String[].class);
 		}
 		this.javaMethod = args.javaMethod;
 		this.outer = args.outer;
 		this.listener = newInstance(ParserListener.class, listenerClass);
+		this.rootProjection = Projection.create(projectionPaths);
 	}
 
 
@@ -124,21 +133,27 @@ public abstract class ParserSession extends BeanSession {
 	 * 			{@link ParserContext#PARSER_inputStreamCharset}).
 	 * 		<li><code><jk>byte</jk>[]</code> containing UTF-8 encoded text (or whatever the encoding specified by
 	 * 			{@link ParserContext#PARSER_inputStreamCharset}).
+	 * 		<li>{@link java.nio.ByteBuffer} containing UTF-8 encoded text (or whatever the encoding specified by
+	 * 			{@link ParserContext#PARSER_inputStreamCharset}).
 	 * 		<li>{@link File} containing system encoded text (or whatever the encoding specified by
 	 * 			{@link ParserContext#PARSER_fileCharset}).
+	 * 		<li>{@link java.nio.channels.FileChannel} containing system encoded text (or whatever the encoding
+	 * 			specified by {@link ParserContext#PARSER_fileCharset}).
 	 * 	</ul>
 	 * 	<br>For byte-based parsers, this can be any of the following types:
 	 * 	<ul>
 	 * 		<li><jk>null</jk>
 	 * 		<li>{@link InputStream}
 	 * 		<li><code><jk>byte</jk>[]</code>
+	 * 		<li>{@link java.nio.ByteBuffer}
 	 * 		<li>{@link File}
+	 * 		<li>{@link java.nio.channels.FileChannel}
 	 * 	</ul>
 	 * @return
 	 * 	A new {@link ParserPipe} wrapper around the specified input object.
 	 */
 	public final ParserPipe createPipe(Object input) {
-		return new ParserPipe(input, isDebug(), strict, fileCharset, inputStreamCharset);
+		return new ParserPipe(input, isDebug(), strict, fileCharset, inputStreamCharset, bufferSize);
 	}
 
 	/**
@@ -216,6 +231,60 @@ public abstract class ParserSession extends BeanSession {
 		return strict;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if the value of the specified property is outside the {@link ParserContext#PARSER_projection}
+	 * setting for this session and can be skipped without being parsed.
+	 *
+	 * <p>
+	 * The name is evaluated against the object currently being parsed.
+	 * Use {@link #pushProjection(String)} and {@link #popProjection(Projection)} around the parsing of property values
+	 * that are not excluded.
+	 *
+	 * <p>
+	 * The bean type property (e.g. <js>"_type"</js>) is never excluded.
+	 *
+	 * @param name The property name.
+	 * @return <jk>true</jk> if the value of the specified property can be skipped.
+	 */
+	protected final boolean isExcluded(String name) {
+		return projection != null
+			&& projection.getChild(name) == null
+			&& ! getBeanTypePropertyName(null).equals(name);
+	}
+
+	/**
+	 * Makes the projection of the specified property value the current projection.
+	 *
+	 * @param name The name of the property whose value is about to be parsed.
+	 * @return The previous projection to pass to {@link #popProjection(Projection)} once the value has been parsed.
+	 */
+	protected final Projection pushProjection(String name) {
+		Projection p = projection;
+		if (p != null) {
+			Projection c = p.getChild(name);
+			projection = (c == null || c.isAll() ? null : c);
+		}
+		return p;
+	}
+
+	/**
+	 * Restores the projection returned by {@link #pushProjection(String)}.
+	 *
+	 * @param p The previous projection.
+	 */
+	protected final void popProjection(Projection p) {
+		projection = p;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if a {@link ParserContext#PARSER_projection} setting is in effect for this session.
+	 *
+	 * @return <jk>true</jk> if a {@link ParserContext#PARSER_projection} setting is in effect for this session.
+	 */
+	protected final boolean hasProjection() {
+		return rootProjection != null;
+	}
+
 	/**
 	 * Trims the specified object if it's a <code>String</code> and {@link #isTrimStrings()} returns <jk>true</jk>.
 	 *
@@ -389,15 +458,21 @@ public abstract class ParserSession extends BeanSession {
 	 * 			{@link ParserContext#PARSER_inputStreamCharset} property value).
 	 * 		<li><code><jk>byte</jk>[]</code> containing UTF-8 encoded text (or charset defined by
 	 * 			{@link ParserContext#PARSER_inputStreamCharset} property value).
+	 * 		<li>{@link java.nio.ByteBuffer} containing UTF-8 encoded text (or charset defined by
+	 * 			{@link ParserContext#PARSER_inputStreamCharset} property value).
 	 * 		<li>{@link File} containing system encoded text (or charset defined by
 	 * 			{@link ParserContext#PARSER_fileCharset} property value).
+	 * 		<li>{@link java.nio.channels.FileChannel} containing system encoded text (or charset defined by
+	 * 			{@link ParserContext#PARSER_fileCharset} property value).
 	 * 	</ul>
 	 * 	<br>Stream-based parsers can handle the following input class types:
 	 * 	<ul>
 	 * 		<li><jk>null</jk>
 	 * 		<li>{@link InputStream}
 	 * 		<li><code><jk>byte</jk>[]</code>
+	 * 		<li>{@link java.nio.ByteBuffer}
 	 * 		<li>{@link File}
+	 * 		<li>{@link java.nio.channels.FileChannel}
 	 * 	</ul>
 	 * @param type
 	 * 	The object type to create.
@@ -510,6 +585,7 @@ public abstract class ParserSession extends BeanSession {
 		try {
 			if (type.isVoid())
 				return null;
+			projection = rootProjection;
 			return doParse(pipe, type);
 		} catch (ParseException e) {
 			throw e;
@@ -551,6 +627,7 @@ public abstract class ParserSession extends BeanSession {
 	public final <K,V> Map<K,V> parseIntoMap(Object input, Map<K,V> m, Type keyType, Type valueType) throws ParseException {
 		ParserPipe pipe = createPipe(input);
 		try {
+			projection = rootProjection;
 			return doParseIntoMap(pipe, m, keyType, valueType);
 		} catch (ParseException e) {
 			throw e;
@@ -601,6 +678,7 @@ public abstract class ParserSession extends BeanSession {
 	public final <E> Collection<E> parseIntoCollection(Object input, Collection<E> c, Type elementType) throws ParseException {
 		ParserPipe pipe = createPipe(input);
 		try {
+			projection = rootProjection;
 			return doParseIntoCollection(pipe, c, elementType);
 		} catch (ParseException e) {
 			throw e;
@@ -657,6 +735,7 @@ public abstract class ParserSession extends BeanSession {
 	public final Object[] parseArgs(Object input, Type[] argTypes) throws ParseException {
 		ParserPipe pipe = createPipe(input);
 		try {
+			projection = rootProjection;
 			return doParse(pipe, getArgsClassMeta(argTypes));
 		} catch (ParseException e) {
 			throw e;
@@ -0,0 +1,91 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+import java.util.*;
+
+/**
+ * A tree of property paths identifying the parts of the input that should be parsed.
+ *
+ * <p>
+ * Created from the paths defined by {@link ParserContext#PARSER_projection}.
+ * Each node represents an object property name, and the children of the node are the names of the properties of
+ * that object that are included.
+ * Nodes at the end of a path include the entire subtree below them.
+ *
+ * <p>
+ * This class is used by parser sessions to determine which map entries and bean properties can be skipped without
+ * being parsed.
+ * See {@link ParserSession#isExcluded(String)}.
+ */
+public final class Projection {
+
+	private final Map<String,Projection> children = new HashMap<String,Projection>();
+	private boolean all;
+
+	private Projection() {}
+
+	/**
+	 * Creates a projection from the specified property paths.
+	 *
+	 * <p>
+	 * Paths consist of property names separated by <js>'.'</js> characters (e.g. <js>"foo.bar"</js>).
+	 * The name <js>"*"</js> matches any property name.
+	 *
+	 * @param paths The property paths to include.
+	 * @return A new projection, or <jk>null</jk> if no paths were specified.
+	 */
+	public static Projection create(String...paths) {
+		if (paths == null || paths.length == 0)
+			return null;
+		Projection root = new Projection();
+		for (String path : paths) {
+			Projection p = root;
+			for (String name : path.split("\\.")) {
+				if (p.all)
+					break;
+				Projection c = p.children.get(name);
+				if (c == null) {
+					c = new Projection();
+					p.children.put(name, c);
+				}
+				p = c;
+			}
+			p.all = true;
+			p.children.clear();
+		}
+		return root;
+	}
+
+	/**
+	 * Returns the projection for the value of the specified property.
+	 *
+	 * @param name The property name.
+	 * @return The projection for the property value, or <jk>null</jk> if the property is not included.
+	 */
+	public Projection getChild(String name) {
+		if (all)
+			return this;
+		Projection p = children.get(name);
+		return p == null ? children.get("*") : p;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this projection includes everything below it.
+	 *
+	 * @return <jk>true</jk> if this projection includes everything below it.
+	 */
+	public boolean isAll() {
+		return all;
+	}
+}
@@ -128,6 +128,7 @@ public abstract class Serializer extends CoreObject {
 	 * 	<ul>
 	 * 		<li>{@link Writer}
 	 * 		<li>{@link OutputStream} - Output will be written as UTF-8 encoded stream.
+	 * 		<li>{@link java.nio.ByteBuffer} - Output will be written as UTF-8 encoded bytes.
 	 * 		<li>{@link File} - Output will be written as system-default encoded stream.
 	 * 		<li>{@link StringBuilder} - Output will be written to the specified string builder.
 	 * 	</ul>
@@ -543,6 +543,17 @@ public class SerializerGroupBuilder {
 		return property(BEAN_useJavaBeanIntrospector, value);
 	}
 
+	/**
+	 * Sets the {@link BeanContext#BEAN_useGeneratedAccessors} property on all serializers in this group.
+	 *
+	 * @param value The new value for this property.
+	 * @return This object (for method chaining).
+	 * @see BeanContext#BEAN_useGeneratedAccessors
+	 */
+	public SerializerGroupBuilder useGeneratedAccessors(boolean value) {
+		return property(BEAN_useGeneratedAccessors, value);
+	}
+
 	/**
 	 * Sets the {@link BeanContext#BEAN_useInterfaceProxies} property on all serializers in this group.
 	 *
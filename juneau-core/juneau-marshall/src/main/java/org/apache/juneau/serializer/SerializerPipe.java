@@ -12,9 +12,8 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.serializer;
 
-import static org.apache.juneau.internal.IOUtils.*;
-
 import java.io.*;
+import java.nio.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
@@ -27,6 +26,7 @@ import org.apache.juneau.internal.*;
  * <ul>
  * 	<li>{@link Writer}
  * 	<li>{@link OutputStream} - Output will be written as UTF-8 encoded stream.
+ * 	<li>{@link ByteBuffer} - Output will be written as UTF-8 encoded bytes starting at the current buffer position.
  * 	<li>{@link File} - Output will be written as system-default encoded stream.
  * 	<li>{@link StringBuilder}
  * </ul>
@@ -45,6 +45,7 @@ public final class SerializerPipe {
 	
 	private OutputStream outputStream;
 	private Writer writer;
+	private Utf8Writer utf8Writer;
 
 	/**
 	 * Constructor.
@@ -98,6 +99,7 @@ public final class SerializerPipe {
 	 * <ul>
 	 * 	<li>{@link Writer}
 	 * 	<li>{@link OutputStream} - Output will be written as UTF-8 encoded stream.
+	 * 	<li>{@link ByteBuffer} - Output will be written as UTF-8 encoded bytes.
 	 * 	<li>{@link File} - Output will be written as system-default encoded stream.
 	 * </ul>
 	 *
@@ -111,7 +113,9 @@ public final class SerializerPipe {
 		if (output instanceof Writer)
 			writer = (Writer)output;
 		else if (output instanceof OutputStream)
-			writer = new OutputStreamWriter((OutputStream)output, UTF8);
+			writer = utf8Writer = new Utf8Writer((OutputStream)output);
+		else if (output instanceof ByteBuffer)
+			writer = utf8Writer = new Utf8Writer((ByteBuffer)output);
 		else if (output instanceof File)
 			writer = new OutputStreamWriter(new BufferedOutputStream(new FileOutputStream((File)output)));
 		else if (output instanceof StringBuilder)
@@ -163,6 +167,8 @@ public final class SerializerPipe {
 	public void close() {
 		try {
 			IOUtils.flush(writer, outputStream);
+			if (utf8Writer != null)
+				utf8Writer.release();
 			if (autoClose)
 				IOUtils.close(writer, outputStream);
 		} catch (IOException e) {
@@ -22,6 +22,7 @@ import java.text.*;
 import java.util.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.parser.*;
 import org.apache.juneau.soap.*;
 import org.apache.juneau.transform.*;
@@ -65,7 +66,14 @@ public abstract class SerializerSession extends BeanSession {
 	private final UriResolver uriResolver;
 
 	private final Map<Object,Object> set;                                           // Contains the current objects in the current branch of the model.
-	private final LinkedList<StackElement> stack = new LinkedList<StackElement>();  // Contains the current objects in the current branch of the model.
+
+	// The current branch of the model indexed by depth.
+	// Kept in reusable arrays so that pushing an object doesn't allocate anything.
+	private Object[] stackObjects;
+	private String[] stackNames;
+	private ClassMeta<?>[] stackTypes;
+	private int stackSize;
+
 	private final Method javaMethod;                                                // Java method that invoked this serializer.
 
 	// Writable properties
@@ -147,6 +155,9 @@ public abstract class SerializerSession extends BeanSession {
 		this.indent = initialDepth;
 		if (detectRecursions || isDebug()) {
 			set = new IdentityHashMap<Object,Object>();
+			stackObjects = new Object[16];
+			stackNames = new String[16];
+			stackTypes = new ClassMeta<?>[16];
 		} else {
 			set = Collections.emptyMap();
 		}
@@ -162,6 +173,7 @@ public abstract class SerializerSession extends BeanSession {
 	 * 	<ul>
 	 * 		<li>{@link Writer}
 	 * 		<li>{@link OutputStream} - Output will be written as UTF-8 encoded stream.
+	 * 		<li>{@link java.nio.ByteBuffer} - Output will be written as UTF-8 encoded bytes.
 	 * 		<li>{@link File} - Output will be written as system-default encoded stream.
 	 * 		<li>{@link StringBuilder}
 	 * 	</ul>
@@ -430,12 +442,12 @@ public abstract class SerializerSession extends BeanSession {
 		if (cm.isCharSequence() || cm.isNumber() || cm.isBoolean())
 			return cm;
 		if (detectRecursions || isDebug()) {
-			if (stack.size() > maxDepth)
+			if (stackSize > maxDepth)
 				return null;
 			if (willRecurse(attrName, o, cm))
 				return null;
 			isBottom = false;
-			stack.add(new StackElement(stack.size(), attrName, o, cm));
+			addToStack(attrName, o, cm);
 			if (isDebug())
 				getLogger().info(getStack(false));
 			set.put(o, o);
@@ -461,21 +473,38 @@ public abstract class SerializerSession extends BeanSession {
 		if (ignoreRecursions && ! isDebug())
 			return true;
 
-		stack.add(new StackElement(stack.size(), attrName, o, cm));
+		addToStack(attrName, o, cm);
 		throw new SerializeException("Recursion occurred, stack={0}", getStack(true));
 	}
 
+	private void addToStack(String attrName, Object o, ClassMeta<?> cm) {
+		if (stackSize == stackObjects.length) {
+			int l = stackSize * 2;
+			stackObjects = Arrays.copyOf(stackObjects, l);
+			stackNames = Arrays.copyOf(stackNames, l);
+			stackTypes = Arrays.copyOf(stackTypes, l);
+		}
+		stackObjects[stackSize] = o;
+		stackNames[stackSize] = attrName;
+		stackTypes[stackSize] = cm;
+		stackSize++;
+	}
+
 	/**
 	 * Pop an object off the stack.
 	 */
 	protected final void pop() {
 		indent--;
 		if ((detectRecursions || isDebug()) && ! isBottom)  {
-			Object o = stack.removeLast().o;
+			int i = --stackSize;
+			Object o = stackObjects[i];
 			Object o2 = set.remove(o);
 			if (o2 == null)
 				onError(null, "Couldn't remove object of type ''{0}'' on attribute ''{1}'' from object stack.",
-					o.getClass().getName(), stack);
+					o.getClass().getName(), stackNames[i]);
+			stackObjects[i] = null;
+			stackNames[i] = null;
+			stackTypes[i] = null;
 		}
 		isBottom = false;
 	}
@@ -609,8 +638,13 @@ public abstract class SerializerSession extends BeanSession {
 	 * @return A new sorted {@link TreeSet}.
 	 */
 	protected final <E> Collection<E> sort(Collection<E> c) {
-		if (sortCollections && c != null && (! c.isEmpty()) && c.iterator().next() instanceof Comparable<?>)
-			return new TreeSet<E>(c);
+		if (sortCollections && c != null && (! c.isEmpty())) {
+			// Streamed collections can only be iterated once, so copy the elements before peeking at the first one.
+			if (c instanceof StreamedCollection)
+				c = new ArrayList<E>(c);
+			if (c.iterator().next() instanceof Comparable<?>)
+				return new TreeSet<E>(c);
+		}
 		return c;
 	}
 
@@ -750,9 +784,20 @@ public abstract class SerializerSession extends BeanSession {
 		}
 	}
 
+	/*
+	 * Creates the stack elements for the current branch of the model.
+	 * Only called when reporting errors and debug information, so that push() and pop() don't need to allocate.
+	 */
+	private List<StackElement> getStackElements() {
+		List<StackElement> l = new ArrayList<StackElement>(stackSize);
+		for (int i = 0; i < stackSize; i++)
+			l.add(new StackElement(i, stackNames[i], stackObjects[i], stackTypes[i]));
+		return l;
+	}
+
 	private String getStack(boolean full) {
 		StringBuilder sb = new StringBuilder();
-		for (StackElement e : stack) {
+		for (StackElement e : getStackElements()) {
 			if (full) {
 				sb.append("\n\t");
 				for (int i = 1; i < e.depth; i++)
@@ -778,8 +823,8 @@ public abstract class SerializerSession extends BeanSession {
 			m.put("currentClass", currentClass);
 		if (currentProperty != null)
 			m.put("currentProperty", currentProperty);
-		if (stack != null && ! stack.isEmpty())
-			m.put("stack", stack);
+		if (stackSize > 0)
+			m.put("stack", getStackElements());
 		return m;
 	}
 
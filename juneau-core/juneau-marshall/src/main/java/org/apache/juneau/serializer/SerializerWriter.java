@@ -50,6 +50,8 @@ public class SerializerWriter extends Writer {
 	/** The URI resolver of the request. */
 	protected final UriResolver uriResolver;
 
+	private char[] numberBuff;
+
 	/**
 	 * @param out The writer being wrapped.
 	 * @param useWhitespace
@@ -315,6 +317,93 @@ public class SerializerWriter extends Writer {
 		return this;
 	}
 
+	/**
+	 * Writes the specified number to the writer.
+	 *
+	 * <p>
+	 * Integer, Long, Short, and Byte values, and Double and Float values with no fractional part, are written without
+	 * creating intermediate strings.
+	 * All other numbers are written using their <code>toString()</code> method.
+	 *
+	 * @param n The number to write.
+	 * @throws IOException If a problem occurred trying to write to the writer.
+	 * @return This object (for method chaining).
+	 */
+	public SerializerWriter appendNumber(Number n) throws IOException {
+		Class<?> c = n.getClass();
+		if (c == Integer.class || c == Long.class || c == Short.class || c == Byte.class)
+			return appendLong(n.longValue());
+		if (c == Double.class)
+			return appendDouble(n.doubleValue());
+		if (c == Float.class && isWholeNumber(n.doubleValue()))
+			return appendWholeNumber((long)n.doubleValue());
+		out.write(n.toString());
+		return this;
+	}
+
+	/**
+	 * Writes the specified long value to the writer without creating an intermediate string.
+	 *
+	 * @param l The value to write.
+	 * @throws IOException If a problem occurred trying to write to the writer.
+	 * @return This object (for method chaining).
+	 */
+	public SerializerWriter appendLong(long l) throws IOException {
+		if (l == Long.MIN_VALUE) {
+			out.write("-9223372036854775808");
+			return this;
+		}
+		if (numberBuff == null)
+			numberBuff = new char[20];
+		char[] b = numberBuff;
+		int i = b.length;
+		boolean isNegative = l < 0;
+		if (isNegative)
+			l = -l;
+		do {
+			b[--i] = (char)('0' + (l % 10));
+			l /= 10;
+		} while (l != 0);
+		if (isNegative)
+			b[--i] = '-';
+		out.write(b, i, b.length - i);
+		return this;
+	}
+
+	/**
+	 * Writes the specified double value to the writer.
+	 *
+	 * <p>
+	 * The output is identical to {@link Double#toString(double)}.
+	 * Values with no fractional part less than 10<sup>7</sup> (e.g. <js>"123.0"</js>) are written without creating an
+	 * intermediate string.
+	 *
+	 * @param d The value to write.
+	 * @throws IOException If a problem occurred trying to write to the writer.
+	 * @return This object (for method chaining).
+	 */
+	public SerializerWriter appendDouble(double d) throws IOException {
+		if (isWholeNumber(d))
+			return appendWholeNumber((long)d);
+		out.write(Double.toString(d));
+		return this;
+	}
+
+	/*
+	 * Returns true if the value has no fractional part and is formatted without an exponent by Double.toString().
+	 * Negative zero is excluded since it's formatted as "-0.0".
+	 */
+	private static boolean isWholeNumber(double d) {
+		long l = (long)d;
+		return l == d && l > -10000000 && l < 10000000 && (l != 0 || 1/d > 0);
+	}
+
+	private SerializerWriter appendWholeNumber(long l) throws IOException {
+		appendLong(l);
+		out.write(".0");
+		return this;
+	}
+
 	/**
 	 * Writes the specified text to the writer if b is true.
 	 *
@@ -15,25 +15,30 @@ package org.apache.juneau.transforms;
 import java.util.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.transform.*;
 
 /**
- * Transforms {@link Enumeration Enumerations} to {@code List<Object>} objects.
+ * Transforms {@link Enumeration Enumerations} to {@code Collection<Object>} objects.
  * 
  * <p>
+ * The elements are pulled from the {@code Enumeration} one at a time as they're serialized, so large or lazily-computed
+ * sources (e.g. database cursors) are not copied into memory.
+ * Serializers that need all the elements up front (e.g. when
+ * {@link org.apache.juneau.serializer.SerializerContext#SERIALIZER_sortCollections} is enabled) copy them into a list
+ * first.
+ *
+ * <p>
  * This is a one-way transform, since {@code Enumerations} cannot be reconstituted.
  */
 @SuppressWarnings({"unchecked","rawtypes"})
-public class EnumerationSwap extends PojoSwap<Enumeration,List> {
+public class EnumerationSwap extends PojoSwap<Enumeration,Collection> {
 
 	/**
-	 * Converts the specified {@link Enumeration} to a {@link List}.
+	 * Converts the specified {@link Enumeration} to a {@link Collection}.
 	 */
 	@Override /* PojoSwap */
-	public List swap(BeanSession session, Enumeration o) {
-		List l = new LinkedList();
-		while (o.hasMoreElements())
-			l.add(o.nextElement());
-		return l;
+	public Collection swap(BeanSession session, Enumeration o) {
+		return new StreamedCollection(o);
 	}
 }
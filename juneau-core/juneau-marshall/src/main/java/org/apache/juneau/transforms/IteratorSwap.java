@@ -15,25 +15,30 @@ package org.apache.juneau.transforms;
 import java.util.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.transform.*;
 
 /**
- * Transforms {@link Iterator Iterators} to {@code List<Object>} objects.
+ * Transforms {@link Iterator Iterators} to {@code Collection<Object>} objects.
+ *
+ * <p>
+ * The elements are pulled from the {@code Iterator} one at a time as they're serialized, so large or lazily-computed
+ * sources (e.g. database cursors) are not copied into memory.
+ * Serializers that need all the elements up front (e.g. when
+ * {@link org.apache.juneau.serializer.SerializerContext#SERIALIZER_sortCollections} is enabled) copy them into a list
+ * first.
  *
  * <p>
  * This is a one-way transform, since {@code Iterators} cannot be reconstituted.
  */
 @SuppressWarnings({"unchecked","rawtypes"})
-public class IteratorSwap extends PojoSwap<Iterator,List> {
+public class IteratorSwap extends PojoSwap<Iterator,Collection> {
 
 	/**
-	 * Converts the specified {@link Iterator} to a {@link List}.
+	 * Converts the specified {@link Iterator} to a {@link Collection}.
 	 */
 	@Override /* PojoSwap */
-	public List swap(BeanSession session, Iterator o) {
-		List l = new LinkedList();
-		while (o.hasNext())
-			l.add(o.next());
-		return l;
+	public Collection swap(BeanSession session, Iterator o) {
+		return new StreamedCollection(o);
 	}
 }
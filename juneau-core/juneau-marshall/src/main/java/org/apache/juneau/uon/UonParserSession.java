@@ -279,6 +279,7 @@ public class UonParserSession extends ReaderParserSession {
 
 		int state = S1;
 		K currAttr = null;
+		String currName = null;
 		while (c != -1 && c != AMP) {
 			c = r.read();
 			if (! isInEscape) {
@@ -290,7 +291,8 @@ public class UonParserSession extends ReaderParserSession {
 					else {
 						r.unread();
 						Object attr = parseAttr(r, decodeChars);
-						currAttr = attr == null ? null : convertAttrToType(m, trim(attr.toString()), keyType);
+						currName = attr == null ? null : trim(attr.toString());
+						currAttr = currName == null ? null : convertAttrToType(m, currName, keyType);
 						state = S2;
 						c = 0; // Avoid isInEscape if c was '\'
 					}
@@ -315,10 +317,16 @@ public class UonParserSession extends ReaderParserSession {
 						if (c == -1 || c == ')' || c == AMP)
 							return m;
 						state = S1;
-					} else  {
+					} else if (isExcluded(currName)) {
+						skipValue(r.unread());
+						state = S4;
+						c = 0; // Avoid isInEscape if c was '\'
+					} else {
+						Projection pp = pushProjection(currName);
 						V value = parseAnything(valueType, r.unread(), m, false, pMeta);
 						setName(valueType, value, currAttr);
 						m.put(currAttr, value);
+						popProjection(pp);
 						state = S4;
 						c = 0; // Avoid isInEscape if c was '\'
 					}
@@ -465,7 +473,7 @@ public class UonParserSession extends ReaderParserSession {
 						r.unread();
 						currAttrLine= r.getLine();
 						currAttrCol = r.getColumn();
-						currAttr = parseAttrName(r, decodeChars);
+						currAttr = parseAttrName(r, decodeChars, m.getMeta().getPropertyNameIndex());
 						if (currAttr == null)  // Value was '%00'
 							return null;
 						state = S2;
@@ -493,9 +501,14 @@ public class UonParserSession extends ReaderParserSession {
 						if (c == -1 || c == ')' || c == AMP)
 							return m;
 						state = S1;
+					} else if (isExcluded(currAttr)) {
+						skipValue(r.unread());
+						state = S4;
+						c = 0; // Avoid isInEscape if c was '\'
 					} else {
 						if (! currAttr.equals(getBeanTypePropertyName(m.getClassMeta()))) {
 							BeanPropertyMeta pMeta = m.getPropertyMeta(currAttr);
+							Projection pp = pushProjection(currAttr);
 							if (pMeta == null) {
 								onUnknownProperty(r.getPipe(), currAttr, m, currAttrLine, currAttrCol);
 								parseAnything(object(), r.unread(), m.getBean(false), false, null); // Read content anyway to ignore it
@@ -507,6 +520,7 @@ public class UonParserSession extends ReaderParserSession {
 								pMeta.set(m, currAttr, value);
 								setCurrentProperty(null);
 							}
+							popProjection(pp);
 						}
 						state = S4;
 					}
@@ -532,6 +546,45 @@ public class UonParserSession extends ReaderParserSession {
 		return null; // Unreachable.
 	}
 
+	/*
+	 * Doesn't actually parse anything, but moves the position beyond the value starting at the current position.
+	 * Used for skipping over values excluded by the projection.
+	 * Only the nesting of objects and arrays is validated.
+	 */
+	private void skipValue(UonReader r) throws Exception {
+		int depth = 0, prev = '=';
+		int c = 0;
+		while ((c = r.read()) != -1) {
+			if (c == '~') {
+				if (escapedChars.contains(r.peek()))
+					r.read();
+			} else if (c == '(') {
+				depth++;
+			} else if (c == ')') {
+				if (depth == 0) {
+					r.unread();
+					return;
+				}
+				depth--;
+			} else if (c == '\'' && (prev == '(' || prev == ',' || prev == '=' || prev == EQ)) {
+				// Quotes inside unquoted strings (e.g. (foo=it's)) don't start a string.
+				while ((c = r.read()) != '\'') {
+					if (c == -1)
+						throw new ParseException(loc(r), "Unmatched parenthesis");
+					if (c == '~' && escapedChars.contains(r.peek()))
+						r.read();
+				}
+			} else if ((c == ',' && depth == 0) || c == AMP) {
+				r.unread();
+				return;
+			}
+			if (! Character.isWhitespace(c))
+				prev = c;
+		}
+		if (depth > 0)
+			throw new ParseException(loc(r), "Could not find ')' marking end of object.");
+	}
+
 	private Object parseNull(UonReader r) throws Exception {
 		String s = parseString(r, false);
 		if ("ull".equals(s))
@@ -562,6 +615,20 @@ public class UonParserSession extends ReaderParserSession {
 	 * @throws Exception
 	 */
 	protected final String parseAttrName(UonReader r, boolean encoded) throws Exception {
+		return parseAttrName(r, encoded, null);
+	}
+
+	/**
+	 * Same as {@link #parseAttrName(UonReader, boolean)} but returns the name from the specified index if it matches
+	 * one of the names in the index, so that no new string is created for known property names.
+	 *
+	 * @param r
+	 * @param encoded
+	 * @param names The names to match against, or <jk>null</jk> to always create a new string.
+	 * @return The parsed attribute name.
+	 * @throws Exception
+	 */
+	protected final String parseAttrName(UonReader r, boolean encoded, NameIndex names) throws Exception {
 
 		// If string is of form 'xxx', we're looking for ' at the end.
 		// Otherwise, we're looking for '&' or '=' or WS or -1 denoting the end of this string.
@@ -579,7 +646,7 @@ public class UonParserSession extends ReaderParserSession {
 					if (c == AMP || c == EQ || c == -1 || Character.isWhitespace(c)) {
 						if (c != -1)
 							r.unread();
-						String s = r.getMarked();
+						String s = names == null ? r.getMarked() : r.getMarked(names, 0, 0);
 						return ("null".equals(s) ? null : s);
 					}
 				}
@@ -596,7 +663,7 @@ public class UonParserSession extends ReaderParserSession {
 					if (c == '=' || c == -1 || Character.isWhitespace(c)) {
 						if (c != -1)
 							r.unread();
-						String s = r.getMarked();
+						String s = names == null ? r.getMarked() : r.getMarked(names, 0, 0);
 						return ("null".equals(s) ? null : trim(s));
 					}
 				}
@@ -258,14 +258,16 @@ public class UonSerializerSession extends WriterSerializerSession {
 		if (! plainTextParams)
 			out.append('@').append('(');
 
+		boolean hasElements = false;
 		for (Iterator i = c.iterator(); i.hasNext();) {
 			out.cr(indent);
 			serializeAnything(out, i.next(), elementType, "<iterator>", null);
 			if (i.hasNext())
 				out.append(',');
+			hasElements = true;
 		}
 
-		if (c.size() > 0)
+		if (hasElements)
 			out.cre(indent-1);
 		if (! plainTextParams)
 			out.append(')');
@@ -144,7 +144,7 @@ public final class UonWriter extends SerializerWriter {
 	 * @throws IOException
 	 */
 	protected UonWriter appendNumber(Object o) throws IOException {
-		append(o.toString());
+		appendNumber((Number)o);
 		return this;
 	}
 
@@ -259,7 +259,7 @@ public class UrlEncodingParserSession extends UonParserSession {
 					r.unread();
 					currAttrLine= r.getLine();
 					currAttrCol = r.getColumn();
-					currAttr = parseAttrName(r, true);
+					currAttr = parseAttrName(r, true, m.getMeta().getPropertyNameIndex());
 					if (currAttr == null)  // Value was '%00'
 						return null;
 					state = S2;
@@ -392,7 +392,7 @@ public class XmlParserSession extends ReaderParserSession {
 		for (int i = 0; i < r.getAttributeCount(); i++) {
 			String a = r.getAttributeLocalName(i);
 			// TODO - Need better handling of namespaces here.
-			if (! (a.equals(getBeanTypePropertyName(null)))) {
+			if (! (a.equals(getBeanTypePropertyName(null)) || isExcluded(a))) {
 				K key = trim(convertAttrToType(m, a, keyType));
 				V value = trim(convertAttrToType(m, r.getAttributeValue(i), valueType));
 				setName(valueType, value, key);
@@ -405,8 +405,14 @@ public class XmlParserSession extends ReaderParserSession {
 			if (event == START_ELEMENT) {
 				depth++;
 				currAttr = getElementName(r);
+				if (isExcluded(currAttr)) {
+					skipCurrentTag(r);
+					continue;
+				}
 				K key = convertAttrToType(m, currAttr, keyType);
+				Projection pp = pushProjection(currAttr);
 				V value = parseAnything(valueType, currAttr, r, m, false, pMeta);
+				popProjection(pp);
 				setName(valueType, value, currAttr);
 				if (valueType.isObject() && m.containsKey(key)) {
 					Object o = m.get(key);
@@ -471,6 +477,8 @@ public class XmlParserSession extends ReaderParserSession {
 
 		for (int i = 0; i < r.getAttributeCount(); i++) {
 			String key = getAttributeName(r, i);
+			if (isExcluded(key))
+				continue;
 			String val = r.getAttributeValue(i);
 			BeanPropertyMeta bpm = xmlMeta.getPropertyMeta(key);
 			if (bpm == null) {
@@ -555,11 +563,14 @@ public class XmlParserSession extends ReaderParserSession {
 				} else {
 					currAttr = getElementName(r);
 					BeanPropertyMeta pMeta = xmlMeta.getPropertyMeta(currAttr);
-					if (pMeta == null) {
+					if (isExcluded(currAttr)) {
+						skipCurrentTag(r);
+					} else if (pMeta == null) {
 						Location loc = r.getLocation();
 						onUnknownProperty(r.getPipe(), currAttr, m, loc.getLineNumber(), loc.getColumnNumber());
 						skipCurrentTag(r);
 					} else {
+						Projection pp = pushProjection(currAttr);
 						setCurrentProperty(pMeta);
 						XmlFormat xf = pMeta.getExtendedMeta(XmlBeanPropertyMeta.class).getXmlFormat();
 						if (xf == COLLAPSED) {
@@ -577,6 +588,7 @@ public class XmlParserSession extends ReaderParserSession {
 							pMeta.set(m, currAttr, value);
 						}
 						setCurrentProperty(null);
+						popProjection(pp);
 					}
 				}
 			} else if (event == END_ELEMENT) {
@@ -627,7 +639,7 @@ public class XmlParserSession extends ReaderParserSession {
 			for (int i = 0; i < r.getAttributeCount(); i++) {
 				String key = getAttributeName(r, i);
 				String val = r.getAttributeValue(i);
-				if (! key.equals(getBeanTypePropertyName(null)))
+				if (! (key.equals(getBeanTypePropertyName(null)) || isExcluded(key)))
 					m.put(key, val);
 			}
 		}
@@ -652,8 +664,15 @@ public class XmlParserSession extends ReaderParserSession {
 					if (event == START_ELEMENT) {
 						depth++;
 						currAttr = getElementName(r);
+						if (isExcluded(currAttr)) {
+							skipCurrentTag(r);
+							eventType = -1;
+							continue;
+						}
 						String key = convertAttrToType(null, currAttr, string());
+						Projection pp = pushProjection(currAttr);
 						Object value = parseAnything(object(), currAttr, r, null, false, null);
+						popProjection(pp);
 						if (m.containsKey(key)) {
 							Object o = m.get(key);
 							if (o instanceof ObjectList)
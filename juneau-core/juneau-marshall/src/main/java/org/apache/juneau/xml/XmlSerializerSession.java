@@ -397,6 +397,10 @@ public class XmlSerializerSession extends WriterSerializerSession {
 			type = null;
 		}
 		boolean encodeEn = elementName != null;
+		if (encodeEn && pMeta != null && elementName.equals(pMeta.getName())) {
+			en = pMeta.getExtendedMeta(XmlBeanPropertyMeta.class).getEncodedName();
+			encodeEn = false;
+		}
 		String ns = (elementNamespace == null ? null : elementNamespace.name);
 		String dns = null, elementNs = null;
 		if (enableNamespaces) {
@@ -448,7 +452,9 @@ public class XmlSerializerSession extends WriterSerializerSession {
 					out.append(o);
 				else
 					out.text(o, preserveWhitespace);
-			} else if (sType.isNumber() || sType.isBoolean()) {
+			} else if (sType.isNumber()) {
+				out.appendNumber((Number)o);
+			} else if (sType.isBoolean()) {
 				out.append(o);
 			} else if (sType.isMap() || (wType != null && wType.isMap())) {
 				if (o instanceof BeanMap)
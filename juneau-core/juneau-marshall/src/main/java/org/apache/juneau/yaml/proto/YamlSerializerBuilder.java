@@ -302,6 +302,12 @@ public class YamlSerializerBuilder extends SerializerBuilder {
 		return this;
 	}
 
+	@Override /* CoreObjectBuilder */
+	public YamlSerializerBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
 	@Override /* CoreObjectBuilder */
 	public YamlSerializerBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
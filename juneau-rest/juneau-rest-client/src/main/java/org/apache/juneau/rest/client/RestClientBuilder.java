@@ -1165,6 +1165,17 @@ public class RestClientBuilder extends CoreObjectBuilder {
 		return property(PARSER_fileCharset, value);
 	}
 
+	/**
+	 * Sets the {@link ParserContext#PARSER_bufferSize} property on all parsers in this group.
+	 *
+	 * @param value The new value for this property.
+	 * @return This object (for method chaining).
+	 * @see ParserContext#PARSER_bufferSize
+	 */
+	public RestClientBuilder bufferSize(int value) {
+		return property(PARSER_bufferSize, value);
+	}
+
 	/**
 	 * When called, <code>No-Trace: true</code> is added to requests.
 	 *
@@ -1282,6 +1293,12 @@ public class RestClientBuilder extends CoreObjectBuilder {
 		return this;
 	}
 
+	@Override /* CoreObjectBuilder */
+	public RestClientBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
 	@Override /* CoreObjectBuilder */
 	public RestClientBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
@@ -443,6 +443,20 @@ class CallMethod implements Comparable<CallMethod>  {
 		return pathPattern.toString();
 	}
 
+	/**
+	 * Returns the return type and body parameter types of this Java method.
+	 */
+	List<Type> getPojoTypes() {
+		List<Type> l = new ArrayList<Type>();
+		Type rt = method.getGenericReturnType();
+		if (rt != void.class)
+			l.add(rt);
+		for (RestParam p : params)
+			if (p.paramType == RestParamType.BODY)
+				l.add(p.type);
+		return l;
+	}
+
 	/**
 	 * Returns the localized Swagger for this Java method.
 	 */
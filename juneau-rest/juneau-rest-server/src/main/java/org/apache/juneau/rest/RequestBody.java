@@ -261,7 +261,10 @@ public class RequestBody {
 	protected Reader getUnbufferedReader() throws IOException {
 		if (body != null)
 			return new CharSequenceReader(new String(body, UTF8));
-		return new InputStreamReader(getInputStream(), req.getCharacterEncoding());
+		String charset = req.getCharacterEncoding();
+		if ("UTF-8".equalsIgnoreCase(charset))
+			return new Utf8Reader(getInputStream(), 8192, false);
+		return new InputStreamReader(getInputStream(), charset);
 	}
 
 	/**
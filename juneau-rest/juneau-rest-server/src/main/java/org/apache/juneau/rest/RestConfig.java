@@ -124,7 +124,7 @@ public class RestConfig implements ServletConfig {
 	Object logger = RestLogger.Normal.class;
 	Object callHandler = RestCallHandler.class;
 	Object infoProvider = RestInfoProvider.class;
-	Object allowHeaderParams, allowMethodParam, allowBodyParam, renderResponseStackTraces, useStackTraceHashes, defaultCharset, paramFormat;
+	Object allowHeaderParams, allowMethodParam, allowBodyParam, renderResponseStackTraces, useStackTraceHashes, warmUp, defaultCharset, paramFormat;
 
 	boolean htmlNoWrap;
 	Object htmlTemplate = HtmlDocTemplateBasic.class;
@@ -251,6 +251,8 @@ public class RestConfig implements ServletConfig {
 					setRenderResponseStackTraces(Boolean.valueOf(vr.resolve(r.renderResponseStackTraces())));
 				if (! r.useStackTraceHashes().isEmpty())
 					setUseStackTraceHashes(Boolean.valueOf(vr.resolve(r.useStackTraceHashes())));
+				if (! r.warmUp().isEmpty())
+					setWarmUp(Boolean.valueOf(vr.resolve(r.warmUp())));
 				if (! r.defaultCharset().isEmpty())
 					setDefaultCharset(vr.resolve(r.defaultCharset()));
 				if (! r.paramFormat().isEmpty())
@@ -1187,6 +1189,20 @@ public class RestConfig implements ServletConfig {
 		return this;
 	}
 
+	/**
+	 * Sets the <code>warmUp</code> setting on this resource.
+	 *
+	 * <p>
+	 * This is the programmatic equivalent to the {@link RestResource#warmUp() RestResource.warmUp()} annotation.
+	 *
+	 * @param value The new value for this setting.
+	 * @return This object (for method chaining).
+	 */
+	public RestConfig setWarmUp(boolean value) {
+		this.warmUp = value;
+		return this;
+	}
+
 	/**
 	 * Sets the <code>defaultCharset</code> setting on this resource.
 	 *
@@ -388,6 +388,14 @@ public final class RestContext extends Context {
 			}
 
 			this.callMethods = Collections.unmodifiableMap(_javaRestMethods);
+
+			// Build the metadata on the POJOs used by the Java methods now instead of on the first requests.
+			if (b.warmUp) {
+				List<Type> pojoTypes = new ArrayList<Type>();
+				for (CallMethod cm : _javaRestMethods.values())
+					pojoTypes.addAll(cm.getPojoTypes());
+				beanContext.warmUp(pojoTypes);
+			}
 			this.preCallMethods = _preCallMethods.values().toArray(new Method[_preCallMethods.size()]);
 			this.postCallMethods = _postCallMethods.values().toArray(new Method[_postCallMethods.size()]);
 			this.startCallMethods = _startCallMethods.values().toArray(new Method[_startCallMethods.size()]);
@@ -470,7 +478,7 @@ public final class RestContext extends Context {
 
 	private static class Builder {
 
-		boolean allowHeaderParams, allowBodyParam, renderResponseStackTraces, useStackTraceHashes;
+		boolean allowHeaderParams, allowBodyParam, renderResponseStackTraces, useStackTraceHashes, warmUp;
 		VarResolver varResolver;
 		ConfigFile configFile;
 		ObjectMap properties;
@@ -518,6 +526,7 @@ public final class RestContext extends Context {
 			allowBodyParam = getBoolean(sc.allowBodyParam, "juneau.allowBodyParam", true);
 			renderResponseStackTraces = getBoolean(sc.renderResponseStackTraces, "juneau.renderResponseStackTraces", false);
 			useStackTraceHashes = getBoolean(sc.useStackTraceHashes, "juneau.useStackTraceHashes", true);
+			warmUp = getBoolean(sc.warmUp, "juneau.warmUp", false);
 			defaultCharset = getString(sc.defaultCharset, "juneau.defaultCharset", "utf-8");
 			paramFormat = getString(sc.paramFormat, "juneau.paramFormat", "UON");
 			resourceResolver = sc.resourceResolver;
@@ -23,6 +23,7 @@ import org.apache.juneau.*;
 import org.apache.juneau.encoders.*;
 import org.apache.juneau.html.*;
 import org.apache.juneau.http.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.json.*;
 import org.apache.juneau.parser.*;
 import org.apache.juneau.rest.annotation.*;
@@ -391,7 +392,11 @@ public final class RestResponse extends HttpServletResponseWrapper {
 
 		try {
 			OutputStream out = (raw ? getOutputStream() : getNegotiatedOutputStream());
-			w = new PrintWriter(new OutputStreamWriter(out, getCharacterEncoding()));
+			String ce = getCharacterEncoding();
+			if ("UTF-8".equalsIgnoreCase(ce))
+				w = new PrintWriter(new Utf8Writer(out));
+			else
+				w = new PrintWriter(new OutputStreamWriter(out, ce));
 			return w;
 		} catch (UnsupportedEncodingException e) {
 			String ce = getCharacterEncoding();
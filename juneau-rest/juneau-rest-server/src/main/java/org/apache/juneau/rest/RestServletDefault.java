@@ -14,6 +14,7 @@ package org.apache.juneau.rest;
 
 import static org.apache.juneau.http.HttpMethodName.*;
 
+import org.apache.juneau.cbor.*;
 import org.apache.juneau.dto.swagger.*;
 import org.apache.juneau.html.*;
 import org.apache.juneau.jso.*;
@@ -83,6 +84,11 @@ import org.apache.juneau.xml.*;
  * 		<td>{@link UrlEncodingSerializer}</td>
  * 	</tr>
  * 	<tr>
+ * 		<td class='code'>application/cbor</td>
+ * 		<td class='code'>application/cbor</td>
+ * 		<td>{@link CborSerializer}</td>
+ * 	</tr>
+ * 	<tr>
  * 		<td class='code'>text/xml+soap</td>
  * 		<td class='code'>text/xml</td>
  * 		<td>{@link SoapXmlSerializer}</td>
@@ -122,6 +128,10 @@ import org.apache.juneau.xml.*;
  * 		<td>{@link UrlEncodingParser}</td>
  * 	</tr>
  * 	<tr>
+ * 		<td class='code'>application/cbor</td>
+ * 		<td>{@link CborParser}</td>
+ * 	</tr>
+ * 	<tr>
  * 		<td class='code'>text/plain</td>
  * 		<td>{@link PlainTextParser}</td>
  * 	</tr>
@@ -173,6 +183,7 @@ import org.apache.juneau.xml.*;
 		UonSerializer.class,
 		UrlEncodingSerializer.class,
 		MsgPackSerializer.class,
+		CborSerializer.class,
 		SoapXmlSerializer.class,
 		PlainTextSerializer.class
 	},
@@ -183,6 +194,7 @@ import org.apache.juneau.xml.*;
 		UonParser.class,
 		UrlEncodingParser.class,
 		MsgPackParser.class,
+		CborParser.class,
 		PlainTextParser.class
 	},
 	allowMethodParam="OPTIONS",
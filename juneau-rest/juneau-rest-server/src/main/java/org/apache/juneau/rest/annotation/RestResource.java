@@ -852,6 +852,23 @@ public @interface RestResource {
 	 */
 	String useStackTraceHashes() default "";
 
+	/**
+	 * Warm up bean metadata.
+	 *
+	 * <p>
+	 * When enabled, the metadata on the return types and body parameter types of all the Java methods on this resource
+	 * is built when the resource is initialized using {@link BeanContext#warmUp(java.util.Collection)}.
+	 * Otherwise, it's built lazily the first time a class is serialized or parsed.
+	 *
+	 * <ul>
+	 * 	<li>Boolean value.
+	 * 	<li>Defaults to system property <js>"juneau.warmUp"</js>, or <js>"false"</js> if not specified.
+	 * 	<li>Can contain variables.
+	 * 	<li>Trades longer startup time for faster first requests.
+	 * </ul>
+	 */
+	String warmUp() default "";
+
 	/**
 	 * Default character encoding.
 	 *